@@ -91,6 +91,13 @@ public:
      */
     void setOfflineRegionDownloadState(OfflineRegion&, OfflineRegionDownloadState);
 
+    /*
+     * Refresh the resources of a region. Resources already stored are revalidated with
+     * conditional requests and only rewritten when they changed on the server, missing
+     * resources are downloaded. The region is active until the refresh completes.
+     */
+    void refreshOfflineRegion(OfflineRegion&);
+
     /*
      * Retrieve the current status of the region. The query will be executed
      * asynchronously and the results passed to the given callback, which will be
@@ -123,6 +130,36 @@ public:
      */
     void setOfflineMapboxTileCountLimit(uint64_t) const;
 
+    /*
+     * Change the size limit applied to resources stored for ambient use. Lowering the limit
+     * evicts resources right away.
+     */
+    void setMaximumAmbientCacheSize(uint64_t);
+
+    /*
+     * Choose which ambient resources are evicted first once the cache is full.
+     */
+    void setAmbientCacheEvictionPolicy(AmbientCacheEvictionPolicy);
+
+    /*
+     * Delete all resources stored for ambient use. Resources required by offline regions
+     * are kept. The provided callback will be executed on the database thread.
+     */
+    void clearAmbientCache(std::function<void (std::exception_ptr)>);
+
+    /*
+     * Load resources that aren't cached or usable yet into the ambient cache, e.g. the style and
+     * sprites of a map that is about to be shown. The provided callback will be executed on the
+     * database thread once all resources have been requested, with an error if any failed to load.
+     */
+    void prewarmAmbientCache(std::vector<Resource>, std::function<void (std::exception_ptr)>);
+
+    /*
+     * Retrieve the hit and miss counts of requests since the file source has been created and the
+     * current ambient cache size. The provided callback will be executed on the database thread.
+     */
+    void getAmbientCacheStatistics(std::function<void (std::exception_ptr, optional<AmbientCacheStatistics>)>) const;
+
     /*
      * Pause file request activity.
      *
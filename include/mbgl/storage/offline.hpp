@@ -1,6 +1,7 @@
 #pragma once
 
 #include <mbgl/util/geo.hpp>
+#include <mbgl/util/geometry.hpp>
 #include <mbgl/util/range.hpp>
 #include <mbgl/util/optional.hpp>
 #include <mbgl/style/types.hpp>
@@ -24,10 +25,15 @@ class TileID;
  * tiles from minZoom up to the maximum zoom level provided by that source.
  *
  * pixelRatio must be ≥ 0 and should typically be 1.0 or 2.0.
+ *
+ * geometry optionally restricts the region to a set of polygons, with points given as
+ * longitude (x) and latitude (y). The tile pyramid then only contains the tiles covering
+ * the polygons and bounds should be their bounding box.
  */
 class OfflineTilePyramidRegionDefinition {
 public:
-    OfflineTilePyramidRegionDefinition(std::string, LatLngBounds, double, double, float);
+    OfflineTilePyramidRegionDefinition(std::string, LatLngBounds, double, double, float,
+                                       optional<MultiPolygon<double>> = {});
 
     /* Private */
     std::vector<CanonicalTileID> tileCover(style::SourceType, uint16_t tileSize, const Range<uint8_t>& zoomRange) const;
@@ -37,6 +43,7 @@ public:
     const double minZoom;
     const double maxZoom;
     const float pixelRatio;
+    const optional<MultiPolygon<double>> geometry;
 private:
     Range<uint8_t> coveringZoomRange(style::SourceType, uint16_t tileSize, const Range<uint8_t>& zoomRange) const;
 };
@@ -62,6 +69,35 @@ OfflineRegionDefinition decodeOfflineRegionDefinition(const std::string&);
  */
 using OfflineRegionMetadata = std::vector<uint8_t>;
 
+/*
+ * The order in which resources of the ambient cache are evicted once it exceeds its maximum
+ * size. Resources required by offline regions are never evicted.
+ */
+enum class AmbientCacheEvictionPolicy : uint8_t {
+    // Evict the resources that were accessed least recently first
+    LeastRecentlyUsed,
+    // Evict the resources that expire first, resources without an expiration first of all
+    EarliestExpiry,
+};
+
+class AmbientCacheStatistics {
+public:
+    /**
+     * The number of requests answered with a usable resource from the database.
+     */
+    uint64_t hitCount = 0;
+
+    /**
+     * The number of requests that had to be loaded from the network.
+     */
+    uint64_t missCount = 0;
+
+    /**
+     * The size, in bytes, of the resources stored for ambient use only.
+     */
+    uint64_t size = 0;
+};
+
 /*
  * A region is either inactive (not downloading, but previously-downloaded
  * resources are available for use), or active (resources are being downloaded
@@ -130,6 +166,18 @@ public:
      */
     bool requiredResourceCountIsPrecise = false;
 
+    /**
+     * The number of stored resources that have been revalidated with a conditional
+     * request while refreshing the region. This is a subset of `completedResourceCount`.
+     */
+    uint64_t revalidatedResourceCount = 0;
+
+    /**
+     * The number of revalidated resources that changed on the server and have been
+     * rewritten. This is a subset of `revalidatedResourceCount`.
+     */
+    uint64_t changedResourceCount = 0;
+
     bool complete() const {
         return completedResourceCount == requiredResourceCount;
     }
@@ -1,5 +1,7 @@
 package com.mapbox.mapboxsdk.annotations;
 
+import android.os.Parcel;
+
 import com.mapbox.mapboxsdk.geometry.LatLng;
 
 import java.util.ArrayList;
@@ -7,24 +9,62 @@ import java.util.List;
 
 /**
  * Multipoint is an abstract annotation for combining geographical locations.
+ * <p>
+ * The points are kept as alternating latitudes and longitudes in a growable primitive array, read by the map in bulk.
+ * Altitudes are only kept once a point with an altitude is added.
+ * </p>
  */
 public abstract class BasePointCollection extends Annotation {
 
-  private List<LatLng> points;
+  private static final int INITIAL_CAPACITY = 16;
+
+  // read by the native map
+  private double[] coordinates;
+  private int pointCount;
+
+  private double[] altitudes;
   private float alpha = 1.0f;
 
   protected BasePointCollection() {
     super();
-    points = new ArrayList<>();
+    coordinates = new double[INITIAL_CAPACITY * 2];
   }
 
   /**
-   * Returns a copy of the points.
+   * Returns a copy of the points, with a new {@link LatLng} for every point. Use {@link #getPointCount()} and
+   * {@link #getPoint(int)} to read single points.
    *
    * @return A {@link List} of points.
    */
   public List<LatLng> getPoints() {
-    return new ArrayList<>(points);
+    List<LatLng> points = new ArrayList<>(pointCount);
+    for (int i = 0; i < pointCount; i++) {
+      points.add(getPoint(i));
+    }
+    return points;
+  }
+
+  /**
+   * Returns a point.
+   *
+   * @param index the index of the point
+   * @return the point
+   */
+  public LatLng getPoint(int index) {
+    if (index < 0 || index >= pointCount) {
+      throw new IndexOutOfBoundsException("Index " + index + ", point count " + pointCount);
+    }
+    double altitude = altitudes != null ? altitudes[index] : 0;
+    return new LatLng(coordinates[2 * index], coordinates[2 * index + 1], altitude);
+  }
+
+  /**
+   * Returns the amount of points.
+   *
+   * @return the point count
+   */
+  public int getPointCount() {
+    return pointCount;
   }
 
   /**
@@ -34,7 +74,9 @@ public abstract class BasePointCollection extends Annotation {
    * @param points A {@link List} of {@link LatLng} points making up the polyline.
    */
   public void setPoints(List<LatLng> points) {
-    this.points = new ArrayList<>(points);
+    pointCount = 0;
+    altitudes = null;
+    splice(0, 0, points);
     update();
   }
 
@@ -44,8 +86,10 @@ public abstract class BasePointCollection extends Annotation {
    * @param point A {@link LatLng} point to be added.
    */
   public void addPoint(LatLng point) {
-    points.add(point);
-    update();
+    int start = pointCount;
+    ensureCapacity(pointCount + 1);
+    set(pointCount++, point);
+    update(start, 0, 1);
   }
 
   /**
@@ -67,5 +111,110 @@ public abstract class BasePointCollection extends Annotation {
     update();
   }
 
+  /**
+   * Compares the points with the points of another collection.
+   *
+   * @param other the other collection
+   * @return true if both collections have the same points
+   */
+  boolean hasSamePoints(BasePointCollection other) {
+    if (pointCount != other.getPointCount()) {
+      return false;
+    }
+    for (int i = 0; i < pointCount; i++) {
+      if (!getPoint(i).equals(other.getPoint(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Computes the hash code of the points, equal to the hash code of the list returned by {@link #getPoints()}.
+   *
+   * @return the hash code of the points
+   */
+  int getPointsHashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < pointCount; i++) {
+      hashCode = 31 * hashCode + getPoint(i).hashCode();
+    }
+    return hashCode;
+  }
+
+  /**
+   * Writes the points in the format of {@link Parcel#writeList(List)}, read them with {@link Parcel#readList}.
+   *
+   * @param out the parcel
+   */
+  void writePoints(Parcel out) {
+    out.writeInt(pointCount);
+    for (int i = 0; i < pointCount; i++) {
+      out.writeValue(getPoint(i));
+    }
+  }
+
+  /**
+   * Replaces a range of points without notifying the map.
+   *
+   * @param start       the index of the first point to replace
+   * @param removeCount the amount of points to replace
+   * @param points      the points to insert at the start index
+   */
+  void splice(int start, int removeCount, List<LatLng> points) {
+    if (start < 0 || removeCount < 0 || start + removeCount > pointCount) {
+      throw new IndexOutOfBoundsException("Range " + start + " + " + removeCount + ", point count " + pointCount);
+    }
+    int insertCount = points.size();
+    int tail = pointCount - start - removeCount;
+    ensureCapacity(pointCount - removeCount + insertCount);
+    System.arraycopy(coordinates, 2 * (start + removeCount), coordinates, 2 * (start + insertCount), 2 * tail);
+    if (altitudes != null) {
+      System.arraycopy(altitudes, start + removeCount, altitudes, start + insertCount, tail);
+    }
+    pointCount += insertCount - removeCount;
+    for (int i = 0; i < insertCount; i++) {
+      set(start + i, points.get(i));
+    }
+  }
+
+  /**
+   * Notifies the map of replaced points, by default the whole collection is updated.
+   *
+   * @param start       the index of the first replaced point
+   * @param removeCount the amount of points removed
+   * @param insertCount the amount of points inserted
+   */
+  void update(int start, int removeCount, int insertCount) {
+    update();
+  }
+
   abstract void update();
+
+  private void set(int index, LatLng point) {
+    coordinates[2 * index] = point.getLatitude();
+    coordinates[2 * index + 1] = point.getLongitude();
+    double altitude = point.getAltitude();
+    if (altitudes == null && altitude != 0) {
+      altitudes = new double[coordinates.length / 2];
+    }
+    if (altitudes != null) {
+      altitudes[index] = altitude;
+    }
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity * 2 <= coordinates.length) {
+      return;
+    }
+    int grown = Math.max(capacity, coordinates.length);
+    double[] grownCoordinates = new double[grown * 2];
+    System.arraycopy(coordinates, 0, grownCoordinates, 0, pointCount * 2);
+    coordinates = grownCoordinates;
+    if (altitudes != null) {
+      double[] grownAltitudes = new double[grown];
+      System.arraycopy(altitudes, 0, grownAltitudes, 0, pointCount);
+      altitudes = grownAltitudes;
+    }
+  }
 }
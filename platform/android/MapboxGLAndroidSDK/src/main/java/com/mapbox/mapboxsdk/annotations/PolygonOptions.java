@@ -5,6 +5,7 @@ import android.os.Parcel;
 import android.os.Parcelable;
 
 import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.SimplifiedLine;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -58,7 +59,7 @@ public final class PolygonOptions implements Parcelable {
    */
   @Override
   public void writeToParcel(Parcel out, int flags) {
-    out.writeList(getPoints());
+    polygon.writePoints(out);
     out.writeList(getHoles());
     out.writeFloat(getAlpha());
     out.writeInt(getFillColor());
@@ -66,6 +67,9 @@ public final class PolygonOptions implements Parcelable {
   }
 
   private Polygon polygon;
+  private boolean simplified;
+  private int simplificationMethod;
+  private float simplificationTolerance;
 
   /**
    * Defines options for a polygon.
@@ -218,6 +222,44 @@ public final class PolygonOptions implements Parcelable {
     return polygon.getStrokeColor();
   }
 
+  /**
+   * Simplifies the polygon for the zoom level of the map. The vertices are simplified off the UI thread and the map
+   * only receives the vertices significant at the current zoom level. The simplification isn't parceled.
+   *
+   * @param method    the simplification method, {@link SimplifiedLine#DOUGLAS_PEUCKER} or
+   *                  {@link SimplifiedLine#VISVALINGAM_WHYATT}
+   * @param tolerance the tolerance in pixels
+   * @return This {@link PolygonOptions} object with simplification enabled.
+   */
+  public PolygonOptions simplify(@SimplifiedLine.Method int method, float tolerance) {
+    simplified = true;
+    simplificationMethod = method;
+    simplificationTolerance = tolerance;
+    return this;
+  }
+
+  /**
+   * @return true if the polygon is simplified for the zoom level of the map
+   */
+  public boolean isSimplified() {
+    return simplified;
+  }
+
+  /**
+   * @return the simplification method
+   */
+  @SimplifiedLine.Method
+  public int getSimplificationMethod() {
+    return simplificationMethod;
+  }
+
+  /**
+   * @return the simplification tolerance in pixels
+   */
+  public float getSimplificationTolerance() {
+    return simplificationTolerance;
+  }
+
   /**
    * Gets the points set for this {@link PolygonOptions} object.
    *
@@ -266,7 +308,7 @@ public final class PolygonOptions implements Parcelable {
     if (getStrokeColor() != polygon.getStrokeColor()) {
       return false;
     }
-    if (getPoints() != null ? !getPoints().equals(polygon.getPoints()) : polygon.getPoints() != null) {
+    if (!this.polygon.hasSamePoints(polygon.polygon)) {
       return false;
     }
     return !(getHoles() != null ? !getHoles().equals(polygon.getHoles()) : polygon.getHoles() != null);
@@ -286,7 +328,7 @@ public final class PolygonOptions implements Parcelable {
     result = 31 * result + (getAlpha() != +0.0f ? Float.floatToIntBits(getAlpha()) : 0);
     result = 31 * result + getFillColor();
     result = 31 * result + getStrokeColor();
-    result = 31 * result + (getPoints() != null ? getPoints().hashCode() : 0);
+    result = 31 * result + polygon.getPointsHashCode();
     result = 31 * result + (getHoles() != null ? getHoles().hashCode() : 0);
     return result;
   }
@@ -2,10 +2,17 @@ package com.mapbox.mapboxsdk.annotations;
 
 import android.graphics.Color;
 
+import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
 
+import java.util.List;
+
 /**
  * Polyline is a geometry feature with an unclosed list of coordinates drawn as a line
+ * <p>
+ * Points added with {@link #addPoint(LatLng)}, {@link #addPoints(List)} and {@link #replacePoints(int, int, List)}
+ * are sent to the map as a segment, the map keeps the other points.
+ * </p>
  */
 public final class Polyline extends BasePointCollection {
 
@@ -54,6 +61,35 @@ public final class Polyline extends BasePointCollection {
     update();
   }
 
+  /**
+   * Adds points to the end of the polyline.
+   *
+   * @param points the points to add
+   */
+  public void addPoints(List<LatLng> points) {
+    replacePoints(getPointCount(), 0, points);
+  }
+
+  /**
+   * Replaces a range of points of the polyline.
+   *
+   * @param start  the index of the first point to replace
+   * @param count  the amount of points to replace
+   * @param points the points to insert at the start index, the range is removed if empty
+   */
+  public void replacePoints(int start, int count, List<LatLng> points) {
+    splice(start, count, points);
+    update(start, count, points.size());
+  }
+
+  @Override
+  void update(int start, int removeCount, int insertCount) {
+    MapboxMap mapboxMap = getMapboxMap();
+    if (mapboxMap != null) {
+      mapboxMap.updatePolylinePoints(this, start, removeCount, insertCount);
+    }
+  }
+
   @Override
   void update() {
     MapboxMap mapboxMap = getMapboxMap();
@@ -4,6 +4,7 @@ import android.os.Parcel;
 import android.os.Parcelable;
 
 import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.SimplifiedLine;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -55,13 +56,16 @@ public final class PolylineOptions implements Parcelable {
    */
   @Override
   public void writeToParcel(Parcel out, int flags) {
-    out.writeList(getPoints());
+    polyline.writePoints(out);
     out.writeFloat(getAlpha());
     out.writeInt(getColor());
     out.writeFloat(getWidth());
   }
 
   private Polyline polyline;
+  private boolean simplified;
+  private int simplificationMethod;
+  private float simplificationTolerance;
 
   /**
    * Defines options for a polyline.
@@ -177,6 +181,50 @@ public final class PolylineOptions implements Parcelable {
     return this;
   }
 
+  /**
+   * Simplifies the polyline for the zoom level of the map. The vertices are simplified off the UI thread and the map
+   * only receives the vertices significant at the current zoom level. The simplification isn't parceled.
+   * <p>
+   * Every update of the points, including {@link Polyline#addPoint(LatLng)}, simplifies the whole polyline again and
+   * replaces all of its vertices on the map, the map shows a preview of the polyline meanwhile. Appending points one
+   * by one to a simplified polyline therefore costs time quadratic in its point count, add them in batches with
+   * {@link Polyline#addPoints(List)} or don't simplify polylines that grow while they are shown.
+   * </p>
+   *
+   * @param method    the simplification method, {@link SimplifiedLine#DOUGLAS_PEUCKER} or
+   *                  {@link SimplifiedLine#VISVALINGAM_WHYATT}
+   * @param tolerance the tolerance in pixels
+   * @return This {@link PolylineOptions} object with simplification enabled.
+   */
+  public PolylineOptions simplify(@SimplifiedLine.Method int method, float tolerance) {
+    simplified = true;
+    simplificationMethod = method;
+    simplificationTolerance = tolerance;
+    return this;
+  }
+
+  /**
+   * @return true if the polyline is simplified for the zoom level of the map
+   */
+  public boolean isSimplified() {
+    return simplified;
+  }
+
+  /**
+   * @return the simplification method
+   */
+  @SimplifiedLine.Method
+  public int getSimplificationMethod() {
+    return simplificationMethod;
+  }
+
+  /**
+   * @return the simplification tolerance in pixels
+   */
+  public float getSimplificationTolerance() {
+    return simplificationTolerance;
+  }
+
   /**
    * Gets the points set for this {@link PolylineOptions} object.
    *
@@ -215,7 +263,7 @@ public final class PolylineOptions implements Parcelable {
     if (Float.compare(polyline.getWidth(), getWidth()) != 0) {
       return false;
     }
-    return !(getPoints() != null ? !getPoints().equals(polyline.getPoints()) : polyline.getPoints() != null);
+    return this.polyline.hasSamePoints(polyline.polyline);
   }
 
   /**
@@ -232,7 +280,7 @@ public final class PolylineOptions implements Parcelable {
     result = 31 * result + (getAlpha() != +0.0f ? Float.floatToIntBits(getAlpha()) : 0);
     result = 31 * result + getColor();
     result = 31 * result + (getWidth() != +0.0f ? Float.floatToIntBits(getWidth()) : 0);
-    result = 31 * result + (getPoints() != null ? getPoints().hashCode() : 0);
+    result = 31 * result + polyline.getPointsHashCode();
     return result;
   }
 }
@@ -0,0 +1,337 @@
+package com.mapbox.mapboxsdk.camera;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs {@link CameraAnimator}s and applies their combined result to the camera, once per frame.
+ * <p>
+ * For every frame the value of each channel is taken from the absolute animator owning the channel, or from the
+ * resting camera if no animator owns it, and the offsets of the additive animators on the channel are added. The
+ * merged position is applied with a single instantaneous camera move. Offsets of finished additive animators are kept.
+ * </p>
+ * <p>
+ * Frames are timed by a {@link FrameClock}, which ticks while animators are running.
+ * </p>
+ */
+@UiThread
+public class CameraAnimationEngine implements Runnable {
+
+  /**
+   * The camera the engine animates.
+   */
+  public interface CameraDelegate {
+
+    /**
+     * Get the camera position to start animating from.
+     *
+     * @return the current camera position, null if unknown
+     */
+    @Nullable
+    CameraPosition getCameraPosition();
+
+    /**
+     * Invoked before the first frame of an animation.
+     */
+    void onAnimationStarted();
+
+    /**
+     * Moves the camera instantaneously, invoked at most once per frame.
+     *
+     * @param bearing the bearing in degrees
+     * @param target  the target, only valid for the duration of the invocation
+     * @param tilt    the tilt in degrees
+     * @param zoom    the zoom
+     */
+    void jumpTo(double bearing, @NonNull LatLng target, double tilt, double zoom);
+
+    /**
+     * Invoked after the last frame of an animation.
+     */
+    void onAnimationFinished();
+  }
+
+  /**
+   * Source of the frames of the engine.
+   */
+  public interface FrameClock {
+
+    /**
+     * Get the time of the current frame.
+     *
+     * @return the frame time in milliseconds
+     */
+    long getFrameTime();
+
+    /**
+     * Starts invoking a callback once per frame.
+     *
+     * @param frameCallback the callback
+     */
+    void start(@NonNull Runnable frameCallback);
+
+    /**
+     * Stops invoking the callback.
+     */
+    void stop();
+  }
+
+  private final CameraDelegate delegate;
+  private final FrameClock frameClock;
+  private final List<CameraAnimator> animators = new ArrayList<>();
+  private final List<CameraAnimator> finished = new ArrayList<>();
+
+  private final double[] resting = new double[CameraAnimator.VALUE_COUNT];
+  private final double[] committed = new double[CameraAnimator.VALUE_COUNT];
+  private final double[] base = new double[CameraAnimator.VALUE_COUNT];
+  private final double[] output = new double[CameraAnimator.VALUE_COUNT];
+  private final double[] applied = new double[CameraAnimator.VALUE_COUNT];
+  private final LatLng target = new LatLng();
+
+  private boolean active;
+  private boolean hasApplied;
+  private int frameCount;
+
+  public CameraAnimationEngine(@NonNull CameraDelegate delegate, @NonNull FrameClock frameClock) {
+    this.delegate = delegate;
+    this.frameClock = frameClock;
+  }
+
+  /**
+   * Starts an animator from the current camera, taking over its channels if the animator is absolute.
+   *
+   * @param animator the animator to start
+   */
+  public void start(@NonNull CameraAnimator animator) {
+    if (animator.running) {
+      throw new IllegalStateException("The animator is already running");
+    }
+
+    if (!active && !activate()) {
+      animator.notifyCancel();
+      return;
+    }
+
+    if (!animator.isAdditive()) {
+      for (CameraAnimator other : new ArrayList<>(animators)) {
+        if (!other.isAdditive() && (other.ownedChannels & animator.getChannels()) != 0) {
+          other.ownedChannels &= ~animator.getChannels();
+          if (other.ownedChannels == 0) {
+            remove(other);
+            other.notifyCancel();
+          }
+        }
+      }
+      for (int i = 0; i < CameraAnimator.VALUE_COUNT; i++) {
+        if (CameraAnimator.hasValue(animator.getChannels(), i)) {
+          // the new animator continues from the current value, absorbing finished offsets
+          resting[i] = base[i];
+          committed[i] = 0;
+        }
+      }
+    }
+
+    for (int i = 0; i < CameraAnimator.VALUE_COUNT; i++) {
+      animator.frameValues[i] = animator.isAdditive() ? 0 : base[i];
+    }
+    animator.ownedChannels = animator.getChannels();
+    animator.running = true;
+    animators.add(animator);
+    animator.onStart(frameClock.getFrameTime(), base);
+  }
+
+  /**
+   * Cancels an animator, the channels it animated rest at their current value.
+   *
+   * @param animator the animator to cancel
+   */
+  public void cancel(@NonNull CameraAnimator animator) {
+    if (animator.running) {
+      restAtCurrentValues(animator);
+      remove(animator);
+      animator.notifyCancel();
+      deactivateIfIdle();
+    }
+  }
+
+  /**
+   * Cancels all animators.
+   */
+  public void cancelAll() {
+    if (!animators.isEmpty()) {
+      for (CameraAnimator animator : new ArrayList<>(animators)) {
+        restAtCurrentValues(animator);
+        remove(animator);
+        animator.notifyCancel();
+      }
+      deactivateIfIdle();
+    }
+  }
+
+  public boolean isAnimating() {
+    return active;
+  }
+
+  /**
+   * Get the amount of frames applied since the engine was created.
+   *
+   * @return the frame count
+   */
+  public int getFrameCount() {
+    return frameCount;
+  }
+
+  @Override
+  public void run() {
+    onFrame(frameClock.getFrameTime());
+  }
+
+  /**
+   * Computes and applies a frame.
+   *
+   * @param time the frame time in milliseconds
+   */
+  void onFrame(long time) {
+    if (!active) {
+      return;
+    }
+
+    // absolute animators drive the base of their channels
+    for (int i = 0; i < CameraAnimator.VALUE_COUNT; i++) {
+      base[i] = resting[i];
+    }
+    for (int j = 0; j < animators.size(); j++) {
+      CameraAnimator animator = animators.get(j);
+      if (!animator.isAdditive()) {
+        boolean running = animator.onFrame(time, animator.frameValues);
+        for (int i = 0; i < CameraAnimator.VALUE_COUNT; i++) {
+          if (CameraAnimator.hasValue(animator.ownedChannels, i)) {
+            base[i] = animator.frameValues[i];
+            if (!running) {
+              resting[i] = animator.frameValues[i];
+            }
+          }
+        }
+        if (!running) {
+          finished.add(animator);
+        }
+      }
+    }
+    for (int i = 0; i < CameraAnimator.VALUE_COUNT; i++) {
+      base[i] += committed[i];
+      output[i] = base[i];
+    }
+
+    // additive animators add their offsets on top
+    for (int j = 0; j < animators.size(); j++) {
+      CameraAnimator animator = animators.get(j);
+      if (animator.isAdditive()) {
+        boolean running = animator.onFrame(time, animator.frameValues);
+        for (int i = 0; i < CameraAnimator.VALUE_COUNT; i++) {
+          if (CameraAnimator.hasValue(animator.getChannels(), i)) {
+            output[i] += animator.frameValues[i];
+            if (!running) {
+              committed[i] += animator.frameValues[i];
+              base[i] += animator.frameValues[i];
+            }
+          }
+        }
+        if (!running) {
+          finished.add(animator);
+        }
+      }
+    }
+
+    apply();
+
+    for (int j = 0; j < finished.size(); j++) {
+      remove(finished.get(j));
+    }
+    for (int j = 0; j < finished.size(); j++) {
+      finished.get(j).notifyFinish();
+    }
+    finished.clear();
+    deactivateIfIdle();
+  }
+
+  private boolean activate() {
+    CameraPosition position = delegate.getCameraPosition();
+    if (position == null || position.target == null) {
+      return false;
+    }
+
+    resting[CameraAnimator.LATITUDE] = position.target.getLatitude();
+    resting[CameraAnimator.LONGITUDE] = position.target.getLongitude();
+    resting[CameraAnimator.ZOOM] = position.zoom;
+    resting[CameraAnimator.BEARING] = position.bearing;
+    resting[CameraAnimator.TILT] = position.tilt;
+    for (int i = 0; i < CameraAnimator.VALUE_COUNT; i++) {
+      committed[i] = 0;
+      base[i] = resting[i];
+    }
+    hasApplied = false;
+    active = true;
+    delegate.onAnimationStarted();
+    frameClock.start(this);
+    return true;
+  }
+
+  private void deactivateIfIdle() {
+    if (active && animators.isEmpty()) {
+      active = false;
+      frameClock.stop();
+      delegate.onAnimationFinished();
+    }
+  }
+
+  private void restAtCurrentValues(CameraAnimator animator) {
+    for (int i = 0; i < CameraAnimator.VALUE_COUNT; i++) {
+      if (CameraAnimator.hasValue(animator.ownedChannels, i)) {
+        if (animator.isAdditive()) {
+          committed[i] += animator.frameValues[i];
+          base[i] += animator.frameValues[i];
+        } else {
+          resting[i] = animator.frameValues[i];
+        }
+      }
+    }
+  }
+
+  private void remove(CameraAnimator animator) {
+    animators.remove(animator);
+    animator.running = false;
+    animator.ownedChannels = 0;
+  }
+
+  private void apply() {
+    double bearing = output[CameraAnimator.BEARING] % 360;
+    output[CameraAnimator.BEARING] = bearing < 0 ? bearing + 360 : bearing;
+    output[CameraAnimator.LATITUDE] = Math.max(-90, Math.min(90, output[CameraAnimator.LATITUDE]));
+
+    boolean changed = !hasApplied;
+    for (int i = 0; i < CameraAnimator.VALUE_COUNT && !changed; i++) {
+      changed = output[i] != applied[i];
+    }
+    if (!changed) {
+      return;
+    }
+
+    System.arraycopy(output, 0, applied, 0, CameraAnimator.VALUE_COUNT);
+    hasApplied = true;
+    frameCount++;
+    target.setLatitude(output[CameraAnimator.LATITUDE]);
+    target.setLongitude(wrapLongitude(output[CameraAnimator.LONGITUDE]));
+    delegate.jumpTo(output[CameraAnimator.BEARING], target, output[CameraAnimator.TILT], output[CameraAnimator.ZOOM]);
+  }
+
+  private static double wrapLongitude(double longitude) {
+    double wrapped = (longitude + 180) % 360;
+    return wrapped < 0 ? wrapped + 180 : wrapped - 180;
+  }
+}
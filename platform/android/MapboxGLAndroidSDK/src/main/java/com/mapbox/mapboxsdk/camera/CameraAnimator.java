@@ -0,0 +1,181 @@
+package com.mapbox.mapboxsdk.camera;
+
+import android.support.annotation.IntDef;
+import android.support.annotation.Nullable;
+
+import com.mapbox.mapboxsdk.maps.MapboxMap;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Animates one or more channels of the camera, run by a {@link CameraAnimationEngine}.
+ * <p>
+ * An absolute animator drives the value of its channels. Starting an absolute animator takes over the channels from
+ * animators already running on them, an animator left without channels is cancelled. An additive animator adds an
+ * offset to the value of its channels, additive animators on the same channel are summed up.
+ * </p>
+ */
+public abstract class CameraAnimator {
+
+  /**
+   * The target of the camera, can't be animated additively.
+   */
+  public static final int CHANNEL_TARGET = 1;
+
+  /**
+   * The zoom of the camera.
+   */
+  public static final int CHANNEL_ZOOM = 1 << 1;
+
+  /**
+   * The bearing of the camera.
+   */
+  public static final int CHANNEL_BEARING = 1 << 2;
+
+  /**
+   * The tilt of the camera.
+   */
+  public static final int CHANNEL_TILT = 1 << 3;
+
+  @IntDef(flag = true, value = {CHANNEL_TARGET, CHANNEL_ZOOM, CHANNEL_BEARING, CHANNEL_TILT})
+  @Retention(RetentionPolicy.SOURCE)
+  public @interface Channel {
+  }
+
+  // indices of the channel values
+  static final int LATITUDE = 0;
+  static final int LONGITUDE = 1;
+  static final int ZOOM = 2;
+  static final int BEARING = 3;
+  static final int TILT = 4;
+  static final int VALUE_COUNT = 5;
+
+  private final int channels;
+  private final boolean additive;
+  private MapboxMap.CancelableCallback callback;
+
+  // managed by the engine
+  final double[] frameValues = new double[VALUE_COUNT];
+  int ownedChannels;
+  boolean running;
+
+  CameraAnimator(@Channel int channels, boolean additive) {
+    if (channels == 0) {
+      throw new IllegalArgumentException("An animator needs at least one channel");
+    }
+    if (additive && (channels & CHANNEL_TARGET) != 0) {
+      throw new IllegalArgumentException("The camera target can't be animated additively");
+    }
+    this.channels = channels;
+    this.additive = additive;
+  }
+
+  /**
+   * Get the channels animated by this animator.
+   *
+   * @return the channels, a combination of the CHANNEL constants
+   */
+  @Channel
+  public int getChannels() {
+    return channels;
+  }
+
+  /**
+   * Returns whether this animator adds an offset to its channels instead of driving them.
+   *
+   * @return true if additive
+   */
+  public boolean isAdditive() {
+    return additive;
+  }
+
+  /**
+   * Returns whether this animator is running in an engine.
+   *
+   * @return true if running
+   */
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Sets the callback invoked when this animator finished or was cancelled.
+   *
+   * @param callback the callback, null to remove it
+   */
+  public void setCallback(@Nullable MapboxMap.CancelableCallback callback) {
+    this.callback = callback;
+  }
+
+  /**
+   * Starts animating from the current values of the camera.
+   *
+   * @param time   the frame time in milliseconds
+   * @param values the current values, indexed by the value indices
+   */
+  abstract void onStart(long time, double[] values);
+
+  /**
+   * Computes the values of a frame. Absolute animators write the values of their channels, additive animators write
+   * the offsets of their channels.
+   *
+   * @param time   the frame time in milliseconds
+   * @param values the values to write, indexed by the value indices
+   * @return true if the animator keeps running after this frame
+   */
+  abstract boolean onFrame(long time, double[] values);
+
+  void notifyFinish() {
+    if (callback != null) {
+      callback.onFinish();
+    }
+  }
+
+  void notifyCancel() {
+    if (callback != null) {
+      callback.onCancel();
+    }
+  }
+
+  /**
+   * Returns whether a channel includes the value at an index.
+   *
+   * @param channels the channels
+   * @param index    the value index
+   * @return true if included
+   */
+  static boolean hasValue(int channels, int index) {
+    switch (index) {
+      case LATITUDE:
+      case LONGITUDE:
+        return (channels & CHANNEL_TARGET) != 0;
+      case ZOOM:
+        return (channels & CHANNEL_ZOOM) != 0;
+      case BEARING:
+        return (channels & CHANNEL_BEARING) != 0;
+      default:
+        return (channels & CHANNEL_TILT) != 0;
+    }
+  }
+
+  /**
+   * Returns whether the value at an index is an angle, interpolated along the shortest way.
+   *
+   * @param index the value index
+   * @return true for longitude and bearing
+   */
+  static boolean isAngle(int index) {
+    return index == LONGITUDE || index == BEARING;
+  }
+
+  static double shortestDelta(double from, double to) {
+    double delta = (to - from) % 360;
+    if (delta > 180) {
+      delta -= 360;
+    } else if (delta < -180) {
+      delta += 360;
+    }
+    return delta;
+  }
+}
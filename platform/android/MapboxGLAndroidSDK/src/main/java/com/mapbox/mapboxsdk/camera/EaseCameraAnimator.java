@@ -0,0 +1,232 @@
+package com.mapbox.mapboxsdk.camera;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+
+/**
+ * Eases the camera to a target within a duration.
+ * <p>
+ * Every value follows a cubic curve which starts with the velocity the value had when the ease started and comes to
+ * rest at the target. Eases started from rest therefore ease in and out. An ease can be retargeted while running, it
+ * continues from its current value and velocity towards the new target without a jump or a stop. Bearing and
+ * longitude take the shortest way.
+ * </p>
+ * <p>
+ * An additive ease moves the offset of its channels from 0 to the given values instead.
+ * </p>
+ */
+public final class EaseCameraAnimator extends CameraAnimator {
+
+  private final double[] requested = new double[VALUE_COUNT];
+  private final double[] from = new double[VALUE_COUNT];
+  private final double[] velocity = new double[VALUE_COUNT];
+  private final double[] to = new double[VALUE_COUNT];
+  private final double[] lastValue = new double[VALUE_COUNT];
+  private final double[] lastVelocity = new double[VALUE_COUNT];
+
+  private long duration;
+  private boolean started;
+  private long startTime;
+  private long lastTime;
+
+  private EaseCameraAnimator(Builder builder) {
+    super(builder.channels, builder.additive);
+    if (builder.target != null) {
+      requested[LATITUDE] = builder.target.getLatitude();
+      requested[LONGITUDE] = builder.target.getLongitude();
+    }
+    requested[ZOOM] = builder.zoom;
+    requested[BEARING] = builder.bearing;
+    requested[TILT] = builder.tilt;
+    duration = builder.duration;
+  }
+
+  /**
+   * Get the duration of the ease, counted from the last retarget.
+   *
+   * @return the duration in milliseconds
+   */
+  public long getDuration() {
+    return duration;
+  }
+
+  /**
+   * Retargets the ease, keeping the current value and velocity.
+   * <p>
+   * Only the channels of this animator are taken from the position.
+   * </p>
+   *
+   * @param position       the new target
+   * @param durationMillis the duration from now to the new target in milliseconds
+   */
+  public void retarget(@NonNull CameraPosition position, long durationMillis) {
+    if (isAdditive()) {
+      throw new IllegalStateException("Additive eases can't be retargeted");
+    }
+    if (hasValue(getChannels(), LATITUDE)) {
+      if (position.target == null) {
+        throw new IllegalArgumentException("The target of the camera position is missing");
+      }
+      requested[LATITUDE] = position.target.getLatitude();
+      requested[LONGITUDE] = position.target.getLongitude();
+    }
+    requested[ZOOM] = position.zoom;
+    requested[BEARING] = position.bearing;
+    requested[TILT] = position.tilt;
+    duration = checkDuration(durationMillis);
+
+    if (started) {
+      startTime = lastTime;
+      for (int i = 0; i < VALUE_COUNT; i++) {
+        if (hasValue(getChannels(), i)) {
+          from[i] = lastValue[i];
+          velocity[i] = lastVelocity[i];
+          to[i] = target(i, from[i]);
+        }
+      }
+    }
+  }
+
+  @Override
+  void onStart(long time, double[] values) {
+    started = true;
+    startTime = time;
+    lastTime = time;
+    for (int i = 0; i < VALUE_COUNT; i++) {
+      if (hasValue(getChannels(), i)) {
+        from[i] = isAdditive() ? 0 : values[i];
+        velocity[i] = 0;
+        to[i] = target(i, from[i]);
+        lastValue[i] = from[i];
+        lastVelocity[i] = 0;
+      }
+    }
+  }
+
+  @Override
+  boolean onFrame(long time, double[] values) {
+    lastTime = time;
+    double progress = duration <= 0 ? 1 : Math.max(0, Math.min(1, (time - startTime) / (double) duration));
+    double s2 = progress * progress;
+    double s3 = s2 * progress;
+
+    // cubic hermite basis, ending at rest
+    double h00 = 2 * s3 - 3 * s2 + 1;
+    double h10 = s3 - 2 * s2 + progress;
+    double h01 = -2 * s3 + 3 * s2;
+    double d00 = 6 * s2 - 6 * progress;
+    double d10 = 3 * s2 - 4 * progress + 1;
+    double d01 = -d00;
+
+    for (int i = 0; i < VALUE_COUNT; i++) {
+      if (hasValue(getChannels(), i)) {
+        if (progress >= 1) {
+          lastValue[i] = to[i];
+          lastVelocity[i] = 0;
+        } else {
+          lastValue[i] = h00 * from[i] + h10 * duration * velocity[i] + h01 * to[i];
+          lastVelocity[i] = (d00 * from[i] + d01 * to[i]) / duration + d10 * velocity[i];
+        }
+        values[i] = lastValue[i];
+      }
+    }
+    return progress < 1;
+  }
+
+  private double target(int index, double start) {
+    if (!isAdditive() && isAngle(index)) {
+      return start + shortestDelta(start, requested[index]);
+    }
+    return requested[index];
+  }
+
+  private static long checkDuration(long duration) {
+    if (duration < 0) {
+      throw new IllegalArgumentException("The duration must not be negative");
+    }
+    return duration;
+  }
+
+  /**
+   * Builder for an ease, only the values which are set are animated.
+   */
+  public static final class Builder {
+
+    private int channels;
+    private LatLng target;
+    private double zoom;
+    private double bearing;
+    private double tilt;
+    private long duration = 300;
+    private boolean additive;
+
+    public Builder target(@NonNull LatLng target) {
+      this.target = target;
+      channels |= CHANNEL_TARGET;
+      return this;
+    }
+
+    /**
+     * Sets the zoom, or the zoom offset for an additive ease.
+     *
+     * @param zoom the zoom
+     * @return this builder
+     */
+    public Builder zoom(double zoom) {
+      this.zoom = zoom;
+      channels |= CHANNEL_ZOOM;
+      return this;
+    }
+
+    /**
+     * Sets the bearing, or the bearing offset for an additive ease.
+     *
+     * @param bearing the bearing in degrees
+     * @return this builder
+     */
+    public Builder bearing(double bearing) {
+      this.bearing = bearing;
+      channels |= CHANNEL_BEARING;
+      return this;
+    }
+
+    /**
+     * Sets the tilt, or the tilt offset for an additive ease.
+     *
+     * @param tilt the tilt in degrees
+     * @return this builder
+     */
+    public Builder tilt(double tilt) {
+      this.tilt = tilt;
+      channels |= CHANNEL_TILT;
+      return this;
+    }
+
+    /**
+     * Sets the duration, 300 milliseconds by default.
+     *
+     * @param durationMillis the duration in milliseconds
+     * @return this builder
+     */
+    public Builder duration(long durationMillis) {
+      this.duration = checkDuration(durationMillis);
+      return this;
+    }
+
+    /**
+     * Sets whether the ease adds offsets to the camera instead of driving it.
+     *
+     * @param additive true for an additive ease
+     * @return this builder
+     */
+    public Builder additive(boolean additive) {
+      this.additive = additive;
+      return this;
+    }
+
+    public EaseCameraAnimator build() {
+      return new EaseCameraAnimator(this);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.mapbox.mapboxsdk.camera;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Pulls the camera towards a target with a damped spring.
+ * <p>
+ * The target can be changed at any time, the camera keeps its momentum and bends towards the new target. A damping
+ * ratio of 1 settles as fast as possible without overshooting, lower ratios overshoot and bounce. The spring is
+ * simulated in fixed time steps, so the motion only depends on the elapsed time and not on the frame rate. The
+ * animator finishes when all values came to rest at the target.
+ * </p>
+ */
+public final class SpringCameraAnimator extends CameraAnimator {
+
+  public static final double DEFAULT_STIFFNESS = 200;
+  public static final double DEFAULT_DAMPING_RATIO = 1;
+
+  private static final long STEP_MILLIS = 4;
+
+  // rest thresholds per value index, latitude and longitude in degrees
+  private static final double[] REST_DISTANCE = {1e-7, 1e-7, 1e-4, 1e-3, 1e-3};
+  private static final double REST_VELOCITY_FACTOR = 10;
+
+  private final double[] target = new double[VALUE_COUNT];
+  private final double[] value = new double[VALUE_COUNT];
+  private final double[] velocity = new double[VALUE_COUNT];
+
+  private double stiffness = DEFAULT_STIFFNESS;
+  private double damping;
+  private long simulatedTime;
+
+  /**
+   * Creates a spring for the channels of a camera position.
+   *
+   * @param channels the channels to animate, a combination of the CHANNEL constants
+   * @param target   the target of the spring
+   */
+  public SpringCameraAnimator(@Channel int channels, @NonNull CameraPosition target) {
+    super(channels, false);
+    setDampingRatio(DEFAULT_DAMPING_RATIO);
+    setTarget(target);
+  }
+
+  /**
+   * Sets the stiffness, higher values move faster.
+   *
+   * @param stiffness the stiffness, 200 by default
+   */
+  public void setStiffness(double stiffness) {
+    if (stiffness <= 0) {
+      throw new IllegalArgumentException("The stiffness must be positive");
+    }
+    double ratio = getDampingRatio();
+    this.stiffness = stiffness;
+    setDampingRatio(ratio);
+  }
+
+  public double getStiffness() {
+    return stiffness;
+  }
+
+  /**
+   * Sets the damping ratio.
+   *
+   * @param dampingRatio the ratio, 1 by default
+   */
+  public void setDampingRatio(double dampingRatio) {
+    if (dampingRatio < 0) {
+      throw new IllegalArgumentException("The damping ratio must not be negative");
+    }
+    damping = 2 * dampingRatio * Math.sqrt(stiffness);
+  }
+
+  public double getDampingRatio() {
+    return damping / (2 * Math.sqrt(stiffness));
+  }
+
+  /**
+   * Sets the target the spring pulls towards, only the channels of this animator are taken from the position.
+   *
+   * @param position the new target
+   */
+  public void setTarget(@NonNull CameraPosition position) {
+    if (hasValue(getChannels(), LATITUDE)) {
+      if (position.target == null) {
+        throw new IllegalArgumentException("The target of the camera position is missing");
+      }
+      target[LATITUDE] = position.target.getLatitude();
+      target[LONGITUDE] = position.target.getLongitude();
+    }
+    target[ZOOM] = position.zoom;
+    target[BEARING] = position.bearing;
+    target[TILT] = position.tilt;
+  }
+
+  @Override
+  void onStart(long time, double[] values) {
+    simulatedTime = time;
+    for (int i = 0; i < VALUE_COUNT; i++) {
+      value[i] = values[i];
+      velocity[i] = 0;
+    }
+  }
+
+  @Override
+  boolean onFrame(long time, double[] values) {
+    while (simulatedTime + STEP_MILLIS <= time) {
+      step(STEP_MILLIS / 1000.0);
+      simulatedTime += STEP_MILLIS;
+    }
+
+    boolean resting = true;
+    for (int i = 0; i < VALUE_COUNT; i++) {
+      if (hasValue(getChannels(), i)) {
+        double distance = distance(i);
+        if (Math.abs(distance) > REST_DISTANCE[i]
+          || Math.abs(velocity[i]) > REST_DISTANCE[i] * REST_VELOCITY_FACTOR) {
+          resting = false;
+        }
+      }
+    }
+
+    for (int i = 0; i < VALUE_COUNT; i++) {
+      if (hasValue(getChannels(), i)) {
+        if (resting) {
+          value[i] += distance(i);
+          velocity[i] = 0;
+        }
+        values[i] = value[i];
+      }
+    }
+    return !resting;
+  }
+
+  private void step(double seconds) {
+    // semi-implicit euler, stable for the step size at reasonable stiffness
+    for (int i = 0; i < VALUE_COUNT; i++) {
+      if (hasValue(getChannels(), i)) {
+        double acceleration = stiffness * distance(i) - damping * velocity[i];
+        velocity[i] += acceleration * seconds;
+        value[i] += velocity[i] * seconds;
+      }
+    }
+  }
+
+  private double distance(int index) {
+    return isAngle(index) ? shortestDelta(value[index], target[index]) : target[index] - value[index];
+  }
+}
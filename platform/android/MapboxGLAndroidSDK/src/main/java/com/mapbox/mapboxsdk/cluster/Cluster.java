@@ -0,0 +1,80 @@
+package com.mapbox.mapboxsdk.cluster;
+
+/**
+ * A cluster of points, or a single point, returned by {@link ClusterIndex#getClusters(double, double, double, double,
+ * int)}.
+ */
+public class Cluster {
+
+  private final int id;
+  private final double latitude;
+  private final double longitude;
+  private final int pointCount;
+
+  Cluster(int id, double latitude, double longitude, int pointCount) {
+    this.id = id;
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.pointCount = pointCount;
+  }
+
+  /**
+   * Get the identifier of the cluster. For a single point this is the index of the point as loaded into the index.
+   *
+   * @return the identifier, unique in the index
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * @return the latitude of the cluster, the center of its points
+   */
+  public double getLatitude() {
+    return latitude;
+  }
+
+  /**
+   * @return the longitude of the cluster, the center of its points
+   */
+  public double getLongitude() {
+    return longitude;
+  }
+
+  /**
+   * @return the amount of points in the cluster, 1 for a single point
+   */
+  public int getPointCount() {
+    return pointCount;
+  }
+
+  /**
+   * @return true if this is a cluster of multiple points
+   */
+  public boolean isCluster() {
+    return pointCount > 1;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Cluster cluster = (Cluster) o;
+    return id == cluster.id && pointCount == cluster.pointCount;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * id + pointCount;
+  }
+
+  @Override
+  public String toString() {
+    return "Cluster [id=" + id + ", latitude=" + latitude + ", longitude=" + longitude + ", pointCount="
+      + pointCount + "]";
+  }
+}
@@ -0,0 +1,463 @@
+package com.mapbox.mapboxsdk.cluster;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A hierarchical point clustering index.
+ * <p>
+ * Points are clustered greedily per zoom level, from the maximum zoom level down: every point that isn't clustered
+ * yet absorbs its unclustered neighbours within the cluster radius into a cluster at their weighted center. Every
+ * zoom level is indexed with a KD-tree, querying the clusters within bounds visits only the tree nodes intersecting
+ * the bounds.
+ * </p>
+ * <p>
+ * An index is loaded once and queried from one thread at a time.
+ * </p>
+ */
+public class ClusterIndex {
+
+  /**
+   * The maximum amount of points that can be loaded into an index.
+   */
+  public static final int MAX_POINT_COUNT = 1 << 25;
+
+  private static final int MAX_ZOOM = 24;
+
+  /**
+   * ClusterIndex options
+   */
+  public static class Options {
+    private int radius = 40;
+    private int extent = 512;
+    private int minZoom = 0;
+    private int maxZoom = 16;
+    private int minPoints = 2;
+    private int nodeSize = KdIndex.DEFAULT_NODE_SIZE;
+    private Executor executor;
+
+    /**
+     * @param radius the cluster radius in pixels (default: 40)
+     * @return the mutated {@link Options}
+     */
+    public Options withRadius(int radius) {
+      this.radius = radius;
+      return this;
+    }
+
+    /**
+     * @param extent the size of a tile in pixels, the radius is relative to it (default: 512)
+     * @return the mutated {@link Options}
+     */
+    public Options withExtent(int extent) {
+      this.extent = extent;
+      return this;
+    }
+
+    /**
+     * @param minZoom the minimum zoom level to cluster points on (default: 0)
+     * @return the mutated {@link Options}
+     */
+    public Options withMinZoom(int minZoom) {
+      this.minZoom = minZoom;
+      return this;
+    }
+
+    /**
+     * @param maxZoom the maximum zoom level to cluster points on, up to 24 (default: 16)
+     * @return the mutated {@link Options}
+     */
+    public Options withMaxZoom(int maxZoom) {
+      this.maxZoom = maxZoom;
+      return this;
+    }
+
+    /**
+     * @param minPoints the minimum amount of points to form a cluster (default: 2)
+     * @return the mutated {@link Options}
+     */
+    public Options withMinPoints(int minPoints) {
+      this.minPoints = minPoints;
+      return this;
+    }
+
+    /**
+     * @param nodeSize the amount of points in a leaf node of the KD-trees (default: 64)
+     * @return the mutated {@link Options}
+     */
+    public Options withNodeSize(int nodeSize) {
+      this.nodeSize = nodeSize;
+      return this;
+    }
+
+    /**
+     * @param executor the executor to build the KD-trees of large indexes in parallel on, the loading thread waits
+     *                 for the build, null to build on the loading thread (default: null)
+     * @return the mutated {@link Options}
+     */
+    public Options withExecutor(@Nullable Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * @return the cluster radius in pixels
+     */
+    public int getRadius() {
+      return radius;
+    }
+
+    /**
+     * @return the minimum zoom level
+     */
+    public int getMinZoom() {
+      return minZoom;
+    }
+
+    /**
+     * @return the maximum zoom level
+     */
+    public int getMaxZoom() {
+      return maxZoom;
+    }
+  }
+
+  private final Options options;
+  private final IntArray result = new IntArray();
+  private Level[] levels;
+  private int pointCount;
+
+  /**
+   * Creates an empty index with the default options.
+   */
+  public ClusterIndex() {
+    this(new Options());
+  }
+
+  /**
+   * Creates an empty index.
+   *
+   * @param options the options of the index
+   */
+  public ClusterIndex(@NonNull Options options) {
+    if (options.minZoom < 0 || options.maxZoom > MAX_ZOOM || options.minZoom > options.maxZoom) {
+      throw new IllegalArgumentException("Invalid zoom range " + options.minZoom + " - " + options.maxZoom);
+    }
+    if (options.radius <= 0 || options.extent <= 0 || options.nodeSize <= 0) {
+      throw new IllegalArgumentException("The radius, extent and node size must be positive");
+    }
+    this.options = options;
+    load(new double[0], 0);
+  }
+
+  /**
+   * Loads points into the index, replacing the points loaded before.
+   *
+   * @param coordinates the points as alternating latitudes and longitudes
+   * @param count       the amount of points
+   */
+  public void load(@NonNull double[] coordinates, int count) {
+    if (count > MAX_POINT_COUNT) {
+      throw new IllegalArgumentException("Can't index more than " + MAX_POINT_COUNT + " points");
+    }
+
+    Level points = new Level(count);
+    for (int i = 0; i < count; i++) {
+      points.add(lngX(coordinates[2 * i + 1]), latY(coordinates[2 * i]), i, 1);
+    }
+
+    int maxZoom = options.maxZoom;
+    Level[] levels = new Level[maxZoom + 2];
+    points.index(options.nodeSize, options.executor);
+    levels[maxZoom + 1] = points;
+
+    // cluster the points of the zoom level above into the zoom level below
+    IntArray neighbours = new IntArray();
+    for (int zoom = maxZoom; zoom >= options.minZoom; zoom--) {
+      levels[zoom] = cluster(levels[zoom + 1], zoom, count, neighbours);
+      levels[zoom].index(options.nodeSize, options.executor);
+    }
+
+    this.pointCount = count;
+    this.levels = levels;
+  }
+
+  /**
+   * @return the amount of points loaded
+   */
+  public int getPointCount() {
+    return pointCount;
+  }
+
+  /**
+   * Get the clusters and single points within bounds on a zoom level.
+   *
+   * @param bounds the bounds
+   * @param zoom   the zoom level
+   * @return the clusters
+   */
+  @NonNull
+  public List<Cluster> getClusters(@NonNull LatLngBounds bounds, int zoom) {
+    return getClusters(bounds.getLonWest(), bounds.getLatSouth(), bounds.getLonEast(), bounds.getLatNorth(), zoom);
+  }
+
+  /**
+   * Get the clusters and single points within bounds on a zoom level.
+   *
+   * @param west  the west longitude
+   * @param south the south latitude
+   * @param east  the east longitude
+   * @param north the north latitude
+   * @param zoom  the zoom level
+   * @return the clusters
+   */
+  @NonNull
+  public List<Cluster> getClusters(double west, double south, double east, double north, int zoom) {
+    if (east - west >= 360) {
+      west = -180;
+      east = 180;
+    } else {
+      west = wrap(west);
+      east = wrap(east);
+      if (west > east) {
+        // crossing the antimeridian
+        List<Cluster> clusters = getClusters(west, south, 180, north, zoom);
+        clusters.addAll(getClusters(-180, south, east, north, zoom));
+        return clusters;
+      }
+    }
+
+    Level level = levels[Math.max(options.minZoom, Math.min(options.maxZoom + 1, zoom))];
+    result.clear();
+    level.tree.range(lngX(west), latY(north), lngX(east), latY(south), result);
+    List<Cluster> clusters = new ArrayList<>(result.size());
+    for (int i = 0; i < result.size(); i++) {
+      clusters.add(level.toCluster(result.get(i)));
+    }
+    return clusters;
+  }
+
+  /**
+   * Get the clusters and single points a cluster splits into on the zoom level above it.
+   *
+   * @param clusterId the identifier of the cluster
+   * @return the children of the cluster
+   */
+  @NonNull
+  public List<Cluster> getChildren(int clusterId) {
+    int index = originIndex(clusterId);
+    int zoom = originZoom(clusterId);
+    Level origin = levels[zoom];
+    result.clear();
+    origin.tree.within(origin.xs[index], origin.ys[index], radius(zoom - 1), result);
+
+    List<Cluster> children = new ArrayList<>();
+    for (int i = 0; i < result.size(); i++) {
+      int child = result.get(i);
+      if (origin.parents[child] == clusterId) {
+        children.add(origin.toCluster(child));
+      }
+    }
+    return children;
+  }
+
+  /**
+   * Get the points of a cluster.
+   *
+   * @param clusterId the identifier of the cluster
+   * @return the indexes of the points as loaded into the index
+   */
+  @NonNull
+  public int[] getLeaves(int clusterId) {
+    IntArray leaves = new IntArray();
+    addLeaves(clusterId, leaves);
+    int[] indexes = new int[leaves.size()];
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = leaves.get(i);
+    }
+    return indexes;
+  }
+
+  /**
+   * Get the zoom level on which a cluster splits into multiple children.
+   *
+   * @param clusterId the identifier of the cluster
+   * @return the zoom level
+   */
+  public int getClusterExpansionZoom(int clusterId) {
+    int expansionZoom = originZoom(clusterId) - 1;
+    while (expansionZoom <= options.maxZoom) {
+      List<Cluster> children = getChildren(clusterId);
+      expansionZoom++;
+      if (children.size() != 1 || !children.get(0).isCluster()) {
+        break;
+      }
+      clusterId = children.get(0).getId();
+    }
+    return expansionZoom;
+  }
+
+  private void addLeaves(int clusterId, IntArray leaves) {
+    for (Cluster child : getChildren(clusterId)) {
+      if (child.isCluster()) {
+        addLeaves(child.getId(), leaves);
+      } else {
+        leaves.add(child.getId());
+      }
+    }
+  }
+
+  private Level cluster(Level previous, int zoom, int pointCount, IntArray neighbours) {
+    double radius = radius(zoom);
+    Level next = new Level(previous.size);
+
+    for (int i = 0; i < previous.size; i++) {
+      if (previous.zooms[i] <= zoom) {
+        continue;
+      }
+      previous.zooms[i] = zoom;
+
+      double x = previous.xs[i];
+      double y = previous.ys[i];
+      neighbours.clear();
+      previous.tree.within(x, y, radius, neighbours);
+
+      int originCount = previous.counts[i];
+      int count = originCount;
+      for (int n = 0; n < neighbours.size(); n++) {
+        int neighbour = neighbours.get(n);
+        if (previous.zooms[neighbour] > zoom) {
+          count += previous.counts[neighbour];
+        }
+      }
+
+      if (count > originCount && count >= options.minPoints) {
+        double weightedX = x * originCount;
+        double weightedY = y * originCount;
+        int clusterId = pointCount + (i << 5) + (zoom + 1);
+        for (int n = 0; n < neighbours.size(); n++) {
+          int neighbour = neighbours.get(n);
+          if (previous.zooms[neighbour] <= zoom) {
+            continue;
+          }
+          previous.zooms[neighbour] = zoom;
+          int neighbourCount = previous.counts[neighbour];
+          weightedX += previous.xs[neighbour] * neighbourCount;
+          weightedY += previous.ys[neighbour] * neighbourCount;
+          previous.parents[neighbour] = clusterId;
+        }
+        previous.parents[i] = clusterId;
+        next.add(weightedX / count, weightedY / count, clusterId, count);
+      } else {
+        next.add(x, y, previous.ids[i], originCount);
+        if (count > originCount) {
+          // too few points for a cluster, keep the neighbours as they are
+          for (int n = 0; n < neighbours.size(); n++) {
+            int neighbour = neighbours.get(n);
+            if (previous.zooms[neighbour] <= zoom) {
+              continue;
+            }
+            previous.zooms[neighbour] = zoom;
+            next.add(previous.xs[neighbour], previous.ys[neighbour], previous.ids[neighbour],
+              previous.counts[neighbour]);
+          }
+        }
+      }
+    }
+    return next;
+  }
+
+  private double radius(int zoom) {
+    return options.radius / ((double) options.extent * (1 << zoom));
+  }
+
+  private int originIndex(int clusterId) {
+    checkCluster(clusterId);
+    return (clusterId - pointCount) >> 5;
+  }
+
+  private int originZoom(int clusterId) {
+    checkCluster(clusterId);
+    return (clusterId - pointCount) & 31;
+  }
+
+  private void checkCluster(int clusterId) {
+    int zoom = (clusterId - pointCount) & 31;
+    if (clusterId < pointCount || zoom <= options.minZoom || zoom > options.maxZoom + 1
+      || (clusterId - pointCount) >> 5 >= levels[zoom].size) {
+      throw new IllegalArgumentException("No cluster with id " + clusterId);
+    }
+  }
+
+  private static double wrap(double longitude) {
+    return longitude == 180 ? 180 : ((longitude + 180) % 360 + 360) % 360 - 180;
+  }
+
+  private static double lngX(double longitude) {
+    return longitude / 360 + 0.5;
+  }
+
+  private static double latY(double latitude) {
+    double sin = Math.sin(latitude * Math.PI / 180);
+    double y = 0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI;
+    return y < 0 ? 0 : y > 1 ? 1 : y;
+  }
+
+  private static double xLng(double x) {
+    return (x - 0.5) * 360;
+  }
+
+  private static double yLat(double y) {
+    double y2 = (180 - y * 360) * Math.PI / 180;
+    return 360 * Math.atan(Math.exp(y2)) / Math.PI - 90;
+  }
+
+  /**
+   * The points or clusters of a zoom level, in projected coordinates from 0 to 1.
+   */
+  private static final class Level {
+
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] ids;
+    private final int[] counts;
+    // the zoom level the point was last clustered on
+    private final int[] zooms;
+    private final int[] parents;
+    private int size;
+    private KdIndex tree;
+
+    Level(int capacity) {
+      xs = new double[capacity];
+      ys = new double[capacity];
+      ids = new int[capacity];
+      counts = new int[capacity];
+      zooms = new int[capacity];
+      parents = new int[capacity];
+    }
+
+    void add(double x, double y, int id, int count) {
+      xs[size] = x;
+      ys[size] = y;
+      ids[size] = id;
+      counts[size] = count;
+      zooms[size] = Integer.MAX_VALUE;
+      parents[size] = -1;
+      size++;
+    }
+
+    void index(int nodeSize, Executor executor) {
+      tree = new KdIndex(xs, ys, size, nodeSize, executor);
+    }
+
+    Cluster toCluster(int index) {
+      return new Cluster(ids[index], yLat(ys[index]), xLng(xs[index]), counts[index]);
+    }
+  }
+}
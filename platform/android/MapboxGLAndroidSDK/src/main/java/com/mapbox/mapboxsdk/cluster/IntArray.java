@@ -0,0 +1,39 @@
+package com.mapbox.mapboxsdk.cluster;
+
+import java.util.Arrays;
+
+/**
+ * A growable array of primitive ints, reused between queries.
+ */
+final class IntArray {
+
+  private int[] values;
+  private int size;
+
+  IntArray() {
+    this(16);
+  }
+
+  IntArray(int capacity) {
+    values = new int[Math.max(1, capacity)];
+  }
+
+  void add(int value) {
+    if (size == values.length) {
+      values = Arrays.copyOf(values, size * 2);
+    }
+    values[size++] = value;
+  }
+
+  int get(int index) {
+    return values[index];
+  }
+
+  int size() {
+    return size;
+  }
+
+  void clear() {
+    size = 0;
+  }
+}
@@ -0,0 +1,304 @@
+package com.mapbox.mapboxsdk.cluster;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+/**
+ * A static KD-tree over 2D points, for range and radius queries.
+ * <p>
+ * Points are sorted in place into a flat array, alternating the split axis per level, without node objects. Large
+ * indexes are sorted in parallel: the top levels are split on the calling thread and the resulting subtrees are
+ * sorted on an executor.
+ * </p>
+ */
+final class KdIndex {
+
+  static final int DEFAULT_NODE_SIZE = 64;
+
+  // subtrees larger than this are split before sorting them in parallel
+  private static final int PARALLEL_THRESHOLD = 16384;
+
+  private final int nodeSize;
+  private final int[] ids;
+  private final double[] coords;
+  // queries reuse the stack, an index is queried from one thread at a time
+  private final int[] stack = new int[192];
+
+  /**
+   * Builds the index.
+   *
+   * @param xs       the x coordinates of the points
+   * @param ys       the y coordinates of the points
+   * @param count    the amount of points
+   * @param nodeSize the amount of points in a leaf node
+   * @param executor the executor to sort large indexes in parallel on, null to sort on the calling thread
+   */
+  KdIndex(@NonNull double[] xs, @NonNull double[] ys, int count, int nodeSize, @Nullable Executor executor) {
+    this.nodeSize = nodeSize;
+    this.ids = new int[count];
+    this.coords = new double[count * 2];
+    for (int i = 0; i < count; i++) {
+      ids[i] = i;
+      coords[2 * i] = xs[i];
+      coords[2 * i + 1] = ys[i];
+    }
+
+    if (executor == null || count <= PARALLEL_THRESHOLD) {
+      sort(0, count - 1, 0);
+    } else {
+      sortParallel(count, executor);
+    }
+  }
+
+  /**
+   * @return the amount of points
+   */
+  int size() {
+    return ids.length;
+  }
+
+  /**
+   * Finds the points within a rectangle.
+   *
+   * @param minX   the minimum x
+   * @param minY   the minimum y
+   * @param maxX   the maximum x
+   * @param maxY   the maximum y
+   * @param result receives the indexes of the points
+   */
+  void range(double minX, double minY, double maxX, double maxY, @NonNull IntArray result) {
+    if (ids.length == 0) {
+      return;
+    }
+    int top = 0;
+    stack[top++] = 0;
+    stack[top++] = ids.length - 1;
+    stack[top++] = 0;
+
+    while (top > 0) {
+      int axis = stack[--top];
+      int right = stack[--top];
+      int left = stack[--top];
+
+      if (right - left <= nodeSize) {
+        for (int i = left; i <= right; i++) {
+          double x = coords[2 * i];
+          double y = coords[2 * i + 1];
+          if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+            result.add(ids[i]);
+          }
+        }
+        continue;
+      }
+
+      int middle = (left + right) >> 1;
+      double x = coords[2 * middle];
+      double y = coords[2 * middle + 1];
+      if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+        result.add(ids[middle]);
+      }
+
+      if (axis == 0 ? minX <= x : minY <= y) {
+        stack[top++] = left;
+        stack[top++] = middle - 1;
+        stack[top++] = 1 - axis;
+      }
+      if (axis == 0 ? maxX >= x : maxY >= y) {
+        stack[top++] = middle + 1;
+        stack[top++] = right;
+        stack[top++] = 1 - axis;
+      }
+    }
+  }
+
+  /**
+   * Finds the points within a radius.
+   *
+   * @param qx     the x of the center
+   * @param qy     the y of the center
+   * @param radius the radius
+   * @param result receives the indexes of the points
+   */
+  void within(double qx, double qy, double radius, @NonNull IntArray result) {
+    if (ids.length == 0) {
+      return;
+    }
+    int top = 0;
+    stack[top++] = 0;
+    stack[top++] = ids.length - 1;
+    stack[top++] = 0;
+    double radiusSquared = radius * radius;
+
+    while (top > 0) {
+      int axis = stack[--top];
+      int right = stack[--top];
+      int left = stack[--top];
+
+      if (right - left <= nodeSize) {
+        for (int i = left; i <= right; i++) {
+          if (distanceSquared(coords[2 * i], coords[2 * i + 1], qx, qy) <= radiusSquared) {
+            result.add(ids[i]);
+          }
+        }
+        continue;
+      }
+
+      int middle = (left + right) >> 1;
+      double x = coords[2 * middle];
+      double y = coords[2 * middle + 1];
+      if (distanceSquared(x, y, qx, qy) <= radiusSquared) {
+        result.add(ids[middle]);
+      }
+
+      if (axis == 0 ? qx - radius <= x : qy - radius <= y) {
+        stack[top++] = left;
+        stack[top++] = middle - 1;
+        stack[top++] = 1 - axis;
+      }
+      if (axis == 0 ? qx + radius >= x : qy + radius >= y) {
+        stack[top++] = middle + 1;
+        stack[top++] = right;
+        stack[top++] = 1 - axis;
+      }
+    }
+  }
+
+  private void sortParallel(int count, Executor executor) {
+    // split the top levels, each split halves the subtrees
+    List<int[]> ranges = new ArrayList<>();
+    ranges.add(new int[] {0, count - 1, 0});
+    boolean split = true;
+    while (split) {
+      split = false;
+      List<int[]> next = new ArrayList<>(ranges.size() * 2);
+      for (int[] range : ranges) {
+        int left = range[0];
+        int right = range[1];
+        int axis = range[2];
+        if (right - left > PARALLEL_THRESHOLD) {
+          int middle = (left + right) >> 1;
+          select(middle, left, right, axis);
+          next.add(new int[] {left, middle - 1, 1 - axis});
+          next.add(new int[] {middle + 1, right, 1 - axis});
+          split = true;
+        } else {
+          next.add(range);
+        }
+      }
+      ranges = next;
+    }
+
+    final CountDownLatch latch = new CountDownLatch(ranges.size());
+    final RuntimeException[] failure = new RuntimeException[1];
+    for (final int[] range : ranges) {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            sort(range[0], range[1], range[2]);
+          } catch (RuntimeException exception) {
+            failure[0] = exception;
+          } finally {
+            latch.countDown();
+          }
+        }
+      });
+    }
+
+    try {
+      latch.await();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while building the index", exception);
+    }
+    if (failure[0] != null) {
+      throw failure[0];
+    }
+  }
+
+  private void sort(int left, int right, int axis) {
+    if (right - left <= nodeSize) {
+      return;
+    }
+    int middle = (left + right) >> 1;
+    select(middle, left, right, axis);
+    sort(left, middle - 1, 1 - axis);
+    sort(middle + 1, right, 1 - axis);
+  }
+
+  /**
+   * Floyd-Rivest selection, moves the k-th smallest point on the axis to k.
+   */
+  private void select(int k, int left, int right, int axis) {
+    while (right > left) {
+      if (right - left > 600) {
+        int n = right - left + 1;
+        int m = k - left + 1;
+        double z = Math.log(n);
+        double s = 0.5 * Math.exp(2 * z / 3);
+        double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * (m - n / 2 < 0 ? -1 : 1);
+        int newLeft = (int) Math.max(left, Math.floor(k - m * s / n + sd));
+        int newRight = (int) Math.min(right, Math.floor(k + (n - m) * s / n + sd));
+        select(k, newLeft, newRight, axis);
+      }
+
+      double t = coords[2 * k + axis];
+      int i = left;
+      int j = right;
+
+      swap(left, k);
+      if (coords[2 * right + axis] > t) {
+        swap(left, right);
+      }
+
+      while (i < j) {
+        swap(i, j);
+        i++;
+        j--;
+        while (coords[2 * i + axis] < t) {
+          i++;
+        }
+        while (coords[2 * j + axis] > t) {
+          j--;
+        }
+      }
+
+      if (coords[2 * left + axis] == t) {
+        swap(left, j);
+      } else {
+        j++;
+        swap(j, right);
+      }
+
+      if (j <= k) {
+        left = j + 1;
+      }
+      if (k <= j) {
+        right = j - 1;
+      }
+    }
+  }
+
+  private void swap(int i, int j) {
+    int id = ids[i];
+    ids[i] = ids[j];
+    ids[j] = id;
+    double x = coords[2 * i];
+    coords[2 * i] = coords[2 * j];
+    coords[2 * j] = x;
+    double y = coords[2 * i + 1];
+    coords[2 * i + 1] = coords[2 * j + 1];
+    coords[2 * j + 1] = y;
+  }
+
+  private static double distanceSquared(double ax, double ay, double bx, double by) {
+    double dx = ax - bx;
+    double dy = ay - by;
+    return dx * dx + dy * dy;
+  }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains the Mapbox Maps Android point clustering classes.
+ */
+package com.mapbox.mapboxsdk.cluster;
@@ -0,0 +1,265 @@
+package com.mapbox.mapboxsdk.geometry;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.services.android.telemetry.constants.GeoConstants;
+
+/**
+ * Geometry math on primitive doubles, without allocating.
+ * <p>
+ * Counterpart of the {@link LatLng} and {@link LatLngBounds} object API for hot paths, e.g. clustering. Bounds are
+ * represented as a {@code double[4]} indexed with {@link #NORTH}, {@link #EAST}, {@link #SOUTH} and {@link #WEST},
+ * and are updated in place. For a reusable bounds object see {@link MutableLatLngBounds}.
+ * </p>
+ */
+public final class GeoMath {
+
+  /**
+   * Index of the north latitude in a bounds array.
+   */
+  public static final int NORTH = 0;
+
+  /**
+   * Index of the east longitude in a bounds array.
+   */
+  public static final int EAST = 1;
+
+  /**
+   * Index of the south latitude in a bounds array.
+   */
+  public static final int SOUTH = 2;
+
+  /**
+   * Index of the west longitude in a bounds array.
+   */
+  public static final int WEST = 3;
+
+  /**
+   * The maximum zoom level supported by the tile functions.
+   */
+  public static final int MAX_TILE_ZOOM = 30;
+
+  private static final double DEG_TO_RAD = Math.PI / 180;
+
+  private GeoMath() {
+    // Class should not be instantiated
+  }
+
+  /**
+   * Calculates the great circle distance with the spherical law of cosines, as {@link LatLng#distanceTo(LatLng)}.
+   *
+   * @param latitude1  the latitude of the first point
+   * @param longitude1 the longitude of the first point
+   * @param latitude2  the latitude of the second point
+   * @param longitude2 the longitude of the second point
+   * @return the distance in meters
+   */
+  public static double distance(double latitude1, double longitude1, double latitude2, double longitude2) {
+    if (latitude1 == latitude2 && longitude1 == longitude2) {
+      // return 0.0 to avoid a NaN
+      return 0.0;
+    }
+    double lat1 = Math.toRadians(latitude1);
+    double lat2 = Math.toRadians(latitude2);
+    double lon1 = Math.toRadians(longitude1);
+    double lon2 = Math.toRadians(longitude2);
+    double cosine = Math.cos(lat1) * Math.cos(lat2) * Math.cos(lon1 - lon2) + Math.sin(lat1) * Math.sin(lat2);
+    return GeoConstants.RADIUS_EARTH_METERS * Math.acos(cosine);
+  }
+
+  /**
+   * Calculates the great circle distance with the haversine formula, accurate for small distances.
+   *
+   * @param latitude1  the latitude of the first point
+   * @param longitude1 the longitude of the first point
+   * @param latitude2  the latitude of the second point
+   * @param longitude2 the longitude of the second point
+   * @return the distance in meters
+   */
+  public static double haversineDistance(double latitude1, double longitude1, double latitude2, double longitude2) {
+    double sinLatitude = Math.sin((latitude2 - latitude1) * DEG_TO_RAD / 2);
+    double sinLongitude = Math.sin((longitude2 - longitude1) * DEG_TO_RAD / 2);
+    double h = sinLatitude * sinLatitude
+      + Math.cos(latitude1 * DEG_TO_RAD) * Math.cos(latitude2 * DEG_TO_RAD) * sinLongitude * sinLongitude;
+    return 2 * GeoConstants.RADIUS_EARTH_METERS * Math.asin(Math.min(1, Math.sqrt(h)));
+  }
+
+  /**
+   * Calculates the distance with the equirectangular approximation, a single cosine and square root.
+   * <p>
+   * The error grows with the distance and towards the poles, suited to compare distances of nearby points.
+   * </p>
+   *
+   * @param latitude1  the latitude of the first point
+   * @param longitude1 the longitude of the first point
+   * @param latitude2  the latitude of the second point
+   * @param longitude2 the longitude of the second point
+   * @return the distance in meters
+   */
+  public static double equirectangularDistance(double latitude1, double longitude1, double latitude2,
+                                               double longitude2) {
+    double x = (longitude2 - longitude1) * DEG_TO_RAD * Math.cos((latitude1 + latitude2) * DEG_TO_RAD / 2);
+    double y = (latitude2 - latitude1) * DEG_TO_RAD;
+    return GeoConstants.RADIUS_EARTH_METERS * Math.sqrt(x * x + y * y);
+  }
+
+  /**
+   * Resets bounds to empty, expanding empty bounds by a point results in the bounds of that point.
+   *
+   * @param bounds the bounds to reset
+   */
+  public static void setEmpty(@NonNull double[] bounds) {
+    bounds[NORTH] = -90;
+    bounds[EAST] = -180;
+    bounds[SOUTH] = 90;
+    bounds[WEST] = 180;
+  }
+
+  /**
+   * @param bounds the bounds to check
+   * @return true if the bounds don't contain any point
+   */
+  public static boolean isEmpty(@NonNull double[] bounds) {
+    return bounds[NORTH] < bounds[SOUTH] || bounds[EAST] < bounds[WEST];
+  }
+
+  /**
+   * Expands bounds to include a point.
+   *
+   * @param bounds    the bounds to expand
+   * @param latitude  the latitude of the point
+   * @param longitude the longitude of the point
+   */
+  public static void expand(@NonNull double[] bounds, double latitude, double longitude) {
+    if (latitude > bounds[NORTH]) {
+      bounds[NORTH] = latitude;
+    }
+    if (latitude < bounds[SOUTH]) {
+      bounds[SOUTH] = latitude;
+    }
+    if (longitude > bounds[EAST]) {
+      bounds[EAST] = longitude;
+    }
+    if (longitude < bounds[WEST]) {
+      bounds[WEST] = longitude;
+    }
+  }
+
+  /**
+   * Expands bounds to include the points of an array of alternating latitudes and longitudes.
+   *
+   * @param bounds      the bounds to expand
+   * @param coordinates the latitudes and longitudes
+   * @param offset      the index of the first latitude
+   * @param count       the amount of points
+   */
+  public static void expand(@NonNull double[] bounds, @NonNull double[] coordinates, int offset, int count) {
+    double north = bounds[NORTH];
+    double east = bounds[EAST];
+    double south = bounds[SOUTH];
+    double west = bounds[WEST];
+    for (int i = offset, end = offset + 2 * count; i < end; i += 2) {
+      double latitude = coordinates[i];
+      double longitude = coordinates[i + 1];
+      north = latitude > north ? latitude : north;
+      south = latitude < south ? latitude : south;
+      east = longitude > east ? longitude : east;
+      west = longitude < west ? longitude : west;
+    }
+    bounds[NORTH] = north;
+    bounds[EAST] = east;
+    bounds[SOUTH] = south;
+    bounds[WEST] = west;
+  }
+
+  /**
+   * Expands bounds to include other bounds.
+   *
+   * @param bounds the bounds to expand
+   * @param other  the bounds to include
+   */
+  public static void union(@NonNull double[] bounds, @NonNull double[] other) {
+    bounds[NORTH] = Math.max(bounds[NORTH], other[NORTH]);
+    bounds[EAST] = Math.max(bounds[EAST], other[EAST]);
+    bounds[SOUTH] = Math.min(bounds[SOUTH], other[SOUTH]);
+    bounds[WEST] = Math.min(bounds[WEST], other[WEST]);
+  }
+
+  /**
+   * Shrinks bounds to their intersection with other bounds, as {@link LatLngBounds#intersect(LatLngBounds)}.
+   *
+   * @param bounds the bounds to shrink
+   * @param other  the bounds to intersect with
+   * @return true if the bounds intersect, false if they don't, the bounds are left unchanged then
+   */
+  public static boolean intersect(@NonNull double[] bounds, @NonNull double[] other) {
+    double west = Math.max(bounds[WEST], other[WEST]);
+    double east = Math.min(bounds[EAST], other[EAST]);
+    double south = Math.max(bounds[SOUTH], other[SOUTH]);
+    double north = Math.min(bounds[NORTH], other[NORTH]);
+    if (east <= west || north <= south) {
+      return false;
+    }
+    bounds[NORTH] = north;
+    bounds[EAST] = east;
+    bounds[SOUTH] = south;
+    bounds[WEST] = west;
+    return true;
+  }
+
+  /**
+   * @param bounds    the bounds
+   * @param latitude  the latitude of the point
+   * @param longitude the longitude of the point
+   * @return true if the bounds contain the point, including its edges
+   */
+  public static boolean contains(@NonNull double[] bounds, double latitude, double longitude) {
+    return latitude <= bounds[NORTH] && latitude >= bounds[SOUTH]
+      && longitude <= bounds[EAST] && longitude >= bounds[WEST];
+  }
+
+  /**
+   * Calculates the bounds of a tile, as {@link LatLngBounds#from(int, int, int)}.
+   *
+   * @param z      the zoom level of the tile, up to {@link #MAX_TILE_ZOOM}
+   * @param x      the x coordinate of the tile
+   * @param y      the y coordinate of the tile
+   * @param bounds receives the bounds
+   */
+  public static void tileBounds(int z, int x, int y, @NonNull double[] bounds) {
+    double tiles = 1 << z;
+    bounds[NORTH] = tileLatitude(y, tiles);
+    bounds[EAST] = (x + 1) / tiles * 360.0 - 180.0;
+    bounds[SOUTH] = tileLatitude(y + 1, tiles);
+    bounds[WEST] = x / tiles * 360.0 - 180.0;
+  }
+
+  /**
+   * @param longitude the longitude
+   * @param z         the zoom level, up to {@link #MAX_TILE_ZOOM}
+   * @return the x coordinate of the tile containing the longitude
+   */
+  public static int tileX(double longitude, int z) {
+    int tiles = 1 << z;
+    int x = (int) Math.floor((longitude + 180.0) / 360.0 * tiles);
+    return Math.max(0, Math.min(tiles - 1, x));
+  }
+
+  /**
+   * @param latitude the latitude
+   * @param z        the zoom level, up to {@link #MAX_TILE_ZOOM}
+   * @return the y coordinate of the tile containing the latitude
+   */
+  public static int tileY(double latitude, int z) {
+    int tiles = 1 << z;
+    double clamped = Math.max(GeoConstants.MIN_LATITUDE, Math.min(GeoConstants.MAX_LATITUDE, latitude));
+    double sin = Math.sin(clamped * DEG_TO_RAD);
+    int y = (int) Math.floor((0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI)) * tiles);
+    return Math.max(0, Math.min(tiles - 1, y));
+  }
+
+  private static double tileLatitude(int y, double tiles) {
+    double n = Math.PI - 2.0 * Math.PI * y / tiles;
+    return Math.toDegrees(Math.atan(0.5 * (Math.exp(n) - Math.exp(-n))));
+  }
+}
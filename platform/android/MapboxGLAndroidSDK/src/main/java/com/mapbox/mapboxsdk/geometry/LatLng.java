@@ -287,24 +287,6 @@ public class LatLng implements ILatLng, Parcelable {
    * @return distance in meters
    */
   public double distanceTo(LatLng other) {
-    if (latitude == other.latitude && longitude == other.longitude) {
-      // return 0.0 to avoid a NaN
-      return 0.0;
-    }
-
-    final double a1 = Math.toRadians(this.latitude);
-    final double a2 = Math.toRadians(this.longitude);
-    final double b1 = Math.toRadians(other.getLatitude());
-    final double b2 = Math.toRadians(other.getLongitude());
-
-    final double cosa1 = Math.cos(a1);
-    final double cosb1 = Math.cos(b1);
-
-    final double t1 = cosa1 * Math.cos(a2) * cosb1 * Math.cos(b2);
-    final double t2 = cosa1 * Math.sin(a2) * cosb1 * Math.sin(b2);
-    final double t3 = Math.sin(a1) * Math.sin(b1);
-    final double tt = Math.acos(t1 + t2 + t3);
-
-    return GeoConstants.RADIUS_EARTH_METERS * tt;
+    return GeoMath.distance(latitude, longitude, other.getLatitude(), other.getLongitude());
   }
 }
@@ -199,7 +199,9 @@ public class LatLngBounds implements Parcelable {
     double maxLat = -90;
     double maxLon = -180;
 
-    for (final ILatLng gp : latLngs) {
+    // indexed access, the lists are array backed
+    for (int i = 0, size = latLngs.size(); i < size; i++) {
+      final ILatLng gp = latLngs.get(i);
       final double latitude = gp.getLatitude();
       final double longitude = gp.getLongitude();
 
@@ -257,11 +259,10 @@ public class LatLngBounds implements Parcelable {
    * @return the newly constructed bounds
    */
   public LatLngBounds include(LatLng latLng) {
-    return new LatLngBounds.Builder()
-      .include(getNorthEast())
-      .include(getSouthWest())
-      .include(latLng)
-      .build();
+    double latitude = latLng.getLatitude();
+    double longitude = latLng.getLongitude();
+    return new LatLngBounds(Math.max(latitudeNorth, latitude), Math.max(longitudeEast, longitude),
+      Math.min(latitudeSouth, latitude), Math.min(longitudeWest, longitude));
   }
 
   /**
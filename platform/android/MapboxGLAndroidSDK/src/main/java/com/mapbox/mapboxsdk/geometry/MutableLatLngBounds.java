@@ -0,0 +1,187 @@
+package com.mapbox.mapboxsdk.geometry;
+
+import android.support.annotation.NonNull;
+
+/**
+ * A mutable latitude/longitude aligned rectangle, reused to compute bounds without allocating.
+ * <p>
+ * A new instance is empty, including a point results in the bounds of that point. Use {@link #toLatLngBounds()} to
+ * create an immutable {@link LatLngBounds} once done. This class does not wrap values to the world bounds.
+ * </p>
+ *
+ * @see GeoMath
+ */
+public final class MutableLatLngBounds {
+
+  private final double[] bounds = new double[4];
+
+  /**
+   * Creates empty bounds.
+   */
+  public MutableLatLngBounds() {
+    GeoMath.setEmpty(bounds);
+  }
+
+  /**
+   * Resets the bounds to empty.
+   *
+   * @return this bounds
+   */
+  public MutableLatLngBounds setEmpty() {
+    GeoMath.setEmpty(bounds);
+    return this;
+  }
+
+  /**
+   * Sets the bounds.
+   *
+   * @param latNorth the north latitude
+   * @param lonEast  the east longitude
+   * @param latSouth the south latitude
+   * @param lonWest  the west longitude
+   * @return this bounds
+   */
+  public MutableLatLngBounds set(double latNorth, double lonEast, double latSouth, double lonWest) {
+    bounds[GeoMath.NORTH] = latNorth;
+    bounds[GeoMath.EAST] = lonEast;
+    bounds[GeoMath.SOUTH] = latSouth;
+    bounds[GeoMath.WEST] = lonWest;
+    return this;
+  }
+
+  /**
+   * Sets the bounds.
+   *
+   * @param latLngBounds the bounds to copy
+   * @return this bounds
+   */
+  public MutableLatLngBounds set(@NonNull LatLngBounds latLngBounds) {
+    return set(latLngBounds.getLatNorth(), latLngBounds.getLonEast(), latLngBounds.getLatSouth(),
+      latLngBounds.getLonWest());
+  }
+
+  /**
+   * Sets the bounds to the bounds of a tile.
+   *
+   * @param z the zoom level of the tile
+   * @param x the x coordinate of the tile
+   * @param y the y coordinate of the tile
+   * @return this bounds
+   */
+  public MutableLatLngBounds setTile(int z, int x, int y) {
+    GeoMath.tileBounds(z, x, y, bounds);
+    return this;
+  }
+
+  /**
+   * Expands the bounds to include a point.
+   *
+   * @param latitude  the latitude of the point
+   * @param longitude the longitude of the point
+   * @return this bounds
+   */
+  public MutableLatLngBounds include(double latitude, double longitude) {
+    GeoMath.expand(bounds, latitude, longitude);
+    return this;
+  }
+
+  /**
+   * Expands the bounds to include a point.
+   *
+   * @param latLng the point
+   * @return this bounds
+   */
+  public MutableLatLngBounds include(@NonNull ILatLng latLng) {
+    GeoMath.expand(bounds, latLng.getLatitude(), latLng.getLongitude());
+    return this;
+  }
+
+  /**
+   * Expands the bounds to include other bounds.
+   *
+   * @param other the bounds to include
+   * @return this bounds
+   */
+  public MutableLatLngBounds union(@NonNull MutableLatLngBounds other) {
+    GeoMath.union(bounds, other.bounds);
+    return this;
+  }
+
+  /**
+   * Expands the bounds to include other bounds.
+   *
+   * @param other the bounds to include
+   * @return this bounds
+   */
+  public MutableLatLngBounds union(@NonNull LatLngBounds other) {
+    include(other.getLatNorth(), other.getLonEast());
+    return include(other.getLatSouth(), other.getLonWest());
+  }
+
+  /**
+   * Shrinks the bounds to their intersection with other bounds.
+   *
+   * @param other the bounds to intersect with
+   * @return true if the bounds intersect, false if they don't, the bounds are left unchanged then
+   */
+  public boolean intersect(@NonNull MutableLatLngBounds other) {
+    return GeoMath.intersect(bounds, other.bounds);
+  }
+
+  /**
+   * @param latitude  the latitude of the point
+   * @param longitude the longitude of the point
+   * @return true if the bounds contain the point
+   */
+  public boolean contains(double latitude, double longitude) {
+    return GeoMath.contains(bounds, latitude, longitude);
+  }
+
+  /**
+   * @return true if the bounds don't contain any point
+   */
+  public boolean isEmpty() {
+    return GeoMath.isEmpty(bounds);
+  }
+
+  /**
+   * @return the north latitude
+   */
+  public double getLatNorth() {
+    return bounds[GeoMath.NORTH];
+  }
+
+  /**
+   * @return the east longitude
+   */
+  public double getLonEast() {
+    return bounds[GeoMath.EAST];
+  }
+
+  /**
+   * @return the south latitude
+   */
+  public double getLatSouth() {
+    return bounds[GeoMath.SOUTH];
+  }
+
+  /**
+   * @return the west longitude
+   */
+  public double getLonWest() {
+    return bounds[GeoMath.WEST];
+  }
+
+  /**
+   * @return a new immutable bounds with the current values
+   */
+  public LatLngBounds toLatLngBounds() {
+    return new LatLngBounds(bounds[GeoMath.NORTH], bounds[GeoMath.EAST], bounds[GeoMath.SOUTH], bounds[GeoMath.WEST]);
+  }
+
+  @Override
+  public String toString() {
+    return "N:" + bounds[GeoMath.NORTH] + "; E:" + bounds[GeoMath.EAST] + "; S:" + bounds[GeoMath.SOUTH]
+      + "; W:" + bounds[GeoMath.WEST];
+  }
+}
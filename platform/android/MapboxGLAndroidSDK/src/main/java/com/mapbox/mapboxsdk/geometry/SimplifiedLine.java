@@ -0,0 +1,412 @@
+package com.mapbox.mapboxsdk.geometry;
+
+import android.support.annotation.IntDef;
+import android.support.annotation.NonNull;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A line simplified for every zoom level.
+ * <p>
+ * The significance of every vertex is computed once, with Douglas-Peucker or Visvalingam-Whyatt, in pixels at zoom
+ * level 0. The variant for a zoom level keeps the vertices more significant than the tolerance at that zoom level,
+ * variants are created on first use and kept. Significances are monotonic, a variant contains all the vertices of the
+ * variants of lower zoom levels.
+ * </p>
+ * <p>
+ * A closed line, e.g. a polygon ring, keeps its first vertex and the vertex farthest from it.
+ * </p>
+ */
+public final class SimplifiedLine {
+
+  @IntDef( {DOUGLAS_PEUCKER, VISVALINGAM_WHYATT})
+  @Retention(RetentionPolicy.SOURCE)
+  public @interface Method {
+  }
+
+  /**
+   * Keeps the vertices farther from the line through their neighbours than the tolerance.
+   */
+  public static final int DOUGLAS_PEUCKER = 0;
+
+  /**
+   * Keeps the vertices forming a triangle with their neighbours with an area larger than the square of the tolerance.
+   */
+  public static final int VISVALINGAM_WHYATT = 1;
+
+  /**
+   * The highest zoom level a line is simplified for, the line isn't simplified above it.
+   */
+  public static final int MAX_ZOOM = 20;
+
+  private static final double WORLD_SIZE = 512;
+  private static final double MAX_LATITUDE = 85.05112877980659;
+
+  private final double[] coordinates;
+  private final int count;
+  private final double tolerance;
+  private final double[] significances;
+  private final List<List<LatLng>> variants;
+
+  /**
+   * Simplifies a line.
+   *
+   * @param coordinates the vertices as alternating latitudes and longitudes, not copied
+   * @param count       the amount of vertices
+   * @param method      the simplification method
+   * @param tolerance   the tolerance in pixels
+   */
+  public SimplifiedLine(@NonNull double[] coordinates, int count, @Method int method, float tolerance) {
+    this.coordinates = coordinates;
+    this.count = count;
+    this.tolerance = tolerance;
+    this.variants = new ArrayList<>(Collections.<List<LatLng>>nCopies(MAX_ZOOM + 2, null));
+
+    double[] xs = new double[count];
+    double[] ys = new double[count];
+    for (int i = 0; i < count; i++) {
+      xs[i] = projectX(coordinates[2 * i + 1]);
+      ys[i] = projectY(coordinates[2 * i]);
+    }
+    significances = new double[count];
+    if (method == VISVALINGAM_WHYATT) {
+      visvalingamWhyatt(xs, ys, count, significances);
+    } else {
+      douglasPeucker(xs, ys, count, significances);
+    }
+  }
+
+  /**
+   * Simplifies a line.
+   *
+   * @param points    the vertices
+   * @param method    the simplification method
+   * @param tolerance the tolerance in pixels
+   * @return the simplified line
+   */
+  public static SimplifiedLine fromLatLngs(@NonNull List<LatLng> points, @Method int method, float tolerance) {
+    int count = points.size();
+    double[] coordinates = new double[count * 2];
+    for (int i = 0; i < count; i++) {
+      LatLng point = points.get(i);
+      coordinates[2 * i] = point.getLatitude();
+      coordinates[2 * i + 1] = point.getLongitude();
+    }
+    return new SimplifiedLine(coordinates, count, method, tolerance);
+  }
+
+  /**
+   * @return the amount of vertices of the original line
+   */
+  public int getPointCount() {
+    return count;
+  }
+
+  /**
+   * Get the amount of vertices of the variant for a zoom level, without creating it.
+   *
+   * @param zoom the zoom level
+   * @return the amount of vertices
+   */
+  public int getPointCount(int zoom) {
+    if (zoom > MAX_ZOOM) {
+      return count;
+    }
+    double threshold = threshold(zoom);
+    int kept = 0;
+    for (int i = 0; i < count; i++) {
+      if (significances[i] >= threshold) {
+        kept++;
+      }
+    }
+    return kept;
+  }
+
+  /**
+   * Get the variant for a zoom level.
+   *
+   * @param zoom the zoom level
+   * @return the unmodifiable vertices of the variant
+   */
+  @NonNull
+  public List<LatLng> getPoints(int zoom) {
+    int index = Math.max(0, Math.min(MAX_ZOOM + 1, zoom));
+    List<LatLng> variant = variants.get(index);
+    if (variant == null) {
+      double threshold = index > MAX_ZOOM ? Double.NEGATIVE_INFINITY : threshold(index);
+      List<LatLng> points = new ArrayList<>(getPointCount(index));
+      for (int i = 0; i < count; i++) {
+        if (significances[i] >= threshold) {
+          points.add(new LatLng(coordinates[2 * i], coordinates[2 * i + 1]));
+        }
+      }
+      variant = Collections.unmodifiableList(points);
+      variants.set(index, variant);
+    }
+    return variant;
+  }
+
+  private double threshold(int zoom) {
+    return tolerance / (1 << zoom);
+  }
+
+  /**
+   * Computes the significance of every vertex with Douglas-Peucker, the distance to the line through the vertices
+   * kept before it, capped by the significance of those vertices.
+   */
+  static void douglasPeucker(double[] xs, double[] ys, int count, double[] significances) {
+    if (count == 0) {
+      return;
+    }
+    significances[0] = Double.POSITIVE_INFINITY;
+    significances[count - 1] = Double.POSITIVE_INFINITY;
+    if (count < 3) {
+      return;
+    }
+
+    int[] firsts = new int[count];
+    int[] lasts = new int[count];
+    double[] caps = new double[count];
+    int size = 0;
+
+    int last = count - 1;
+    if (xs[0] == xs[last] && ys[0] == ys[last]) {
+      // a closed line, split at the vertex farthest from the start
+      int farthest = 0;
+      double max = -1;
+      for (int i = 1; i < last; i++) {
+        double dx = xs[i] - xs[0];
+        double dy = ys[i] - ys[0];
+        double distance = dx * dx + dy * dy;
+        if (distance > max) {
+          max = distance;
+          farthest = i;
+        }
+      }
+      significances[farthest] = Double.POSITIVE_INFINITY;
+      firsts[size] = farthest;
+      lasts[size] = last;
+      caps[size++] = Double.POSITIVE_INFINITY;
+      last = farthest;
+    }
+    firsts[size] = 0;
+    lasts[size] = last;
+    caps[size++] = Double.POSITIVE_INFINITY;
+
+    while (size > 0) {
+      size--;
+      int first = firsts[size];
+      last = lasts[size];
+      double cap = caps[size];
+
+      int index = -1;
+      double max = -1;
+      for (int i = first + 1; i < last; i++) {
+        double distance = segmentDistanceSquared(xs[i], ys[i], xs[first], ys[first], xs[last], ys[last]);
+        if (distance > max) {
+          max = distance;
+          index = i;
+        }
+      }
+      if (index == -1) {
+        continue;
+      }
+
+      double significance = Math.min(Math.sqrt(max), cap);
+      significances[index] = significance;
+      firsts[size] = first;
+      lasts[size] = index;
+      caps[size++] = significance;
+      firsts[size] = index;
+      lasts[size] = last;
+      caps[size++] = significance;
+    }
+  }
+
+  /**
+   * Computes the significance of every vertex with Visvalingam-Whyatt, the square root of the effective area of the
+   * vertex when it's eliminated, at least the significance of the vertices eliminated before it.
+   */
+  static void visvalingamWhyatt(double[] xs, double[] ys, int count, double[] significances) {
+    if (count == 0) {
+      return;
+    }
+    significances[0] = Double.POSITIVE_INFINITY;
+    significances[count - 1] = Double.POSITIVE_INFINITY;
+    if (count < 3) {
+      return;
+    }
+
+    int[] previous = new int[count];
+    int[] next = new int[count];
+    double[] areas = new double[count];
+    AreaHeap heap = new AreaHeap(areas, count);
+    for (int i = 1; i < count - 1; i++) {
+      previous[i] = i - 1;
+      next[i] = i + 1;
+      areas[i] = area(xs, ys, i - 1, i, i + 1);
+      heap.push(i);
+    }
+
+    int last = count - 1;
+    if (xs[0] == xs[last] && ys[0] == ys[last]) {
+      // a closed line, keep the vertex farthest from the start
+      int farthest = 1;
+      double max = -1;
+      for (int i = 1; i < last; i++) {
+        double dx = xs[i] - xs[0];
+        double dy = ys[i] - ys[0];
+        double distance = dx * dx + dy * dy;
+        if (distance > max) {
+          max = distance;
+          farthest = i;
+        }
+      }
+      areas[farthest] = Double.POSITIVE_INFINITY;
+      heap.update(farthest);
+    }
+
+    double max = 0;
+    while (heap.size() > 0) {
+      int index = heap.pop();
+      double area = areas[index];
+      if (area < max) {
+        area = max;
+      } else {
+        max = area;
+      }
+      significances[index] = Math.sqrt(area);
+
+      int before = previous[index];
+      int after = next[index];
+      next[before] = after;
+      previous[after] = before;
+      if (before > 0 && !Double.isInfinite(areas[before])) {
+        areas[before] = area(xs, ys, previous[before], before, after);
+        heap.update(before);
+      }
+      if (after < count - 1 && !Double.isInfinite(areas[after])) {
+        areas[after] = area(xs, ys, before, after, next[after]);
+        heap.update(after);
+      }
+    }
+  }
+
+  private static double area(double[] xs, double[] ys, int a, int b, int c) {
+    return Math.abs((xs[a] - xs[c]) * (ys[b] - ys[a]) - (xs[a] - xs[b]) * (ys[c] - ys[a])) / 2;
+  }
+
+  private static double segmentDistanceSquared(double x, double y, double x1, double y1, double x2, double y2) {
+    double dx = x2 - x1;
+    double dy = y2 - y1;
+    if (dx != 0 || dy != 0) {
+      double t = ((x - x1) * dx + (y - y1) * dy) / (dx * dx + dy * dy);
+      if (t > 1) {
+        x1 = x2;
+        y1 = y2;
+      } else if (t > 0) {
+        x1 += dx * t;
+        y1 += dy * t;
+      }
+    }
+    dx = x - x1;
+    dy = y - y1;
+    return dx * dx + dy * dy;
+  }
+
+  private static double projectX(double longitude) {
+    return (longitude / 360 + 0.5) * WORLD_SIZE;
+  }
+
+  private static double projectY(double latitude) {
+    double sin = Math.sin(Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude))));
+    return (0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI) * WORLD_SIZE;
+  }
+
+  /**
+   * A binary min-heap of vertex indexes ordered by area, supporting updates of the area of a queued vertex.
+   */
+  private static final class AreaHeap {
+
+    private final double[] areas;
+    private final int[] heap;
+    private final int[] positions;
+    private int size;
+
+    AreaHeap(double[] areas, int capacity) {
+      this.areas = areas;
+      this.heap = new int[capacity];
+      this.positions = new int[capacity];
+    }
+
+    int size() {
+      return size;
+    }
+
+    void push(int index) {
+      heap[size] = index;
+      positions[index] = size;
+      siftUp(size++);
+    }
+
+    int pop() {
+      int top = heap[0];
+      size--;
+      if (size > 0) {
+        move(heap[size], 0);
+        siftDown(0);
+      }
+      positions[top] = -1;
+      return top;
+    }
+
+    void update(int index) {
+      int position = positions[index];
+      if (position >= 0) {
+        siftUp(position);
+        siftDown(positions[index]);
+      }
+    }
+
+    private void siftUp(int position) {
+      int index = heap[position];
+      while (position > 0) {
+        int parent = (position - 1) >> 1;
+        if (areas[heap[parent]] <= areas[index]) {
+          break;
+        }
+        move(heap[parent], position);
+        position = parent;
+      }
+      move(index, position);
+    }
+
+    private void siftDown(int position) {
+      int index = heap[position];
+      while (true) {
+        int child = 2 * position + 1;
+        if (child >= size) {
+          break;
+        }
+        if (child + 1 < size && areas[heap[child + 1]] < areas[heap[child]]) {
+          child++;
+        }
+        if (areas[heap[child]] >= areas[index]) {
+          break;
+        }
+        move(heap[child], position);
+        position = child;
+      }
+      move(index, position);
+    }
+
+    private void move(int index, int position) {
+      heap[position] = index;
+      positions[index] = position;
+    }
+  }
+}
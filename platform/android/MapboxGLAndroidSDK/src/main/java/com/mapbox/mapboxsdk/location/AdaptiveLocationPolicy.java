@@ -0,0 +1,181 @@
+package com.mapbox.mapboxsdk.location;
+
+import com.mapbox.services.android.telemetry.constants.GeoConstants;
+import com.mapbox.services.android.telemetry.location.LocationEnginePriority;
+
+/**
+ * Derives the location request of a {@link LocationSource} from how the map uses the location.
+ * <p>
+ * The policy starts from a base interval and priority and adapts them to the state of the map:
+ * </p>
+ * <ul>
+ * <li>While the camera tracks the location, the priority is escalated to high accuracy at the base interval.</li>
+ * <li>While the camera is zoomed out, single meters don't matter and the interval is stretched.</li>
+ * <li>While the user is stationary, the interval is stretched and a minimum displacement is requested.</li>
+ * <li>While the map is paused, low power is requested and locations are delivered in batches.</li>
+ * </ul>
+ * <p>
+ * The user is considered stationary when the fixes of the last {@link #STATIONARY_WINDOW_MILLIS} stayed within
+ * {@link #STATIONARY_RADIUS_METERS} of each other.
+ * </p>
+ */
+public class AdaptiveLocationPolicy {
+
+  public static final long DEFAULT_BASE_INTERVAL_MILLIS = 1000;
+  public static final double ZOOMED_OUT_ZOOM = 10;
+  public static final long STATIONARY_WINDOW_MILLIS = 30000;
+  public static final float STATIONARY_RADIUS_METERS = 10;
+
+  private static final int ZOOMED_OUT_FACTOR = 4;
+  private static final int STATIONARY_FACTOR = 4;
+  private static final int PAUSED_FACTOR = 10;
+  private static final long PAUSED_BATCH_MILLIS = 60000;
+
+  private long baseInterval = DEFAULT_BASE_INTERVAL_MILLIS;
+  private int basePriority = LocationEnginePriority.BALANCED_POWER_ACCURACY;
+
+  private double zoom = ZOOMED_OUT_ZOOM;
+  private boolean mapVisible = true;
+  private boolean trackingActive;
+
+  private boolean hasAnchor;
+  private long anchorTime;
+  private double anchorLatitude;
+  private double anchorLongitude;
+  private boolean stationary;
+
+  /**
+   * Sets the interval and priority used while the map is visible and tracking isn't active.
+   *
+   * @param baseInterval the interval in milliseconds
+   * @param basePriority one of the {@link LocationEnginePriority} values
+   */
+  public void setBase(long baseInterval, int basePriority) {
+    if (baseInterval <= 0) {
+      throw new IllegalArgumentException("The base interval must be positive, was " + baseInterval);
+    }
+    this.baseInterval = baseInterval;
+    this.basePriority = basePriority;
+  }
+
+  public void setZoom(double zoom) {
+    this.zoom = zoom;
+  }
+
+  public void setMapVisible(boolean mapVisible) {
+    this.mapVisible = mapVisible;
+  }
+
+  public void setTrackingActive(boolean trackingActive) {
+    this.trackingActive = trackingActive;
+  }
+
+  /**
+   * Updates the stationary detection with a location fix.
+   *
+   * @param time      the time of the fix in milliseconds
+   * @param latitude  the latitude of the fix
+   * @param longitude the longitude of the fix
+   */
+  public void onLocation(long time, double latitude, double longitude) {
+    if (!hasAnchor || distance(anchorLatitude, anchorLongitude, latitude, longitude) > STATIONARY_RADIUS_METERS) {
+      // moved, restart the window at this fix
+      hasAnchor = true;
+      anchorTime = time;
+      anchorLatitude = latitude;
+      anchorLongitude = longitude;
+      stationary = false;
+    } else if (time - anchorTime >= STATIONARY_WINDOW_MILLIS) {
+      stationary = true;
+    }
+  }
+
+  public boolean isStationary() {
+    return stationary;
+  }
+
+  /**
+   * Get the priority to request.
+   *
+   * @return one of the {@link LocationEnginePriority} values
+   */
+  public int getPriority() {
+    if (!mapVisible) {
+      return atMost(basePriority, LocationEnginePriority.LOW_POWER);
+    }
+    if (trackingActive) {
+      return LocationEnginePriority.HIGH_ACCURACY;
+    }
+    if (zoom < ZOOMED_OUT_ZOOM || stationary) {
+      return atMost(basePriority, LocationEnginePriority.BALANCED_POWER_ACCURACY);
+    }
+    return basePriority;
+  }
+
+  /**
+   * Get the interval to request.
+   *
+   * @return the interval in milliseconds
+   */
+  public long getInterval() {
+    long interval = baseInterval;
+    if (!mapVisible) {
+      interval *= PAUSED_FACTOR;
+    } else if (!trackingActive && zoom < ZOOMED_OUT_ZOOM) {
+      interval *= ZOOMED_OUT_FACTOR;
+    }
+    if (stationary) {
+      interval *= trackingActive ? 2 : STATIONARY_FACTOR;
+    }
+    return interval;
+  }
+
+  /**
+   * Get the fastest interval to request, fixes arriving faster are coalesced.
+   *
+   * @return the fastest interval in milliseconds
+   */
+  public long getFastestInterval() {
+    return getInterval() / 2;
+  }
+
+  /**
+   * Get the minimum displacement between fixes to request.
+   *
+   * @return the displacement in meters, 0 for none
+   */
+  public float getSmallestDisplacement() {
+    return stationary ? STATIONARY_RADIUS_METERS : 0;
+  }
+
+  /**
+   * Get the interval in which coalesced locations are delivered.
+   *
+   * @return the batch interval in milliseconds, 0 to deliver locations as they arrive
+   */
+  public long getBatchInterval() {
+    return mapVisible ? 0 : PAUSED_BATCH_MILLIS;
+  }
+
+  private static double distance(double latitude1, double longitude1, double latitude2, double longitude2) {
+    // equirectangular approximation, exact enough for the stationary radius
+    double x = Math.toRadians(longitude2 - longitude1) * Math.cos(Math.toRadians((latitude1 + latitude2) / 2));
+    double y = Math.toRadians(latitude2 - latitude1);
+    return Math.hypot(x, y) * GeoConstants.RADIUS_EARTH_METERS;
+  }
+
+  private static int atMost(int priority, int maximum) {
+    return rank(priority) <= rank(maximum) ? priority : maximum;
+  }
+
+  private static int rank(int priority) {
+    if (priority == LocationEnginePriority.NO_POWER) {
+      return 0;
+    } else if (priority == LocationEnginePriority.LOW_POWER) {
+      return 1;
+    } else if (priority == LocationEnginePriority.BALANCED_POWER_ACCURACY) {
+      return 2;
+    }
+    return 3;
+  }
+}
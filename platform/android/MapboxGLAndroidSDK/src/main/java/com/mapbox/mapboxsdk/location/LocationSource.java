@@ -2,6 +2,9 @@ package com.mapbox.mapboxsdk.location;
 
 import android.content.Context;
 import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.support.annotation.Nullable;
 
 import com.mapbox.mapboxsdk.Mapbox;
@@ -28,6 +31,10 @@ import com.mapzen.android.lost.api.LostApiClient;
  * overhead). Do not unregister in Activity.onSaveInstanceState(), because this won't be called if the user moves back
  * in the history stack.
  * </p>
+ * <p>
+ * With an {@link AdaptiveLocationPolicy} set, the location request follows the state of the map and locations
+ * arriving faster than the policy's fastest interval are coalesced, only the newest one is delivered.
+ * </p>
  *
  * @deprecated Use a {@link Mapbox#getLocationEngine()} instead.
  */
@@ -37,6 +44,27 @@ public class LocationSource extends LocationEngine implements LocationListener {
   private Context context;
   private LostApiClient lostApiClient;
 
+  private AdaptiveLocationPolicy policy;
+  private boolean requestingUpdates;
+  private long requestedInterval;
+  private int requestedPriority;
+  private float requestedDisplacement;
+
+  private Handler handler;
+  private Location pendingLocation;
+  private boolean flushScheduled;
+  private long lastDeliveryTime = -1;
+  private long deliveredLocationCount;
+  private long droppedLocationCount;
+
+  private final Runnable flushRunnable = new Runnable() {
+    @Override
+    public void run() {
+      flushScheduled = false;
+      deliverPendingLocation();
+    }
+  };
+
   /**
    * Constructs a location source instance.
    *
@@ -107,21 +135,108 @@ public class LocationSource extends LocationEngine implements LocationListener {
     return null;
   }
 
+  /**
+   * Sets the policy adapting the location request to the state of the map. The interval and priority of this engine
+   * become the base of the policy. Takes effect with the next location request.
+   *
+   * @param policy the policy, null to request the configured interval and priority as is
+   */
+  public void setAdaptivePolicy(@Nullable AdaptiveLocationPolicy policy) {
+    this.policy = policy;
+  }
+
+  @Nullable
+  public AdaptiveLocationPolicy getAdaptivePolicy() {
+    return policy;
+  }
+
+  /**
+   * Notifies the adaptive policy about the zoom of the camera.
+   *
+   * @param zoom the zoom level of the camera
+   */
+  public void setCameraZoom(double zoom) {
+    if (policy != null) {
+      policy.setZoom(zoom);
+      applyPolicy();
+    }
+  }
+
+  /**
+   * Notifies the adaptive policy about the map being shown or hidden. While hidden, locations are delivered in batches.
+   *
+   * @param visible true if the map is visible
+   */
+  public void setMapVisible(boolean visible) {
+    if (policy != null) {
+      policy.setMapVisible(visible);
+      applyPolicy();
+      if (visible && pendingLocation != null) {
+        getHandler().removeCallbacks(flushRunnable);
+        flushScheduled = false;
+        deliverPendingLocation();
+      }
+    }
+  }
+
+  /**
+   * Notifies the adaptive policy about the camera tracking the location.
+   *
+   * @param active true if the camera tracks the location
+   */
+  public void setTrackingActive(boolean active) {
+    if (policy != null) {
+      policy.setTrackingActive(active);
+      applyPolicy();
+    }
+  }
+
+  /**
+   * Get the amount of locations delivered to the listeners.
+   *
+   * @return the delivered location count
+   */
+  public long getDeliveredLocationCount() {
+    return deliveredLocationCount;
+  }
+
+  /**
+   * Get the amount of locations dropped because a newer location arrived before they were delivered.
+   *
+   * @return the dropped location count
+   */
+  public long getDroppedLocationCount() {
+    return droppedLocationCount;
+  }
+
   /**
    * Request location updates to the location provider.
    */
   @Override
   public void requestLocationUpdates() {
+    requestingUpdates = true;
     LocationRequest request = LocationRequest.create();
 
-    if (interval != null) {
-      request.setInterval(interval);
-    }
-    if (fastestInterval != null) {
-      request.setFastestInterval(fastestInterval);
-    }
-    if (smallestDisplacement != null) {
-      request.setSmallestDisplacement(smallestDisplacement);
+    int priority = this.priority;
+    if (policy != null) {
+      policy.setBase(interval != null ? interval : AdaptiveLocationPolicy.DEFAULT_BASE_INTERVAL_MILLIS, priority);
+      requestedInterval = policy.getInterval();
+      requestedPriority = policy.getPriority();
+      requestedDisplacement = policy.getSmallestDisplacement();
+      request.setInterval(requestedInterval);
+      request.setFastestInterval(policy.getFastestInterval());
+      request.setSmallestDisplacement(requestedDisplacement);
+      priority = requestedPriority;
+    } else {
+      if (interval != null) {
+        request.setInterval(interval);
+      }
+      if (fastestInterval != null) {
+        request.setFastestInterval(fastestInterval);
+      }
+      if (smallestDisplacement != null) {
+        request.setSmallestDisplacement(smallestDisplacement);
+      }
     }
 
     if (priority == LocationEnginePriority.NO_POWER) {
@@ -145,6 +260,14 @@ public class LocationSource extends LocationEngine implements LocationListener {
    */
   @Override
   public void removeLocationUpdates() {
+    requestingUpdates = false;
+    if (flushScheduled) {
+      getHandler().removeCallbacks(flushRunnable);
+      flushScheduled = false;
+    }
+    if (pendingLocation != null) {
+      deliverPendingLocation();
+    }
     if (lostApiClient.isConnected()) {
       LocationServices.FusedLocationApi.removeLocationUpdates(this);
     }
@@ -167,8 +290,68 @@ public class LocationSource extends LocationEngine implements LocationListener {
    */
   @Override
   public void onLocationChanged(Location location) {
+    if (policy == null) {
+      deliverLocation(location);
+      return;
+    }
+
+    long now = SystemClock.elapsedRealtime();
+    policy.onLocation(now, location.getLatitude(), location.getLongitude());
+    applyPolicy();
+
+    if (pendingLocation != null) {
+      droppedLocationCount++;
+    }
+    pendingLocation = location;
+
+    long due = lastDeliveryTime + Math.max(policy.getFastestInterval(), policy.getBatchInterval());
+    if (lastDeliveryTime < 0 || now >= due) {
+      if (flushScheduled) {
+        getHandler().removeCallbacks(flushRunnable);
+        flushScheduled = false;
+      }
+      deliverPendingLocation();
+    } else if (!flushScheduled) {
+      flushScheduled = true;
+      getHandler().postDelayed(flushRunnable, due - now);
+    }
+  }
+
+  /**
+   * Re-requests location updates if the policy changed the request while updates are requested.
+   */
+  private void applyPolicy() {
+    if (!requestingUpdates || lostApiClient == null || !lostApiClient.isConnected()) {
+      return;
+    }
+
+    if (policy.getInterval() != requestedInterval || policy.getPriority() != requestedPriority
+      || policy.getSmallestDisplacement() != requestedDisplacement) {
+      LocationServices.FusedLocationApi.removeLocationUpdates(this);
+      requestLocationUpdates();
+    }
+  }
+
+  private void deliverPendingLocation() {
+    Location location = pendingLocation;
+    pendingLocation = null;
+    lastDeliveryTime = SystemClock.elapsedRealtime();
+    if (location != null) {
+      deliverLocation(location);
+    }
+  }
+
+  private void deliverLocation(Location location) {
+    deliveredLocationCount++;
     for (LocationEngineListener listener : locationListeners) {
       listener.onLocationChanged(location);
     }
   }
-}
\ No newline at end of file
+
+  private Handler getHandler() {
+    if (handler == null) {
+      handler = new Handler(Looper.getMainLooper());
+    }
+    return handler;
+  }
+}
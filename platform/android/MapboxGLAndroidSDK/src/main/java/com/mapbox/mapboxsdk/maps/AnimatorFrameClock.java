@@ -0,0 +1,49 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.animation.ValueAnimator;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.camera.CameraAnimationEngine;
+
+/**
+ * Frame clock backed by a single long-lived animator, ticking with the display.
+ */
+final class AnimatorFrameClock implements CameraAnimationEngine.FrameClock, ValueAnimator.AnimatorUpdateListener {
+
+  private ValueAnimator frameAnimator;
+  private Runnable frameCallback;
+
+  @Override
+  public long getFrameTime() {
+    return SystemClock.elapsedRealtime();
+  }
+
+  @Override
+  public void start(@NonNull Runnable frameCallback) {
+    this.frameCallback = frameCallback;
+    if (frameAnimator == null) {
+      frameAnimator = ValueAnimator.ofFloat(0.0f, 1.0f);
+      frameAnimator.setDuration(1000);
+      frameAnimator.setRepeatCount(ValueAnimator.INFINITE);
+      frameAnimator.addUpdateListener(this);
+    }
+    if (!frameAnimator.isStarted()) {
+      frameAnimator.start();
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (frameAnimator != null) {
+      frameAnimator.cancel();
+    }
+  }
+
+  @Override
+  public void onAnimationUpdate(ValueAnimator animation) {
+    if (frameCallback != null) {
+      frameCallback.run();
+    }
+  }
+}
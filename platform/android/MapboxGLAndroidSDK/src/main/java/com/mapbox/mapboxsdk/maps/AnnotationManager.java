@@ -21,6 +21,7 @@ import com.mapbox.mapboxsdk.annotations.Polygon;
 import com.mapbox.mapboxsdk.annotations.PolygonOptions;
 import com.mapbox.mapboxsdk.annotations.Polyline;
 import com.mapbox.mapboxsdk.annotations.PolylineOptions;
+import com.mapbox.mapboxsdk.cluster.ClusterIndex;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -89,6 +90,9 @@ class AnnotationManager {
   void update() {
     markerViewManager.update();
     infoWindowManager.update();
+    markers.updateClusters(mapboxMap);
+    polylines.updateSimplified();
+    polygons.updateSimplified();
   }
 
   //
@@ -105,6 +109,8 @@ class AnnotationManager {
 
   void removeAnnotation(long id) {
     annotations.removeBy(id);
+    polylines.removeSimplified(id);
+    polygons.removeSimplified(id);
   }
 
   void removeAnnotation(@NonNull Annotation annotation) {
@@ -121,6 +127,10 @@ class AnnotationManager {
         // do icon cleanup
         iconManager.iconCleanup(marker.getIcon());
       }
+    } else if (annotation instanceof Polyline) {
+      polylines.removeSimplified(annotation.getId());
+    } else if (annotation instanceof Polygon) {
+      polygons.removeSimplified(annotation.getId());
     }
     annotations.removeBy(annotation);
   }
@@ -139,12 +149,17 @@ class AnnotationManager {
         } else {
           iconManager.iconCleanup(marker.getIcon());
         }
+      } else if (annotation instanceof Polyline) {
+        polylines.removeSimplified(annotation.getId());
+      } else if (annotation instanceof Polygon) {
+        polygons.removeSimplified(annotation.getId());
       }
     }
     annotations.removeBy(annotationList);
   }
 
   void removeAnnotations() {
+    markers.removeClustered();
     Annotation annotation;
     int count = annotationsArray.size();
     long[] ids = new long[count];
@@ -162,6 +177,8 @@ class AnnotationManager {
         }
       }
     }
+    polylines.removeAllSimplified();
+    polygons.removeAllSimplified();
     annotations.removeAll();
   }
 
@@ -177,6 +194,15 @@ class AnnotationManager {
     return markers.addBy(markerOptionsList, mapboxMap);
   }
 
+  void addClusteredMarkers(@NonNull List<? extends BaseMarkerOptions> markerOptionsList,
+                           @NonNull ClusterIndex.Options options, @NonNull MapboxMap mapboxMap) {
+    markers.addClusteredBy(markerOptionsList, options, mapboxMap);
+  }
+
+  void removeClusteredMarkers() {
+    markers.removeClustered();
+  }
+
   void updateMarker(@NonNull Marker updatedMarker, @NonNull MapboxMap mapboxMap) {
     if (!isAddedToMap(updatedMarker)) {
       logNonAdded(updatedMarker);
@@ -256,6 +282,14 @@ class AnnotationManager {
     polylines.update(polyline);
   }
 
+  void updatePolylinePoints(Polyline polyline, int start, int removeCount, int insertCount) {
+    if (!isAddedToMap(polyline)) {
+      logNonAdded(polyline);
+      return;
+    }
+    polylines.updatePoints(polyline, start, removeCount, insertCount);
+  }
+
   List<Polyline> getPolylines() {
     return polylines.obtainAll();
   }
@@ -1,29 +1,65 @@
 package com.mapbox.mapboxsdk.maps;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.mapboxsdk.camera.CameraAnimationEngine;
+import com.mapbox.mapboxsdk.camera.CameraPosition;
 
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.mapbox.mapboxsdk.maps.MapboxMap.OnCameraIdleListener;
 import static com.mapbox.mapboxsdk.maps.MapboxMap.OnCameraMoveCanceledListener;
 import static com.mapbox.mapboxsdk.maps.MapboxMap.OnCameraMoveListener;
+import static com.mapbox.mapboxsdk.maps.MapboxMap.OnCameraMoveSnapshotListener;
 import static com.mapbox.mapboxsdk.maps.MapboxMap.OnCameraMoveStartedListener;
 
 class CameraChangeDispatcher implements MapboxMap.OnCameraMoveStartedListener, MapboxMap.OnCameraMoveListener,
   MapboxMap.OnCameraMoveCanceledListener, OnCameraIdleListener {
 
   private boolean idle = true;
+  private Handler handler;
+  private final CameraAnimationEngine.FrameClock frameClock;
+  private boolean frameScheduled;
+  private CameraPosition cameraPosition;
 
   private final CopyOnWriteArrayList<OnCameraMoveStartedListener> onCameraMoveStarted = new CopyOnWriteArrayList<>();
   private final CopyOnWriteArrayList<OnCameraMoveCanceledListener> onCameraMoveCanceled = new CopyOnWriteArrayList<>();
   private final CopyOnWriteArrayList<OnCameraMoveListener> onCameraMove = new CopyOnWriteArrayList<>();
   private final CopyOnWriteArrayList<OnCameraIdleListener> onCameraIdle = new CopyOnWriteArrayList<>();
+  private final CopyOnWriteArrayList<DispatchedMoveListener> onCameraMoveDispatched = new CopyOnWriteArrayList<>();
 
   private OnCameraMoveStartedListener onCameraMoveStartedListener;
   private OnCameraMoveCanceledListener onCameraMoveCanceledListener;
   private OnCameraMoveListener onCameraMoveListener;
   private OnCameraIdleListener onCameraIdleListener;
 
+  // Delivers the moves of per frame listeners on the next animation frame
+  private final Runnable frameCallback = new Runnable() {
+    @Override
+    public void run() {
+      frameClock.stop();
+      frameScheduled = false;
+      for (DispatchedMoveListener listener : onCameraMoveDispatched) {
+        listener.onFrame();
+      }
+    }
+  };
+
+  CameraChangeDispatcher() {
+    this.frameClock = new AnimatorFrameClock();
+  }
+
+  CameraChangeDispatcher(@NonNull Handler handler, @NonNull CameraAnimationEngine.FrameClock frameClock) {
+    this.handler = handler;
+    this.frameClock = frameClock;
+  }
+
   @Deprecated
   void setOnCameraMoveStartedListener(OnCameraMoveStartedListener onCameraMoveStartedListener) {
     this.onCameraMoveStartedListener = onCameraMoveStartedListener;
@@ -64,8 +100,27 @@ class CameraChangeDispatcher implements MapboxMap.OnCameraMoveStartedListener, M
     }
   }
 
+  /**
+   * Notifies a camera move with the new camera position, which is handed to listeners requiring a snapshot.
+   *
+   * @param cameraPosition the camera position after the move
+   */
+  void onCameraMove(@Nullable CameraPosition cameraPosition) {
+    if (cameraPosition != null) {
+      this.cameraPosition = cameraPosition;
+    }
+    onCameraMove();
+  }
+
   @Override
   public void onCameraMove() {
+    // dispatched listeners
+    if (!onCameraMoveDispatched.isEmpty() && !idle) {
+      for (DispatchedMoveListener listener : onCameraMoveDispatched) {
+        listener.onCameraMove(cameraPosition);
+      }
+    }
+
     // deprecated API
     if (onCameraMoveListener != null && !idle) {
       onCameraMoveListener.onCameraMove();
@@ -97,6 +152,11 @@ class CameraChangeDispatcher implements MapboxMap.OnCameraMoveStartedListener, M
   @Override
   public void onCameraIdle() {
     if (!idle) {
+      // deliver pending moves first
+      for (DispatchedMoveListener listener : onCameraMoveDispatched) {
+        listener.flush();
+      }
+
       idle = true;
       // deprecated API
       if (onCameraIdleListener != null) {
@@ -150,5 +210,160 @@ class CameraChangeDispatcher implements MapboxMap.OnCameraMoveStartedListener, M
     if (onCameraMove.contains(listener)) {
       onCameraMove.remove(listener);
     }
+    removeDispatchedListener(listener);
+  }
+
+  void addOnCameraMoveListener(@NonNull OnCameraMoveListener listener, @NonNull CameraMoveDispatch dispatch) {
+    onCameraMoveDispatched.add(new DispatchedMoveListener(listener, dispatch));
+  }
+
+  void addOnCameraMoveSnapshotListener(@NonNull OnCameraMoveSnapshotListener listener,
+                                       @NonNull CameraMoveDispatch dispatch) {
+    onCameraMoveDispatched.add(new DispatchedMoveListener(listener, dispatch));
+  }
+
+  void removeOnCameraMoveSnapshotListener(@NonNull OnCameraMoveSnapshotListener listener) {
+    removeDispatchedListener(listener);
+  }
+
+  private void removeDispatchedListener(Object listener) {
+    for (DispatchedMoveListener dispatched : onCameraMoveDispatched) {
+      if (dispatched.listener == listener) {
+        dispatched.cancel();
+        onCameraMoveDispatched.remove(dispatched);
+      }
+    }
+  }
+
+  private void scheduleFrame() {
+    if (!frameScheduled) {
+      frameScheduled = true;
+      frameClock.start(frameCallback);
+    }
+  }
+
+  private Handler getHandler() {
+    if (handler == null) {
+      handler = new Handler(Looper.getMainLooper());
+    }
+    return handler;
+  }
+
+  /**
+   * A camera move listener with a dispatch mode, coalescing moves according to the mode.
+   */
+  private class DispatchedMoveListener implements Runnable {
+
+    private final Object listener;
+    private final CameraMoveDispatch dispatch;
+
+    // main thread modes
+    private CameraPosition pendingPosition;
+    private boolean scheduled;
+    private boolean delivered;
+    private long lastDeliveryTime;
+
+    // background mode
+    private final AtomicReference<CameraPosition> latestPosition = new AtomicReference<>();
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private final Runnable backgroundRunnable = new Runnable() {
+      @Override
+      public void run() {
+        queued.set(false);
+        deliver(latestPosition.get());
+      }
+    };
+
+    DispatchedMoveListener(Object listener, CameraMoveDispatch dispatch) {
+      this.listener = listener;
+      this.dispatch = dispatch;
+    }
+
+    void onCameraMove(@Nullable CameraPosition position) {
+      switch (dispatch.getMode()) {
+        case CameraMoveDispatch.MODE_FRAME:
+          pendingPosition = position;
+          if (scheduled) {
+            dispatch.onCoalesced();
+          } else {
+            scheduled = true;
+            scheduleFrame();
+          }
+          break;
+        case CameraMoveDispatch.MODE_THROTTLED:
+          pendingPosition = position;
+          if (scheduled) {
+            dispatch.onCoalesced();
+          } else {
+            long now = SystemClock.uptimeMillis();
+            long due = lastDeliveryTime + dispatch.getIntervalMillis();
+            if (!delivered || now >= due) {
+              run();
+            } else {
+              scheduled = true;
+              getHandler().postAtTime(this, due);
+            }
+          }
+          break;
+        case CameraMoveDispatch.MODE_BACKGROUND:
+          latestPosition.set(position);
+          if (queued.compareAndSet(false, true)) {
+            dispatch.getExecutor().execute(backgroundRunnable);
+          } else {
+            dispatch.onCoalesced();
+          }
+          break;
+        default:
+          deliver(position);
+          break;
+      }
+    }
+
+    @Override
+    public void run() {
+      scheduled = false;
+      delivered = true;
+      lastDeliveryTime = SystemClock.uptimeMillis();
+      deliver(pendingPosition);
+      pendingPosition = null;
+    }
+
+    void onFrame() {
+      if (scheduled && dispatch.getMode() == CameraMoveDispatch.MODE_FRAME) {
+        run();
+      }
+    }
+
+    void flush() {
+      if (scheduled) {
+        if (dispatch.getMode() == CameraMoveDispatch.MODE_THROTTLED) {
+          getHandler().removeCallbacks(this);
+        }
+        run();
+      }
+    }
+
+    void cancel() {
+      if (scheduled) {
+        if (dispatch.getMode() == CameraMoveDispatch.MODE_THROTTLED) {
+          getHandler().removeCallbacks(this);
+        }
+        scheduled = false;
+      }
+    }
+
+    private void deliver(@Nullable CameraPosition position) {
+      long start = System.nanoTime();
+      if (listener instanceof OnCameraMoveSnapshotListener) {
+        if (position == null) {
+          // no camera position known yet
+          return;
+        }
+        ((OnCameraMoveSnapshotListener) listener).onCameraMove(position);
+      } else {
+        ((OnCameraMoveListener) listener).onCameraMove();
+      }
+      dispatch.onDispatched(listener, System.nanoTime() - start);
+    }
   }
 }
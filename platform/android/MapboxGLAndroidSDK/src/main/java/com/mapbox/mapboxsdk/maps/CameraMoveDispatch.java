@@ -0,0 +1,180 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.annotation.IntDef;
+import android.support.annotation.NonNull;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import timber.log.Timber;
+
+/**
+ * Describes how camera moves are delivered to a single camera move listener, and measures the listener.
+ * <p>
+ * By default camera move listeners are invoked synchronously for every camera change. Listeners doing expensive work
+ * can instead be invoked once per frame, at a maximum rate, or on a background executor with a snapshot of the camera
+ * position. Pending moves are delivered before the camera idle event, idle events are never throttled.
+ * </p>
+ * <p>
+ * A dispatch instance belongs to one listener, it collects the amount of invocations and the time spent in the
+ * listener.
+ * </p>
+ */
+public final class CameraMoveDispatch {
+
+  /**
+   * Invoke the listener synchronously for every camera move.
+   */
+  public static final int MODE_IMMEDIATE = 0;
+
+  /**
+   * Invoke the listener at most once per frame with the latest camera move, on the next animation frame.
+   */
+  public static final int MODE_FRAME = 1;
+
+  /**
+   * Invoke the listener at most at a fixed rate with the latest camera move.
+   */
+  public static final int MODE_THROTTLED = 2;
+
+  /**
+   * Invoke the listener on an executor with the latest camera position.
+   */
+  public static final int MODE_BACKGROUND = 3;
+
+  @IntDef( {MODE_IMMEDIATE, MODE_FRAME, MODE_THROTTLED, MODE_BACKGROUND})
+  @Retention(RetentionPolicy.SOURCE)
+  public @interface Mode {
+  }
+
+  private static final long SLOW_LISTENER_NANOS = TimeUnit.MILLISECONDS.toNanos(16);
+
+  private final int mode;
+  private final long intervalMillis;
+  private final Executor executor;
+
+  private long dispatchCount;
+  private long coalescedCount;
+  private long totalDurationNanos;
+  private long maxDurationNanos;
+  private boolean reportedSlow;
+
+  private CameraMoveDispatch(@Mode int mode, long intervalMillis, Executor executor) {
+    this.mode = mode;
+    this.intervalMillis = intervalMillis;
+    this.executor = executor;
+  }
+
+  /**
+   * Invokes the listener synchronously for every camera move.
+   *
+   * @return a new dispatch
+   */
+  public static CameraMoveDispatch immediate() {
+    return new CameraMoveDispatch(MODE_IMMEDIATE, 0, null);
+  }
+
+  /**
+   * Coalesces the camera moves of a frame into one invocation, made from the next animation frame callback. Frames
+   * are timed by the animation framework, which follows the display vsync on API 16 and later.
+   *
+   * @return a new dispatch
+   */
+  public static CameraMoveDispatch perFrame() {
+    return new CameraMoveDispatch(MODE_FRAME, 0, null);
+  }
+
+  /**
+   * Invokes the listener at most at a rate, the latest camera move is delivered at the end of each interval.
+   *
+   * @param hertz the maximum amount of invocations per second
+   * @return a new dispatch
+   */
+  public static CameraMoveDispatch throttled(float hertz) {
+    if (hertz <= 0) {
+      throw new IllegalArgumentException("The rate must be positive, was " + hertz);
+    }
+    return new CameraMoveDispatch(MODE_THROTTLED, Math.max(1, Math.round(1000 / hertz)), null);
+  }
+
+  /**
+   * Invokes the listener on an executor. Moves happening while an invocation is queued or running are coalesced, the
+   * next invocation receives the latest camera position.
+   *
+   * @param executor the executor to invoke the listener on
+   * @return a new dispatch
+   */
+  public static CameraMoveDispatch background(@NonNull Executor executor) {
+    return new CameraMoveDispatch(MODE_BACKGROUND, 0, executor);
+  }
+
+  @Mode
+  public int getMode() {
+    return mode;
+  }
+
+  long getIntervalMillis() {
+    return intervalMillis;
+  }
+
+  Executor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Get the amount of times the listener was invoked.
+   *
+   * @return the invocation count
+   */
+  public synchronized long getDispatchCount() {
+    return dispatchCount;
+  }
+
+  /**
+   * Get the amount of camera moves merged into a later invocation.
+   *
+   * @return the coalesced move count
+   */
+  public synchronized long getCoalescedCount() {
+    return coalescedCount;
+  }
+
+  /**
+   * Get the average time spent in the listener.
+   *
+   * @return the average duration in nanoseconds, 0 if not invoked yet
+   */
+  public synchronized long getAverageDurationNanos() {
+    return dispatchCount == 0 ? 0 : totalDurationNanos / dispatchCount;
+  }
+
+  /**
+   * Get the longest time spent in the listener.
+   *
+   * @return the maximum duration in nanoseconds
+   */
+  public synchronized long getMaxDurationNanos() {
+    return maxDurationNanos;
+  }
+
+  synchronized void onCoalesced() {
+    coalescedCount++;
+  }
+
+  void onDispatched(@NonNull Object listener, long durationNanos) {
+    boolean slow;
+    synchronized (this) {
+      dispatchCount++;
+      totalDurationNanos += durationNanos;
+      maxDurationNanos = Math.max(maxDurationNanos, durationNanos);
+      slow = !reportedSlow && mode != MODE_BACKGROUND && durationNanos > SLOW_LISTENER_NANOS;
+      reportedSlow |= slow;
+    }
+    if (slow) {
+      Timber.w("Camera move listener %s took %d ms, consider a throttled or background dispatch",
+        listener, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+
+/**
+ * Snapshot of the camera of the native map, read from core at most once per camera change.
+ * <p>
+ * Any call that changes the camera invalidates the snapshot, as do camera changes reported by core.
+ * </p>
+ */
+final class CameraSnapshot {
+
+  /**
+   * Reads the current camera from core.
+   */
+  interface CameraSource {
+    CameraPosition readCameraPosition();
+  }
+
+  private final CameraSource source;
+  private CameraPosition cameraPosition;
+  private long readCount;
+  private long hitCount;
+
+  CameraSnapshot(@NonNull CameraSource source) {
+    this.source = source;
+  }
+
+  /**
+   * Returns the shared snapshot, for reading the values of the camera. The snapshot must not be handed out.
+   *
+   * @return the snapshot of the current camera
+   */
+  CameraPosition get() {
+    if (cameraPosition == null) {
+      cameraPosition = source.readCameraPosition();
+      readCount++;
+    } else {
+      hitCount++;
+    }
+    return cameraPosition;
+  }
+
+  /**
+   * Returns a copy of the snapshot, with a target that can be modified without affecting the snapshot.
+   *
+   * @return a copy of the current camera
+   */
+  CameraPosition copy() {
+    CameraPosition snapshot = get();
+    return new CameraPosition.Builder(snapshot)
+      .target(snapshot.target != null ? new LatLng(snapshot.target) : null)
+      .build();
+  }
+
+  void invalidate() {
+    cameraPosition = null;
+  }
+
+  void onMapChanged(int rawChange) {
+    if (rawChange <= MapView.REGION_DID_CHANGE_ANIMATED) {
+      // the camera changed in core, e.g. during a transition
+      invalidate();
+    }
+  }
+
+  long getReadCount() {
+    return readCount;
+  }
+
+  long getHitCount() {
+    return hitCount;
+  }
+}
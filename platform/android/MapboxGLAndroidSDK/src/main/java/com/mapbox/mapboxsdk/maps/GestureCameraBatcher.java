@@ -0,0 +1,187 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.camera.CameraAnimationEngine;
+
+/**
+ * Accumulates the camera deltas of gestures and applies them once per frame.
+ * <p>
+ * Touch panels report at a higher rate than the display refreshes, every touch event resulted in its own camera
+ * change. Deltas are summed up per kind until the next frame, where all kinds are applied with a single camera change.
+ * The frame callback runs before the frame is drawn, input delivered earlier in the same frame is included.
+ * </p>
+ * <p>
+ * Pending deltas must be flushed before a gesture ends, so camera idle events follow the last camera change.
+ * </p>
+ */
+final class GestureCameraBatcher implements Runnable {
+
+  /**
+   * Applies the accumulated deltas.
+   */
+  interface Target {
+
+    /**
+     * Applies the deltas of a frame with a single camera change.
+     *
+     * @param dx      the horizontal pan
+     * @param dy      the vertical pan
+     * @param zoom    the zoom delta
+     * @param degrees the bearing delta in degrees
+     * @param tilt    the tilt delta in degrees
+     * @param focalX  the horizontal position to zoom and rotate around, -1 for the center of the map
+     * @param focalY  the vertical position to zoom and rotate around, -1 for the center of the map
+     */
+    void moveCameraBy(double dx, double dy, double zoom, double degrees, double tilt, float focalX, float focalY);
+  }
+
+  private final Target target;
+  private final CameraAnimationEngine.FrameClock frameClock;
+  private boolean ticking;
+
+  private boolean hasMove;
+  private double dx;
+  private double dy;
+
+  private boolean hasZoom;
+  private double zoom;
+  private float zoomFocalX;
+  private float zoomFocalY;
+
+  private boolean hasRotation;
+  private double degrees;
+  private float rotateFocalX;
+  private float rotateFocalY;
+
+  private boolean hasTilt;
+  private double tilt;
+
+  private long deltaCount;
+  private long updateCount;
+
+  GestureCameraBatcher(@NonNull Target target) {
+    this(target, new AnimatorFrameClock());
+  }
+
+  GestureCameraBatcher(@NonNull Target target, @NonNull CameraAnimationEngine.FrameClock frameClock) {
+    this.target = target;
+    this.frameClock = frameClock;
+  }
+
+  void moveBy(double dx, double dy) {
+    this.dx += dx;
+    this.dy += dy;
+    hasMove = true;
+    onDelta();
+  }
+
+  /**
+   * Adds a zoom delta, the focal point of the latest delta is used for the frame.
+   *
+   * @param zoom   the zoom delta
+   * @param focalX the horizontal position to zoom around
+   * @param focalY the vertical position to zoom around
+   */
+  void zoomBy(double zoom, float focalX, float focalY) {
+    this.zoom += zoom;
+    zoomFocalX = focalX;
+    zoomFocalY = focalY;
+    hasZoom = true;
+    onDelta();
+  }
+
+  /**
+   * Adds a bearing delta, the focal point of the latest delta is used for the frame.
+   *
+   * @param degrees the bearing delta in degrees
+   * @param focalX  the horizontal position to rotate around
+   * @param focalY  the vertical position to rotate around
+   */
+  void rotateBy(double degrees, float focalX, float focalY) {
+    this.degrees += degrees;
+    rotateFocalX = focalX;
+    rotateFocalY = focalY;
+    hasRotation = true;
+    onDelta();
+  }
+
+  void tiltBy(double degrees) {
+    tilt += degrees;
+    hasTilt = true;
+    onDelta();
+  }
+
+  boolean hasPendingDeltas() {
+    return hasMove || hasZoom || hasRotation || hasTilt;
+  }
+
+  /**
+   * Applies the pending deltas immediately. Zooming and rotating in the same frame use the focal point of the zoom.
+   */
+  void flush() {
+    if (!hasPendingDeltas()) {
+      return;
+    }
+
+    float focalX = -1;
+    float focalY = -1;
+    if (hasZoom) {
+      focalX = zoomFocalX;
+      focalY = zoomFocalY;
+    } else if (hasRotation) {
+      focalX = rotateFocalX;
+      focalY = rotateFocalY;
+    }
+
+    updateCount++;
+    target.moveCameraBy(dx, dy, zoom, degrees, tilt, focalX, focalY);
+
+    hasMove = false;
+    dx = 0;
+    dy = 0;
+    hasZoom = false;
+    zoom = 0;
+    hasRotation = false;
+    degrees = 0;
+    hasTilt = false;
+    tilt = 0;
+  }
+
+  /**
+   * Get the amount of deltas added, the amount of camera changes without batching.
+   *
+   * @return the delta count
+   */
+  long getDeltaCount() {
+    return deltaCount;
+  }
+
+  /**
+   * Get the amount of camera changes applied.
+   *
+   * @return the update count
+   */
+  long getUpdateCount() {
+    return updateCount;
+  }
+
+  @Override
+  public void run() {
+    if (hasPendingDeltas()) {
+      flush();
+    } else {
+      // no input during the last frame
+      ticking = false;
+      frameClock.stop();
+    }
+  }
+
+  private void onDelta() {
+    deltaCount++;
+    if (!ticking) {
+      ticking = true;
+      frameClock.start(this);
+    }
+  }
+}
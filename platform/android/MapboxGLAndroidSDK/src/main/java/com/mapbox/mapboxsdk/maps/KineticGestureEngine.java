@@ -0,0 +1,450 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.camera.CameraAnimationEngine;
+
+/**
+ * Continues pan, zoom and rotation gestures with the velocity they were released with.
+ * <p>
+ * Gesture positions are sampled while the fingers move, the release velocity is a least squares fit over the latest
+ * samples. After release every channel decays exponentially with its own time constant, the camera deltas are
+ * computed per frame from the exact decay over the frame time, so the travelled distance doesn't depend on the frame
+ * rate. A touch down stops the motion. When a gesture is released in the same direction shortly after interrupting a
+ * motion, the interrupted velocity is handed off and added to the new one.
+ * </p>
+ * <p>
+ * No objects are allocated per sample or per frame.
+ * </p>
+ */
+final class KineticGestureEngine implements Runnable {
+
+  /**
+   * Receives the camera deltas of a frame.
+   */
+  interface Target {
+
+    void moveBy(double dx, double dy);
+
+    void zoomBy(double zoom, float focalX, float focalY);
+
+    void rotateBy(double degrees, float focalX, float focalY);
+
+    /**
+     * Invoked when all motion stopped, either settled or interrupted.
+     */
+    void onKineticEnd();
+  }
+
+  static final long PAN_TIME_CONSTANT_MILLIS = 325;
+  static final long ZOOM_TIME_CONSTANT_MILLIS = 200;
+  static final long ROTATE_TIME_CONSTANT_MILLIS = 250;
+  static final long HANDOFF_WINDOW_MILLIS = 400;
+
+  private static final double PAN_STOP_VELOCITY = 20;
+  private static final double PAN_MAX_VELOCITY = 8000;
+  private static final double ZOOM_STOP_VELOCITY = 0.02;
+  private static final double ZOOM_MAX_VELOCITY = 8;
+  private static final double ROTATE_STOP_VELOCITY = 0.5;
+  private static final double ROTATE_MAX_VELOCITY = 720;
+  private static final long MAX_FRAME_MILLIS = 100;
+
+  private final Target target;
+  private final CameraAnimationEngine.FrameClock frameClock;
+
+  private final VelocitySampler panX = new VelocitySampler();
+  private final VelocitySampler panY = new VelocitySampler();
+  private final VelocitySampler zoom = new VelocitySampler();
+  private final VelocitySampler bearing = new VelocitySampler();
+
+  private float pixelRatio = 1;
+  private boolean running;
+  private long frameTime;
+
+  private double panVelocityX;
+  private double panVelocityY;
+  private double zoomVelocity;
+  private float zoomFocalX;
+  private float zoomFocalY;
+  private double rotateVelocity;
+  private float rotateFocalX;
+  private float rotateFocalY;
+
+  // velocity of the last interrupted motion
+  private long interruptTime = Long.MIN_VALUE;
+  private double residualPanX;
+  private double residualPanY;
+  private double residualZoom;
+  private double residualRotate;
+
+  KineticGestureEngine(@NonNull Target target) {
+    this(target, new AnimatorFrameClock());
+  }
+
+  KineticGestureEngine(@NonNull Target target, @NonNull CameraAnimationEngine.FrameClock frameClock) {
+    this.target = target;
+    this.frameClock = frameClock;
+  }
+
+  /**
+   * Sets the pixel ratio, pan velocity limits are defined in density independent pixels.
+   *
+   * @param pixelRatio the pixel ratio of the screen
+   */
+  void setPixelRatio(float pixelRatio) {
+    this.pixelRatio = pixelRatio;
+  }
+
+  //
+  // Sampling
+  //
+
+  /**
+   * Stops any motion and clears the samples, to be invoked when the first finger touches down.
+   *
+   * @param time the event time in milliseconds
+   */
+  void onTouchDown(long time) {
+    if (running) {
+      interruptTime = time;
+      residualPanX = panVelocityX;
+      residualPanY = panVelocityY;
+      residualZoom = zoomVelocity;
+      residualRotate = rotateVelocity;
+      stop();
+    }
+    panX.clear();
+    panY.clear();
+    zoom.clear();
+    bearing.clear();
+  }
+
+  /**
+   * Clears the pan samples, to be invoked when the amount of fingers changes.
+   */
+  void resetPan() {
+    panX.clear();
+    panY.clear();
+  }
+
+  /**
+   * Clears the zoom samples, to be invoked when a zoom gesture begins.
+   */
+  void resetZoom() {
+    zoom.clear();
+  }
+
+  /**
+   * Clears the rotation samples, to be invoked when a rotation gesture begins.
+   */
+  void resetRotation() {
+    bearing.clear();
+  }
+
+  void addPanSample(long time, float x, float y) {
+    panX.add(time, x);
+    panY.add(time, y);
+  }
+
+  /**
+   * Adds a zoom sample.
+   *
+   * @param time the event time in milliseconds
+   * @param zoom the zoom applied by the gesture so far
+   */
+  void addZoomSample(long time, double zoom) {
+    this.zoom.add(time, zoom);
+  }
+
+  /**
+   * Adds a rotation sample.
+   *
+   * @param time    the event time in milliseconds
+   * @param degrees the rotation applied by the gesture so far, without wrapping
+   */
+  void addRotationSample(long time, double degrees) {
+    bearing.add(time, degrees);
+  }
+
+  /**
+   * Get the pan velocity on the horizontal axis when released at a time.
+   *
+   * @param time the release time in milliseconds
+   * @return the velocity in pixels per second
+   */
+  double getPanVelocityX(long time) {
+    return panX.getVelocity(time);
+  }
+
+  double getPanVelocityY(long time) {
+    return panY.getVelocity(time);
+  }
+
+  /**
+   * Get the zoom velocity when released at a time.
+   *
+   * @param time the release time in milliseconds
+   * @return the velocity in zoom levels per second
+   */
+  double getZoomVelocity(long time) {
+    return zoom.getVelocity(time);
+  }
+
+  /**
+   * Get the rotation velocity when released at a time.
+   *
+   * @param time the release time in milliseconds
+   * @return the velocity in degrees per second
+   */
+  double getRotationVelocity(long time) {
+    return bearing.getVelocity(time);
+  }
+
+  //
+  // Motion
+  //
+
+  /**
+   * Continues a pan with a velocity.
+   *
+   * @param time      the release time in milliseconds
+   * @param velocityX the horizontal velocity in pixels per second
+   * @param velocityY the vertical velocity in pixels per second
+   */
+  void startPan(long time, double velocityX, double velocityY) {
+    if (isHandoff(time) && velocityX * residualPanX + velocityY * residualPanY > 0) {
+      velocityX += residualPanX;
+      velocityY += residualPanY;
+    }
+    double speed = Math.hypot(velocityX, velocityY);
+    double maxSpeed = PAN_MAX_VELOCITY * pixelRatio;
+    if (speed > maxSpeed) {
+      velocityX *= maxSpeed / speed;
+      velocityY *= maxSpeed / speed;
+    }
+    panVelocityX = velocityX;
+    panVelocityY = velocityY;
+    start(time);
+  }
+
+  /**
+   * Continues a zoom with a velocity.
+   *
+   * @param time     the release time in milliseconds
+   * @param velocity the velocity in zoom levels per second
+   * @param focalX   the horizontal position to zoom around
+   * @param focalY   the vertical position to zoom around
+   */
+  void startZoom(long time, double velocity, float focalX, float focalY) {
+    if (isHandoff(time) && velocity * residualZoom > 0) {
+      velocity += residualZoom;
+    }
+    zoomVelocity = clamp(velocity, ZOOM_MAX_VELOCITY);
+    zoomFocalX = focalX;
+    zoomFocalY = focalY;
+    start(time);
+  }
+
+  /**
+   * Continues a rotation with a velocity.
+   *
+   * @param time     the release time in milliseconds
+   * @param velocity the velocity in degrees per second
+   * @param focalX   the horizontal position to rotate around
+   * @param focalY   the vertical position to rotate around
+   */
+  void startRotation(long time, double velocity, float focalX, float focalY) {
+    if (isHandoff(time) && velocity * residualRotate > 0) {
+      velocity += residualRotate;
+    }
+    rotateVelocity = clamp(velocity, ROTATE_MAX_VELOCITY);
+    rotateFocalX = focalX;
+    rotateFocalY = focalY;
+    start(time);
+  }
+
+  /**
+   * Stops any motion without handing off its velocity.
+   */
+  void cancel() {
+    if (running) {
+      stop();
+    }
+  }
+
+  boolean isRunning() {
+    return running;
+  }
+
+  boolean isPanning() {
+    return panVelocityX != 0 || panVelocityY != 0;
+  }
+
+  boolean isZooming() {
+    return zoomVelocity != 0;
+  }
+
+  boolean isRotating() {
+    return rotateVelocity != 0;
+  }
+
+  @Override
+  public void run() {
+    onFrame(frameClock.getFrameTime());
+  }
+
+  /**
+   * Applies the motion of a frame.
+   *
+   * @param time the frame time in milliseconds
+   * @return true if still in motion after this frame
+   */
+  boolean onFrame(long time) {
+    if (!running) {
+      return false;
+    }
+
+    long elapsed = Math.max(0, Math.min(MAX_FRAME_MILLIS, time - frameTime));
+    frameTime = time;
+    if (elapsed == 0) {
+      return true;
+    }
+
+    if (isPanning()) {
+      double decay = Math.exp(-elapsed / (double) PAN_TIME_CONSTANT_MILLIS);
+      double distance = PAN_TIME_CONSTANT_MILLIS / 1000.0 * (1 - decay);
+      target.moveBy(panVelocityX * distance, panVelocityY * distance);
+      panVelocityX *= decay;
+      panVelocityY *= decay;
+      if (Math.hypot(panVelocityX, panVelocityY) < PAN_STOP_VELOCITY * pixelRatio) {
+        panVelocityX = 0;
+        panVelocityY = 0;
+      }
+    }
+
+    if (isZooming()) {
+      double decay = Math.exp(-elapsed / (double) ZOOM_TIME_CONSTANT_MILLIS);
+      target.zoomBy(zoomVelocity * ZOOM_TIME_CONSTANT_MILLIS / 1000.0 * (1 - decay), zoomFocalX, zoomFocalY);
+      zoomVelocity *= decay;
+      if (Math.abs(zoomVelocity) < ZOOM_STOP_VELOCITY) {
+        zoomVelocity = 0;
+      }
+    }
+
+    if (isRotating()) {
+      double decay = Math.exp(-elapsed / (double) ROTATE_TIME_CONSTANT_MILLIS);
+      target.rotateBy(rotateVelocity * ROTATE_TIME_CONSTANT_MILLIS / 1000.0 * (1 - decay), rotateFocalX,
+        rotateFocalY);
+      rotateVelocity *= decay;
+      if (Math.abs(rotateVelocity) < ROTATE_STOP_VELOCITY) {
+        rotateVelocity = 0;
+      }
+    }
+
+    if (!isPanning() && !isZooming() && !isRotating()) {
+      stop();
+      return false;
+    }
+    return true;
+  }
+
+  private void start(long time) {
+    if (!running) {
+      running = true;
+      frameTime = time;
+      frameClock.start(this);
+    }
+  }
+
+  private void stop() {
+    running = false;
+    panVelocityX = 0;
+    panVelocityY = 0;
+    zoomVelocity = 0;
+    rotateVelocity = 0;
+    frameClock.stop();
+    target.onKineticEnd();
+  }
+
+  private boolean isHandoff(long time) {
+    return interruptTime != Long.MIN_VALUE && time - interruptTime <= HANDOFF_WINDOW_MILLIS;
+  }
+
+  private static double clamp(double value, double max) {
+    return Math.max(-max, Math.min(max, value));
+  }
+
+  /**
+   * Estimates the velocity of a value from its latest samples.
+   */
+  static final class VelocitySampler {
+
+    private static final int CAPACITY = 20;
+    private static final long WINDOW_MILLIS = 100;
+    private static final long STOP_MILLIS = 50;
+
+    private final long[] times = new long[CAPACITY];
+    private final double[] values = new double[CAPACITY];
+    private int head;
+    private int size;
+
+    void add(long time, double value) {
+      if (size > 0 && time < times[(head + CAPACITY - 1) % CAPACITY]) {
+        // out of order, e.g. a new gesture without touch down
+        clear();
+      }
+      times[head] = time;
+      values[head] = value;
+      head = (head + 1) % CAPACITY;
+      size = Math.min(size + 1, CAPACITY);
+    }
+
+    void clear() {
+      size = 0;
+    }
+
+    /**
+     * Fits a line through the samples of the window before the latest sample.
+     *
+     * @param time the release time in milliseconds
+     * @return the slope in units per second, 0 if there are too few samples or the value stopped changing
+     */
+    double getVelocity(long time) {
+      if (size < 2) {
+        return 0;
+      }
+
+      long latest = times[(head + CAPACITY - 1) % CAPACITY];
+      if (time - latest > STOP_MILLIS) {
+        // the value stopped changing before the release
+        return 0;
+      }
+
+      int count = 0;
+      double sumT = 0;
+      double sumV = 0;
+      double sumTT = 0;
+      double sumTV = 0;
+      for (int i = 0; i < size; i++) {
+        int index = (head + CAPACITY - 1 - i) % CAPACITY;
+        long age = latest - times[index];
+        if (age > WINDOW_MILLIS) {
+          break;
+        }
+        double t = -age;
+        double v = values[index];
+        sumT += t;
+        sumV += v;
+        sumTT += t * t;
+        sumTV += t * v;
+        count++;
+      }
+
+      double denominator = count * sumTT - sumT * sumT;
+      if (count < 2 || denominator == 0) {
+        return 0;
+      }
+      return (count * sumTV - sumT * sumV) / denominator * 1000;
+    }
+  }
+}
@@ -0,0 +1,236 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import timber.log.Timber;
+
+/**
+ * Dispatches the map change events of the native map to the registered listeners.
+ * <p>
+ * Listeners are kept in a copy on write array per event type, a listener registered for a subset of the events is only
+ * invoked for those. Dispatching iterates the array of the event without allocating. One-shot listeners are kept in a
+ * list per event type that's swapped out when dispatched, adding and removing them doesn't copy any array.
+ * </p>
+ * <p>
+ * Listeners can be invoked on an executor, events are then queued in a bounded buffer per listener and dropped when
+ * the listener can't keep up, e.g. to process render frame events for analytics off the UI thread.
+ * </p>
+ */
+final class MapChangeDispatcher {
+
+  static final int EVENT_COUNT = MapView.SOURCE_DID_CHANGE + 1;
+  static final int ASYNC_CAPACITY = 64;
+
+  private static final MapView.OnMapChangedListener[] EMPTY = new MapView.OnMapChangedListener[0];
+
+  private final MapView.OnMapChangedListener[][] listeners = new MapView.OnMapChangedListener[EVENT_COUNT][];
+  private final List<List<MapView.OnMapChangedListener>> oneShotListeners = new ArrayList<>(EVENT_COUNT);
+  private List<MapView.OnMapChangedListener> dispatchingOneShots = new ArrayList<>();
+
+  MapChangeDispatcher() {
+    for (int i = 0; i < EVENT_COUNT; i++) {
+      listeners[i] = EMPTY;
+      oneShotListeners.add(new ArrayList<MapView.OnMapChangedListener>());
+    }
+  }
+
+  /**
+   * Adds a listener for all events.
+   *
+   * @param listener the listener to add
+   */
+  synchronized void addListener(@NonNull MapView.OnMapChangedListener listener) {
+    for (int i = 0; i < EVENT_COUNT; i++) {
+      add(i, listener);
+    }
+  }
+
+  /**
+   * Adds a listener for a set of events.
+   *
+   * @param listener the listener to add
+   * @param changes  the events to invoke the listener for
+   */
+  synchronized void addListener(@NonNull MapView.OnMapChangedListener listener, @NonNull int[] changes) {
+    for (int change : changes) {
+      if (isValid(change)) {
+        add(change, listener);
+      }
+    }
+  }
+
+  /**
+   * Adds a listener invoked on an executor for a set of events.
+   *
+   * @param listener the listener to add
+   * @param executor the executor to invoke the listener on
+   * @param changes  the events to invoke the listener for
+   * @return the listener registered for the events, to be removed instead of the original listener
+   */
+  synchronized AsyncListener addListener(@NonNull MapView.OnMapChangedListener listener, @NonNull Executor executor,
+                                         @NonNull int[] changes) {
+    AsyncListener asyncListener = new AsyncListener(listener, executor);
+    addListener(asyncListener, changes);
+    return asyncListener;
+  }
+
+  /**
+   * Adds a listener invoked for the next occurrence of an event only.
+   *
+   * @param change   the event to invoke the listener for
+   * @param listener the listener to add
+   */
+  synchronized void addOneShotListener(@MapView.MapChange int change, @NonNull MapView.OnMapChangedListener listener) {
+    if (isValid(change)) {
+      oneShotListeners.get(change).add(listener);
+    }
+  }
+
+  /**
+   * Removes a listener from all events, including one-shot registrations.
+   *
+   * @param listener the listener to remove
+   */
+  synchronized void removeListener(@NonNull MapView.OnMapChangedListener listener) {
+    for (int i = 0; i < EVENT_COUNT; i++) {
+      remove(i, listener);
+      oneShotListeners.get(i).remove(listener);
+    }
+  }
+
+  void dispatch(int change) {
+    if (!isValid(change)) {
+      return;
+    }
+
+    MapView.OnMapChangedListener[] current = listeners[change];
+    for (MapView.OnMapChangedListener listener : current) {
+      invoke(listener, change);
+    }
+
+    List<MapView.OnMapChangedListener> oneShots;
+    synchronized (this) {
+      oneShots = oneShotListeners.get(change);
+      if (oneShots.isEmpty()) {
+        return;
+      }
+      // listeners added while dispatching wait for the next occurrence
+      List<MapView.OnMapChangedListener> spare = dispatchingOneShots;
+      oneShotListeners.set(change, spare != null ? spare : new ArrayList<MapView.OnMapChangedListener>());
+      dispatchingOneShots = null;
+    }
+
+    for (int i = 0; i < oneShots.size(); i++) {
+      invoke(oneShots.get(i), change);
+    }
+    oneShots.clear();
+
+    synchronized (this) {
+      dispatchingOneShots = oneShots;
+    }
+  }
+
+  int getListenerCount(@MapView.MapChange int change) {
+    return listeners[change].length + oneShotListeners.get(change).size();
+  }
+
+  private void add(int change, MapView.OnMapChangedListener listener) {
+    MapView.OnMapChangedListener[] current = listeners[change];
+    MapView.OnMapChangedListener[] updated = new MapView.OnMapChangedListener[current.length + 1];
+    System.arraycopy(current, 0, updated, 0, current.length);
+    updated[current.length] = listener;
+    listeners[change] = updated;
+  }
+
+  private void remove(int change, MapView.OnMapChangedListener listener) {
+    MapView.OnMapChangedListener[] current = listeners[change];
+    for (int i = 0; i < current.length; i++) {
+      if (current[i] == listener || (current[i] instanceof AsyncListener
+        && ((AsyncListener) current[i]).listener == listener)) {
+        MapView.OnMapChangedListener[] updated = new MapView.OnMapChangedListener[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, i);
+        System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+        listeners[change] = updated;
+        return;
+      }
+    }
+  }
+
+  private static void invoke(MapView.OnMapChangedListener listener, int change) {
+    try {
+      listener.onMapChanged(change);
+    } catch (RuntimeException err) {
+      Timber.e(err, "Exception in MapView.OnMapChangedListener");
+    }
+  }
+
+  private static boolean isValid(int change) {
+    return change >= 0 && change < EVENT_COUNT;
+  }
+
+  /**
+   * Queues events in a bounded ring buffer and drains it on an executor.
+   */
+  static final class AsyncListener implements MapView.OnMapChangedListener, Runnable {
+
+    private final MapView.OnMapChangedListener listener;
+    private final Executor executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final int[] events = new int[ASYNC_CAPACITY];
+    private int head;
+    private int size;
+    private long droppedCount;
+
+    AsyncListener(MapView.OnMapChangedListener listener, Executor executor) {
+      this.listener = listener;
+      this.executor = executor;
+    }
+
+    @Override
+    public void onMapChanged(int change) {
+      synchronized (this) {
+        if (size == ASYNC_CAPACITY) {
+          droppedCount++;
+          return;
+        }
+        events[(head + size) % ASYNC_CAPACITY] = change;
+        size++;
+      }
+      if (scheduled.compareAndSet(false, true)) {
+        executor.execute(this);
+      }
+    }
+
+    @Override
+    public void run() {
+      scheduled.set(false);
+      while (true) {
+        int change;
+        synchronized (this) {
+          if (size == 0) {
+            return;
+          }
+          change = events[head];
+          head = (head + 1) % ASYNC_CAPACITY;
+          size--;
+        }
+        invoke(listener, change);
+      }
+    }
+
+    /**
+     * Get the amount of events dropped because the buffer was full.
+     *
+     * @return the dropped event count
+     */
+    synchronized long getDroppedCount() {
+      return droppedCount;
+    }
+  }
+}
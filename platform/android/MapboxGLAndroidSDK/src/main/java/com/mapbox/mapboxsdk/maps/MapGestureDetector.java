@@ -1,30 +1,21 @@
 package com.mapbox.mapboxsdk.maps;
 
-import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
-import android.animation.ValueAnimator;
 import android.content.Context;
 import android.graphics.PointF;
-import android.location.Location;
 import android.support.annotation.Nullable;
 import android.support.v4.view.GestureDetectorCompat;
 import android.support.v4.view.ScaleGestureDetectorCompat;
-import android.support.v4.view.animation.FastOutSlowInInterpolator;
 import android.view.InputDevice;
 import android.view.MotionEvent;
 import android.view.ScaleGestureDetector;
-import android.view.VelocityTracker;
 import android.view.ViewConfiguration;
 
 import com.almeros.android.multitouch.gesturedetectors.RotateGestureDetector;
 import com.almeros.android.multitouch.gesturedetectors.ShoveGestureDetector;
 import com.almeros.android.multitouch.gesturedetectors.TwoFingerGestureDetector;
+import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.constants.MapboxConstants;
-import com.mapbox.mapboxsdk.geometry.LatLng;
-import com.mapbox.services.android.telemetry.MapboxEvent;
-import com.mapbox.services.android.telemetry.MapboxTelemetry;
 import com.mapbox.services.android.telemetry.utils.MathUtils;
-import com.mapbox.services.android.telemetry.utils.TelemetryUtils;
 
 import static com.mapbox.mapboxsdk.maps.MapboxMap.OnCameraMoveStartedListener.REASON_API_GESTURE;
 
@@ -47,6 +38,9 @@ final class MapGestureDetector {
   private final ScaleGestureDetector scaleGestureDetector;
   private final RotateGestureDetector rotateGestureDetector;
   private final ShoveGestureDetector shoveGestureDetector;
+  private final KineticGestureEngine kineticEngine;
+  private final GestureCameraBatcher cameraBatcher;
+  private final TelemetryRecorder telemetryRecorder = new TelemetryRecorder();
 
   private MapboxMap.OnMapClickListener onMapClickListener;
   private MapboxMap.OnMapLongClickListener onMapLongClickListener;
@@ -62,12 +56,8 @@ final class MapGestureDetector {
 
   private boolean scaleGestureOccurred;
   private boolean recentScaleGestureOccurred;
-  private boolean scaleAnimating;
   private long scaleBeginTime;
 
-  private VelocityTracker velocityTracker;
-  private boolean wasZoomingIn;
-  private boolean wasClockwiseRotating;
   private boolean rotateGestureOccurred;
 
   MapGestureDetector(Context context, Transform transform, Projection projection, UiSettings uiSettings,
@@ -87,6 +77,12 @@ final class MapGestureDetector {
     ScaleGestureDetectorCompat.setQuickScaleEnabled(scaleGestureDetector, true);
     rotateGestureDetector = new RotateGestureDetector(context, new RotateGestureListener());
     shoveGestureDetector = new ShoveGestureDetector(context, new ShoveGestureListener());
+
+    // Applies gestures to the map
+    GestureTarget gestureTarget = new GestureTarget();
+    cameraBatcher = new GestureCameraBatcher(gestureTarget);
+    kineticEngine = new KineticGestureEngine(gestureTarget);
+    transform.setKineticGestureEngine(kineticEngine);
   }
 
   /**
@@ -124,16 +120,28 @@ final class MapGestureDetector {
   }
 
   /**
-   * Given coordinates from a gesture, use the current projection to translate it into
-   * a Location object.
+   * Records a gesture for telemetry, the event is built off the UI thread.
    *
-   * @param x coordinate
-   * @param y coordinate
-   * @return location
+   * @param gesture the type of the gesture
+   * @param x       coordinate
+   * @param y       coordinate
    */
-  private Location getLocationFromGesture(float x, float y) {
-    LatLng latLng = projection.fromScreenLocation(new PointF(x, y));
-    return TelemetryUtils.buildLocation(latLng.getLongitude(), latLng.getLatitude());
+  private void recordGesture(int gesture, float x, float y) {
+    // the shared snapshot, its values are copied into the record
+    CameraPosition camera = transform.getRawCameraSnapshot();
+    if (camera == null || camera.target == null) {
+      // Map/Transform is not ready yet #8650, the event is ignored
+      return;
+    }
+    // the native map measures in density independent pixels, with the camera target at the center of the padding
+    float pixelRatio = uiSettings.getPixelRatio();
+    float width = projection.getWidth();
+    float height = projection.getHeight();
+    int[] padding = projection.getMapPadding();
+    float centerX = padding[0] + (width - padding[0] - padding[2]) / 2;
+    float centerY = padding[1] + (height - padding[1] - padding[3]) / 2;
+    telemetryRecorder.record(gesture, x / pixelRatio, y / pixelRatio, width / pixelRatio, height / pixelRatio,
+      centerX / pixelRatio, centerY / pixelRatio, camera);
   }
 
   /**
@@ -156,20 +164,24 @@ final class MapGestureDetector {
       return false;
     }
 
+    // Apply batched gesture deltas before gestures end
+    int action = event.getActionMasked();
+    if (action == MotionEvent.ACTION_UP || action == MotionEvent.ACTION_POINTER_UP
+      || action == MotionEvent.ACTION_CANCEL) {
+      cameraBatcher.flush();
+    }
+
     // Check two finger gestures first
     scaleGestureDetector.onTouchEvent(event);
     rotateGestureDetector.onTouchEvent(event);
     shoveGestureDetector.onTouchEvent(event);
 
     // Handle two finger tap
-    switch (event.getActionMasked()) {
+    switch (action) {
       case MotionEvent.ACTION_DOWN:
-        if (velocityTracker == null) {
-          velocityTracker = VelocityTracker.obtain();
-        } else {
-          velocityTracker.clear();
-        }
-        velocityTracker.addMovement(event);
+        // stops any kinetic motion
+        kineticEngine.onTouchDown(event.getEventTime());
+        kineticEngine.addPanSample(event.getEventTime(), event.getX(), event.getY());
         // First pointer down, reset scaleGestureOccurred, used to avoid triggering a fling after a scale gesture #7666
         recentScaleGestureOccurred = false;
         transform.setGestureInProgress(true);
@@ -177,22 +189,23 @@ final class MapGestureDetector {
 
       case MotionEvent.ACTION_POINTER_DOWN:
         // Second pointer down
+        kineticEngine.resetPan();
         twoTap = event.getPointerCount() == 2
           && uiSettings.isZoomGesturesEnabled();
         if (twoTap) {
           // Confirmed 2nd Finger Down
-          MapboxTelemetry.getInstance().pushEvent(MapboxEventWrapper.buildMapClickEvent(
-            getLocationFromGesture(event.getX(), event.getY()),
-            MapboxEvent.GESTURE_TWO_FINGER_SINGLETAP, transform));
+          recordGesture(TelemetryRecorder.GESTURE_TWO_FINGER_SINGLETAP, event.getX(), event.getY());
         }
         break;
 
       case MotionEvent.ACTION_POINTER_UP:
         // Second pointer up
+        kineticEngine.resetPan();
         break;
 
       case MotionEvent.ACTION_UP:
         // First pointer up
+        addPanSamples(event);
         long tapInterval = event.getEventTime() - event.getDownTime();
         boolean isTap = tapInterval <= ViewConfiguration.getTapTimeout();
         boolean inProgress = rotateGestureDetector.isInProgress()
@@ -212,32 +225,22 @@ final class MapGestureDetector {
 
         // Scroll / Pan Has Stopped
         if (scrollGestureOccurred) {
-          MapboxTelemetry.getInstance().pushEvent(MapboxEventWrapper.buildMapDragEndEvent(
-            getLocationFromGesture(event.getX(), event.getY()), transform));
+          recordGesture(TelemetryRecorder.DRAG_END, event.getX(), event.getY());
           scrollGestureOccurred = false;
           cameraChangeDispatcher.onCameraIdle();
         }
 
         twoTap = false;
         transform.setGestureInProgress(false);
-        if (velocityTracker != null) {
-          velocityTracker.recycle();
-        }
-        velocityTracker = null;
         break;
 
       case MotionEvent.ACTION_CANCEL:
         twoTap = false;
         transform.setGestureInProgress(false);
-        if (velocityTracker != null) {
-          velocityTracker.recycle();
-        }
-        velocityTracker = null;
         break;
       case MotionEvent.ACTION_MOVE:
-        if (velocityTracker != null) {
-          velocityTracker.addMovement(event);
-          velocityTracker.computeCurrentVelocity(1000);
+        if (event.getPointerCount() == 1) {
+          addPanSamples(event);
         }
         break;
     }
@@ -245,6 +248,14 @@ final class MapGestureDetector {
     return gestureDetector.onTouchEvent(event);
   }
 
+  private void addPanSamples(MotionEvent event) {
+    // high rate touch panels batch several samples into one move event
+    for (int i = 0; i < event.getHistorySize(); i++) {
+      kineticEngine.addPanSample(event.getHistoricalEventTime(i), event.getHistoricalX(i), event.getHistoricalY(i));
+    }
+    kineticEngine.addPanSample(event.getEventTime(), event.getX(), event.getY());
+  }
+
   /**
    * Called for events that don't fit the other handlers.
    * <p>
@@ -330,9 +341,7 @@ final class MapGestureDetector {
           break;
       }
 
-      MapboxTelemetry.getInstance().pushEvent(MapboxEventWrapper.buildMapClickEvent(
-        getLocationFromGesture(e.getX(), e.getY()),
-        MapboxEvent.GESTURE_DOUBLETAP, transform));
+      recordGesture(TelemetryRecorder.GESTURE_DOUBLETAP, e.getX(), e.getY());
 
       return true;
     }
@@ -361,9 +370,7 @@ final class MapGestureDetector {
         }
       }
 
-      MapboxTelemetry.getInstance().pushEvent(MapboxEventWrapper.buildMapClickEvent(
-        getLocationFromGesture(motionEvent.getX(), motionEvent.getY()),
-        MapboxEvent.GESTURE_SINGLETAP, transform));
+      recordGesture(TelemetryRecorder.GESTURE_SINGLETAP, motionEvent.getX(), motionEvent.getY());
 
       return true;
     }
@@ -386,8 +393,13 @@ final class MapGestureDetector {
 
       float screenDensity = uiSettings.getPixelRatio();
 
+      // velocity of the sampled pan, consistent with the kinetic motion
+      long time = e2.getEventTime();
+      double panVelocityX = kineticEngine.getPanVelocityX(time);
+      double panVelocityY = kineticEngine.getPanVelocityY(time);
+
       // calculate velocity vector for xy dimensions, independent from screen size
-      double velocityXY = Math.hypot(velocityX / screenDensity, velocityY / screenDensity);
+      double velocityXY = Math.hypot(panVelocityX / screenDensity, panVelocityY / screenDensity);
       if (velocityXY < MapboxConstants.VELOCITY_THRESHOLD_IGNORE_FLING) {
         // ignore short flings, these can occur when other gestures just have finished executing
         return false;
@@ -403,14 +415,10 @@ final class MapGestureDetector {
       // tilt results in a bigger translation, limiting input for #5281
       double tilt = transform.getTilt();
       double tiltFactor = 1.5 + ((tilt != 0) ? (tilt / 10) : 0);
-      double offsetX = velocityX / tiltFactor / screenDensity;
-      double offsetY = velocityY / tiltFactor / screenDensity;
-
-      // calculate animation time based on displacement
-      long animationTime = (long) (velocityXY / 7 / tiltFactor + MapboxConstants.ANIMATION_DURATION_FLING_BASE);
 
-      // update transformation
-      transform.moveBy(offsetX, offsetY, animationTime);
+      // continue the pan, decaying per frame
+      kineticEngine.setPixelRatio(screenDensity);
+      kineticEngine.startPan(time, panVelocityX / tiltFactor, panVelocityY / tiltFactor);
 
       if (onFlingListener != null) {
         onFlingListener.onFling();
@@ -438,16 +446,14 @@ final class MapGestureDetector {
           cameraChangeDispatcher.onCameraMoveStarted(REASON_API_GESTURE);
         }
 
-        MapboxTelemetry.getInstance().pushEvent(MapboxEventWrapper.buildMapClickEvent(
-          getLocationFromGesture(e1.getX(), e1.getY()),
-          MapboxEvent.GESTURE_PAN_START, transform));
+        recordGesture(TelemetryRecorder.GESTURE_PAN_START, e1.getX(), e1.getY());
       }
 
       // reset tracking if needed
       trackingSettings.resetTrackingModesIfRequired(true, false, false);
 
       // Scroll the map
-      transform.moveBy(-distanceX, -distanceY, 0 /*no duration*/);
+      cameraBatcher.moveBy(-distanceX, -distanceY);
 
       if (onScrollListener != null) {
         onScrollListener.onScroll();
@@ -461,11 +467,11 @@ final class MapGestureDetector {
    */
   private class ScaleGestureListener extends ScaleGestureDetector.SimpleOnScaleGestureListener {
 
-    private static final int ANIMATION_TIME_MULTIPLIER = 77;
-    private static final double ZOOM_DISTANCE_DIVIDER = 5;
+    private static final double ZOOM_VELOCITY_THRESHOLD = 0.5;
 
     private float scaleFactor = 1.0f;
     private PointF scalePointBegin;
+    private double gestureZoom;
 
     // Called when two fingers first touch the screen
     @Override
@@ -477,9 +483,10 @@ final class MapGestureDetector {
       recentScaleGestureOccurred = true;
       scalePointBegin = new PointF(detector.getFocusX(), detector.getFocusY());
       scaleBeginTime = detector.getEventTime();
-      MapboxTelemetry.getInstance().pushEvent(MapboxEventWrapper.buildMapClickEvent(
-        getLocationFromGesture(detector.getFocusX(), detector.getFocusY()),
-        MapboxEvent.GESTURE_PINCH_START, transform));
+      gestureZoom = 0;
+      kineticEngine.resetZoom();
+      kineticEngine.addZoomSample(scaleBeginTime, gestureZoom);
+      recordGesture(TelemetryRecorder.GESTURE_PINCH_START, detector.getFocusX(), detector.getFocusY());
       return true;
     }
 
@@ -491,7 +498,6 @@ final class MapGestureDetector {
         return super.onScale(detector);
       }
 
-      wasZoomingIn = (Math.log(detector.getScaleFactor()) / Math.log(Math.PI / 2)) >= 0;
       if (tiltGestureOccurred) {
         return false;
       }
@@ -527,89 +533,52 @@ final class MapGestureDetector {
       // should be disabled.
       trackingSettings.resetTrackingModesIfRequired(!quickZoom, false, false);
       // Scale the map
+      double zoomBy = Math.log(detector.getScaleFactor()) / Math.log(Math.PI / 2);
       if (focalPoint != null) {
         // arround user provided focal point
-        transform.zoomBy(Math.log(detector.getScaleFactor()) / Math.log(Math.PI / 2), focalPoint.x, focalPoint.y);
+        cameraBatcher.zoomBy(zoomBy, focalPoint.x, focalPoint.y);
       } else if (quickZoom) {
-        cameraChangeDispatcher.onCameraMove();
+        cameraChangeDispatcher.onCameraMove(transform.getRawCameraPosition());
         // clamp scale factors we feed to core #7514
-        float scaleFactor = detector.getScaleFactor();
         // around center map
-        double zoomBy = Math.log(scaleFactor) / Math.log(Math.PI / 2);
         boolean negative = zoomBy < 0;
         zoomBy = MathUtils.clamp(Math.abs(zoomBy),
           MapboxConstants.MINIMUM_SCALE_FACTOR_CLAMP,
           MapboxConstants.MAXIMUM_SCALE_FACTOR_CLAMP);
-        transform.zoomBy(negative ? -zoomBy : zoomBy, uiSettings.getWidth() / 2, uiSettings.getHeight() / 2);
+        zoomBy = negative ? -zoomBy : zoomBy;
+        cameraBatcher.zoomBy(zoomBy, uiSettings.getWidth() / 2, uiSettings.getHeight() / 2);
         recentScaleGestureOccurred = true;
       } else {
         // around gesture
-        transform.zoomBy(Math.log(detector.getScaleFactor()) / Math.log(Math.PI / 2),
-          scalePointBegin.x, scalePointBegin.y);
+        cameraBatcher.zoomBy(zoomBy, scalePointBegin.x, scalePointBegin.y);
       }
+      gestureZoom += zoomBy;
+      kineticEngine.addZoomSample(detector.getEventTime(), gestureZoom);
       return true;
     }
 
     // Called when fingers leave screen
     @Override
-    public void onScaleEnd(final ScaleGestureDetector detector) {
-      if (velocityTracker == null) {
-        return;
-      }
-
-
-      if (rotateGestureOccurred || quickZoom) {
-        reset();
-        return;
-      }
-
-      double velocityXY = Math.abs(velocityTracker.getYVelocity()) + Math.abs(velocityTracker.getXVelocity());
-      if (velocityXY > MapboxConstants.VELOCITY_THRESHOLD_IGNORE_FLING / 2) {
-        scaleAnimating = true;
-        double zoomAddition = calculateScale(velocityXY);
-        double currentZoom = transform.getRawZoom();
-        long animationTime = (long) (Math.log(velocityXY) * ANIMATION_TIME_MULTIPLIER);
-        createScaleAnimator(currentZoom, zoomAddition, animationTime).start();
-      } else if (!scaleAnimating) {
-        reset();
+    public void onScaleEnd(ScaleGestureDetector detector) {
+      if (!rotateGestureOccurred && !quickZoom) {
+        long time = detector.getEventTime();
+        double velocity = kineticEngine.getZoomVelocity(time);
+        if (Math.abs(velocity) > ZOOM_VELOCITY_THRESHOLD) {
+          PointF zoomFocalPoint = focalPoint != null ? focalPoint : scalePointBegin;
+          kineticEngine.startZoom(time, velocity, zoomFocalPoint.x, zoomFocalPoint.y);
+        }
       }
+      reset();
     }
 
     private void reset() {
-      scaleAnimating = false;
       scaleGestureOccurred = false;
       scaleBeginTime = 0;
       scaleFactor = 1.0f;
-      cameraChangeDispatcher.onCameraIdle();
-    }
-
-    private double calculateScale(double velocityXY) {
-      double zoomAddition = (float) (Math.log(velocityXY) / ZOOM_DISTANCE_DIVIDER);
-      if (!wasZoomingIn) {
-        zoomAddition = -zoomAddition;
+      if (!kineticEngine.isRunning()) {
+        // otherwise notified when the kinetic motion ends
+        cameraChangeDispatcher.onCameraIdle();
       }
-      return zoomAddition;
-    }
-
-    private Animator createScaleAnimator(double currentZoom, double zoomAddition, long animationTime) {
-      ValueAnimator animator = ValueAnimator.ofFloat((float) currentZoom, (float) (currentZoom + zoomAddition));
-      animator.setDuration(animationTime);
-      animator.setInterpolator(new FastOutSlowInInterpolator());
-      animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-
-        @Override
-        public void onAnimationUpdate(ValueAnimator animation) {
-          transform.setZoom((Float) animation.getAnimatedValue(), scalePointBegin);
-        }
-      });
-      animator.addListener(new AnimatorListenerAdapter() {
-        @Override
-        public void onAnimationEnd(Animator animation) {
-          super.onAnimationEnd(animation);
-          reset();
-        }
-      });
-      return animator;
     }
   }
 
@@ -619,12 +588,11 @@ final class MapGestureDetector {
   private class RotateGestureListener extends RotateGestureDetector.SimpleOnRotateGestureListener {
 
     private static final float ROTATE_INVOKE_ANGLE = 15.30f;
-    private static final float ROTATE_LIMITATION_ANGLE = 3.35f;
-    private static final float ROTATE_LIMITATION_DURATION = ROTATE_LIMITATION_ANGLE * 1.85f;
+    private static final double ROTATE_VELOCITY_THRESHOLD = 30;
 
     private long beginTime = 0;
     private boolean started = false;
-    private boolean animating = false;
+    private double gestureRotation;
 
     // Called when two fingers first touch the screen
     @Override
@@ -637,6 +605,9 @@ final class MapGestureDetector {
       cameraChangeDispatcher.onCameraMoveStarted(REASON_API_GESTURE);
 
       beginTime = detector.getEventTime();
+      gestureRotation = 0;
+      kineticEngine.resetRotation();
+      kineticEngine.addRotationSample(beginTime, gestureRotation);
       return true;
     }
 
@@ -652,9 +623,7 @@ final class MapGestureDetector {
       // Also is zoom already started, don't rotate
       float angle = detector.getRotationDegreesDelta();
       if (Math.abs(angle) >= ROTATE_INVOKE_ANGLE) {
-        MapboxTelemetry.getInstance().pushEvent(MapboxEventWrapper.buildMapClickEvent(
-          getLocationFromGesture(detector.getFocusX(), detector.getFocusY()),
-          MapboxEvent.GESTURE_ROTATION_START, transform));
+        recordGesture(TelemetryRecorder.GESTURE_ROTATION_START, detector.getFocusX(), detector.getFocusY());
         started = true;
       }
 
@@ -662,7 +631,6 @@ final class MapGestureDetector {
         return false;
       }
 
-      wasClockwiseRotating = detector.getRotationDegreesDelta() > 0;
       if (scaleBeginTime != 0) {
         rotateGestureOccurred = true;
       }
@@ -671,96 +639,45 @@ final class MapGestureDetector {
       // rotation, so cancel both location and bearing tracking if required
       trackingSettings.resetTrackingModesIfRequired(true, true, false);
 
-      // Calculate map bearing value
-      double bearing = transform.getRawBearing() + angle;
-
       // Rotate the map
       if (focalPoint != null) {
         // User provided focal point
-        transform.setBearing(bearing, focalPoint.x, focalPoint.y);
+        cameraBatcher.rotateBy(angle, focalPoint.x, focalPoint.y);
       } else {
         // around gesture
-        transform.setBearing(bearing, detector.getFocusX(), detector.getFocusY());
+        cameraBatcher.rotateBy(angle, detector.getFocusX(), detector.getFocusY());
       }
+      gestureRotation += angle;
+      kineticEngine.addRotationSample(detector.getEventTime(), gestureRotation);
       return true;
     }
 
     // Called when the fingers leave the screen
     @Override
     public void onRotateEnd(RotateGestureDetector detector) {
-      long interval = detector.getEventTime() - beginTime;
-      if ((!started && (interval <= ViewConfiguration.getTapTimeout())) || scaleAnimating || interval > 500) {
+      long time = detector.getEventTime();
+      long interval = time - beginTime;
+      if ((!started && (interval <= ViewConfiguration.getTapTimeout())) || kineticEngine.isZooming()) {
         reset();
         return;
       }
 
-      double angularVelocity = calculateVelocityVector(detector);
-      if (Math.abs(angularVelocity) > 0.001 && rotateGestureOccurred && !animating) {
-        animateRotateVelocity();
-      } else if (!animating) {
-        reset();
+      double velocity = kineticEngine.getRotationVelocity(time);
+      if (started && Math.abs(velocity) > ROTATE_VELOCITY_THRESHOLD) {
+        if (focalPoint != null) {
+          kineticEngine.startRotation(time, velocity, focalPoint.x, focalPoint.y);
+        } else {
+          kineticEngine.startRotation(time, velocity, detector.getFocusX(), detector.getFocusY());
+        }
       }
+      reset();
     }
 
     private void reset() {
       beginTime = 0;
       started = false;
-      animating = false;
       rotateGestureOccurred = false;
     }
-
-    private void animateRotateVelocity() {
-      animating = true;
-      double currentRotation = transform.getRawBearing();
-      double rotateAdditionDegrees = calculateVelocityInDegrees();
-      createAnimator(currentRotation, rotateAdditionDegrees).start();
-    }
-
-    private double calculateVelocityVector(RotateGestureDetector detector) {
-      return ((detector.getFocusX() * velocityTracker.getYVelocity())
-        + (detector.getFocusY() * velocityTracker.getXVelocity()))
-        / (Math.pow(detector.getFocusX(), 2) + Math.pow(detector.getFocusY(), 2));
-    }
-
-    private double calculateVelocityInDegrees() {
-      double angleRadians = Math.atan2(velocityTracker.getXVelocity(), velocityTracker.getYVelocity());
-      double angle = angleRadians / (Math.PI / 180);
-      if (angle <= 0) {
-        angle += 360;
-      }
-
-      // limit the angle
-      angle = angle / ROTATE_LIMITATION_ANGLE;
-
-      // correct direction
-      if (!wasClockwiseRotating) {
-        angle = -angle;
-      }
-
-      return angle;
-    }
-
-    private Animator createAnimator(double currentRotation, double rotateAdditionDegrees) {
-      ValueAnimator animator = ValueAnimator.ofFloat(
-        (float) currentRotation,
-        (float) (currentRotation + rotateAdditionDegrees)
-      );
-      animator.setDuration((long) (Math.abs(rotateAdditionDegrees) * ROTATE_LIMITATION_DURATION));
-      animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-        @Override
-        public void onAnimationUpdate(ValueAnimator animation) {
-          transform.setBearing((Float) animation.getAnimatedValue());
-        }
-      });
-      animator.addListener(new AnimatorListenerAdapter() {
-        @Override
-        public void onAnimationEnd(Animator animation) {
-          super.onAnimationEnd(animation);
-          reset();
-        }
-      });
-      return animator;
-    }
   }
 
   /**
@@ -809,26 +726,52 @@ final class MapGestureDetector {
       if (!tiltGestureOccurred && ((totalDelta > 10.0f) || (totalDelta < -10.0f))) {
         tiltGestureOccurred = true;
         beginTime = detector.getEventTime();
-        MapboxTelemetry.getInstance().pushEvent(MapboxEventWrapper.buildMapClickEvent(
-          getLocationFromGesture(detector.getFocusX(), detector.getFocusY()),
-          MapboxEvent.GESTURE_PITCH_START, transform));
+        recordGesture(TelemetryRecorder.GESTURE_PITCH_START, detector.getFocusX(), detector.getFocusY());
       }
 
       if (!tiltGestureOccurred) {
         return false;
       }
 
-      // Get tilt value (scale and clamp)
-      double pitch = transform.getTilt();
-      pitch -= 0.1 * detector.getShovePixelsDelta();
-      pitch = Math.max(MapboxConstants.MINIMUM_TILT, Math.min(MapboxConstants.MAXIMUM_TILT, pitch));
-
-      // Tilt the map
-      transform.setTilt(pitch);
+      // Tilt the map, scaled
+      cameraBatcher.tiltBy(-0.1 * detector.getShovePixelsDelta());
       return true;
     }
   }
 
+  /**
+   * Applies batched gesture deltas and the kinetic motion of released gestures to the map.
+   */
+  private class GestureTarget implements GestureCameraBatcher.Target, KineticGestureEngine.Target {
+
+    @Override
+    public void moveCameraBy(double dx, double dy, double zoom, double degrees, double tilt, float focalX,
+                             float focalY) {
+      // the tilt is clamped by the map
+      transform.moveCameraBy(dx, dy, zoom, degrees, tilt, focalX, focalY);
+    }
+
+    @Override
+    public void moveBy(double dx, double dy) {
+      transform.moveCameraBy(dx, dy, 0, 0, 0, -1, -1);
+    }
+
+    @Override
+    public void zoomBy(double zoom, float focalX, float focalY) {
+      transform.moveCameraBy(0, 0, zoom, 0, 0, focalX, focalY);
+    }
+
+    @Override
+    public void rotateBy(double degrees, float focalX, float focalY) {
+      transform.moveCameraBy(0, 0, 0, degrees, 0, focalX, focalY);
+    }
+
+    @Override
+    public void onKineticEnd() {
+      cameraChangeDispatcher.onCameraIdle();
+    }
+  }
+
   void setOnMapClickListener(MapboxMap.OnMapClickListener onMapClickListener) {
     this.onMapClickListener = onMapClickListener;
   }
@@ -28,6 +28,7 @@ import com.mapbox.mapboxsdk.annotations.Annotation;
 import com.mapbox.mapboxsdk.annotations.MarkerViewManager;
 import com.mapbox.mapboxsdk.constants.MapboxConstants;
 import com.mapbox.mapboxsdk.constants.Style;
+import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.renderer.MapRenderer;
 import com.mapbox.mapboxsdk.maps.renderer.glsurfaceview.GLSurfaceViewMapRenderer;
 import com.mapbox.mapboxsdk.maps.renderer.textureview.TextureViewMapRenderer;
@@ -43,13 +44,11 @@ import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 import javax.microedition.khronos.egl.EGLConfig;
 import javax.microedition.khronos.opengles.GL10;
 
-import timber.log.Timber;
-
 import static com.mapbox.mapboxsdk.maps.widgets.CompassView.TIME_MAP_NORTH_ANIMATION;
 import static com.mapbox.mapboxsdk.maps.widgets.CompassView.TIME_WAIT_IDLE;
 
@@ -86,7 +85,7 @@ public class MapView extends FrameLayout {
   private MapKeyListener mapKeyListener;
   private MapZoomButtonController mapZoomButtonController;
   private Bundle savedInstanceState;
-  private final CopyOnWriteArrayList<OnMapChangedListener> onMapChangedListeners = new CopyOnWriteArrayList<>();
+  private final MapChangeDispatcher mapChangeDispatcher = new MapChangeDispatcher();
 
   private MapRenderer mapRenderer;
 
@@ -199,10 +198,11 @@ public class MapView extends FrameLayout {
       cameraChangeDispatcher, getWidth(), getHeight());
     mapZoomButtonController.bind(uiSettings, zoomListener);
 
-    compassView.injectCompassAnimationListener(createCompassAnimationListener(cameraChangeDispatcher));
+    compassView.injectCompassAnimationListener(createCompassAnimationListener(transform, cameraChangeDispatcher));
     compassView.setOnClickListener(createCompassClickListener(cameraChangeDispatcher));
     // inject widgets with MapboxMap
     myLocationView.setMapboxMap(mapboxMap);
+    myLocationView.injectFollowCameraMoveListener(createFollowCameraMoveListener(transform));
     attrView.setOnClickListener(new AttributionDialogManager(context, mapboxMap));
 
     // Ensure this view is interactable
@@ -232,12 +232,12 @@ public class MapView extends FrameLayout {
     };
   }
 
-  private MapboxMap.OnCompassAnimationListener createCompassAnimationListener(final CameraChangeDispatcher
-                                                                                cameraChangeDispatcher) {
+  private MapboxMap.OnCompassAnimationListener createCompassAnimationListener(
+    final Transform transform, final CameraChangeDispatcher cameraChangeDispatcher) {
     return new MapboxMap.OnCompassAnimationListener() {
       @Override
       public void onCompassAnimation() {
-        cameraChangeDispatcher.onCameraMove();
+        cameraChangeDispatcher.onCameraMove(transform.getRawCameraPosition());
       }
 
       @Override
@@ -248,6 +248,20 @@ public class MapView extends FrameLayout {
     };
   }
 
+  private MapboxMap.OnFollowCameraMoveListener createFollowCameraMoveListener(final Transform transform) {
+    return new MapboxMap.OnFollowCameraMoveListener() {
+      @Override
+      public void onFollowCameraMove(@NonNull LatLng target, double bearing) {
+        transform.moveFollowCamera(target, bearing);
+      }
+
+      @Override
+      public void onFollowCameraMoveFinished() {
+        transform.finishFollowCamera();
+      }
+    };
+  }
+
   private OnClickListener createCompassClickListener(final CameraChangeDispatcher cameraChangeDispatcher) {
     return new OnClickListener() {
       @Override
@@ -579,13 +593,7 @@ public class MapView extends FrameLayout {
   //
 
   void onMapChange(int rawChange) {
-    for (MapView.OnMapChangedListener onMapChangedListener : onMapChangedListeners) {
-      try {
-        onMapChangedListener.onMapChanged(rawChange);
-      } catch (RuntimeException err) {
-        Timber.e(err, "Exception in MapView.OnMapChangedListener");
-      }
-    }
+    mapChangeDispatcher.dispatch(rawChange);
   }
 
   /**
@@ -599,10 +607,55 @@ public class MapView extends FrameLayout {
    */
   public void addOnMapChangedListener(@Nullable OnMapChangedListener listener) {
     if (listener != null) {
-      onMapChangedListeners.add(listener);
+      mapChangeDispatcher.addListener(listener);
+    }
+  }
+
+  /**
+   * <p>
+   * Add a callback that's invoked for a set of map change events only.
+   * </p>
+   * To remove the callback, use {@link MapView#removeOnMapChangedListener(OnMapChangedListener)}.
+   *
+   * @param listener The callback that's invoked for the events.
+   * @param changes  The {@link MapChange} events to invoke the callback for.
+   * @see MapView#removeOnMapChangedListener(OnMapChangedListener)
+   */
+  public void addOnMapChangedListener(@Nullable OnMapChangedListener listener, @MapChange int... changes) {
+    if (listener != null) {
+      mapChangeDispatcher.addListener(listener, changes);
     }
   }
 
+  /**
+   * <p>
+   * Add a callback that's invoked on an executor for a set of map change events, e.g. to process rendering events off
+   * the UI thread. Events are buffered up to a limit, events are dropped when the callback can't keep up.
+   * </p>
+   * To remove the callback, use {@link MapView#removeOnMapChangedListener(OnMapChangedListener)}.
+   *
+   * @param listener The callback that's invoked for the events.
+   * @param executor The executor to invoke the callback on.
+   * @param changes  The {@link MapChange} events to invoke the callback for.
+   * @see MapView#removeOnMapChangedListener(OnMapChangedListener)
+   */
+  public void addOnMapChangedListener(@Nullable OnMapChangedListener listener, @NonNull Executor executor,
+                                      @MapChange int... changes) {
+    if (listener != null) {
+      mapChangeDispatcher.addListener(listener, executor, changes);
+    }
+  }
+
+  /**
+   * Add a callback that's invoked for the next occurrence of a map change event only.
+   *
+   * @param change   The event to invoke the callback for.
+   * @param listener The callback that's invoked once.
+   */
+  void addOneShotOnMapChangedListener(@MapChange int change, @NonNull OnMapChangedListener listener) {
+    mapChangeDispatcher.addOneShotListener(change, listener);
+  }
+
   /**
    * Remove a callback added with {@link MapView#addOnMapChangedListener(OnMapChangedListener)}
    *
@@ -611,7 +664,7 @@ public class MapView extends FrameLayout {
    */
   public void removeOnMapChangedListener(@Nullable OnMapChangedListener listener) {
     if (listener != null) {
-      onMapChangedListeners.remove(listener);
+      mapChangeDispatcher.removeListener(listener);
     }
   }
 
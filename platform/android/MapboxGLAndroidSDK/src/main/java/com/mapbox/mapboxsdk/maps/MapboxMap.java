@@ -28,9 +28,12 @@ import com.mapbox.mapboxsdk.annotations.Polygon;
 import com.mapbox.mapboxsdk.annotations.PolygonOptions;
 import com.mapbox.mapboxsdk.annotations.Polyline;
 import com.mapbox.mapboxsdk.annotations.PolylineOptions;
+import com.mapbox.mapboxsdk.camera.CameraAnimationEngine;
+import com.mapbox.mapboxsdk.camera.CameraAnimator;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdate;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
+import com.mapbox.mapboxsdk.cluster.ClusterIndex;
 import com.mapbox.mapboxsdk.constants.MapboxConstants;
 import com.mapbox.mapboxsdk.constants.MyBearingTracking;
 import com.mapbox.mapboxsdk.constants.MyLocationTracking;
@@ -668,6 +671,33 @@ public final class MapboxMap {
     transform.cancelTransitions();
   }
 
+  /**
+   * Starts a camera animator in the camera animation engine of this map.
+   * <p>
+   * Animators are computed in Java and applied once per frame. Absolute animators take over the channels of animators
+   * already running, additive animators blend with them. Camera updates and gestures cancel running animators.
+   * </p>
+   *
+   * @param animator the animator to start
+   * @see com.mapbox.mapboxsdk.camera.EaseCameraAnimator
+   * @see com.mapbox.mapboxsdk.camera.SpringCameraAnimator
+   */
+  @UiThread
+  public void startCameraAnimator(@NonNull CameraAnimator animator) {
+    transform.getAnimationEngine().start(animator);
+  }
+
+  /**
+   * Get the camera animation engine of this map.
+   *
+   * @return the camera animation engine
+   */
+  @UiThread
+  @NonNull
+  public CameraAnimationEngine getCameraAnimationEngine() {
+    return transform.getAnimationEngine();
+  }
+
   /**
    * Gets the current position of the camera.
    * The CameraPosition returned is a snapshot of the current position, and will not automatically update when the
@@ -1018,6 +1048,26 @@ public final class MapboxMap {
     nativeMapView.cycleDebugOptions();
   }
 
+  /**
+   * Returns the amount of times the camera was read from the native map. The camera is read at most once per camera
+   * change, other reads use a snapshot of the current camera.
+   *
+   * @return the camera read count
+   * @see #getCameraSnapshotHitCount()
+   */
+  long getCameraReadCount() {
+    return nativeMapView.getCameraReadCount();
+  }
+
+  /**
+   * Returns the amount of camera reads answered from the snapshot of the current camera.
+   *
+   * @return the snapshot hit count
+   */
+  long getCameraSnapshotHitCount() {
+    return nativeMapView.getCameraSnapshotHitCount();
+  }
+
   //
   // API endpoint config
   //
@@ -1097,15 +1147,13 @@ public final class MapboxMap {
    */
   public void setStyleUrl(@NonNull final String url, @Nullable final OnStyleLoadedListener callback) {
     if (callback != null) {
-      nativeMapView.addOnMapChangedListener(new MapView.OnMapChangedListener() {
-        @Override
-        public void onMapChanged(@MapView.MapChange int change) {
-          if (change == MapView.DID_FINISH_LOADING_STYLE) {
+      nativeMapView.addOneShotOnMapChangedListener(MapView.DID_FINISH_LOADING_STYLE,
+        new MapView.OnMapChangedListener() {
+          @Override
+          public void onMapChanged(@MapView.MapChange int change) {
             callback.onStyleLoaded(url);
-            nativeMapView.removeOnMapChangedListener(this);
           }
-        }
-      });
+        });
     }
     nativeMapView.setStyleUrl(url);
   }
@@ -1310,6 +1358,43 @@ public final class MapboxMap {
     return annotationManager.addMarkers(markerOptionsList, this);
   }
 
+  /**
+   * Adds markers to this map clustered by proximity, replacing the markers clustered before.
+   * <p>
+   * Only the markers and clusters around the viewport are added to the map, a cluster is shown as a marker titled
+   * with the amount of markers in it. The clusters are updated when the camera moves.
+   * </p>
+   * <p>
+   * The cluster index is built before this method returns, on the UI thread. Its build time grows with the amount of
+   * markers and zoom levels, for large amounts of markers sort the index in parallel with
+   * {@link ClusterIndex.Options#withExecutor(java.util.concurrent.Executor)}, the UI thread still waits for the build.
+   * </p>
+   *
+   * @param markerOptionsList A list of marker options objects that defines how to render the markers
+   * @param options           the options of the clustering
+   */
+  public void addClusteredMarkers(@NonNull List<? extends BaseMarkerOptions> markerOptionsList,
+                                  @NonNull ClusterIndex.Options options) {
+    annotationManager.addClusteredMarkers(markerOptionsList, options, this);
+  }
+
+  /**
+   * Adds markers to this map clustered by proximity with the default options.
+   *
+   * @param markerOptionsList A list of marker options objects that defines how to render the markers
+   * @see #addClusteredMarkers(List, ClusterIndex.Options)
+   */
+  public void addClusteredMarkers(@NonNull List<? extends BaseMarkerOptions> markerOptionsList) {
+    addClusteredMarkers(markerOptionsList, new ClusterIndex.Options());
+  }
+
+  /**
+   * Removes the clustered markers and their clusters from this map.
+   */
+  public void removeClusteredMarkers() {
+    annotationManager.removeClusteredMarkers();
+  }
+
   /**
    * <p>
    * Updates a marker on this map. Does nothing if the marker isn't already added.
@@ -1352,6 +1437,18 @@ public final class MapboxMap {
     annotationManager.updatePolyline(polyline);
   }
 
+  /**
+   * Update a range of points of a polyline on this map, only the replaced points are sent to the map.
+   *
+   * @param polyline    An updated polyline object.
+   * @param start       the index of the first replaced point
+   * @param removeCount the amount of points removed
+   * @param insertCount the amount of points inserted
+   */
+  public void updatePolylinePoints(Polyline polyline, int start, int removeCount, int insertCount) {
+    annotationManager.updatePolylinePoints(polyline, start, removeCount, insertCount);
+  }
+
   /**
    * Adds a polygon to this map.
    *
@@ -1872,6 +1969,37 @@ public final class MapboxMap {
     cameraChangeDispatcher.addOnCameraMoveListener(listener);
   }
 
+  /**
+   * Adds a callback that is invoked when camera position changes, delivered according to a dispatch mode.
+   * <p>
+   * Use this for listeners doing expensive work, e.g. to invoke them once per frame or at a maximum rate. The
+   * dispatch collects timing statistics of the listener. Pending camera moves are delivered before the camera becomes
+   * idle.
+   * </p>
+   *
+   * @param listener the listener to notify
+   * @param dispatch the dispatch mode, a new instance for every listener
+   */
+  public void addOnCameraMoveListener(@NonNull OnCameraMoveListener listener, @NonNull CameraMoveDispatch dispatch) {
+    cameraChangeDispatcher.addOnCameraMoveListener(listener, dispatch);
+  }
+
+  /**
+   * Adds a callback that is invoked with the camera position when the camera position changes, delivered according
+   * to a dispatch mode.
+   * <p>
+   * With {@link CameraMoveDispatch#background(java.util.concurrent.Executor)} the listener is invoked on the executor
+   * and must not access the map, the camera position is a snapshot of the latest camera move.
+   * </p>
+   *
+   * @param listener the listener to notify
+   * @param dispatch the dispatch mode, a new instance for every listener
+   */
+  public void addOnCameraMoveSnapshotListener(@NonNull OnCameraMoveSnapshotListener listener,
+                                              @NonNull CameraMoveDispatch dispatch) {
+    cameraChangeDispatcher.addOnCameraMoveSnapshotListener(listener, dispatch);
+  }
+
   /**
    * Removes a callback that is invoked when camera position changes.
    *
@@ -1881,6 +2009,15 @@ public final class MapboxMap {
     cameraChangeDispatcher.removeOnCameraMoveListener(listener);
   }
 
+  /**
+   * Removes a callback that is invoked with the camera position when camera position changes.
+   *
+   * @param listener the listener to remove
+   */
+  public void removeOnCameraMoveSnapshotListener(@NonNull OnCameraMoveSnapshotListener listener) {
+    cameraChangeDispatcher.removeOnCameraMoveSnapshotListener(listener);
+  }
+
   /**
    * Sets a callback that's invoked on every frame rendered to the map view.
    *
@@ -2247,6 +2384,18 @@ public final class MapboxMap {
     void onCameraMove();
   }
 
+  /**
+   * Interface definition for a callback to be invoked with the camera position when the camera changes position.
+   */
+  public interface OnCameraMoveSnapshotListener {
+    /**
+     * Called as the camera continues to move, as often as the dispatch of the listener allows.
+     *
+     * @param cameraPosition the latest camera position
+     */
+    void onCameraMove(@NonNull CameraPosition cameraPosition);
+  }
+
   /**
    * Interface definition for a callback to be invoked for when the camera's motion has been stopped or when the camera
    * starts moving for a new reason.
@@ -2285,6 +2434,26 @@ public final class MapboxMap {
     void onCompassAnimationFinished();
   }
 
+  /**
+   * Interface definition for a callback to be invoked when the user location view moves the camera to follow the
+   * user location.
+   */
+  public interface OnFollowCameraMoveListener {
+    /**
+     * Called once per frame while the camera follows the user location. The move is instantaneous, only the first
+     * invocation notifies a camera move start.
+     *
+     * @param target  the camera target
+     * @param bearing the camera bearing, or -1 to keep the current bearing
+     */
+    void onFollowCameraMove(@NonNull LatLng target, double bearing);
+
+    /**
+     * Called when the camera stopped following the user location.
+     */
+    void onFollowCameraMoveFinished();
+  }
+
   /**
    * Interface definition for a callback to be invoked when a frame is rendered to the map view.
    *
@@ -0,0 +1,212 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.annotation.NonNull;
+import android.support.v4.util.LongSparseArray;
+
+import com.mapbox.mapboxsdk.annotations.Annotation;
+import com.mapbox.mapboxsdk.annotations.Icon;
+import com.mapbox.mapboxsdk.annotations.Marker;
+import com.mapbox.mapboxsdk.annotations.MarkerOptions;
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.cluster.Cluster;
+import com.mapbox.mapboxsdk.cluster.ClusterIndex;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.VisibleRegion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Clusters markers with a {@link ClusterIndex} and adds only the representatives of the clusters around the viewport
+ * to the map: the marker itself for a single point, a marker titled with the point count for a cluster.
+ * <p>
+ * The clusters are queried for the bounding box of the visible region, which accounts for bearing and tilt, expanded
+ * by its size on each side. They're only queried again when the integer zoom level changes or the visible region
+ * leaves the queried region. Representatives that remain are kept on the
+ * map, only the difference is added and removed.
+ * </p>
+ */
+final class MarkerClusterer {
+
+  private final NativeMapView nativeMapView;
+  private final LongSparseArray<Annotation> annotations;
+  private final IconManager iconManager;
+  private final ClusterIndex index;
+
+  private List<Marker> markers = new ArrayList<>();
+  private LongSparseArray<Marker> displayed = new LongSparseArray<>();
+  private int zoom = -1;
+  private double minX;
+  private double minY;
+  private double maxX;
+  private double maxY;
+
+  MarkerClusterer(NativeMapView nativeMapView, LongSparseArray<Annotation> annotations, IconManager iconManager,
+                  ClusterIndex index) {
+    this.nativeMapView = nativeMapView;
+    this.annotations = annotations;
+    this.iconManager = iconManager;
+    this.index = index;
+  }
+
+  /**
+   * Replaces the clustered markers.
+   *
+   * @param markers the prepared markers, not added to the map
+   */
+  void load(@NonNull List<Marker> markers) {
+    clear();
+    double[] coordinates = new double[markers.size() * 2];
+    for (int i = 0; i < markers.size(); i++) {
+      LatLng position = markers.get(i).getPosition();
+      coordinates[2 * i] = position.getLatitude();
+      coordinates[2 * i + 1] = position.getLongitude();
+    }
+    index.load(coordinates, markers.size());
+    this.markers = new ArrayList<>(markers);
+  }
+
+  /**
+   * Removes the clustered markers and their representatives from the map.
+   */
+  void clear() {
+    long[] ids = new long[displayed.size()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = displayed.valueAt(i).getId();
+      annotations.remove(ids[i]);
+    }
+    if (ids.length > 0) {
+      nativeMapView.removeAnnotations(ids);
+    }
+    displayed.clear();
+    markers = new ArrayList<>();
+    index.load(new double[0], 0);
+    zoom = -1;
+  }
+
+  /**
+   * Updates the representatives on the map for the current camera.
+   *
+   * @param mapboxMap the map the representatives are added to
+   */
+  void update(@NonNull MapboxMap mapboxMap) {
+    if (markers.isEmpty()) {
+      return;
+    }
+
+    CameraPosition cameraPosition = nativeMapView.getCameraPosition();
+    if (cameraPosition.target == null) {
+      return;
+    }
+
+    // bounding box of the visible region in projected coordinates from 0 to 1, a rotated rectangle or a trapezoid
+    VisibleRegion region = mapboxMap.getProjection().getVisibleRegion();
+    double targetLongitude = cameraPosition.target.getLongitude();
+    double viewMinX = Double.POSITIVE_INFINITY;
+    double viewMinY = Double.POSITIVE_INFINITY;
+    double viewMaxX = Double.NEGATIVE_INFINITY;
+    double viewMaxY = Double.NEGATIVE_INFINITY;
+    for (LatLng corner : new LatLng[] {region.farLeft, region.farRight, region.nearLeft, region.nearRight}) {
+      double x = lngX(unwrap(corner.getLongitude(), targetLongitude));
+      double y = latY(corner.getLatitude());
+      viewMinX = Math.min(viewMinX, x);
+      viewMaxX = Math.max(viewMaxX, x);
+      viewMinY = Math.min(viewMinY, y);
+      viewMaxY = Math.max(viewMaxY, y);
+    }
+
+    int zoom = (int) Math.floor(cameraPosition.zoom);
+    if (zoom == this.zoom && viewMinX >= minX && viewMaxX <= maxX && viewMinY >= minY && viewMaxY <= maxY) {
+      return;
+    }
+
+    this.zoom = zoom;
+    double width = viewMaxX - viewMinX;
+    double height = viewMaxY - viewMinY;
+    minX = viewMinX - width;
+    maxX = viewMaxX + width;
+    minY = viewMinY - height;
+    maxY = viewMaxY + height;
+    List<Cluster> clusters = index.getClusters(xLng(minX), yLat(maxY), xLng(maxX), yLat(minY), zoom);
+    show(clusters, mapboxMap);
+  }
+
+  int getDisplayedCount() {
+    return displayed.size();
+  }
+
+  private void show(List<Cluster> clusters, MapboxMap mapboxMap) {
+    LongSparseArray<Marker> next = new LongSparseArray<>(clusters.size());
+    List<Marker> added = new ArrayList<>();
+    for (Cluster cluster : clusters) {
+      Marker marker = displayed.get(cluster.getId());
+      if (marker != null) {
+        displayed.remove(cluster.getId());
+      } else {
+        marker = cluster.isCluster() ? createClusterMarker(cluster) : markers.get(cluster.getId());
+        added.add(marker);
+      }
+      next.put(cluster.getId(), marker);
+    }
+
+    // the representatives left over are out of the region or merged into other clusters
+    long[] removed = new long[displayed.size()];
+    for (int i = 0; i < removed.length; i++) {
+      removed[i] = displayed.valueAt(i).getId();
+      annotations.remove(removed[i]);
+    }
+    if (removed.length > 0) {
+      nativeMapView.removeAnnotations(removed);
+    }
+
+    if (!added.isEmpty()) {
+      long[] ids = nativeMapView.addMarkers(added);
+      for (int i = 0; i < ids.length; i++) {
+        Marker marker = added.get(i);
+        marker.setMapboxMap(mapboxMap);
+        marker.setId(ids[i]);
+        annotations.put(ids[i], marker);
+      }
+    }
+    displayed = next;
+  }
+
+  private Marker createClusterMarker(Cluster cluster) {
+    Marker marker = new MarkerOptions()
+      .position(new LatLng(cluster.getLatitude(), cluster.getLongitude()))
+      .title(String.valueOf(cluster.getPointCount()))
+      .getMarker();
+    Icon icon = iconManager.loadIconForMarker(marker);
+    marker.setTopOffsetPixels(iconManager.getTopOffsetPixelsForIcon(icon));
+    return marker;
+  }
+
+  // the longitude of a corner on the same side of the antimeridian as the camera target
+  private static double unwrap(double longitude, double targetLongitude) {
+    while (longitude - targetLongitude > 180) {
+      longitude -= 360;
+    }
+    while (longitude - targetLongitude < -180) {
+      longitude += 360;
+    }
+    return longitude;
+  }
+
+  private static double lngX(double longitude) {
+    return longitude / 360 + 0.5;
+  }
+
+  private static double latY(double latitude) {
+    double sin = Math.sin(Math.toRadians(latitude));
+    return 0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI;
+  }
+
+  private static double xLng(double x) {
+    return (x - 0.5) * 360;
+  }
+
+  private static double yLat(double y) {
+    double clamped = Math.max(0, Math.min(1, y));
+    return 360 * Math.atan(Math.exp((180 - clamped * 360) * Math.PI / 180)) / Math.PI - 90;
+  }
+}
@@ -14,6 +14,7 @@ import com.mapbox.mapboxsdk.annotations.IconFactory;
 import com.mapbox.mapboxsdk.annotations.Marker;
 import com.mapbox.mapboxsdk.annotations.MarkerView;
 import com.mapbox.mapboxsdk.annotations.MarkerViewManager;
+import com.mapbox.mapboxsdk.cluster.ClusterIndex;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +29,7 @@ class MarkerContainer implements Markers {
   private final LongSparseArray<Annotation> annotations;
   private final IconManager iconManager;
   private final MarkerViewManager markerViewManager;
+  private MarkerClusterer clusterer;
 
   MarkerContainer(NativeMapView nativeMapView, MapView mapView, LongSparseArray<Annotation> annotations, IconManager
     iconManager, MarkerViewManager markerViewManager) {
@@ -203,6 +205,37 @@ class MarkerContainer implements Markers {
     }
   }
 
+  @Override
+  public void addClusteredBy(@NonNull List<? extends BaseMarkerOptions> markerOptionsList,
+                             @NonNull ClusterIndex.Options options, @NonNull MapboxMap mapboxMap) {
+    if (nativeMapView == null) {
+      return;
+    }
+    removeClustered();
+    List<Marker> markers = new ArrayList<>(markerOptionsList.size());
+    for (int i = 0; i < markerOptionsList.size(); i++) {
+      markers.add(prepareMarker(markerOptionsList.get(i)));
+    }
+    clusterer = new MarkerClusterer(nativeMapView, annotations, iconManager, new ClusterIndex(options));
+    clusterer.load(markers);
+    clusterer.update(mapboxMap);
+  }
+
+  @Override
+  public void removeClustered() {
+    if (clusterer != null) {
+      clusterer.clear();
+      clusterer = null;
+    }
+  }
+
+  @Override
+  public void updateClusters(@NonNull MapboxMap mapboxMap) {
+    if (clusterer != null) {
+      clusterer.update(mapboxMap);
+    }
+  }
+
   private Marker prepareMarker(BaseMarkerOptions markerOptions) {
     Marker marker = markerOptions.getMarker();
     Icon icon = iconManager.loadIconForMarker(marker);
@@ -10,6 +10,7 @@ import com.mapbox.mapboxsdk.annotations.BaseMarkerViewOptions;
 import com.mapbox.mapboxsdk.annotations.Marker;
 import com.mapbox.mapboxsdk.annotations.MarkerView;
 import com.mapbox.mapboxsdk.annotations.MarkerViewManager;
+import com.mapbox.mapboxsdk.cluster.ClusterIndex;
 
 import java.util.List;
 
@@ -36,4 +37,11 @@ interface Markers {
   List<MarkerView> obtainViewsIn(@NonNull RectF rectangle);
 
   void reload();
+
+  void addClusteredBy(@NonNull List<? extends BaseMarkerOptions> markerOptionsList,
+                      @NonNull ClusterIndex.Options options, @NonNull MapboxMap mapboxMap);
+
+  void removeClustered();
+
+  void updateClusters(@NonNull MapboxMap mapboxMap);
 }
@@ -65,6 +65,14 @@ final class NativeMapView {
   // Listener invoked to return a bitmap of the map
   private MapboxMap.SnapshotReadyCallback snapshotReadyCallback;
 
+  // Camera read from core once per change
+  private final CameraSnapshot cameraSnapshot = new CameraSnapshot(new CameraSnapshot.CameraSource() {
+    @Override
+    public CameraPosition readCameraPosition() {
+      return nativeGetCameraPosition();
+    }
+  });
+
   static {
     LibraryLoader.load();
   }
@@ -141,6 +149,7 @@ final class NativeMapView {
       height = 65535;
     }
 
+    cameraSnapshot.invalidate();
     nativeResizeView(width, height);
   }
 
@@ -176,6 +185,7 @@ final class NativeMapView {
     if (isDestroyedOn("setLatLngBounds")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeSetLatLngBounds(latLngBounds);
   }
 
@@ -183,6 +193,7 @@ final class NativeMapView {
     if (isDestroyedOn("cancelTransitions")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeCancelTransitions();
   }
 
@@ -204,6 +215,7 @@ final class NativeMapView {
     if (isDestroyedOn("moveBy")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeMoveBy(dx / pixelRatio, dy / pixelRatio, duration);
   }
 
@@ -218,6 +230,7 @@ final class NativeMapView {
     if (isDestroyedOn("setLatLng")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeSetLatLng(latLng.getLatitude(), latLng.getLongitude(), duration);
   }
 
@@ -225,8 +238,8 @@ final class NativeMapView {
     if (isDestroyedOn("")) {
       return new LatLng();
     }
-    // wrap longitude values coming from core
-    return nativeGetLatLng().wrap();
+    // longitude values coming from core are wrapped
+    return new LatLng(cameraSnapshot.get().target);
   }
 
   public CameraPosition getCameraForLatLngBounds(LatLngBounds latLngBounds) {
@@ -247,6 +260,7 @@ final class NativeMapView {
     if (isDestroyedOn("resetPosition")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeResetPosition();
   }
 
@@ -254,13 +268,14 @@ final class NativeMapView {
     if (isDestroyedOn("getPitch")) {
       return 0;
     }
-    return nativeGetPitch();
+    return cameraSnapshot.get().tilt;
   }
 
   public void setPitch(double pitch, long duration) {
     if (isDestroyedOn("setPitch")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeSetPitch(pitch, duration);
   }
 
@@ -268,6 +283,7 @@ final class NativeMapView {
     if (isDestroyedOn("setZoom")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeSetZoom(zoom, focalPoint.x / pixelRatio, focalPoint.y / pixelRatio, duration);
   }
 
@@ -275,13 +291,14 @@ final class NativeMapView {
     if (isDestroyedOn("getZoom")) {
       return 0;
     }
-    return nativeGetZoom();
+    return cameraSnapshot.get().zoom;
   }
 
   public void resetZoom() {
     if (isDestroyedOn("resetZoom")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeResetZoom();
   }
 
@@ -289,6 +306,7 @@ final class NativeMapView {
     if (isDestroyedOn("setMinZoom")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeSetMinZoom(zoom);
   }
 
@@ -303,6 +321,7 @@ final class NativeMapView {
     if (isDestroyedOn("setMaxZoom")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeSetMaxZoom(zoom);
   }
 
@@ -325,6 +344,7 @@ final class NativeMapView {
     if (isDestroyedOn("rotateBy")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeRotateBy(sx / pixelRatio, sy / pixelRatio, ex, ey, duration);
   }
 
@@ -332,6 +352,7 @@ final class NativeMapView {
     if (isDestroyedOn("setContentPadding")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeSetContentPadding(
       padding[1] / pixelRatio,
       padding[0] / pixelRatio,
@@ -350,6 +371,7 @@ final class NativeMapView {
     if (isDestroyedOn("setBearing")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeSetBearing(degrees, duration);
   }
 
@@ -364,6 +386,7 @@ final class NativeMapView {
     if (isDestroyedOn("setBearing")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeSetBearingXY(degrees, fx / pixelRatio, fy / pixelRatio, duration);
   }
 
@@ -371,13 +394,16 @@ final class NativeMapView {
     if (isDestroyedOn("getBearing")) {
       return 0;
     }
-    return nativeGetBearing();
+    // core reports the bearing from -180 to 180 degrees
+    double bearing = cameraSnapshot.get().bearing;
+    return bearing > 180 ? bearing - 360 : bearing;
   }
 
   public void resetNorth() {
     if (isDestroyedOn("resetNorth")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeResetNorth();
   }
 
@@ -449,6 +475,13 @@ final class NativeMapView {
     nativeUpdatePolyline(polyline.getId(), polyline);
   }
 
+  public void updatePolylinePoints(Polyline polyline, int start, int removeCount, int insertCount) {
+    if (isDestroyedOn("updatePolylinePoints")) {
+      return;
+    }
+    nativeUpdatePolylinePoints(polyline.getId(), polyline, start, removeCount, insertCount);
+  }
+
   public void removeAnnotation(long id) {
     if (isDestroyedOn("removeAnnotation")) {
       return;
@@ -496,6 +529,7 @@ final class NativeMapView {
     if (isDestroyedOn("setVisibleCoordinateBounds")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeSetVisibleCoordinateBounds(coordinates, padding, direction, duration);
   }
 
@@ -590,14 +624,37 @@ final class NativeMapView {
     if (isDestroyedOn("jumpTo")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeJumpTo(angle, center.getLatitude(), center.getLongitude(), pitch, zoom);
   }
 
+  /**
+   * Moves the camera by the deltas of gestures with a single camera change.
+   *
+   * @param dx      the horizontal pan in pixels
+   * @param dy      the vertical pan in pixels
+   * @param zoom    the zoom delta
+   * @param bearing the bearing delta in degrees
+   * @param pitch   the pitch delta in degrees
+   * @param focalX  the horizontal position to zoom, rotate and tilt around, or -1 for the center of the content padding
+   * @param focalY  the vertical position to zoom, rotate and tilt around, or -1 for the center of the content padding
+   */
+  public void moveCameraBy(double dx, double dy, double zoom, double bearing, double pitch, float focalX,
+                           float focalY) {
+    if (isDestroyedOn("moveCameraBy")) {
+      return;
+    }
+    cameraSnapshot.invalidate();
+    nativeMoveCameraBy(dx / pixelRatio, dy / pixelRatio, zoom, bearing, pitch,
+      focalX < 0 ? -1 : focalX / pixelRatio, focalY < 0 ? -1 : focalY / pixelRatio);
+  }
+
   public void easeTo(double angle, LatLng center, long duration, double pitch, double zoom,
                      boolean easingInterpolator) {
     if (isDestroyedOn("easeTo")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeEaseTo(angle, center.getLatitude(), center.getLongitude(), duration, pitch, zoom,
       easingInterpolator);
   }
@@ -606,6 +663,7 @@ final class NativeMapView {
     if (isDestroyedOn("flyTo")) {
       return;
     }
+    cameraSnapshot.invalidate();
     nativeFlyTo(angle, center.getLatitude(), center.getLongitude(), duration, pitch, zoom);
   }
 
@@ -613,7 +671,38 @@ final class NativeMapView {
     if (isDestroyedOn("getCameraValues")) {
       return new CameraPosition.Builder().build();
     }
-    return nativeGetCameraPosition();
+    return cameraSnapshot.copy();
+  }
+
+  /**
+   * Returns the shared camera snapshot, for reading the values of the camera without a copy. It must not be handed
+   * out or modified.
+   *
+   * @return the snapshot of the current camera, null once destroyed
+   */
+  CameraPosition getCameraSnapshot() {
+    if (isDestroyedOn("getCameraSnapshot")) {
+      return null;
+    }
+    return cameraSnapshot.get();
+  }
+
+  /**
+   * Get the amount of times the camera was read from core.
+   *
+   * @return the camera read count
+   */
+  long getCameraReadCount() {
+    return cameraSnapshot.getReadCount();
+  }
+
+  /**
+   * Get the amount of camera reads answered from the snapshot of the current camera.
+   *
+   * @return the snapshot hit count
+   */
+  long getCameraSnapshotHitCount() {
+    return cameraSnapshot.getHitCount();
   }
 
   public void setPrefetchesTiles(boolean enable) {
@@ -859,6 +948,7 @@ final class NativeMapView {
   //
 
   protected void onMapChanged(int rawChange) {
+    cameraSnapshot.onMapChanged(rawChange);
     if (mapView != null) {
       mapView.onMapChange(rawChange);
     }
@@ -991,6 +1081,9 @@ final class NativeMapView {
 
   private native void nativeJumpTo(double angle, double latitude, double longitude, double pitch, double zoom);
 
+  private native void nativeMoveCameraBy(double dx, double dy, double zoom, double bearing, double pitch,
+                                         double focalX, double focalY);
+
   private native void nativeEaseTo(double angle, double latitude, double longitude,
                                    long duration, double pitch, double zoom,
                                    boolean easingInterpolator);
@@ -1045,6 +1138,9 @@ final class NativeMapView {
 
   private native void nativeUpdatePolyline(long polylineId, Polyline polyline);
 
+  private native void nativeUpdatePolylinePoints(long polylineId, Polyline polyline, int start, int removeCount,
+                                                 int insertCount);
+
   private native void nativeTakeSnapshot();
 
   private native Feature[] nativeQueryRenderedFeaturesForPoint(float x, float y,
@@ -1086,6 +1182,12 @@ final class NativeMapView {
     }
   }
 
+  void addOneShotOnMapChangedListener(@MapView.MapChange int change, @NonNull MapView.OnMapChangedListener listener) {
+    if (mapView != null) {
+      mapView.addOneShotOnMapChangedListener(change, listener);
+    }
+  }
+
   void removeOnMapChangedListener(@NonNull MapView.OnMapChangedListener listener) {
     mapView.removeOnMapChangedListener(listener);
   }
@@ -7,6 +7,7 @@ import android.support.v4.util.LongSparseArray;
 import com.mapbox.mapboxsdk.annotations.Annotation;
 import com.mapbox.mapboxsdk.annotations.Polygon;
 import com.mapbox.mapboxsdk.annotations.PolygonOptions;
+import com.mapbox.mapboxsdk.geometry.LatLng;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,6 +19,7 @@ class PolygonContainer implements Polygons {
 
   private final NativeMapView nativeMapView;
   private final LongSparseArray<Annotation> annotations;
+  private ShapeSimplifier<Polygon> simplifier;
 
   PolygonContainer(NativeMapView nativeMapView, LongSparseArray<Annotation> annotations) {
     this.nativeMapView = nativeMapView;
@@ -27,11 +29,12 @@ class PolygonContainer implements Polygons {
   @Override
   public Polygon addBy(@NonNull PolygonOptions polygonOptions, @NonNull MapboxMap mapboxMap) {
     Polygon polygon = polygonOptions.getPolygon();
-    if (!polygon.getPoints().isEmpty()) {
-      long id = nativeMapView != null ? nativeMapView.addPolygon(polygon) : 0;
+    if (polygon.getPointCount() > 0) {
+      long id = nativeMapView != null ? nativeMapView.addPolygon(toNative(polygonOptions)) : 0;
       polygon.setId(id);
       polygon.setMapboxMap(mapboxMap);
       annotations.put(id, polygon);
+      simplify(polygonOptions);
     }
     return polygon;
   }
@@ -43,19 +46,24 @@ class PolygonContainer implements Polygons {
     Polygon polygon;
     List<Polygon> polygons = new ArrayList<>(count);
     if (nativeMapView != null && count > 0) {
+      List<PolygonOptions> added = new ArrayList<>(count);
+      List<Polygon> nativePolygons = new ArrayList<>(count);
       for (PolygonOptions polygonOptions : polygonOptionsList) {
         polygon = polygonOptions.getPolygon();
-        if (!polygon.getPoints().isEmpty()) {
+        if (polygon.getPointCount() > 0) {
           polygons.add(polygon);
+          added.add(polygonOptions);
+          nativePolygons.add(toNative(polygonOptions));
         }
       }
 
-      long[] ids = nativeMapView.addPolygons(polygons);
+      long[] ids = nativeMapView.addPolygons(nativePolygons);
       for (int i = 0; i < ids.length; i++) {
         polygon = polygons.get(i);
         polygon.setMapboxMap(mapboxMap);
         polygon.setId(ids[i]);
         annotations.put(ids[i], polygon);
+        simplify(added.get(i));
       }
     }
     return polygons;
@@ -63,7 +71,11 @@ class PolygonContainer implements Polygons {
 
   @Override
   public void update(Polygon polygon) {
-    nativeMapView.updatePolygon(polygon);
+    if (simplifier != null && simplifier.isSimplified(polygon)) {
+      simplifier.update(polygon);
+    } else {
+      nativeMapView.updatePolygon(polygon);
+    }
     annotations.setValueAt(annotations.indexOfKey(polygon.getId()), polygon);
   }
 
@@ -79,4 +91,76 @@ class PolygonContainer implements Polygons {
     }
     return polygons;
   }
+
+  @Override
+  public void updateSimplified() {
+    if (simplifier != null) {
+      simplifier.setZoom(nativeMapView.getCameraPosition().zoom);
+    }
+  }
+
+  @Override
+  public void removeSimplified(long id) {
+    if (simplifier != null) {
+      simplifier.remove(id);
+    }
+  }
+
+  @Override
+  public void removeAllSimplified() {
+    if (simplifier != null) {
+      simplifier.removeAll();
+    }
+  }
+
+  private Polygon toNative(PolygonOptions options) {
+    Polygon polygon = options.getPolygon();
+    if (!options.isSimplified()) {
+      return polygon;
+    }
+    return copy(polygon, ShapeSimplifier.preview(getRings(polygon)));
+  }
+
+  private void simplify(PolygonOptions options) {
+    if (nativeMapView == null || !options.isSimplified()) {
+      return;
+    }
+    if (simplifier == null) {
+      simplifier = new ShapeSimplifier<>(new ShapeSimplifier.Adapter<Polygon>() {
+        @Override
+        public List<List<LatLng>> getRings(Polygon polygon) {
+          return PolygonContainer.getRings(polygon);
+        }
+
+        @Override
+        public void render(Polygon polygon, List<List<LatLng>> rings) {
+          nativeMapView.updatePolygon(copy(polygon, rings));
+        }
+      }, annotations);
+    }
+    simplifier.simplify(options.getPolygon(), options.getSimplificationMethod(), options.getSimplificationTolerance());
+  }
+
+  private static List<List<LatLng>> getRings(Polygon polygon) {
+    List<List<LatLng>> holes = polygon.getHoles();
+    List<List<LatLng>> rings = new ArrayList<>(holes.size() + 1);
+    rings.add(polygon.getPoints());
+    rings.addAll(holes);
+    return rings;
+  }
+
+  /**
+   * Copies a polygon with other rings, the copy is sent to the map in place of the polygon.
+   */
+  private static Polygon copy(Polygon polygon, List<List<LatLng>> rings) {
+    Polygon copy = new PolygonOptions()
+      .addAll(rings.get(0))
+      .addAllHoles(rings.subList(1, rings.size()))
+      .alpha(polygon.getAlpha())
+      .fillColor(polygon.getFillColor())
+      .strokeColor(polygon.getStrokeColor())
+      .getPolygon();
+    copy.setId(polygon.getId());
+    return copy;
+  }
 }
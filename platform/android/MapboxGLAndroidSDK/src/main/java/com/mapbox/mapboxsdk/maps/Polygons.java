@@ -19,4 +19,10 @@ interface Polygons {
   void update(Polygon polygon);
 
   List<Polygon> obtainAll();
+
+  void updateSimplified();
+
+  void removeSimplified(long id);
+
+  void removeAllSimplified();
 }
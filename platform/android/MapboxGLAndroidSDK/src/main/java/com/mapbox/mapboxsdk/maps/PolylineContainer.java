@@ -7,8 +7,10 @@ import android.support.v4.util.LongSparseArray;
 import com.mapbox.mapboxsdk.annotations.Annotation;
 import com.mapbox.mapboxsdk.annotations.Polyline;
 import com.mapbox.mapboxsdk.annotations.PolylineOptions;
+import com.mapbox.mapboxsdk.geometry.LatLng;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -18,6 +20,7 @@ class PolylineContainer implements Polylines {
 
   private final NativeMapView nativeMapView;
   private final LongSparseArray<Annotation> annotations;
+  private ShapeSimplifier<Polyline> simplifier;
 
   PolylineContainer(NativeMapView nativeMapView, LongSparseArray<Annotation> annotations) {
     this.nativeMapView = nativeMapView;
@@ -27,11 +30,12 @@ class PolylineContainer implements Polylines {
   @Override
   public Polyline addBy(@NonNull PolylineOptions polylineOptions, @NonNull MapboxMap mapboxMap) {
     Polyline polyline = polylineOptions.getPolyline();
-    if (!polyline.getPoints().isEmpty()) {
-      long id = nativeMapView != null ? nativeMapView.addPolyline(polyline) : 0;
+    if (polyline.getPointCount() > 0) {
+      long id = nativeMapView != null ? nativeMapView.addPolyline(toNative(polylineOptions)) : 0;
       polyline.setMapboxMap(mapboxMap);
       polyline.setId(id);
       annotations.put(id, polyline);
+      simplify(polylineOptions);
     }
     return polyline;
   }
@@ -42,19 +46,24 @@ class PolylineContainer implements Polylines {
     Polyline polyline;
     List<Polyline> polylines = new ArrayList<>(count);
     if (nativeMapView != null && count > 0) {
+      List<PolylineOptions> added = new ArrayList<>(count);
+      List<Polyline> nativePolylines = new ArrayList<>(count);
       for (PolylineOptions options : polylineOptionsList) {
         polyline = options.getPolyline();
-        if (!polyline.getPoints().isEmpty()) {
+        if (polyline.getPointCount() > 0) {
           polylines.add(polyline);
+          added.add(options);
+          nativePolylines.add(toNative(options));
         }
       }
 
-      long[] ids = nativeMapView.addPolylines(polylines);
+      long[] ids = nativeMapView.addPolylines(nativePolylines);
       for (int i = 0; i < ids.length; i++) {
         Polyline polylineCreated = polylines.get(i);
         polylineCreated.setMapboxMap(mapboxMap);
         polylineCreated.setId(ids[i]);
         annotations.put(ids[i], polylineCreated);
+        simplify(added.get(i));
       }
     }
     return polylines;
@@ -62,10 +71,23 @@ class PolylineContainer implements Polylines {
 
   @Override
   public void update(Polyline polyline) {
-    nativeMapView.updatePolyline(polyline);
+    if (simplifier != null && simplifier.isSimplified(polyline)) {
+      simplifier.update(polyline);
+    } else {
+      nativeMapView.updatePolyline(polyline);
+    }
     annotations.setValueAt(annotations.indexOfKey(polyline.getId()), polyline);
   }
 
+  @Override
+  public void updatePoints(Polyline polyline, int start, int removeCount, int insertCount) {
+    if (simplifier != null && simplifier.isSimplified(polyline)) {
+      simplifier.update(polyline);
+    } else {
+      nativeMapView.updatePolylinePoints(polyline, start, removeCount, insertCount);
+    }
+  }
+
   @Override
   public List<Polyline> obtainAll() {
     List<Polyline> polylines = new ArrayList<>();
@@ -78,4 +100,68 @@ class PolylineContainer implements Polylines {
     }
     return polylines;
   }
+
+  @Override
+  public void updateSimplified() {
+    if (simplifier != null) {
+      simplifier.setZoom(nativeMapView.getCameraPosition().zoom);
+    }
+  }
+
+  @Override
+  public void removeSimplified(long id) {
+    if (simplifier != null) {
+      simplifier.remove(id);
+    }
+  }
+
+  @Override
+  public void removeAllSimplified() {
+    if (simplifier != null) {
+      simplifier.removeAll();
+    }
+  }
+
+  private Polyline toNative(PolylineOptions options) {
+    Polyline polyline = options.getPolyline();
+    if (!options.isSimplified()) {
+      return polyline;
+    }
+    return copy(polyline, Collections.singletonList(ShapeSimplifier.preview(polyline)));
+  }
+
+  private void simplify(PolylineOptions options) {
+    if (nativeMapView == null || !options.isSimplified()) {
+      return;
+    }
+    if (simplifier == null) {
+      simplifier = new ShapeSimplifier<>(new ShapeSimplifier.Adapter<Polyline>() {
+        @Override
+        public List<List<LatLng>> getRings(Polyline polyline) {
+          return Collections.singletonList(polyline.getPoints());
+        }
+
+        @Override
+        public void render(Polyline polyline, List<List<LatLng>> rings) {
+          nativeMapView.updatePolyline(copy(polyline, rings));
+        }
+      }, annotations);
+    }
+    simplifier.simplify(options.getPolyline(), options.getSimplificationMethod(),
+      options.getSimplificationTolerance());
+  }
+
+  /**
+   * Copies a polyline with other vertices, the copy is sent to the map in place of the polyline.
+   */
+  private static Polyline copy(Polyline polyline, List<List<LatLng>> rings) {
+    Polyline copy = new PolylineOptions()
+      .addAll(rings.get(0))
+      .alpha(polyline.getAlpha())
+      .color(polyline.getColor())
+      .width(polyline.getWidth())
+      .getPolyline();
+    copy.setId(polyline.getId());
+    return copy;
+  }
 }
@@ -18,5 +18,13 @@ interface Polylines {
 
   void update(Polyline polyline);
 
+  void updatePoints(Polyline polyline, int start, int removeCount, int insertCount);
+
   List<Polyline> obtainAll();
+
+  void updateSimplified();
+
+  void removeSimplified(long id);
+
+  void removeAllSimplified();
 }
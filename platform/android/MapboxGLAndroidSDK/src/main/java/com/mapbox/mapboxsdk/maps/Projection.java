@@ -18,6 +18,7 @@ public class Projection {
 
   private final NativeMapView nativeMapView;
   private int[] contentPadding;
+  private final int[] mapPadding = new int[4];
 
   Projection(@NonNull NativeMapView nativeMapView) {
     this.nativeMapView = nativeMapView;
@@ -35,12 +36,23 @@ public class Projection {
     };
 
     nativeMapView.setContentPadding(padding);
+    System.arraycopy(padding, 0, mapPadding, 0, mapPadding.length);
   }
 
   int[] getContentPadding() {
     return contentPadding;
   }
 
+  /**
+   * Returns the padding of the native map, the content padding and the padding of the user location view. The camera
+   * target is at the center of the padded area.
+   *
+   * @return the left, top, right and bottom padding in pixels, must not be modified
+   */
+  int[] getMapPadding() {
+    return mapPadding;
+  }
+
   public void invalidateContentPadding(int[] userLocationViewPadding) {
     setContentPadding(contentPadding, userLocationViewPadding);
   }
@@ -0,0 +1,281 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.v4.util.LongSparseArray;
+
+import com.mapbox.mapboxsdk.annotations.Annotation;
+import com.mapbox.mapboxsdk.annotations.BasePointCollection;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.SimplifiedLine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Simplifies polylines and polygons for the zoom level of the map.
+ * <p>
+ * A shape is added to the map with a preview, an evenly sampled subset of its vertices. Its rings are simplified
+ * into a {@link SimplifiedLine} on a worker thread, afterwards the map receives the variant of the current integer
+ * zoom level, and a new variant when the integer zoom level changes. The shape itself keeps all its vertices.
+ * </p>
+ *
+ * @param <T> the type of shape
+ */
+final class ShapeSimplifier<T extends BasePointCollection> {
+
+  static final int PREVIEW_POINT_COUNT = 1024;
+
+  /**
+   * Reads the rings of a shape and renders a shape with other rings.
+   *
+   * @param <T> the type of shape
+   */
+  interface Adapter<T> {
+
+    /**
+     * @param shape the shape
+     * @return the rings of the shape, the outline first
+     */
+    List<List<LatLng>> getRings(T shape);
+
+    /**
+     * Updates the shape on the map with the attributes of the shape and other rings.
+     *
+     * @param shape the shape
+     * @param rings the rings to render
+     */
+    void render(T shape, List<List<LatLng>> rings);
+  }
+
+  private final Adapter<T> adapter;
+  private final LongSparseArray<Annotation> annotations;
+  private final Executor worker;
+  private final Executor mainThread;
+  private final LongSparseArray<Entry<T>> entries = new LongSparseArray<>();
+  private int zoom;
+
+  ShapeSimplifier(Adapter<T> adapter, LongSparseArray<Annotation> annotations) {
+    this(adapter, annotations, WorkerHolder.WORKER, new MainThreadExecutor());
+  }
+
+  ShapeSimplifier(Adapter<T> adapter, LongSparseArray<Annotation> annotations, Executor worker, Executor mainThread) {
+    this.adapter = adapter;
+    this.annotations = annotations;
+    this.worker = worker;
+    this.mainThread = mainThread;
+  }
+
+  /**
+   * Evenly samples rings, keeping their first and last vertex.
+   *
+   * @param rings the rings to sample
+   * @return the rings with at most {@link #PREVIEW_POINT_COUNT} vertices each
+   */
+  static List<List<LatLng>> preview(List<List<LatLng>> rings) {
+    List<List<LatLng>> previews = new ArrayList<>(rings.size());
+    for (List<LatLng> ring : rings) {
+      int count = ring.size();
+      if (count <= PREVIEW_POINT_COUNT) {
+        previews.add(ring);
+        continue;
+      }
+      List<LatLng> preview = new ArrayList<>(PREVIEW_POINT_COUNT);
+      for (int i = 0; i < PREVIEW_POINT_COUNT; i++) {
+        preview.add(ring.get(previewIndex(i, count)));
+      }
+      previews.add(preview);
+    }
+    return previews;
+  }
+
+  /**
+   * Samples the preview of the points of a shape, only the sampled points are read.
+   *
+   * @param shape the shape
+   * @return the preview points, the first and the last point included
+   */
+  static List<LatLng> preview(BasePointCollection shape) {
+    int count = shape.getPointCount();
+    int previewCount = Math.min(count, PREVIEW_POINT_COUNT);
+    List<LatLng> preview = new ArrayList<>(previewCount);
+    for (int i = 0; i < previewCount; i++) {
+      preview.add(shape.getPoint(count <= PREVIEW_POINT_COUNT ? i : previewIndex(i, count)));
+    }
+    return preview;
+  }
+
+  // evenly spaced, the last preview index maps to the last point
+  private static int previewIndex(int index, int count) {
+    return (int) ((long) index * (count - 1) / (PREVIEW_POINT_COUNT - 1));
+  }
+
+  /**
+   * Starts simplifying a shape that was added to the map.
+   *
+   * @param shape     the shape with its identifier assigned
+   * @param method    the simplification method
+   * @param tolerance the tolerance in pixels
+   */
+  void simplify(@NonNull T shape, @SimplifiedLine.Method int method, float tolerance) {
+    Entry<T> entry = new Entry<>(shape, method, tolerance);
+    entries.put(shape.getId(), entry);
+    submit(entry);
+  }
+
+  /**
+   * @param shape the shape
+   * @return true if the shape is simplified
+   */
+  boolean isSimplified(@NonNull T shape) {
+    Entry<T> entry = entries.get(shape.getId());
+    return entry != null && entry.shape == shape;
+  }
+
+  /**
+   * Renders the preview of an updated shape and simplifies it again.
+   *
+   * @param shape the updated shape
+   */
+  void update(@NonNull T shape) {
+    Entry<T> entry = entries.get(shape.getId());
+    entry.lines = null;
+    adapter.render(shape, preview(adapter.getRings(shape)));
+    submit(entry);
+  }
+
+  /**
+   * Renders the variants of the simplified shapes for a zoom level.
+   *
+   * @param zoom the zoom level
+   */
+  void setZoom(double zoom) {
+    this.zoom = (int) Math.floor(zoom);
+    for (int i = entries.size() - 1; i >= 0; i--) {
+      Entry<T> entry = entries.valueAt(i);
+      if (entry.lines != null && entry.renderedZoom != this.zoom) {
+        render(entry);
+      }
+    }
+  }
+
+  /**
+   * Stops simplifying a shape that was removed from the map, a simplification in progress is discarded.
+   *
+   * @param id the identifier of the shape
+   */
+  void remove(long id) {
+    Entry<T> entry = entries.get(id);
+    if (entry != null) {
+      entries.remove(id);
+      entry.generation++;
+    }
+  }
+
+  /**
+   * Stops simplifying all shapes, after they were removed from the map.
+   */
+  void removeAll() {
+    for (int i = entries.size() - 1; i >= 0; i--) {
+      entries.valueAt(i).generation++;
+    }
+    entries.clear();
+  }
+
+  int getSimplifiedCount() {
+    return entries.size();
+  }
+
+  private void submit(final Entry<T> entry) {
+    final int generation = ++entry.generation;
+    final List<List<LatLng>> rings = adapter.getRings(entry.shape);
+    worker.execute(new Runnable() {
+      @Override
+      public void run() {
+        if (entry.generation != generation) {
+          // updated again or removed before the simplification started
+          return;
+        }
+        final SimplifiedLine[] lines = new SimplifiedLine[rings.size()];
+        for (int i = 0; i < lines.length; i++) {
+          lines[i] = SimplifiedLine.fromLatLngs(rings.get(i), entry.method, entry.tolerance);
+        }
+        mainThread.execute(new Runnable() {
+          @Override
+          public void run() {
+            if (entry.generation == generation) {
+              entry.lines = lines;
+              render(entry);
+            }
+          }
+        });
+      }
+    });
+  }
+
+  private void render(Entry<T> entry) {
+    long id = entry.shape.getId();
+    if (entries.get(id) != entry || annotations.get(id) != entry.shape) {
+      // removed from the map
+      entries.remove(id);
+      entry.generation++;
+      return;
+    }
+
+    List<List<LatLng>> rings = new ArrayList<>(entry.lines.length);
+    for (SimplifiedLine line : entry.lines) {
+      rings.add(line.getPoints(zoom));
+    }
+    adapter.render(entry.shape, rings);
+    entry.renderedZoom = zoom;
+  }
+
+  private static final class Entry<T> {
+
+    private final T shape;
+    private final int method;
+    private final float tolerance;
+    private SimplifiedLine[] lines;
+    private int renderedZoom = -1;
+    private volatile int generation;
+
+    Entry(T shape, int method, float tolerance) {
+      this.shape = shape;
+      this.method = method;
+      this.tolerance = tolerance;
+    }
+  }
+
+  /**
+   * Posts the simplified shapes to the main thread.
+   */
+  private static final class MainThreadExecutor implements Executor {
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    @Override
+    public void execute(@NonNull Runnable runnable) {
+      handler.post(runnable);
+    }
+  }
+
+  /**
+   * Lazily creates the worker shared by all maps.
+   */
+  private static final class WorkerHolder {
+
+    private static final ExecutorService WORKER = Executors.newSingleThreadExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(@NonNull Runnable runnable) {
+        Thread thread = new Thread(runnable, "MapboxShapeSimplifier");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+}
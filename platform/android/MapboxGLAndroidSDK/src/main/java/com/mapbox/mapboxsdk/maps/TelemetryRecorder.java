@@ -0,0 +1,289 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.UiThread;
+
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.services.android.telemetry.MapboxEvent;
+import com.mapbox.services.android.telemetry.MapboxTelemetry;
+import com.mapbox.services.android.telemetry.constants.GeoConstants;
+import com.mapbox.services.android.telemetry.utils.TelemetryUtils;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records gesture telemetry on the UI thread and builds the telemetry events on a background worker.
+ * <p>
+ * A gesture is captured as a primitive record, the screen location and the camera at the time of the gesture, in a
+ * lock-free ring buffer with a single producer, the UI thread, and a single consumer, the worker. Converting the screen
+ * location to a coordinate, building the events and pushing them to telemetry happens on the worker, batched per
+ * drain of the buffer. Records are dropped and counted when the buffer is full.
+ * </p>
+ * <p>
+ * The native map can only be queried on the UI thread, the worker converts the screen location with the Mercator
+ * projection and the perspective of the recorded camera. Screen locations are in density independent pixels, the
+ * camera target is at the recorded center of the padded area and the perspective at the center of the map.
+ * </p>
+ */
+final class TelemetryRecorder implements Runnable {
+
+  static final int GESTURE_SINGLETAP = 0;
+  static final int GESTURE_DOUBLETAP = 1;
+  static final int GESTURE_TWO_FINGER_SINGLETAP = 2;
+  static final int GESTURE_PAN_START = 3;
+  static final int GESTURE_PINCH_START = 4;
+  static final int GESTURE_ROTATION_START = 5;
+  static final int GESTURE_PITCH_START = 6;
+  static final int DRAG_END = 7;
+
+  static final int CAPACITY = 256;
+  private static final int MASK = CAPACITY - 1;
+
+  private static final String[] GESTURES = new String[] {
+    MapboxEvent.GESTURE_SINGLETAP,
+    MapboxEvent.GESTURE_DOUBLETAP,
+    MapboxEvent.GESTURE_TWO_FINGER_SINGLETAP,
+    MapboxEvent.GESTURE_PAN_START,
+    MapboxEvent.GESTURE_PINCH_START,
+    MapboxEvent.GESTURE_ROTATION_START,
+    MapboxEvent.GESTURE_PITCH_START
+  };
+
+  private static final double WORLD_TILE_SIZE = 512;
+  // vertical field of view of the native camera
+  private static final double FIELD_OF_VIEW = 0.6435011087932844;
+  private static final double MAX_RAY_ANGLE = Math.toRadians(89);
+
+  /**
+   * Receives the events built on the worker.
+   */
+  interface EventSink {
+
+    void onEvent(int type, double latitude, double longitude, double zoom);
+
+    void flush();
+  }
+
+  private final EventSink sink;
+  private final Executor executor;
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong droppedCount = new AtomicLong();
+
+  private final int[] types = new int[CAPACITY];
+  private final float[] screen = new float[CAPACITY * 6];
+  private final double[] cameras = new double[CAPACITY * 5];
+  private final double[] coordinate = new double[2];
+
+  TelemetryRecorder() {
+    this(new TelemetrySink(), WorkerHolder.WORKER);
+  }
+
+  TelemetryRecorder(@NonNull EventSink sink, @NonNull Executor executor) {
+    this.sink = sink;
+    this.executor = executor;
+  }
+
+  /**
+   * Records a gesture, without allocating. The values of the camera are copied, the camera isn't retained.
+   *
+   * @param type    the type of the gesture
+   * @param x       the x coordinate of the gesture on screen
+   * @param y       the y coordinate of the gesture on screen
+   * @param width   the width of the map
+   * @param height  the height of the map
+   * @param centerX the x coordinate of the camera target on screen, the center of the padded area
+   * @param centerY the y coordinate of the camera target on screen, the center of the padded area
+   * @param camera  the camera at the time of the gesture
+   * @return true if recorded, false if dropped because the buffer is full
+   */
+  @UiThread
+  boolean record(int type, float x, float y, float width, float height, float centerX, float centerY,
+                 @NonNull CameraPosition camera) {
+    long position = tail.get();
+    if (position - head.get() == CAPACITY) {
+      droppedCount.incrementAndGet();
+      return false;
+    }
+
+    int index = (int) (position & MASK);
+    types[index] = type;
+    screen[index * 6] = x;
+    screen[index * 6 + 1] = y;
+    screen[index * 6 + 2] = width;
+    screen[index * 6 + 3] = height;
+    screen[index * 6 + 4] = centerX;
+    screen[index * 6 + 5] = centerY;
+    cameras[index * 5] = camera.target.getLatitude();
+    cameras[index * 5 + 1] = camera.target.getLongitude();
+    cameras[index * 5 + 2] = camera.zoom;
+    cameras[index * 5 + 3] = camera.bearing;
+    cameras[index * 5 + 4] = camera.tilt;
+    // publishes the record to the worker
+    tail.lazySet(position + 1);
+
+    if (scheduled.compareAndSet(false, true)) {
+      executor.execute(this);
+    }
+    return true;
+  }
+
+  /**
+   * Drains the buffer, on the worker.
+   */
+  @Override
+  public void run() {
+    scheduled.set(false);
+    long position = head.get();
+    long end = tail.get();
+    if (position == end) {
+      return;
+    }
+
+    for (; position < end; position++) {
+      int index = (int) (position & MASK);
+      double zoom = cameras[index * 5 + 2];
+      unproject(screen[index * 6], screen[index * 6 + 1], screen[index * 6 + 2], screen[index * 6 + 3],
+        screen[index * 6 + 4], screen[index * 6 + 5], cameras[index * 5], cameras[index * 5 + 1], zoom,
+        cameras[index * 5 + 3], cameras[index * 5 + 4], coordinate);
+      int type = types[index];
+      // frees the slot for the UI thread
+      head.lazySet(position + 1);
+      sink.onEvent(type, coordinate[0], coordinate[1], zoom);
+    }
+    sink.flush();
+  }
+
+  /**
+   * @return the amount of records dropped because the buffer was full
+   */
+  long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  /**
+   * @return the amount of records waiting for the worker
+   */
+  int getPendingCount() {
+    return (int) (tail.get() - head.get());
+  }
+
+  /**
+   * Converts a screen location to a coordinate for a camera.
+   *
+   * @param x         the x coordinate on screen
+   * @param y         the y coordinate on screen
+   * @param width     the width of the map
+   * @param height    the height of the map
+   * @param centerX   the x coordinate of the camera target on screen
+   * @param centerY   the y coordinate of the camera target on screen
+   * @param latitude  the latitude of the camera target
+   * @param longitude the longitude of the camera target
+   * @param zoom      the zoom of the camera
+   * @param bearing   the bearing of the camera
+   * @param tilt      the tilt of the camera
+   * @param result    receives the latitude and longitude
+   */
+  static void unproject(float x, float y, float width, float height, float centerX, float centerY, double latitude,
+                        double longitude, double zoom, double bearing, double tilt, double[] result) {
+    double worldSize = WORLD_TILE_SIZE * Math.pow(2, zoom);
+    double targetX = (longitude + 180) / 360 * worldSize;
+    double clamped = Math.max(GeoConstants.MIN_LATITUDE, Math.min(GeoConstants.MAX_LATITUDE, latitude));
+    double sin = Math.sin(Math.toRadians(clamped));
+    double targetY = (0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI)) * worldSize;
+
+    // the ground offset of the screen location relative to the ground offset of the camera target
+    double pitch = Math.toRadians(tilt);
+    groundOffset(x - width / 2.0, y - height / 2.0, height, pitch, result);
+    double right = result[0];
+    double forward = result[1];
+    groundOffset(centerX - width / 2.0, centerY - height / 2.0, height, pitch, result);
+    right -= result[0];
+    forward -= result[1];
+
+    // rotate from screen to north up
+    double angle = Math.toRadians(bearing);
+    double east = right * Math.cos(angle) + forward * Math.sin(angle);
+    double north = -right * Math.sin(angle) + forward * Math.cos(angle);
+
+    double worldX = targetX + east;
+    double worldY = Math.max(0, Math.min(worldSize, targetY - north));
+    double n = Math.PI - 2 * Math.PI * worldY / worldSize;
+    result[0] = Math.toDegrees(Math.atan(Math.sinh(n)));
+    result[1] = ((worldX / worldSize * 360) % 360 + 360) % 360 - 180;
+  }
+
+  /**
+   * Intersects the ray through a screen location with the ground plane, for a perspective at the center of the map.
+   *
+   * @param dx     the x offset from the center of the map
+   * @param dy     the y offset from the center of the map
+   * @param height the height of the map
+   * @param pitch  the pitch of the camera in radians
+   * @param result receives the offset on the ground to the right and forward of the center of the map
+   */
+  private static void groundOffset(double dx, double dy, double height, double pitch, double[] result) {
+    double distance = 0.5 / Math.tan(FIELD_OF_VIEW / 2) * height;
+    double rayOffset = Math.atan(dy / distance);
+    double rayAngle = Math.min(pitch - rayOffset, MAX_RAY_ANGLE);
+    double altitude = distance * Math.cos(pitch);
+    result[1] = altitude * Math.tan(rayAngle) - distance * Math.sin(pitch);
+    double depth = altitude / Math.cos(rayAngle) * Math.cos(rayOffset);
+    result[0] = dx * depth / distance;
+  }
+
+  /**
+   * Builds the telemetry events and pushes them per batch.
+   */
+  private static final class TelemetrySink implements EventSink {
+
+    private final List<Hashtable<String, Object>> events = new ArrayList<>();
+
+    @Override
+    public void onEvent(int type, double latitude, double longitude, double zoom) {
+      Hashtable<String, Object> event;
+      if (type == DRAG_END) {
+        event = MapboxEvent.buildMapDragEndEvent(TelemetryUtils.buildLocation(longitude, latitude), zoom);
+      } else {
+        event = MapboxEvent.buildMapClickEvent(TelemetryUtils.buildLocation(longitude, latitude), GESTURES[type],
+          zoom);
+      }
+      if (event != null) {
+        events.add(event);
+      }
+    }
+
+    @Override
+    public void flush() {
+      MapboxTelemetry telemetry = MapboxTelemetry.getInstance();
+      for (Hashtable<String, Object> event : events) {
+        telemetry.pushEvent(event);
+      }
+      events.clear();
+    }
+  }
+
+  /**
+   * Lazily creates the worker shared by all maps.
+   */
+  private static final class WorkerHolder {
+
+    private static final ExecutorService WORKER = Executors.newSingleThreadExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(@NonNull Runnable runnable) {
+        Thread thread = new Thread(runnable, "MapboxTelemetryRecorder");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+}
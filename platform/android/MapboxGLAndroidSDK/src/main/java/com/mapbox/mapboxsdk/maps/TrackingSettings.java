@@ -168,6 +168,20 @@ public final class TrackingSettings {
     return myLocationView.getMyBearingTrackingMode();
   }
 
+  /**
+   * Returns how many camera updates per second are applied while the camera follows the user location.
+   * <p>
+   * In {@link MyLocationTracking#TRACKING_FOLLOW} the camera is moved once per rendered frame, so this value
+   * approaches the frame rate while the user moves and drops to 0 once the camera is idle.
+   * </p>
+   *
+   * @return the camera updates per second
+   */
+  @UiThread
+  public float getFollowCameraUpdatesPerSecond() {
+    return myLocationView.getCameraUpdatesPerSecond();
+  }
+
   /**
    * Returns if all tracking modes will be dismissed when a gesture occurs.
    *
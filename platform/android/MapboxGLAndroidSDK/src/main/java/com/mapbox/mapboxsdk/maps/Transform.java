@@ -6,6 +6,7 @@ import android.support.annotation.Nullable;
 import android.support.annotation.UiThread;
 
 import com.mapbox.mapboxsdk.annotations.MarkerViewManager;
+import com.mapbox.mapboxsdk.camera.CameraAnimationEngine;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdate;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -25,7 +26,7 @@ import static com.mapbox.mapboxsdk.maps.MapboxMap.OnCameraMoveStartedListener;
  * {@link com.mapbox.mapboxsdk.maps.MapboxMap.OnCameraChangeListener}.
  * </p>
  */
-final class Transform implements MapView.OnMapChangedListener {
+final class Transform implements MapView.OnMapChangedListener, CameraAnimationEngine.CameraDelegate {
 
   private final NativeMapView mapView;
   private final MarkerViewManager markerViewManager;
@@ -38,6 +39,19 @@ final class Transform implements MapView.OnMapChangedListener {
   private MapboxMap.OnCameraChangeListener onCameraChangeListener;
 
   private CameraChangeDispatcher cameraChangeDispatcher;
+  private CameraAnimationEngine animationEngine;
+  private KineticGestureEngine kineticGestureEngine;
+  private final PointF zoomFocalPoint = new PointF();
+  private boolean frameCameraMoving;
+  private boolean engineAnimating;
+
+  // notifies idle after a camera change with a duration
+  private final MapView.OnMapChangedListener cameraIdleListener = new MapView.OnMapChangedListener() {
+    @Override
+    public void onMapChanged(int change) {
+      cameraChangeDispatcher.onCameraIdle();
+    }
+  };
 
   Transform(NativeMapView mapView, MarkerViewManager markerViewManager, TrackingSettings trackingSettings,
             CameraChangeDispatcher cameraChangeDispatcher) {
@@ -86,7 +100,6 @@ final class Transform implements MapView.OnMapChangedListener {
         cameraCancelableCallback = null;
       }
       cameraChangeDispatcher.onCameraIdle();
-      mapView.removeOnMapChangedListener(this);
     }
   }
 
@@ -114,7 +127,7 @@ final class Transform implements MapView.OnMapChangedListener {
       if (callback != null) {
         cameraCancelableCallback = callback;
       }
-      mapView.addOnMapChangedListener(this);
+      mapView.addOneShotOnMapChangedListener(REGION_DID_CHANGE_ANIMATED, this);
       mapView.easeTo(cameraPosition.bearing, cameraPosition.target, durationMs, cameraPosition.tilt,
         cameraPosition.zoom, easingInterpolator);
     }
@@ -132,12 +145,74 @@ final class Transform implements MapView.OnMapChangedListener {
       if (callback != null) {
         cameraCancelableCallback = callback;
       }
-      mapView.addOnMapChangedListener(this);
+      mapView.addOneShotOnMapChangedListener(REGION_DID_CHANGE_ANIMATED, this);
       mapView.flyTo(cameraPosition.bearing, cameraPosition.target, durationMs, cameraPosition.tilt,
         cameraPosition.zoom);
     }
   }
 
+  @UiThread
+  void moveFollowCamera(@NonNull LatLng target, double bearing) {
+    startFrameCameraMoves();
+    // camera move events are dispatched when the frame is rendered
+    mapView.jumpTo(bearing, target, -1, -1);
+  }
+
+  @UiThread
+  void finishFollowCamera() {
+    finishFrameCameraMoves();
+  }
+
+  //
+  // Camera animation engine
+  //
+
+  @UiThread
+  @NonNull
+  CameraAnimationEngine getAnimationEngine() {
+    if (animationEngine == null) {
+      animationEngine = new CameraAnimationEngine(this, new AnimatorFrameClock());
+    }
+    return animationEngine;
+  }
+
+  @Override
+  public void onAnimationStarted() {
+    startFrameCameraMoves();
+    engineAnimating = true;
+  }
+
+  @Override
+  public void jumpTo(double bearing, @NonNull LatLng target, double tilt, double zoom) {
+    // camera move events are dispatched when the frame is rendered
+    mapView.jumpTo(bearing, target, tilt, zoom);
+  }
+
+  @Override
+  public void onAnimationFinished() {
+    engineAnimating = false;
+    finishFrameCameraMoves();
+  }
+
+  private void startFrameCameraMoves() {
+    if (!frameCameraMoving) {
+      cancelTransitions();
+      frameCameraMoving = true;
+      cameraChangeDispatcher.onCameraMoveStarted(OnCameraMoveStartedListener.REASON_API_ANIMATION);
+    }
+  }
+
+  private void finishFrameCameraMoves() {
+    if (frameCameraMoving && !engineAnimating) {
+      frameCameraMoving = false;
+      CameraPosition cameraPosition = invalidateCameraPosition();
+      if (cameraPosition != null) {
+        updateCameraPosition(cameraPosition);
+      }
+      cameraChangeDispatcher.onCameraIdle();
+    }
+  }
+
   private boolean isValidCameraPosition(@Nullable CameraPosition cameraPosition) {
     return cameraPosition != null && !cameraPosition.equals(this.cameraPosition);
   }
@@ -148,7 +223,7 @@ final class Transform implements MapView.OnMapChangedListener {
     if (mapView != null) {
       CameraPosition cameraPosition = mapView.getCameraPosition();
       if (this.cameraPosition != null && !this.cameraPosition.equals(cameraPosition)) {
-        cameraChangeDispatcher.onCameraMove();
+        cameraChangeDispatcher.onCameraMove(cameraPosition);
       }
 
       if (isComponentUpdateRequired(cameraPosition)) {
@@ -181,6 +256,16 @@ final class Transform implements MapView.OnMapChangedListener {
 
     // cancel ongoing transitions
     mapView.cancelTransitions();
+
+    // cancel animations of the engine
+    if (animationEngine != null) {
+      animationEngine.cancelAll();
+    }
+
+    // cancel kinetic gestures
+    if (kineticGestureEngine != null) {
+      kineticGestureEngine.cancel();
+    }
   }
 
   @UiThread
@@ -211,6 +296,14 @@ final class Transform implements MapView.OnMapChangedListener {
     return mapView.getZoom();
   }
 
+  CameraPosition getRawCameraPosition() {
+    return mapView.getCameraPosition();
+  }
+
+  CameraPosition getRawCameraSnapshot() {
+    return mapView.getCameraSnapshot();
+  }
+
   void zoom(boolean zoomIn, @NonNull PointF focalPoint) {
     CameraPosition cameraPosition = invalidateCameraPosition();
     if (cameraPosition != null) {
@@ -239,15 +332,7 @@ final class Transform implements MapView.OnMapChangedListener {
 
   void setZoom(double zoom, @NonNull PointF focalPoint, long duration) {
     if (mapView != null) {
-      mapView.addOnMapChangedListener(new MapView.OnMapChangedListener() {
-        @Override
-        public void onMapChanged(int change) {
-          if (change == MapView.REGION_DID_CHANGE_ANIMATED) {
-            cameraChangeDispatcher.onCameraIdle();
-            mapView.removeOnMapChangedListener(this);
-          }
-        }
-      });
+      mapView.addOneShotOnMapChangedListener(MapView.REGION_DID_CHANGE_ANIMATED, cameraIdleListener);
       mapView.setZoom(zoom, focalPoint, duration);
     }
   }
@@ -328,6 +413,10 @@ final class Transform implements MapView.OnMapChangedListener {
     mapView.setLatLng(centerCoordinate);
   }
 
+  void setKineticGestureEngine(@Nullable KineticGestureEngine kineticGestureEngine) {
+    this.kineticGestureEngine = kineticGestureEngine;
+  }
+
   void setGestureInProgress(boolean gestureInProgress) {
     mapView.setGestureInProgress(gestureInProgress);
     if (!gestureInProgress) {
@@ -336,20 +425,39 @@ final class Transform implements MapView.OnMapChangedListener {
   }
 
   void zoomBy(double z, float x, float y) {
-    mapView.setZoom(mapView.getZoom() + z, new PointF(x, y), 0);
+    // invoked per frame by gestures, reuse the focal point
+    zoomFocalPoint.set(x, y);
+    mapView.setZoom(mapView.getZoom() + z, zoomFocalPoint, 0);
+  }
+
+  /**
+   * Applies the deltas of gestures in a single camera change.
+   */
+  void moveCameraBy(double dx, double dy, double zoom, double bearing, double tilt, float focalX, float focalY) {
+    mapView.moveCameraBy(dx, dy, zoom, bearing, tilt, focalX, focalY);
+    if (bearing == 0 && tilt == 0) {
+      return;
+    }
+
+    // the camera read once, the camera move of the frame reads the same snapshot
+    CameraPosition camera = mapView.getCameraSnapshot();
+    if (camera == null) {
+      return;
+    }
+    if (bearing != 0 && myLocationView != null) {
+      myLocationView.setBearing(camera.bearing);
+    }
+    if (tilt != 0) {
+      if (myLocationView != null) {
+        myLocationView.setTilt(camera.tilt);
+      }
+      markerViewManager.setTilt((float) camera.tilt);
+    }
   }
 
   void moveBy(double offsetX, double offsetY, long duration) {
     if (duration > 0) {
-      mapView.addOnMapChangedListener(new MapView.OnMapChangedListener() {
-        @Override
-        public void onMapChanged(int change) {
-          if (change == MapView.REGION_DID_CHANGE_ANIMATED) {
-            mapView.removeOnMapChangedListener(this);
-            cameraChangeDispatcher.onCameraIdle();
-          }
-        }
-      });
+      mapView.addOneShotOnMapChangedListener(MapView.REGION_DID_CHANGE_ANIMATED, cameraIdleListener);
     }
     mapView.moveBy(offsetX, offsetY, duration);
   }
@@ -0,0 +1,230 @@
+package com.mapbox.mapboxsdk.maps.widgets;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.hardware.Sensor;
+import android.hardware.SensorEvent;
+import android.hardware.SensorEventListener;
+import android.hardware.SensorManager;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.UiThread;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import timber.log.Timber;
+
+/**
+ * Computes the device heading from the rotation vector sensor, shared by all map views.
+ * <p>
+ * Sensor events are received and filtered on a background thread with a {@link HeadingFilter}. Listeners are notified
+ * on the main thread at a fixed output rate, and only when the filtered heading changed by more than a threshold. The
+ * sensor is registered while at least one listener is added.
+ * </p>
+ */
+class CompassService implements SensorEventListener {
+
+  static final int OUTPUT_INTERVAL_MS = 100;
+  static final float THRESHOLD_DEGREES = 0.5f;
+
+  /**
+   * Interface definition for a callback to be invoked when the heading changed.
+   */
+  interface HeadingListener {
+
+    /**
+     * Invoked on the main thread when the heading changed.
+     *
+     * @param heading the heading in degrees, between 0 and 360
+     */
+    void onHeadingChanged(float heading);
+  }
+
+  @SuppressLint("StaticFieldLeak")
+  private static CompassService INSTANCE;
+
+  /**
+   * Get the single instance of CompassService.
+   *
+   * @param context the context to extract the application context from
+   * @return the single instance of CompassService
+   */
+  static synchronized CompassService getInstance(@NonNull Context context) {
+    if (INSTANCE == null) {
+      INSTANCE = new CompassService(context.getApplicationContext());
+    }
+    return INSTANCE;
+  }
+
+  private final SensorManager sensorManager;
+  private final Sensor rotationVectorSensor;
+  private final List<HeadingListener> listeners = new CopyOnWriteArrayList<>();
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private HandlerThread sensorThread;
+  private boolean reportMissingSensor = true;
+
+  private long filterTimeConstantMillis = HeadingFilter.DEFAULT_TIME_CONSTANT_MILLIS;
+  private float dispatchedHeading = Float.NaN;
+
+  // Written by the sensor thread, read by the main thread
+  private volatile float heading = Float.NaN;
+
+  // Replaced by the main thread with each registration, used by the sensor thread
+  private volatile HeadingFilter filter = new HeadingFilter();
+
+  // Sensor thread only
+  private final float[] matrix = new float[9];
+  private final float[] orientation = new float[3];
+  private final float[] truncatedRotationVectorValue = new float[4];
+
+  private final Runnable dispatchRunnable = new Runnable() {
+    @Override
+    public void run() {
+      dispatch();
+      mainHandler.postDelayed(this, OUTPUT_INTERVAL_MS);
+    }
+  };
+
+  CompassService(@NonNull Context context) {
+    sensorManager = (SensorManager) context.getSystemService(Context.SENSOR_SERVICE);
+    rotationVectorSensor = sensorManager != null ? sensorManager.getDefaultSensor(Sensor.TYPE_ROTATION_VECTOR) : null;
+  }
+
+  boolean isSensorAvailable() {
+    if (rotationVectorSensor == null && reportMissingSensor) {
+      reportMissingSensor = false;
+      Timber.e("Sensor.TYPE_ROTATION_VECTOR is missing from this device. Unable to use MyBearingTracking.COMPASS.");
+    }
+    return rotationVectorSensor != null;
+  }
+
+  /**
+   * Sets the filter time constant, larger values give a steadier but slower heading. Used by tests to disable
+   * filtering, the service runs with {@link HeadingFilter#DEFAULT_TIME_CONSTANT_MILLIS}.
+   *
+   * @param timeConstantMillis the time constant in milliseconds, 0 to disable filtering
+   */
+  @UiThread
+  void setFilterTimeConstant(final long timeConstantMillis) {
+    if (timeConstantMillis < 0) {
+      throw new IllegalArgumentException("Time constant must not be negative");
+    }
+    filterTimeConstantMillis = timeConstantMillis;
+    if (sensorThread != null) {
+      new Handler(sensorThread.getLooper()).post(new Runnable() {
+        @Override
+        public void run() {
+          filter.setTimeConstantMillis(timeConstantMillis);
+        }
+      });
+    }
+  }
+
+  @UiThread
+  void addListener(@NonNull HeadingListener listener) {
+    if (listeners.contains(listener) || !isSensorAvailable()) {
+      return;
+    }
+
+    listeners.add(listener);
+    if (listeners.size() == 1) {
+      start();
+    } else if (!Float.isNaN(dispatchedHeading)) {
+      listener.onHeadingChanged(dispatchedHeading);
+    }
+  }
+
+  @UiThread
+  void removeListener(@NonNull HeadingListener listener) {
+    if (listeners.remove(listener) && listeners.isEmpty()) {
+      stop();
+    }
+  }
+
+  private void start() {
+    filter = new HeadingFilter(filterTimeConstantMillis);
+    heading = Float.NaN;
+    dispatchedHeading = Float.NaN;
+    sensorThread = new HandlerThread("CompassService");
+    sensorThread.start();
+    sensorManager.registerListener(this, rotationVectorSensor, SensorManager.SENSOR_DELAY_GAME,
+      new Handler(sensorThread.getLooper()));
+    mainHandler.postDelayed(dispatchRunnable, OUTPUT_INTERVAL_MS);
+  }
+
+  private void stop() {
+    mainHandler.removeCallbacks(dispatchRunnable);
+    sensorManager.unregisterListener(this, rotationVectorSensor);
+    // pending events are dropped
+    sensorThread.quit();
+    sensorThread = null;
+  }
+
+  /**
+   * Notifies the listeners if the heading changed by more than the threshold since the last notification.
+   */
+  @UiThread
+  void dispatch() {
+    float current = heading;
+    if (Float.isNaN(current)) {
+      return;
+    }
+
+    if (Float.isNaN(dispatchedHeading) || HeadingFilter.difference(current, dispatchedHeading) >= THRESHOLD_DEGREES) {
+      dispatchedHeading = current;
+      for (HeadingListener listener : listeners) {
+        listener.onHeadingChanged(current);
+      }
+    }
+  }
+
+  /**
+   * Adds a heading sample, invoked on the sensor thread.
+   *
+   * @param timestampNanos the sample time in nanoseconds
+   * @param azimuth        the unfiltered heading in degrees
+   */
+  void onHeading(long timestampNanos, float azimuth) {
+    heading = filter.filter(timestampNanos, azimuth);
+  }
+
+  @Override
+  public void onSensorChanged(SensorEvent event) {
+    if (event.sensor.getType() != Sensor.TYPE_ROTATION_VECTOR) {
+      return;
+    }
+
+    SensorManager.getRotationMatrixFromVector(matrix, getRotationVectorFromSensorEvent(event));
+    SensorManager.getOrientation(matrix, orientation);
+    onHeading(event.timestamp, (float) Math.toDegrees(orientation[0]));
+  }
+
+  @Override
+  public void onAccuracyChanged(Sensor sensor, int accuracy) {
+  }
+
+  /**
+   * Pulls out the rotation vector from a SensorEvent, with a maximum length
+   * vector of four elements to avoid potential compatibility issues.
+   *
+   * @param event the sensor event
+   * @return the events rotation vector, potentially truncated
+   */
+  @NonNull
+  private float[] getRotationVectorFromSensorEvent(@NonNull SensorEvent event) {
+    if (event.values.length > 4) {
+      // On some Samsung devices SensorManager.getRotationMatrixFromVector
+      // appears to throw an exception if rotation vector has length > 4.
+      // For the purposes of this class the first 4 values of the
+      // rotation vector are sufficient (see crbug.com/335298 for details).
+      // Only affects Android 4.3
+      System.arraycopy(event.values, 0, truncatedRotationVectorValue, 0, 4);
+      return truncatedRotationVectorValue;
+    } else {
+      return event.values;
+    }
+  }
+}
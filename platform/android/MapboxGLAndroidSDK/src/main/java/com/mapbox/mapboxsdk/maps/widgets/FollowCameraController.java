@@ -0,0 +1,237 @@
+package com.mapbox.mapboxsdk.maps.widgets;
+
+import android.animation.ValueAnimator;
+import android.os.Handler;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.maps.MapboxMap;
+
+/**
+ * Moves the camera along with the user location, once per frame.
+ * <p>
+ * Location fixes and bearing only set targets. On every animation frame the target location is taken from the
+ * {@link LocationInterpolator}, the bearing is smoothed towards its target, and the merged result is applied with a
+ * single camera move. Targets changing mid-flight are picked up by the next frame instead of cancelling and
+ * restarting a camera transition. Once the camera reached its targets the controller stops ticking until a target
+ * changes.
+ * </p>
+ * <p>
+ * Without animation, every fix jumps the camera at once. The jumps of consecutive fixes belong to one follow move,
+ * which finishes once no fix arrived for {@link #JUMP_IDLE_MILLIS}.
+ * </p>
+ */
+class FollowCameraController implements ValueAnimator.AnimatorUpdateListener {
+
+  static final long DEFAULT_SMOOTHING_MILLIS = 150;
+  static final long JUMP_IDLE_MILLIS = 2000;
+
+  private static final double UNSET = -1;
+  private static final double BEARING_EPSILON = 0.01;
+  private static final long MAX_FRAME_MILLIS = 100;
+  private static final long METRIC_WINDOW_MILLIS = 1000;
+
+  private final MapboxMap.OnFollowCameraMoveListener followCameraMoveListener;
+  private final LocationInterpolator locationInterpolator;
+  private final Handler handler;
+  private final LatLng target = new LatLng();
+  private ValueAnimator frameAnimator;
+  private long smoothingMillis = DEFAULT_SMOOTHING_MILLIS;
+
+  private boolean following;
+  private long frameTime;
+  private double targetBearing = UNSET;
+  private double bearing = UNSET;
+  private boolean bearingSettled = true;
+
+  private long metricWindowStart;
+  private int metricWindowUpdates;
+  private float updatesPerSecond;
+
+  private final Runnable idleRunnable = new Runnable() {
+    @Override
+    public void run() {
+      stop();
+    }
+  };
+
+  FollowCameraController(@NonNull MapboxMap.OnFollowCameraMoveListener followCameraMoveListener,
+                         @NonNull LocationInterpolator locationInterpolator, @NonNull Handler handler) {
+    this.followCameraMoveListener = followCameraMoveListener;
+    this.locationInterpolator = locationInterpolator;
+    this.handler = handler;
+  }
+
+  /**
+   * Sets the time constant with which the bearing approaches its target.
+   *
+   * @param smoothingMillis the time constant in milliseconds, 0 to apply targets immediately
+   */
+  void setSmoothingMillis(long smoothingMillis) {
+    if (smoothingMillis < 0) {
+      throw new IllegalArgumentException("Smoothing time must not be negative");
+    }
+    this.smoothingMillis = smoothingMillis;
+  }
+
+  /**
+   * Sets the bearing the camera turns to.
+   *
+   * @param bearing the bearing in degrees
+   */
+  void setBearing(double bearing) {
+    targetBearing = normalize(bearing);
+  }
+
+  /**
+   * Keeps the bearing of the map instead of turning the camera.
+   */
+  void clearBearing() {
+    targetBearing = UNSET;
+    bearing = UNSET;
+  }
+
+  /**
+   * Starts following, to be invoked after targets changed.
+   */
+  void start() {
+    handler.removeCallbacks(idleRunnable);
+    if (!following) {
+      following = true;
+      frameTime = SystemClock.elapsedRealtime();
+      metricWindowStart = frameTime;
+      metricWindowUpdates = 0;
+    }
+
+    if (frameAnimator == null) {
+      // a single long-lived animator, used as frame callback while the camera moves
+      frameAnimator = ValueAnimator.ofFloat(0.0f, 1.0f);
+      frameAnimator.setDuration(1000);
+      frameAnimator.setRepeatCount(ValueAnimator.INFINITE);
+      frameAnimator.addUpdateListener(this);
+    }
+
+    if (!frameAnimator.isStarted()) {
+      frameAnimator.start();
+    }
+  }
+
+  /**
+   * Stops following and notifies the camera being idle.
+   */
+  void stop() {
+    handler.removeCallbacks(idleRunnable);
+    if (frameAnimator != null) {
+      frameAnimator.cancel();
+    }
+
+    if (following) {
+      following = false;
+      updatesPerSecond = 0;
+      followCameraMoveListener.onFollowCameraMoveFinished();
+    }
+  }
+
+  boolean isFollowing() {
+    return following;
+  }
+
+  /**
+   * Get the amount of camera updates applied per second, measured over the last second while following.
+   *
+   * @return the camera updates per second, 0 when not following
+   */
+  float getUpdatesPerSecond() {
+    return updatesPerSecond;
+  }
+
+  @Override
+  public void onAnimationUpdate(ValueAnimator animation) {
+    onFrame(SystemClock.elapsedRealtime());
+  }
+
+  /**
+   * Applies the targets for a frame.
+   *
+   * @param time the frame time in milliseconds
+   * @return true if the camera was moved
+   */
+  boolean onFrame(long time) {
+    boolean moved = move(time);
+    if (!moved || (bearingSettled && locationInterpolator.isSettled(time))) {
+      stop();
+    }
+    return moved;
+  }
+
+  /**
+   * Applies the targets at once, to be invoked after targets changed without animation. The follow move stays open
+   * for the next jump and finishes once no jump followed for {@link #JUMP_IDLE_MILLIS}.
+   *
+   * @param time the time of the jump in milliseconds
+   * @return true if the camera was moved
+   */
+  boolean jump(long time) {
+    if (frameAnimator != null) {
+      frameAnimator.cancel();
+    }
+    handler.removeCallbacks(idleRunnable);
+    boolean moved = move(time);
+    if (moved) {
+      handler.postDelayed(idleRunnable, JUMP_IDLE_MILLIS);
+    } else {
+      stop();
+    }
+    return moved;
+  }
+
+  private boolean move(long time) {
+    if (!following) {
+      following = true;
+      frameTime = time;
+      metricWindowStart = time;
+      metricWindowUpdates = 0;
+    }
+
+    long elapsed = Math.max(0, Math.min(MAX_FRAME_MILLIS, time - frameTime));
+    frameTime = time;
+    double step = smoothingMillis == 0 ? 1 : 1 - Math.exp(-elapsed / (double) smoothingMillis);
+
+    bearingSettled = true;
+    if (targetBearing != UNSET) {
+      double delta = shortestDelta(bearing == UNSET ? targetBearing : bearing, targetBearing);
+      bearingSettled = Math.abs(delta) < BEARING_EPSILON;
+      bearing = bearing == UNSET || bearingSettled ? targetBearing : normalize(bearing + delta * step);
+    }
+
+    boolean moved = false;
+    if (locationInterpolator.interpolate(time, target)) {
+      followCameraMoveListener.onFollowCameraMove(target, bearing);
+      moved = true;
+      metricWindowUpdates++;
+    }
+
+    if (time - metricWindowStart >= METRIC_WINDOW_MILLIS) {
+      updatesPerSecond = metricWindowUpdates * 1000f / (time - metricWindowStart);
+      metricWindowStart = time;
+      metricWindowUpdates = 0;
+    }
+    return moved;
+  }
+
+  private static double shortestDelta(double from, double to) {
+    double delta = (to - from) % 360;
+    if (delta > 180) {
+      delta -= 360;
+    } else if (delta < -180) {
+      delta += 360;
+    }
+    return delta;
+  }
+
+  private static double normalize(double bearing) {
+    double normalized = bearing % 360;
+    return normalized < 0 ? normalized + 360 : normalized;
+  }
+}
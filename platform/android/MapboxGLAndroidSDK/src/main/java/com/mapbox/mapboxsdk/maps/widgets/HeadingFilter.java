@@ -0,0 +1,88 @@
+package com.mapbox.mapboxsdk.maps.widgets;
+
+/**
+ * Low-pass filter for headings in degrees.
+ * <p>
+ * Headings are filtered as unit vectors instead of angles, so samples around north (e.g. 359 and 1 degrees) average to
+ * north instead of south. The smoothing factor is derived from the time between samples, which makes the filter
+ * independent of the sensor rate.
+ * </p>
+ */
+class HeadingFilter {
+
+  static final long DEFAULT_TIME_CONSTANT_MILLIS = 200;
+
+  private long timeConstantNanos;
+  private boolean hasHeading;
+  private long timestamp;
+  private double x;
+  private double y;
+
+  HeadingFilter() {
+    this(DEFAULT_TIME_CONSTANT_MILLIS);
+  }
+
+  /**
+   * Creates a filter.
+   *
+   * @param timeConstantMillis the time constant in milliseconds, 0 to disable filtering
+   */
+  HeadingFilter(long timeConstantMillis) {
+    setTimeConstantMillis(timeConstantMillis);
+  }
+
+  void setTimeConstantMillis(long timeConstantMillis) {
+    if (timeConstantMillis < 0) {
+      throw new IllegalArgumentException("Time constant must not be negative");
+    }
+    this.timeConstantNanos = timeConstantMillis * 1000000;
+  }
+
+  /**
+   * Adds a sample.
+   *
+   * @param timestampNanos the time of the sample in nanoseconds, e.g. the sensor event timestamp
+   * @param heading        the heading in degrees
+   * @return the filtered heading in degrees, between 0 and 360
+   */
+  float filter(long timestampNanos, float heading) {
+    double radians = Math.toRadians(heading);
+    double sampleX = Math.cos(radians);
+    double sampleY = Math.sin(radians);
+
+    long elapsed = timestampNanos - timestamp;
+    if (!hasHeading || timeConstantNanos == 0 || elapsed < 0) {
+      x = sampleX;
+      y = sampleY;
+      hasHeading = true;
+    } else {
+      double alpha = 1 - Math.exp(-elapsed / (double) timeConstantNanos);
+      x += alpha * (sampleX - x);
+      y += alpha * (sampleY - y);
+    }
+    timestamp = timestampNanos;
+    return getHeading();
+  }
+
+  /**
+   * Get the filtered heading.
+   *
+   * @return the filtered heading in degrees, between 0 and 360
+   */
+  float getHeading() {
+    float heading = (float) Math.toDegrees(Math.atan2(y, x));
+    return heading < 0 ? heading + 360 : heading;
+  }
+
+  /**
+   * Returns the absolute difference of two headings, taking wrap-around into account.
+   *
+   * @param first  a heading in degrees
+   * @param second another heading in degrees
+   * @return the difference between 0 and 180 degrees
+   */
+  static float difference(float first, float second) {
+    float difference = Math.abs(first - second) % 360;
+    return difference > 180 ? 360 - difference : difference;
+  }
+}
@@ -0,0 +1,269 @@
+package com.mapbox.mapboxsdk.maps.widgets;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.services.android.telemetry.constants.GeoConstants;
+
+/**
+ * Estimates a smooth, continuous position between location fixes.
+ * <p>
+ * Fixes are filtered with an alpha-beta filter: the position of the previous estimate is extrapolated with its
+ * velocity to the time of the new fix and corrected by a share of the residual, the velocity is corrected by a share
+ * of the residual per elapsed second. When a fix carries speed and bearing, the velocity is additionally pulled
+ * towards the measured velocity.
+ * </p>
+ * <p>
+ * Between fixes the estimate is dead-reckoned with its velocity for at most the maximum extrapolation time. To avoid
+ * jumps when a fix corrects the estimate, the difference between the displayed position and the corrected estimate is
+ * kept as an offset that decays exponentially.
+ * </p>
+ * <p>
+ * Times are in milliseconds of a monotonic clock. The interpolator holds no references and doesn't allocate per fix
+ * or per frame, so it can be fed from recorded traces in tests.
+ * </p>
+ */
+class LocationInterpolator {
+
+  static final float DEFAULT_ALPHA = 0.3f;
+  static final float DEFAULT_BETA = 0.05f;
+  static final float DEFAULT_VELOCITY_WEIGHT = 0.5f;
+  static final long DEFAULT_SMOOTHING_MILLIS = 250;
+  static final long DEFAULT_MAX_EXTRAPOLATION_MILLIS = 1000;
+
+  // Fixes further apart in time or space restart the filter instead of correcting it
+  private static final long RESET_INTERVAL_MILLIS = 10000;
+  private static final double RESET_DISTANCE_METERS = 1000;
+
+  private static final double METERS_PER_DEGREE = Math.toRadians(GeoConstants.RADIUS_EARTH_METERS);
+  private static final double SETTLED_OFFSET_METERS = 0.01;
+
+  private float alpha = DEFAULT_ALPHA;
+  private float beta = DEFAULT_BETA;
+  private float velocityWeight = DEFAULT_VELOCITY_WEIGHT;
+  private long smoothingMillis = DEFAULT_SMOOTHING_MILLIS;
+  private long maxExtrapolationMillis = DEFAULT_MAX_EXTRAPOLATION_MILLIS;
+
+  private boolean hasFix;
+  private long fixTime;
+  private double latitude;
+  private double longitude;
+  private double velocityNorth;
+  private double velocityEast;
+  private double offsetLatitude;
+  private double offsetLongitude;
+
+  // Scratch output of interpolate(long), avoids allocating a LatLng
+  private double interpolatedLatitude;
+  private double interpolatedLongitude;
+
+  /**
+   * Sets the gains of the filter.
+   *
+   * @param alpha          share of the position residual applied to the position, between 0 and 1
+   * @param beta           share of the position residual per second applied to the velocity, between 0 and 1
+   * @param velocityWeight share of the difference to a measured velocity applied to the velocity, between 0 and 1
+   */
+  void setGains(float alpha, float beta, float velocityWeight) {
+    if (!isFraction(alpha) || !isFraction(beta) || !isFraction(velocityWeight)) {
+      throw new IllegalArgumentException("Gains must be between 0 and 1");
+    }
+    this.alpha = alpha;
+    this.beta = beta;
+    this.velocityWeight = velocityWeight;
+  }
+
+  /**
+   * Sets the time constant with which corrections of the estimate are blended into the displayed position.
+   *
+   * @param smoothingMillis the time constant in milliseconds, 0 to apply corrections immediately
+   */
+  void setSmoothingMillis(long smoothingMillis) {
+    if (smoothingMillis < 0) {
+      throw new IllegalArgumentException("Smoothing time must not be negative");
+    }
+    this.smoothingMillis = smoothingMillis;
+  }
+
+  /**
+   * Sets how long the position keeps moving with the estimated velocity after the last fix.
+   *
+   * @param maxExtrapolationMillis the extrapolation time in milliseconds, 0 to disable dead reckoning
+   */
+  void setMaxExtrapolationMillis(long maxExtrapolationMillis) {
+    if (maxExtrapolationMillis < 0) {
+      throw new IllegalArgumentException("Extrapolation time must not be negative");
+    }
+    this.maxExtrapolationMillis = maxExtrapolationMillis;
+  }
+
+  /**
+   * Forgets all fixes, the next fix is taken as is.
+   */
+  void reset() {
+    hasFix = false;
+  }
+
+  boolean hasFix() {
+    return hasFix;
+  }
+
+  /**
+   * Adds a location fix.
+   *
+   * @param time        the time of the fix in milliseconds
+   * @param latitude    the latitude of the fix
+   * @param longitude   the longitude of the fix
+   * @param hasVelocity true if speed and bearing were measured
+   * @param speed       the measured speed in meters per second
+   * @param bearing     the measured bearing in degrees
+   */
+  void update(long time, double latitude, double longitude, boolean hasVelocity, float speed, float bearing) {
+    double measuredNorth = 0;
+    double measuredEast = 0;
+    if (hasVelocity) {
+      double radians = Math.toRadians(bearing);
+      measuredNorth = speed * Math.cos(radians);
+      measuredEast = speed * Math.sin(radians);
+    }
+
+    long elapsed = time - fixTime;
+    if (!hasFix || elapsed > RESET_INTERVAL_MILLIS || elapsed < 0) {
+      set(time, latitude, longitude, measuredNorth, measuredEast, hasFix);
+      return;
+    }
+
+    // position currently displayed, kept continuous through the correction
+    interpolate(time);
+    double displayedLatitude = interpolatedLatitude;
+    double displayedLongitude = interpolatedLongitude;
+
+    // predict with the current velocity
+    double seconds = elapsed / 1000.0;
+    double metersPerLongitude = metersPerLongitude(this.latitude);
+    double predictedLatitude = this.latitude + velocityNorth * seconds / METERS_PER_DEGREE;
+    double predictedLongitude = this.longitude + velocityEast * seconds / metersPerLongitude;
+
+    double residualNorth = (latitude - predictedLatitude) * METERS_PER_DEGREE;
+    double residualEast = wrap(longitude - predictedLongitude) * metersPerLongitude;
+    if (Math.hypot(residualNorth, residualEast) > RESET_DISTANCE_METERS) {
+      set(time, latitude, longitude, measuredNorth, measuredEast, true);
+      return;
+    }
+
+    // correct
+    this.latitude = clampLatitude(predictedLatitude + alpha * residualNorth / METERS_PER_DEGREE);
+    this.longitude = wrap(predictedLongitude + alpha * residualEast / metersPerLongitude);
+    if (seconds > 0) {
+      velocityNorth += beta * residualNorth / seconds;
+      velocityEast += beta * residualEast / seconds;
+    }
+    if (hasVelocity) {
+      velocityNorth += velocityWeight * (measuredNorth - velocityNorth);
+      velocityEast += velocityWeight * (measuredEast - velocityEast);
+    }
+
+    fixTime = time;
+    offsetLatitude = displayedLatitude - this.latitude;
+    offsetLongitude = wrap(displayedLongitude - this.longitude);
+  }
+
+  /**
+   * Computes the displayed position at a time.
+   *
+   * @param time   the time in milliseconds, usually the frame time
+   * @param latLng the position to update
+   * @return true if the position was updated, false if there's no fix yet
+   */
+  boolean interpolate(long time, @NonNull LatLng latLng) {
+    if (!hasFix) {
+      return false;
+    }
+
+    interpolate(time);
+    latLng.setLatitude(interpolatedLatitude);
+    latLng.setLongitude(interpolatedLongitude);
+    return true;
+  }
+
+  /**
+   * Returns whether the displayed position stopped changing, meaning the last correction was blended in and the
+   * estimate is no longer extrapolated.
+   *
+   * @param time the time in milliseconds
+   * @return true if there are no further position changes until the next fix
+   */
+  boolean isSettled(long time) {
+    if (!hasFix) {
+      return true;
+    }
+
+    long elapsed = time - fixTime;
+    boolean moving = elapsed < maxExtrapolationMillis && (velocityNorth != 0 || velocityEast != 0);
+    double offsetMeters = Math.hypot(offsetLatitude, offsetLongitude) * METERS_PER_DEGREE * decay(elapsed);
+    return !moving && offsetMeters < SETTLED_OFFSET_METERS;
+  }
+
+  double getVelocityNorth() {
+    return velocityNorth;
+  }
+
+  double getVelocityEast() {
+    return velocityEast;
+  }
+
+  private void interpolate(long time) {
+    long elapsed = Math.max(0, time - fixTime);
+    double seconds = Math.min(elapsed, maxExtrapolationMillis) / 1000.0;
+    double decay = decay(elapsed);
+    interpolatedLatitude = clampLatitude(latitude + velocityNorth * seconds / METERS_PER_DEGREE
+      + offsetLatitude * decay);
+    interpolatedLongitude = wrap(longitude + velocityEast * seconds / metersPerLongitude(latitude)
+      + offsetLongitude * decay);
+  }
+
+  private void set(long time, double latitude, double longitude, double velocityNorth, double velocityEast,
+                   boolean smooth) {
+    if (smooth) {
+      interpolate(time);
+      offsetLatitude = interpolatedLatitude - latitude;
+      offsetLongitude = wrap(interpolatedLongitude - longitude);
+    } else {
+      offsetLatitude = 0;
+      offsetLongitude = 0;
+    }
+    this.hasFix = true;
+    this.fixTime = time;
+    this.latitude = clampLatitude(latitude);
+    this.longitude = wrap(longitude);
+    this.velocityNorth = velocityNorth;
+    this.velocityEast = velocityEast;
+  }
+
+  private double decay(long elapsed) {
+    if (smoothingMillis == 0) {
+      return 0;
+    }
+    return Math.exp(-Math.max(0, elapsed) / (double) smoothingMillis);
+  }
+
+  private static double metersPerLongitude(double latitude) {
+    return Math.max(Math.cos(Math.toRadians(latitude)), 1e-6) * METERS_PER_DEGREE;
+  }
+
+  private static double clampLatitude(double latitude) {
+    return Math.max(-90, Math.min(90, latitude));
+  }
+
+  private static double wrap(double degrees) {
+    if (degrees >= -180 && degrees < 180) {
+      return degrees;
+    }
+    double wrapped = (degrees + 180) % 360;
+    return (wrapped < 0 ? wrapped + 360 : wrapped) - 180;
+  }
+
+  private static boolean isFraction(float value) {
+    return value >= 0 && value <= 1;
+  }
+}
@@ -11,12 +11,9 @@ import android.graphics.PointF;
 import android.graphics.PorterDuff;
 import android.graphics.Rect;
 import android.graphics.drawable.Drawable;
-import android.hardware.Sensor;
-import android.hardware.SensorEvent;
-import android.hardware.SensorEventListener;
-import android.hardware.SensorManager;
 import android.location.Location;
 import android.os.Bundle;
+import android.os.Handler;
 import android.os.Parcelable;
 import android.os.SystemClock;
 import android.support.annotation.ColorInt;
@@ -29,10 +26,10 @@ import android.view.ViewGroup;
 
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
-import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
 import com.mapbox.mapboxsdk.constants.MyBearingTracking;
 import com.mapbox.mapboxsdk.constants.MyLocationTracking;
 import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.location.AdaptiveLocationPolicy;
 import com.mapbox.mapboxsdk.location.LocationSource;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
 import com.mapbox.mapboxsdk.maps.Projection;
@@ -42,8 +39,6 @@ import com.mapbox.services.android.telemetry.location.LocationEnginePriority;
 
 import java.lang.ref.WeakReference;
 
-import timber.log.Timber;
-
 /**
  * UI element overlaid on a map to show the user's location.
  * <p>
@@ -82,6 +77,8 @@ public class MyLocationView extends View {
   private ValueAnimator accuracyAnimator;
   private ValueAnimator directionAnimator;
   private boolean locationChangeAnimationEnabled = true;
+  private final LocationInterpolator locationInterpolator = new LocationInterpolator();
+  private FollowCameraController followCameraController;
 
   private ValueAnimator.AnimatorUpdateListener invalidateSelfOnUpdateListener =
     new ValueAnimator.AnimatorUpdateListener() {
@@ -91,6 +88,22 @@ public class MyLocationView extends View {
       }
     };
 
+  private ValueAnimator.AnimatorUpdateListener locationFrameListener =
+    new ValueAnimator.AnimatorUpdateListener() {
+      @Override
+      public void onAnimationUpdate(ValueAnimator animation) {
+        long now = SystemClock.elapsedRealtime();
+        if (latLng != null && locationInterpolator.interpolate(now, latLng)) {
+          update();
+        }
+
+        if (locationInterpolator.isSettled(now)) {
+          // stop ticking until the next location fix
+          animation.cancel();
+        }
+      }
+    };
+
   private Drawable foregroundDrawable;
   private Drawable foregroundBearingDrawable;
   private Drawable backgroundDrawable;
@@ -124,6 +137,11 @@ public class MyLocationView extends View {
   private GpsLocationListener userLocationListener;
   private CompassListener compassListener;
 
+  // while stopped, a LocationSource with an adaptive policy keeps delivering batched locations
+  private boolean stopped;
+  private boolean updatesKeptWhileStopped;
+  private Location stoppedLocation;
+
   public MyLocationView(Context context) {
     super(context);
     init(context);
@@ -406,6 +424,9 @@ public class MyLocationView extends View {
     if (position != null) {
       setBearing(position.bearing);
       setTilt(position.tilt);
+      if (locationEngine instanceof LocationSource) {
+        ((LocationSource) locationEngine).setCameraZoom(position.zoom);
+      }
     }
   }
 
@@ -416,9 +437,21 @@ public class MyLocationView extends View {
     if (myBearingTrackingMode == MyBearingTracking.COMPASS && compassListener.isSensorAvailable()) {
       compassListener.onResume();
     }
-    if (isEnabled()) {
+    stopped = false;
+    if (updatesKeptWhileStopped) {
+      updatesKeptWhileStopped = false;
+      if (stoppedLocation != null) {
+        Location received = stoppedLocation;
+        stoppedLocation = null;
+        setLocation(received);
+      }
+    } else if (isEnabled()) {
       toggleGps(true);
     }
+    if (locationEngine instanceof LocationSource) {
+      // delivers the location batched since the last delivery
+      ((LocationSource) locationEngine).setMapVisible(true);
+    }
   }
 
   /**
@@ -426,7 +459,15 @@ public class MyLocationView extends View {
    */
   public void onStop() {
     compassListener.onPause();
-    toggleGps(false);
+    stopped = true;
+    if (userLocationListener != null && locationEngine instanceof LocationSource
+      && ((LocationSource) locationEngine).getAdaptivePolicy() != null) {
+      // keep the updates requested, the policy requests low power and the source batches the locations
+      updatesKeptWhileStopped = true;
+      ((LocationSource) locationEngine).setMapVisible(false);
+    } else {
+      toggleGps(false);
+    }
   }
 
   @Override
@@ -448,6 +489,14 @@ public class MyLocationView extends View {
       directionAnimator = null;
     }
 
+    if (followCameraController != null) {
+      followCameraController.stop();
+    }
+
+    if (updatesKeptWhileStopped) {
+      toggleGps(false);
+    }
+
     if (userLocationListener != null) {
       locationEngine.removeLocationEngineListener(userLocationListener);
       locationEngine = null;
@@ -472,6 +521,11 @@ public class MyLocationView extends View {
     this.projection = mapboxMap.getProjection();
   }
 
+  public void injectFollowCameraMoveListener(@NonNull MapboxMap.OnFollowCameraMoveListener followCameraMoveListener) {
+    this.followCameraController = new FollowCameraController(followCameraMoveListener, locationInterpolator,
+      new Handler());
+  }
+
   /**
    * Set the enabled state, for internal use only.
    *
@@ -544,6 +598,7 @@ public class MyLocationView extends View {
       if (userLocationListener == null) {
         userLocationListener = new GpsLocationListener(this, locationEngine);
       }
+      installAdaptivePolicy();
 
       locationEngine.addLocationEngineListener(userLocationListener);
       locationEngine.setPriority(LocationEnginePriority.HIGH_ACCURACY);
@@ -554,6 +609,8 @@ public class MyLocationView extends View {
       }
       // Disable location and user dot
       location = null;
+      updatesKeptWhileStopped = false;
+      stoppedLocation = null;
       locationEngine.removeLocationEngineListener(userLocationListener);
       locationEngine.removeLocationUpdates();
       locationEngine.deactivate();
@@ -590,6 +647,19 @@ public class MyLocationView extends View {
     }
   }
 
+  /**
+   * Applies a location received from the location engine, or keeps it until the map is started again.
+   *
+   * @param location the received location
+   */
+  private void onLocationReceived(Location location) {
+    if (stopped) {
+      stoppedLocation = location;
+    } else {
+      setLocation(location);
+    }
+  }
+
   /**
    * Set location change animation enabled, for internal use only.
    *
@@ -620,6 +690,9 @@ public class MyLocationView extends View {
       compassListener.onResume();
     } else {
       compassListener.onPause();
+      if (followCameraController != null && myBearingTrackingMode == MyBearingTracking.NONE) {
+        followCameraController.clearBearing();
+      }
       if (myLocationTrackingMode == MyLocationTracking.TRACKING_FOLLOW) {
         // always face north
         setCompass(0);
@@ -636,21 +709,31 @@ public class MyLocationView extends View {
    * @param myLocationTrackingMode The location tracking mode
    */
   public void setMyLocationTrackingMode(@MyLocationTracking.Mode int myLocationTrackingMode) {
+    if (locationChangeAnimator != null) {
+      locationChangeAnimator.cancel();
+    }
+
+    if (followCameraController != null && myLocationTrackingMode != MyLocationTracking.TRACKING_FOLLOW) {
+      followCameraController.stop();
+    }
+
     MyLocationBehaviorFactory factory = new MyLocationBehaviorFactory();
     myLocationBehavior = factory.getBehavioralModel(myLocationTrackingMode);
 
     if (location != null) {
-      if (myLocationTrackingMode == MyLocationTracking.TRACKING_FOLLOW) {
-        // center map directly
-        mapboxMap.moveCamera(CameraUpdateFactory.newLatLng(new LatLng(location)));
-      } else {
+      if (myLocationTrackingMode != MyLocationTracking.TRACKING_FOLLOW) {
         // do not use interpolated location from tracking mode
         latLng = null;
       }
+      // in tracking mode, the follow camera centers the map on the next frame
       myLocationBehavior.updateLatLng(location);
     }
 
     this.myLocationTrackingMode = myLocationTrackingMode;
+    if (locationEngine instanceof LocationSource) {
+      ((LocationSource) locationEngine)
+        .setTrackingActive(myLocationTrackingMode == MyLocationTracking.TRACKING_FOLLOW);
+    }
     invalidate();
   }
 
@@ -665,6 +748,15 @@ public class MyLocationView extends View {
   }
 
 
+  /**
+   * Get the amount of camera updates per second while the camera follows the user location, for internal use only.
+   *
+   * @return the camera updates per second, 0 when the camera isn't following
+   */
+  public float getCameraUpdatesPerSecond() {
+    return followCameraController != null ? followCameraController.getUpdatesPerSecond() : 0;
+  }
+
   /**
    * Get the bearing tracking mode, for internal use only.
    *
@@ -748,9 +840,29 @@ public class MyLocationView extends View {
     toggleGps(false);
     this.locationEngine = locationEngine;
     this.userLocationListener = null;
+    installAdaptivePolicy();
     setEnabled(isEnabled(), locationEngine != null);
   }
 
+  /**
+   * Adapts the location request of a LocationSource to the map, unless a policy was set on it already.
+   */
+  private void installAdaptivePolicy() {
+    if (!(locationEngine instanceof LocationSource)) {
+      return;
+    }
+
+    LocationSource locationSource = (LocationSource) locationEngine;
+    if (locationSource.getAdaptivePolicy() == null) {
+      AdaptiveLocationPolicy policy = new AdaptiveLocationPolicy();
+      policy.setTrackingActive(myLocationTrackingMode == MyLocationTracking.TRACKING_FOLLOW);
+      if (mapboxMap != null) {
+        policy.setZoom(mapboxMap.getCameraPosition().zoom);
+      }
+      locationSource.setAdaptivePolicy(policy);
+    }
+  }
+
   private void applyDrawableTint(Drawable drawable, @ColorInt int color) {
     if (color == UNDEFINED_TINT_COLOR) {
       removeTintColorFilter(drawable);
@@ -809,133 +921,46 @@ public class MyLocationView extends View {
     public void onLocationChanged(Location location) {
       MyLocationView locationView = userLocationView.get();
       if (locationView != null) {
-        locationView.setLocation(location);
+        locationView.onLocationReceived(location);
       }
     }
   }
 
-  private class CompassListener implements SensorEventListener {
-
-    private final SensorManager sensorManager;
+  private class CompassListener implements CompassService.HeadingListener {
 
-    private Sensor rotationVectorSensor;
-    private float[] matrix = new float[9];
-    private float[] rotationVectorValue;
-    private float[] truncatedRotationVectorValue = new float[4];
-
-    private float[] orientation = new float[3];
-    private boolean reportMissingSensor = true;
-    // Compass data
-    private long compassUpdateNextTimestamp = 0;
+    private final CompassService compassService;
 
     CompassListener(Context context) {
-      sensorManager = (SensorManager) context.getSystemService(Context.SENSOR_SERVICE);
-      rotationVectorSensor = sensorManager.getDefaultSensor(Sensor.TYPE_ROTATION_VECTOR);
+      compassService = CompassService.getInstance(context);
     }
 
     public void onResume() {
-      sensorManager.registerListener(this, rotationVectorSensor, SensorManager.SENSOR_DELAY_GAME);
+      compassService.addListener(this);
     }
 
     public void onPause() {
-      sensorManager.unregisterListener(this, rotationVectorSensor);
+      compassService.removeListener(this);
     }
 
     public boolean isSensorAvailable() {
-      if (rotationVectorSensor == null && reportMissingSensor) {
-        reportMissingSensor = false;
-        Timber.e("Sensor.TYPE_ROTATION_VECTOR is missing from this device. Unable to use MyBearingTracking.COMPASS.");
-      }
-      return rotationVectorSensor != null;
+      return compassService.isSensorAvailable();
     }
 
     @Override
-    public void onSensorChanged(SensorEvent event) {
-
-      // check when the last time the compass was updated, return if too soon.
-      long currentTime = SystemClock.elapsedRealtime();
-      if (currentTime < compassUpdateNextTimestamp) {
-        return;
-      }
-
-      if (event.sensor.getType() == Sensor.TYPE_ROTATION_VECTOR) {
-        rotationVectorValue = getRotationVectorFromSensorEvent(event);
-        SensorManager.getRotationMatrixFromVector(matrix, rotationVectorValue);
-        SensorManager.getOrientation(matrix, orientation);
-
-        magneticHeading = (float) Math.toDegrees(SensorManager.getOrientation(matrix, orientation)[0]);
-        if (myLocationTrackingMode == MyLocationTracking.TRACKING_FOLLOW) {
-          // Change the user location view orientation to reflect the device orientation
-          rotateCamera(magneticHeading);
-          setCompass(0, COMPASS_UPDATE_RATE_MS);
-        } else {
-          // Change compass direction
-          setCompass(magneticHeading - bearing, COMPASS_UPDATE_RATE_MS);
+    public void onHeadingChanged(float heading) {
+      magneticHeading = heading;
+      if (myLocationTrackingMode == MyLocationTracking.TRACKING_FOLLOW) {
+        // Change the user location view orientation to reflect the device orientation
+        if (followCameraController != null) {
+          followCameraController.setBearing(magneticHeading);
+          followCameraController.start();
         }
-
-        compassUpdateNextTimestamp = currentTime + COMPASS_UPDATE_RATE_MS;
-      }
-    }
-
-    /**
-     * Pulls out the rotation vector from a SensorEvent, with a maximum length
-     * vector of four elements to avoid potential compatibility issues.
-     *
-     * @param event the sensor event
-     * @return the events rotation vector, potentially truncated
-     */
-    @NonNull
-    float[] getRotationVectorFromSensorEvent(@NonNull SensorEvent event) {
-      if (event.values.length > 4) {
-        // On some Samsung devices SensorManager.getRotationMatrixFromVector
-        // appears to throw an exception if rotation vector has length > 4.
-        // For the purposes of this class the first 4 values of the
-        // rotation vector are sufficient (see crbug.com/335298 for details).
-        // Only affects Android 4.3
-        System.arraycopy(event.values, 0, truncatedRotationVectorValue, 0, 4);
-        return truncatedRotationVectorValue;
+        setCompass(0, CompassService.OUTPUT_INTERVAL_MS);
       } else {
-        return event.values;
+        // Change compass direction
+        setCompass(magneticHeading - bearing, CompassService.OUTPUT_INTERVAL_MS);
       }
     }
-
-    private void rotateCamera(float rotation) {
-      CameraPosition.Builder builder = new CameraPosition.Builder();
-      builder.bearing(rotation);
-      mapboxMap.easeCamera(CameraUpdateFactory.newCameraPosition(builder.build()), COMPASS_UPDATE_RATE_MS,
-        false /*linear interpolator*/, null);
-    }
-
-    @Override
-    public void onAccuracyChanged(Sensor sensor, int accuracy) {
-    }
-
-  }
-
-  private class MarkerCoordinateAnimatorListener implements ValueAnimator.AnimatorUpdateListener {
-
-    private MyLocationBehavior behavior;
-    private double fromLat;
-    private double fromLng;
-    private double toLat;
-    private double toLng;
-
-    private MarkerCoordinateAnimatorListener(MyLocationBehavior myLocationBehavior, LatLng from, LatLng to) {
-      behavior = myLocationBehavior;
-      fromLat = from.getLatitude();
-      fromLng = from.getLongitude();
-      toLat = to.getLatitude();
-      toLng = to.getLongitude();
-    }
-
-    @Override
-    public void onAnimationUpdate(ValueAnimator animation) {
-      float frac = animation.getAnimatedFraction();
-      double latitude = fromLat + (toLat - fromLat) * frac;
-      double longitude = fromLng + (toLng - fromLng) * frac;
-      behavior.updateLatLng(latitude, longitude);
-      update();
-    }
   }
 
   private class MyLocationBehaviorFactory {
@@ -961,13 +986,6 @@ public class MyLocationView extends View {
       location = newLocation;
     }
 
-    void updateLatLng(double lat, double lon) {
-      if (latLng != null) {
-        latLng.setLatitude(lat);
-        latLng.setLongitude(lon);
-      }
-    }
-
     void updateAccuracy(@NonNull Location location) {
       if (accuracyAnimator != null && accuracyAnimator.isRunning()) {
         // use current accuracy as a starting point
@@ -990,33 +1008,27 @@ public class MyLocationView extends View {
     @Override
     void updateLatLng(@NonNull Location location) {
       super.updateLatLng(location);
+      locationUpdateTimestamp = SystemClock.elapsedRealtime();
       if (latLng == null) {
         // first location fix
         latLng = new LatLng(location);
-        locationUpdateTimestamp = SystemClock.elapsedRealtime();
-      }
-
-      // updateLatLng timestamp
-      float previousUpdateTimeStamp = locationUpdateTimestamp;
-      locationUpdateTimestamp = SystemClock.elapsedRealtime();
-
-      // calculate animation duration
-      int animationDuration;
-      if (previousUpdateTimeStamp == 0) {
-        animationDuration = 0;
+        locationInterpolator.reset();
       } else {
-        animationDuration = (int) ((locationUpdateTimestamp - previousUpdateTimeStamp) * 1.1f)
-        /*make animation slightly longer*/;
+        latLng.setLatitude(location.getLatitude());
+        latLng.setLongitude(location.getLongitude());
       }
 
-      // calculate interpolated location
-      latLng = new LatLng(location);
-      CameraPosition.Builder builder = new CameraPosition.Builder().target(latLng);
+      if (!locationChangeAnimationEnabled) {
+        // take the fix as is instead of blending it in
+        locationInterpolator.reset();
+      }
+      locationInterpolator.update(locationUpdateTimestamp, location.getLatitude(), location.getLongitude(),
+        location.hasSpeed() && location.hasBearing(), location.getSpeed(), location.getBearing());
 
       // add direction
       if (myBearingTrackingMode == MyBearingTracking.GPS) {
-        if (location.hasBearing()) {
-          builder.bearing(location.getBearing());
+        if (followCameraController != null && location.hasBearing()) {
+          followCameraController.setBearing(location.getBearing());
         }
         setCompass(0, COMPASS_UPDATE_RATE_MS);
       }
@@ -1024,12 +1036,14 @@ public class MyLocationView extends View {
       // accuracy
       updateAccuracy(location);
 
-      if (locationChangeAnimationEnabled && animationDuration > 0) {
-        // ease to new camera position with a linear interpolator
-        mapboxMap.easeCamera(CameraUpdateFactory.newCameraPosition(builder.build()), animationDuration, false, null,
-          true);
+      // the camera follows the interpolated location once per frame
+      if (followCameraController == null) {
+        return;
+      }
+      if (locationChangeAnimationEnabled) {
+        followCameraController.start();
       } else {
-        mapboxMap.moveCamera(CameraUpdateFactory.newCameraPosition(builder.build()));
+        followCameraController.jump(locationUpdateTimestamp);
       }
     }
 
@@ -1048,40 +1062,41 @@ public class MyLocationView extends View {
     @Override
     void updateLatLng(@NonNull final Location location) {
       super.updateLatLng(location);
+      locationUpdateTimestamp = SystemClock.elapsedRealtime();
       if (latLng == null) {
         // first location update
         latLng = new LatLng(location);
-        locationUpdateTimestamp = SystemClock.elapsedRealtime();
+        locationInterpolator.reset();
       }
 
-      // update LatLng location
-      LatLng newLocation = new LatLng(location);
-
       // update LatLng accuracy
       updateAccuracy(location);
 
-      // calculate updateLatLng time + add some extra offset to improve animation
-      long previousUpdateTimeStamp = locationUpdateTimestamp;
-      locationUpdateTimestamp = SystemClock.elapsedRealtime();
-      long locationUpdateDuration = (long) ((locationUpdateTimestamp - previousUpdateTimeStamp) * 1.2f);
+      // filter the fix, the frame animator moves the marker towards the estimate
+      locationInterpolator.update(locationUpdateTimestamp, location.getLatitude(), location.getLongitude(),
+        location.hasSpeed() && location.hasBearing(), location.getSpeed(), location.getBearing());
 
-      // animate changes
-      if (locationChangeAnimator != null) {
-        locationChangeAnimator.end();
-        locationChangeAnimator = null;
-      }
-
-      locationChangeAnimator = ValueAnimator.ofFloat(0.0f, 1.0f);
       if (locationChangeAnimationEnabled) {
-        locationChangeAnimator.setDuration(locationUpdateDuration);
+        startLocationFrameAnimator();
       } else {
-        locationChangeAnimator.setDuration(0);
+        latLng.setLatitude(location.getLatitude());
+        latLng.setLongitude(location.getLongitude());
+        update();
+      }
+    }
+
+    private void startLocationFrameAnimator() {
+      if (locationChangeAnimator == null) {
+        // a single long-lived animator, used as frame callback while the marker moves
+        locationChangeAnimator = ValueAnimator.ofFloat(0.0f, 1.0f);
+        locationChangeAnimator.setDuration(1000);
+        locationChangeAnimator.setRepeatCount(ValueAnimator.INFINITE);
+        locationChangeAnimator.addUpdateListener(locationFrameListener);
+      }
+
+      if (!locationChangeAnimator.isStarted()) {
+        locationChangeAnimator.start();
       }
-      locationChangeAnimator.addUpdateListener(new MarkerCoordinateAnimatorListener(this,
-        latLng, newLocation
-      ));
-      locationChangeAnimator.start();
-      latLng = newLocation;
     }
 
     @Override
@@ -0,0 +1,184 @@
+package com.mapbox.mapboxsdk.offline;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.services.android.telemetry.constants.GeoConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An offline region defined by a style URL, a line buffered by a distance, zoom range, and
+ * device pixel ratio, e.g. to download the tiles along a route.
+ * <p>
+ * The corridor is approximated by one rectangle per line segment, extended by the buffer distance on
+ * all sides so consecutive segments overlap at the joins. Only the tiles covering these rectangles are
+ * downloaded, see {@link OfflinePolygonRegionDefinition}.
+ * <p>
+ * The line and buffer distance are not stored by the offline database: regions listed by
+ * {@link OfflineManager} have an {@link OfflinePolygonRegionDefinition} containing the corridor polygons.
+ */
+public class OfflineCorridorRegionDefinition extends OfflinePolygonRegionDefinition {
+
+  private static final int RECTANGLE_SIZE = 8;
+
+  private double[] line;
+  private double bufferMeters;
+
+  /**
+   * Constructor to create an OfflineCorridorRegionDefinition from parameters.
+   *
+   * @param styleURL     the style
+   * @param line         the line to buffer, at least one point
+   * @param bufferMeters the distance around the line to include, in meters
+   * @param minZoom      min zoom
+   * @param maxZoom      max zoom
+   * @param pixelRatio   pixel ratio of the device
+   */
+  public OfflineCorridorRegionDefinition(String styleURL, @NonNull List<LatLng> line, double bufferMeters,
+                                         double minZoom, double maxZoom, float pixelRatio) {
+    this(styleURL, flatten(line), bufferMeters, minZoom, maxZoom, pixelRatio);
+  }
+
+  private OfflineCorridorRegionDefinition(String styleURL, double[] line, double bufferMeters,
+                                          double minZoom, double maxZoom, float pixelRatio) {
+    this(styleURL, line, bufferMeters, buffer(line, bufferMeters), minZoom, maxZoom, pixelRatio);
+  }
+
+  private OfflineCorridorRegionDefinition(String styleURL, double[] line, double bufferMeters, double[] rectangles,
+                                          double minZoom, double maxZoom, float pixelRatio) {
+    super(styleURL, rectangles, filled(rectangles.length / RECTANGLE_SIZE, 4),
+      filled(rectangles.length / RECTANGLE_SIZE, 1), minZoom, maxZoom, pixelRatio);
+    this.line = line;
+    this.bufferMeters = bufferMeters;
+  }
+
+  /**
+   * Constructor to create an OfflineCorridorRegionDefinition from a Parcel.
+   *
+   * @param parcel the parcel to create the OfflineCorridorRegionDefinition from
+   */
+  public OfflineCorridorRegionDefinition(Parcel parcel) {
+    super(parcel);
+    this.line = parcel.createDoubleArray();
+    this.bufferMeters = parcel.readDouble();
+  }
+
+  /*
+   * Getters
+   */
+
+  public List<LatLng> getLine() {
+    List<LatLng> points = new ArrayList<>(line.length / 2);
+    for (int i = 0; i < line.length; i += 2) {
+      points.add(new LatLng(line[i + 1], line[i]));
+    }
+    return points;
+  }
+
+  public double getBufferMeters() {
+    return bufferMeters;
+  }
+
+  /*
+   * Parceable
+   */
+
+  @Override
+  public void writeToParcel(Parcel dest, int flags) {
+    super.writeToParcel(dest, flags);
+    dest.writeDoubleArray(line);
+    dest.writeDouble(bufferMeters);
+  }
+
+  public static final Parcelable.Creator CREATOR = new Parcelable.Creator() {
+    public OfflineCorridorRegionDefinition createFromParcel(Parcel in) {
+      return new OfflineCorridorRegionDefinition(in);
+    }
+
+    public OfflineCorridorRegionDefinition[] newArray(int size) {
+      return new OfflineCorridorRegionDefinition[size];
+    }
+  };
+
+  /*
+   * Helpers
+   */
+
+  private static double[] flatten(List<LatLng> line) {
+    if (line.isEmpty()) {
+      throw new IllegalArgumentException("A corridor requires at least one point");
+    }
+
+    double[] coordinates = new double[line.size() * 2];
+    for (int i = 0; i < line.size(); i++) {
+      coordinates[i * 2] = line.get(i).getLongitude();
+      coordinates[i * 2 + 1] = line.get(i).getLatitude();
+    }
+    return coordinates;
+  }
+
+  /**
+   * Buffers each segment of the line into a rectangle, using a local equirectangular approximation
+   * around the segment.
+   *
+   * @param line         the longitude and latitude pairs of the line
+   * @param bufferMeters the buffer distance in meters
+   * @return the longitude and latitude pairs of the rectangles, 4 points each
+   */
+  private static double[] buffer(double[] line, double bufferMeters) {
+    if (bufferMeters < 0 || Double.isNaN(bufferMeters) || Double.isInfinite(bufferMeters)) {
+      throw new IllegalArgumentException(
+        "The buffer distance must be a finite, non-negative number, was " + bufferMeters);
+    }
+
+    int segments = Math.max(1, line.length / 2 - 1);
+    double[] rectangles = new double[segments * RECTANGLE_SIZE];
+    double degreesPerMeter = Math.toDegrees(1.0 / GeoConstants.RADIUS_EARTH_METERS);
+    for (int i = 0; i < segments; i++) {
+      int a = i * 2;
+      int b = Math.min(a + 2, line.length - 2);
+      double latitude = (line[a + 1] + line[b + 1]) / 2;
+      double metersPerLongitude = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6) / degreesPerMeter;
+      double metersPerLatitude = 1 / degreesPerMeter;
+
+      // segment direction in meters, a zero length segment buffers into a square
+      double dx = (line[b] - line[a]) * metersPerLongitude;
+      double dy = (line[b + 1] - line[a + 1]) * metersPerLatitude;
+      double length = Math.hypot(dx, dy);
+      if (length > 0) {
+        dx = dx / length * bufferMeters;
+        dy = dy / length * bufferMeters;
+      } else {
+        dx = bufferMeters;
+        dy = 0;
+      }
+
+      // extend along the direction and offset along the normal, in degrees
+      double extendX = dx / metersPerLongitude;
+      double extendY = dy / metersPerLatitude;
+      double normalX = -dy / metersPerLongitude;
+      double normalY = dx / metersPerLatitude;
+      int index = i * RECTANGLE_SIZE;
+      rectangles[index] = line[a] - extendX + normalX;
+      rectangles[index + 1] = line[a + 1] - extendY + normalY;
+      rectangles[index + 2] = line[b] + extendX + normalX;
+      rectangles[index + 3] = line[b + 1] + extendY + normalY;
+      rectangles[index + 4] = line[b] + extendX - normalX;
+      rectangles[index + 5] = line[b + 1] + extendY - normalY;
+      rectangles[index + 6] = line[a] - extendX - normalX;
+      rectangles[index + 7] = line[a + 1] - extendY - normalY;
+    }
+    return rectangles;
+  }
+
+  private static int[] filled(int size, int value) {
+    int[] array = new int[size];
+    Arrays.fill(array, value);
+    return array;
+  }
+}
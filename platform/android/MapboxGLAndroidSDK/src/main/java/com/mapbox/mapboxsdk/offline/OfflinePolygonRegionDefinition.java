@@ -0,0 +1,232 @@
+package com.mapbox.mapboxsdk.offline;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An offline region defined by a style URL, a geographic polygon, zoom range, and
+ * device pixel ratio.
+ * <p>
+ * Only the tiles covering the polygon are downloaded, instead of all the tiles of its bounding box.
+ * The tile cover is computed per zoom level with a scanline fill of the polygon, a tile is included
+ * when the polygon outline crosses it or when its center lies inside the polygon.
+ * <p>
+ * The first ring of a polygon is its outline, the following rings are holes. Rings don't need to be closed.
+ * <p>
+ * Zoom levels and pixel ratio follow the same rules as {@link OfflineTilePyramidRegionDefinition},
+ * {@link #getBounds()} returns the bounding box of the polygon.
+ */
+public class OfflinePolygonRegionDefinition extends OfflineTilePyramidRegionDefinition {
+
+  // Note: Fields used in JNI
+  private double[] coordinates;
+  private int[] ringLengths;
+  private int[] polygonRingCounts;
+
+  /**
+   * Constructor to create an OfflinePolygonRegionDefinition from an outline.
+   *
+   * @param styleURL   the style
+   * @param outline    the outline of the polygon, at least 3 points
+   * @param minZoom    min zoom
+   * @param maxZoom    max zoom
+   * @param pixelRatio pixel ratio of the device
+   */
+  public OfflinePolygonRegionDefinition(String styleURL, @NonNull List<LatLng> outline,
+                                        double minZoom, double maxZoom, float pixelRatio) {
+    this(styleURL, outline, Collections.<List<LatLng>>emptyList(), minZoom, maxZoom, pixelRatio);
+  }
+
+  /**
+   * Constructor to create an OfflinePolygonRegionDefinition from an outline and holes.
+   *
+   * @param styleURL   the style
+   * @param outline    the outline of the polygon, at least 3 points
+   * @param holes      the holes of the polygon, at least 3 points each
+   * @param minZoom    min zoom
+   * @param maxZoom    max zoom
+   * @param pixelRatio pixel ratio of the device
+   */
+  public OfflinePolygonRegionDefinition(String styleURL, @NonNull List<LatLng> outline,
+                                        @NonNull List<List<LatLng>> holes,
+                                        double minZoom, double maxZoom, float pixelRatio) {
+    this(styleURL, flatten(outline, holes), ringLengths(outline, holes), new int[] {holes.size() + 1},
+      minZoom, maxZoom, pixelRatio);
+  }
+
+  /**
+   * Constructor to create an OfflinePolygonRegionDefinition from flat arrays.
+   *
+   * @param styleURL          the style
+   * @param coordinates       the longitude and latitude pairs of all rings
+   * @param ringLengths       the amount of points of each ring
+   * @param polygonRingCounts the amount of rings of each polygon
+   * @param minZoom           min zoom
+   * @param maxZoom           max zoom
+   * @param pixelRatio        pixel ratio of the device
+   */
+  OfflinePolygonRegionDefinition(String styleURL, double[] coordinates, int[] ringLengths,
+                                 int[] polygonRingCounts, double minZoom, double maxZoom, float pixelRatio) {
+    // Note: Also used in JNI
+    super(styleURL, boundsOf(coordinates), minZoom, maxZoom, pixelRatio);
+    this.coordinates = coordinates;
+    this.ringLengths = ringLengths;
+    this.polygonRingCounts = polygonRingCounts;
+  }
+
+  /**
+   * Constructor to create an OfflinePolygonRegionDefinition from a Parcel.
+   *
+   * @param parcel the parcel to create the OfflinePolygonRegionDefinition from
+   */
+  public OfflinePolygonRegionDefinition(Parcel parcel) {
+    super(parcel);
+    this.coordinates = parcel.createDoubleArray();
+    this.ringLengths = parcel.createIntArray();
+    this.polygonRingCounts = parcel.createIntArray();
+  }
+
+  /*
+   * Getters
+   */
+
+  /**
+   * Get the amount of polygons of this region.
+   * <p>
+   * Regions defined with an outline have a single polygon, other definitions, like
+   * {@link OfflineCorridorRegionDefinition}, may consist of several polygons.
+   *
+   * @return the amount of polygons
+   */
+  public int getPolygonCount() {
+    return polygonRingCounts.length;
+  }
+
+  /**
+   * Get the rings of a polygon, the first ring being the outline and the following rings the holes.
+   *
+   * @param polygonIndex the index of the polygon
+   * @return the rings of the polygon
+   */
+  public List<List<LatLng>> getRings(int polygonIndex) {
+    int ring = 0;
+    int offset = 0;
+    for (int i = 0; i < polygonIndex; i++) {
+      for (int j = 0; j < polygonRingCounts[i]; j++) {
+        offset += ringLengths[ring++] * 2;
+      }
+    }
+
+    List<List<LatLng>> rings = new ArrayList<>(polygonRingCounts[polygonIndex]);
+    for (int i = 0; i < polygonRingCounts[polygonIndex]; i++) {
+      int length = ringLengths[ring++];
+      List<LatLng> points = new ArrayList<>(length);
+      for (int j = 0; j < length; j++) {
+        points.add(new LatLng(coordinates[offset + 1], coordinates[offset]));
+        offset += 2;
+      }
+      rings.add(points);
+    }
+    return rings;
+  }
+
+  /**
+   * Get the amount of tiles covering the polygons at a zoom level.
+   *
+   * @param zoom the integer zoom level
+   * @return the amount of covering tiles
+   */
+  long getTileCount(int zoom) {
+    return new PolygonTileCover(coordinates, ringLengths, polygonRingCounts).count(zoom);
+  }
+
+  /*
+   * Parceable
+   */
+
+  @Override
+  public void writeToParcel(Parcel dest, int flags) {
+    super.writeToParcel(dest, flags);
+    dest.writeDoubleArray(coordinates);
+    dest.writeIntArray(ringLengths);
+    dest.writeIntArray(polygonRingCounts);
+  }
+
+  public static final Parcelable.Creator CREATOR = new Parcelable.Creator() {
+    public OfflinePolygonRegionDefinition createFromParcel(Parcel in) {
+      return new OfflinePolygonRegionDefinition(in);
+    }
+
+    public OfflinePolygonRegionDefinition[] newArray(int size) {
+      return new OfflinePolygonRegionDefinition[size];
+    }
+  };
+
+  /*
+   * Helpers
+   */
+
+  private static double[] flatten(List<LatLng> outline, List<List<LatLng>> holes) {
+    int size = outline.size();
+    for (List<LatLng> hole : holes) {
+      size += hole.size();
+    }
+
+    double[] coordinates = new double[size * 2];
+    int index = flatten(outline, coordinates, 0);
+    for (List<LatLng> hole : holes) {
+      index = flatten(hole, coordinates, index);
+    }
+    return coordinates;
+  }
+
+  private static int flatten(List<LatLng> ring, double[] coordinates, int index) {
+    for (LatLng latLng : ring) {
+      coordinates[index++] = latLng.getLongitude();
+      coordinates[index++] = latLng.getLatitude();
+    }
+    return index;
+  }
+
+  private static int[] ringLengths(List<LatLng> outline, List<List<LatLng>> holes) {
+    int[] lengths = new int[holes.size() + 1];
+    lengths[0] = checkRing(outline);
+    for (int i = 0; i < holes.size(); i++) {
+      lengths[i + 1] = checkRing(holes.get(i));
+    }
+    return lengths;
+  }
+
+  private static int checkRing(List<LatLng> ring) {
+    if (ring.size() < 3) {
+      throw new IllegalArgumentException("A polygon ring requires at least 3 points, was " + ring.size());
+    }
+    return ring.size();
+  }
+
+  private static LatLngBounds boundsOf(double[] coordinates) {
+    if (coordinates.length == 0) {
+      throw new IllegalArgumentException("A polygon region requires coordinates");
+    }
+
+    double west = Double.MAX_VALUE;
+    double south = Double.MAX_VALUE;
+    double east = -Double.MAX_VALUE;
+    double north = -Double.MAX_VALUE;
+    for (int i = 0; i < coordinates.length; i += 2) {
+      west = Math.min(west, coordinates[i]);
+      east = Math.max(east, coordinates[i]);
+      south = Math.min(south, coordinates[i + 1]);
+      north = Math.max(north, coordinates[i + 1]);
+    }
+    return LatLngBounds.from(north, east, south, west);
+  }
+}
@@ -3,6 +3,7 @@ package com.mapbox.mapboxsdk.offline;
 import android.os.Handler;
 import android.os.Looper;
 import android.support.annotation.IntDef;
+import android.support.annotation.IntRange;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
@@ -11,6 +12,7 @@ import com.mapbox.mapboxsdk.storage.FileSource;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.Executor;
 
 /**
  * An offline region is the basic building block for offline mobile maps.
@@ -53,6 +55,9 @@ public class OfflineRegion {
   // Makes sure callbacks come back to the main thread
   private Handler handler;
 
+  // Throttles status updates when the observer was registered with a maximum update rate
+  private OfflineRegionStatusCoalescer statusCoalescer;
+
   /**
    * A region can have a single observer, which gets notified whenever a change
    * to the region's status occurs.
@@ -253,6 +258,7 @@ public class OfflineRegion {
    * @param observer the observer to be notified
    */
   public void setObserver(@Nullable final OfflineRegionObserver observer) {
+    cancelStatusCoalescer();
     setOfflineRegionObserver(new OfflineRegionObserver() {
       @Override
       public void onStatusChanged(final OfflineRegionStatus status) {
@@ -298,6 +304,101 @@ public class OfflineRegion {
     });
   }
 
+  /**
+   * Register an observer to be notified when the state of the region changes, limiting the amount of
+   * status updates delivered on the main thread.
+   * <p>
+   * Status updates are coalesced: at most {@code maxUpdatesPerSecond} updates are delivered per second and
+   * only the latest status is kept, intermediate updates are dropped. Errors and tile count limit
+   * notifications are not throttled.
+   * </p>
+   *
+   * @param observer            the observer to be notified
+   * @param maxUpdatesPerSecond the maximum amount of status updates per second, must be between 1 and 1000
+   */
+  public void setObserver(@Nullable final OfflineRegionObserver observer,
+                          @IntRange(from = 1, to = 1000) int maxUpdatesPerSecond) {
+    setObserver(observer, maxUpdatesPerSecond, null);
+  }
+
+  /**
+   * Register an observer to be notified when the state of the region changes, limiting the amount of
+   * status updates and delivering them on the given executor.
+   * <p>
+   * Status updates are coalesced: at most {@code maxUpdatesPerSecond} updates are delivered per second and
+   * only the latest status is kept, intermediate updates are dropped. Errors and tile count limit
+   * notifications are not throttled.
+   * </p>
+   *
+   * @param observer            the observer to be notified
+   * @param maxUpdatesPerSecond the maximum amount of status updates per second, must be between 1 and 1000
+   * @param executor            the executor to deliver updates on, or null to deliver on the main thread
+   */
+  public void setObserver(@Nullable final OfflineRegionObserver observer,
+                          @IntRange(from = 1, to = 1000) int maxUpdatesPerSecond,
+                          @Nullable final Executor executor) {
+    if (maxUpdatesPerSecond < 1 || maxUpdatesPerSecond > 1000) {
+      throw new IllegalArgumentException("maxUpdatesPerSecond must be between 1 and 1000, was " + maxUpdatesPerSecond);
+    }
+
+    if (observer == null) {
+      setObserver(null);
+      return;
+    }
+
+    cancelStatusCoalescer();
+    final OfflineRegionStatusCoalescer coalescer =
+      new OfflineRegionStatusCoalescer(observer, getHandler(), executor, maxUpdatesPerSecond);
+    statusCoalescer = coalescer;
+    setOfflineRegionObserver(new OfflineRegionObserver() {
+      @Override
+      public void onStatusChanged(final OfflineRegionStatus status) {
+        if (deliverMessages()) {
+          coalescer.offer(status);
+        }
+      }
+
+      @Override
+      public void onError(final OfflineRegionError error) {
+        if (deliverMessages()) {
+          deliver(executor, new Runnable() {
+            @Override
+            public void run() {
+              observer.onError(error);
+            }
+          });
+        }
+      }
+
+      @Override
+      public void mapboxTileCountLimitExceeded(final long limit) {
+        if (deliverMessages()) {
+          deliver(executor, new Runnable() {
+            @Override
+            public void run() {
+              observer.mapboxTileCountLimitExceeded(limit);
+            }
+          });
+        }
+      }
+    });
+  }
+
+  private void deliver(@Nullable Executor executor, Runnable runnable) {
+    if (executor != null) {
+      executor.execute(runnable);
+    } else {
+      getHandler().post(runnable);
+    }
+  }
+
+  private void cancelStatusCoalescer() {
+    if (statusCoalescer != null) {
+      statusCoalescer.cancel();
+      statusCoalescer = null;
+    }
+  }
+
   /**
    * Pause or resume downloading of regional resources.
    * <p>
@@ -307,14 +408,46 @@ public class OfflineRegion {
    * @param state the download state
    */
   public void setDownloadState(@DownloadState int state) {
+    updateState(state);
+    setOfflineRegionDownloadState(state);
+  }
+
+  /**
+   * Refresh the resources of the region, e.g. to pick up map data updates of a previously completed download.
+   * <p>
+   * Instead of downloading the region again, resources already stored are revalidated with conditional requests
+   * and only rewritten when they changed on the server. Resources that are missing are downloaded. Progress and
+   * the revalidated, changed and unchanged resource counts are reported to the observer through
+   * {@link OfflineRegionStatus}.
+   * </p>
+   * <p>
+   * The region is active while refreshing. After the refresh has been completed, you are required to reset the
+   * state of the region to STATE_INACTIVE.
+   * </p>
+   */
+  public void refresh() {
+    updateState(STATE_ACTIVE);
+    refreshOfflineRegion();
+  }
+
+  /**
+   * Keeps the file source active while the region is active. The file source is only activated or deactivated
+   * when the state changes, so its active count stays balanced when a state is set again or a region is refreshed
+   * while downloading.
+   *
+   * @param state the new state
+   */
+  void updateState(@DownloadState int state) {
+    if (this.state == state) {
+      return;
+    }
+
     if (state == STATE_ACTIVE) {
       fileSource.activate();
     } else {
       fileSource.deactivate();
     }
-
     this.state = state;
-    setOfflineRegionDownloadState(state);
   }
 
   /**
@@ -368,6 +501,7 @@ public class OfflineRegion {
   public void delete(@NonNull final OfflineRegionDeleteCallback callback) {
     if (!isDeleted) {
       isDeleted = true;
+      cancelStatusCoalescer();
       deleteOfflineRegion(new OfflineRegionDeleteCallback() {
         @Override
         public void onDelete() {
@@ -441,6 +575,8 @@ public class OfflineRegion {
 
   private native void setOfflineRegionDownloadState(@DownloadState int offlineRegionDownloadState);
 
+  private native void refreshOfflineRegion();
+
   private native void getOfflineRegionStatus(OfflineRegionStatusCallback callback);
 
   private native void deleteOfflineRegion(OfflineRegionDeleteCallback callback);
@@ -5,7 +5,9 @@ import com.mapbox.mapboxsdk.geometry.LatLngBounds;
 /**
  * This is the interface that all Offline Region definitions have to implement.
  * <p>
- * For the present, a tile pyramid is the only type of offline region.
+ * A region is either a tile pyramid of a bounding box, see {@link OfflineTilePyramidRegionDefinition}, or a tile
+ * pyramid restricted to polygons, see {@link OfflinePolygonRegionDefinition} and
+ * {@link OfflineCorridorRegionDefinition}.
  */
 public interface OfflineRegionDefinition {
 
@@ -0,0 +1,304 @@
+package com.mapbox.mapboxsdk.offline;
+
+import android.support.annotation.IntDef;
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+import com.mapbox.services.android.telemetry.constants.GeoConstants;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Estimates the amount of tiles and bytes an offline region will require before it is created.
+ * <p>
+ * Tile counts are exact for the tile pyramid of a {@link LatLngBounds} and use the same tile scheme as
+ * {@link LatLngBounds#from(int, int, int)}. Counting is done per zoom level from the tile ranges covering the
+ * bounds, without enumerating tiles, so continental regions at high zoom levels are estimated instantly.
+ * </p>
+ * <p>
+ * The zoom levels of a region definition are converted to the zoom levels of the tiles of a source the same way
+ * the map does when downloading a region, taking the tile size and type of the source into account.
+ * </p>
+ * <p>
+ * Sizes are projected from the average tile size of regions that were already downloaded, see
+ * {@link #getAverageTileSize(OfflineRegionStatus...)}.
+ * </p>
+ */
+public class OfflineRegionEstimator {
+
+  @IntDef( {SOURCE_TYPE_VECTOR, SOURCE_TYPE_RASTER})
+  @Retention(RetentionPolicy.SOURCE)
+  public @interface SourceType {
+  }
+
+  /**
+   * A vector source, covering zoom levels are rounded down.
+   */
+  public static final int SOURCE_TYPE_VECTOR = 0;
+
+  /**
+   * A raster source, covering zoom levels are rounded to the nearest zoom level.
+   */
+  public static final int SOURCE_TYPE_RASTER = 1;
+
+  /**
+   * The tile size of vector sources, and the tile size the zoom levels of the map are expressed in.
+   */
+  public static final int DEFAULT_TILE_SIZE = 512;
+
+  /**
+   * The maximum zoom level used when a region definition has an unbounded (∞) maximum zoom level
+   * and no source maximum zoom level is provided.
+   */
+  public static final int DEFAULT_SOURCE_MAX_ZOOM = 16;
+
+  private static final int MAX_ZOOM = 30;
+
+  private OfflineRegionEstimator() {
+  }
+
+  /**
+   * Get the amount of tiles covering the bounds at a zoom level.
+   *
+   * @param bounds the bounds to cover
+   * @param zoom   the integer zoom level, between 0 and 30
+   * @return the amount of tiles covering the bounds
+   */
+  public static long getTileCount(@NonNull LatLngBounds bounds, int zoom) {
+    checkZoom(zoom);
+    long[] range = new long[4];
+    if (!getTileRange(bounds, zoom, range)) {
+      return 0;
+    }
+    return (range[2] - range[0] + 1) * (range[3] - range[1] + 1);
+  }
+
+  /**
+   * Get the amount of tiles covering the bounds for each zoom level of a zoom range.
+   *
+   * @param bounds  the bounds to cover
+   * @param minZoom the minimum integer zoom level, inclusive
+   * @param maxZoom the maximum integer zoom level, inclusive
+   * @return the tile counts, index 0 holding the count for minZoom
+   */
+  public static long[] getTileCounts(@NonNull LatLngBounds bounds, int minZoom, int maxZoom) {
+    checkZoomRange(minZoom, maxZoom);
+    long[] counts = new long[maxZoom - minZoom + 1];
+    for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
+      counts[zoom - minZoom] = getTileCount(bounds, zoom);
+    }
+    return counts;
+  }
+
+  /**
+   * Get the amount of tiles covering the bounds for a zoom range.
+   *
+   * @param bounds  the bounds to cover
+   * @param minZoom the minimum integer zoom level, inclusive
+   * @param maxZoom the maximum integer zoom level, inclusive
+   * @return the total tile count
+   */
+  public static long getTileCount(@NonNull LatLngBounds bounds, int minZoom, int maxZoom) {
+    long total = 0;
+    for (long count : getTileCounts(bounds, minZoom, maxZoom)) {
+      total += count;
+    }
+    return total;
+  }
+
+  /**
+   * Get the amount of tiles a tile pyramid region definition requires for a single vector tile source.
+   * <p>
+   * An unbounded maximum zoom level is capped at {@link #DEFAULT_SOURCE_MAX_ZOOM}.
+   * </p>
+   *
+   * @param definition the region definition
+   * @return the total tile count
+   */
+  public static long getTileCount(@NonNull OfflineTilePyramidRegionDefinition definition) {
+    return getTileCount(definition, DEFAULT_SOURCE_MAX_ZOOM);
+  }
+
+  /**
+   * Get the amount of tiles a tile pyramid region definition requires for a single vector tile source with
+   * {@link #DEFAULT_TILE_SIZE} tiles.
+   * <p>
+   * For an {@link OfflinePolygonRegionDefinition} only the tiles covering its polygons are counted.
+   * </p>
+   *
+   * @param definition    the region definition
+   * @param sourceMaxZoom the maximum zoom level provided by the tile source
+   * @return the total tile count
+   */
+  public static long getTileCount(@NonNull OfflineTilePyramidRegionDefinition definition, int sourceMaxZoom) {
+    return getTileCount(definition, SOURCE_TYPE_VECTOR, DEFAULT_TILE_SIZE, 0, sourceMaxZoom);
+  }
+
+  /**
+   * Get the amount of tiles a tile pyramid region definition requires for a single tile source.
+   * <p>
+   * For an {@link OfflinePolygonRegionDefinition} only the tiles covering its polygons are counted.
+   * </p>
+   *
+   * @param definition    the region definition
+   * @param sourceType    the type of the tile source
+   * @param tileSize      the tile size of the tile source, e.g. 256 for most raster sources
+   * @param sourceMinZoom the minimum zoom level provided by the tile source
+   * @param sourceMaxZoom the maximum zoom level provided by the tile source
+   * @return the total tile count
+   */
+  public static long getTileCount(@NonNull OfflineTilePyramidRegionDefinition definition, @SourceType int sourceType,
+                                  int tileSize, int sourceMinZoom, int sourceMaxZoom) {
+    int minZoom = Math.max(coveringZoomLevel(definition.getMinZoom(), sourceType, tileSize), sourceMinZoom);
+    int maxZoom = Math.min(coveringZoomLevel(definition.getMaxZoom(), sourceType, tileSize), sourceMaxZoom);
+    if (maxZoom < minZoom) {
+      return 0;
+    }
+
+    if (definition instanceof OfflinePolygonRegionDefinition) {
+      checkZoomRange(minZoom, maxZoom);
+      OfflinePolygonRegionDefinition polygonDefinition = (OfflinePolygonRegionDefinition) definition;
+      long total = 0;
+      for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
+        total += polygonDefinition.getTileCount(zoom);
+      }
+      return total;
+    }
+    return getTileCount(definition.getBounds(), minZoom, maxZoom);
+  }
+
+  /**
+   * Converts a zoom level of the map to the zoom level of the tiles of a source covering it.
+   *
+   * @param zoom       the zoom level of the map
+   * @param sourceType the type of the tile source
+   * @param tileSize   the tile size of the tile source
+   * @return the covering zoom level, Integer.MAX_VALUE for an unbounded zoom level
+   */
+  static int coveringZoomLevel(double zoom, @SourceType int sourceType, int tileSize) {
+    if (Double.isInfinite(zoom)) {
+      return Integer.MAX_VALUE;
+    }
+    zoom += Math.log((double) DEFAULT_TILE_SIZE / tileSize) / Math.log(2);
+    return (int) (sourceType == SOURCE_TYPE_RASTER ? Math.round(zoom) : Math.floor(zoom));
+  }
+
+  /**
+   * Get the average size of a tile, in bytes, from the status of previously downloaded regions.
+   *
+   * @param samples the statuses of regions to sample
+   * @return the average tile size in bytes, or 0 if no tiles were downloaded
+   */
+  public static double getAverageTileSize(@NonNull OfflineRegionStatus... samples) {
+    long tileCount = 0;
+    long tileSize = 0;
+    for (OfflineRegionStatus status : samples) {
+      tileCount += status.getCompletedTileCount();
+      tileSize += status.getCompletedTileSize();
+    }
+    return tileCount > 0 ? (double) tileSize / tileCount : 0;
+  }
+
+  /**
+   * Projects the size, in bytes, of a tile pyramid region definition for a single tile source.
+   *
+   * @param definition      the region definition
+   * @param sourceMaxZoom   the maximum zoom level provided by the tile source
+   * @param averageTileSize the average size of a tile in bytes
+   * @return the projected size in bytes
+   * @see #getAverageTileSize(OfflineRegionStatus...)
+   */
+  public static long estimateSize(@NonNull OfflineTilePyramidRegionDefinition definition, int sourceMaxZoom,
+                                  double averageTileSize) {
+    return Math.round(getTileCount(definition, sourceMaxZoom) * averageTileSize);
+  }
+
+  /**
+   * Projects the size, in bytes, of a tile pyramid region definition for a single tile source.
+   *
+   * @param definition      the region definition
+   * @param sourceType      the type of the tile source
+   * @param tileSize        the tile size of the tile source
+   * @param sourceMinZoom   the minimum zoom level provided by the tile source
+   * @param sourceMaxZoom   the maximum zoom level provided by the tile source
+   * @param averageTileSize the average size of a tile in bytes
+   * @return the projected size in bytes
+   * @see #getAverageTileSize(OfflineRegionStatus...)
+   */
+  public static long estimateSize(@NonNull OfflineTilePyramidRegionDefinition definition, @SourceType int sourceType,
+                                  int tileSize, int sourceMinZoom, int sourceMaxZoom, double averageTileSize) {
+    return Math.round(getTileCount(definition, sourceType, tileSize, sourceMinZoom, sourceMaxZoom) * averageTileSize);
+  }
+
+  /**
+   * Calculates the range of tiles covering the bounds at a zoom level.
+   *
+   * @param bounds the bounds to cover
+   * @param zoom   the zoom level
+   * @param range  the array receiving the range as minX, minY, maxX, maxY
+   * @return false if no tile covers the bounds
+   */
+  static boolean getTileRange(LatLngBounds bounds, int zoom, long[] range) {
+    double west = Math.max(bounds.getLonWest(), GeoConstants.MIN_LONGITUDE);
+    double east = Math.min(bounds.getLonEast(), GeoConstants.MAX_LONGITUDE);
+    double north = Math.min(bounds.getLatNorth(), GeoConstants.MAX_LATITUDE);
+    double south = Math.max(bounds.getLatSouth(), GeoConstants.MIN_LATITUDE);
+    if (west > east || south > north) {
+      return false;
+    }
+
+    long tiles = 1L << zoom;
+    long minX = clamp((long) Math.floor(lonToTileX(west, tiles)), tiles);
+    long maxX = clamp((long) Math.ceil(lonToTileX(east, tiles)) - 1, tiles);
+    long minY = clamp((long) Math.floor(latToTileY(north, tiles)), tiles);
+    long maxY = clamp((long) Math.ceil(latToTileY(south, tiles)) - 1, tiles);
+    range[0] = minX;
+    range[1] = minY;
+    range[2] = Math.max(minX, maxX);
+    range[3] = Math.max(minY, maxY);
+    return true;
+  }
+
+  /**
+   * Converts a longitude to a fractional tile x coordinate.
+   *
+   * @param longitude the longitude
+   * @param tiles     the amount of tiles per axis at the zoom level
+   * @return the fractional tile x coordinate
+   */
+  static double lonToTileX(double longitude, long tiles) {
+    return (longitude + GeoConstants.MAX_LONGITUDE) / 360.0 * tiles;
+  }
+
+  /**
+   * Converts a latitude to a fractional tile y coordinate, the inverse of the tile math used by
+   * {@link LatLngBounds#from(int, int, int)}.
+   *
+   * @param latitude the latitude
+   * @param tiles    the amount of tiles per axis at the zoom level
+   * @return the fractional tile y coordinate
+   */
+  static double latToTileY(double latitude, long tiles) {
+    double sin = Math.sin(Math.toRadians(latitude));
+    return (0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI)) * tiles;
+  }
+
+  private static long clamp(long value, long tiles) {
+    return Math.max(0, Math.min(tiles - 1, value));
+  }
+
+  private static void checkZoom(int zoom) {
+    if (zoom < 0 || zoom > MAX_ZOOM) {
+      throw new IllegalArgumentException("Zoom level must be between 0 and " + MAX_ZOOM + ", was " + zoom);
+    }
+  }
+
+  private static void checkZoomRange(int minZoom, int maxZoom) {
+    checkZoom(minZoom);
+    checkZoom(maxZoom);
+    if (maxZoom < minZoom) {
+      throw new IllegalArgumentException("maxZoom must be greater than or equal to minZoom");
+    }
+  }
+}
@@ -56,6 +56,16 @@ public class OfflineRegionStatus {
    */
   private boolean requiredResourceCountIsPrecise = true;
 
+  /**
+   * The number of stored resources that have been revalidated while refreshing the region.
+   */
+  private long revalidatedResourceCount = 0;
+
+  /**
+   * The number of revalidated resources that changed on the server and have been rewritten.
+   */
+  private long changedResourceCount = 0;
+
   /*
    * Use setObserver(OfflineRegionObserver observer) to obtain a OfflineRegionStatus object.
    *
@@ -64,7 +74,8 @@ public class OfflineRegionStatus {
   private OfflineRegionStatus(int downloadState, long completedResourceCount,
                               long completedResourceSize, long completedTileCount,
                               long completedTileSize, long requiredResourceCount,
-                              boolean requiredResourceCountIsPrecise) {
+                              boolean requiredResourceCountIsPrecise, long revalidatedResourceCount,
+                              long changedResourceCount) {
     this.downloadState = downloadState;
     this.completedResourceCount = completedResourceCount;
     this.completedResourceSize = completedResourceSize;
@@ -72,6 +83,8 @@ public class OfflineRegionStatus {
     this.completedTileSize = completedTileSize;
     this.requiredResourceCount = requiredResourceCount;
     this.requiredResourceCountIsPrecise = requiredResourceCountIsPrecise;
+    this.revalidatedResourceCount = revalidatedResourceCount;
+    this.changedResourceCount = changedResourceCount;
   }
 
   /**
@@ -166,4 +179,36 @@ public class OfflineRegionStatus {
     return requiredResourceCountIsPrecise;
   }
 
+  /**
+   * Get the number of stored resources that have been revalidated with a conditional request
+   * while refreshing the region, see {@link OfflineRegion#refresh()}.
+   * <p>
+   * Revalidated resources are a subset of the completed resources.
+   * </p>
+   *
+   * @return the amount of revalidated resources
+   */
+  public long getRevalidatedResourceCount() {
+    return revalidatedResourceCount;
+  }
+
+  /**
+   * Get the number of revalidated resources that changed on the server and have been rewritten.
+   *
+   * @return the amount of changed resources
+   */
+  public long getChangedResourceCount() {
+    return changedResourceCount;
+  }
+
+  /**
+   * Get the number of revalidated resources that didn't change on the server. Only their
+   * expiration has been updated.
+   *
+   * @return the amount of unchanged resources
+   */
+  public long getUnchangedResourceCount() {
+    return revalidatedResourceCount - changedResourceCount;
+  }
+
 }
@@ -0,0 +1,99 @@
+package com.mapbox.mapboxsdk.offline;
+
+import android.os.Handler;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Coalesces offline region status updates so an observer is notified at most a fixed number of
+ * times per second.
+ * <p>
+ * Only the latest status is retained, intermediate updates that arrive within the same interval are
+ * dropped. The latest status is always delivered once the interval has elapsed.
+ * </p>
+ */
+class OfflineRegionStatusCoalescer implements Runnable {
+
+  private final OfflineRegion.OfflineRegionObserver observer;
+  private final Handler handler;
+  private final Executor executor;
+  private final long intervalMillis;
+
+  private final AtomicReference<OfflineRegionStatus> pendingStatus = new AtomicReference<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private volatile long lastDeliveryTime;
+  private volatile boolean cancelled;
+
+  /**
+   * Creates a status coalescer.
+   *
+   * @param observer            the observer to notify
+   * @param handler             the handler used to schedule deliveries
+   * @param executor            the executor to deliver on, or null to deliver on the handler thread
+   * @param maxUpdatesPerSecond the maximum amount of status updates delivered per second
+   */
+  OfflineRegionStatusCoalescer(@NonNull OfflineRegion.OfflineRegionObserver observer, @NonNull Handler handler,
+                               @Nullable Executor executor, int maxUpdatesPerSecond) {
+    this.observer = observer;
+    this.handler = handler;
+    this.executor = executor;
+    this.intervalMillis = 1000 / maxUpdatesPerSecond;
+  }
+
+  /**
+   * Offers a new status, replacing any status that hasn't been delivered yet.
+   * <p>
+   * Can be called from any thread.
+   * </p>
+   *
+   * @param status the latest offline region status
+   */
+  void offer(OfflineRegionStatus status) {
+    if (cancelled) {
+      return;
+    }
+
+    pendingStatus.set(status);
+    if (scheduled.compareAndSet(false, true)) {
+      long delay = lastDeliveryTime + intervalMillis - SystemClock.uptimeMillis();
+      handler.postDelayed(this, Math.max(0, delay));
+    }
+  }
+
+  /**
+   * Drops the pending status and stops any further deliveries.
+   */
+  void cancel() {
+    cancelled = true;
+    handler.removeCallbacks(this);
+    pendingStatus.set(null);
+  }
+
+  @Override
+  public void run() {
+    scheduled.set(false);
+    final OfflineRegionStatus status = pendingStatus.getAndSet(null);
+    if (status == null || cancelled) {
+      return;
+    }
+
+    lastDeliveryTime = SystemClock.uptimeMillis();
+    if (executor == null) {
+      observer.onStatusChanged(status);
+    } else {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          if (!cancelled) {
+            observer.onStatusChanged(status);
+          }
+        }
+      });
+    }
+  }
+}
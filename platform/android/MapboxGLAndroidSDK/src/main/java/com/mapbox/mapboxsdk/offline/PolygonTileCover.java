@@ -0,0 +1,243 @@
+package com.mapbox.mapboxsdk.offline;
+
+import com.mapbox.services.android.telemetry.constants.GeoConstants;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Computes the tiles covering a set of polygons at a zoom level with a scanline polygon fill.
+ * <p>
+ * Polygons are given as flat arrays: longitude/latitude pairs, the amount of points per ring and the amount
+ * of rings per polygon. The first ring of a polygon is its outline, other rings are holes. Polygons may overlap,
+ * the covers of all polygons are merged.
+ * </p>
+ * <p>
+ * A tile is part of the cover when a polygon edge touches it or when its center lies inside a polygon. Edges lying
+ * exactly on tile boundaries include the tiles on both sides, so the cover is conservative. The native tile cover
+ * of offline regions restricted to a geometry uses the same algorithm.
+ * </p>
+ */
+class PolygonTileCover {
+
+  private final double[] coordinates;
+  private final int[] ringLengths;
+  private final int[] polygonRingCounts;
+
+  private int minRow;
+  private int[][] rowIntervals;
+  private int[] rowSizes;
+
+  PolygonTileCover(double[] coordinates, int[] ringLengths, int[] polygonRingCounts) {
+    this.coordinates = coordinates;
+    this.ringLengths = ringLengths;
+    this.polygonRingCounts = polygonRingCounts;
+  }
+
+  /**
+   * Get the amount of tiles covering the polygons at a zoom level.
+   *
+   * @param zoom the integer zoom level
+   * @return the amount of covering tiles
+   */
+  long count(int zoom) {
+    if (!scan(zoom)) {
+      return 0;
+    }
+
+    long count = 0;
+    for (int row = 0; row < rowSizes.length; row++) {
+      int size = mergeRow(row);
+      int[] intervals = rowIntervals[row];
+      for (int i = 0; i < size; i += 2) {
+        count += intervals[i + 1] - intervals[i] + 1;
+      }
+    }
+    return count;
+  }
+
+  private boolean scan(int zoom) {
+    if (coordinates.length == 0) {
+      return false;
+    }
+
+    long tiles = 1L << zoom;
+    double[] tileCoordinates = new double[coordinates.length];
+    double minY = Double.MAX_VALUE;
+    double maxY = -Double.MAX_VALUE;
+    for (int i = 0; i < coordinates.length; i += 2) {
+      double longitude = Math.max(GeoConstants.MIN_LONGITUDE, Math.min(GeoConstants.MAX_LONGITUDE, coordinates[i]));
+      double latitude = Math.max(GeoConstants.MIN_LATITUDE, Math.min(GeoConstants.MAX_LATITUDE, coordinates[i + 1]));
+      tileCoordinates[i] = OfflineRegionEstimator.lonToTileX(longitude, tiles);
+      tileCoordinates[i + 1] = OfflineRegionEstimator.latToTileY(latitude, tiles);
+      minY = Math.min(minY, tileCoordinates[i + 1]);
+      maxY = Math.max(maxY, tileCoordinates[i + 1]);
+    }
+
+    minRow = clamp((long) Math.floor(minY), tiles);
+    int rows = clamp((long) Math.floor(maxY), tiles) - minRow + 1;
+    rowIntervals = new int[rows][];
+    rowSizes = new int[rows];
+
+    int ring = 0;
+    int offset = 0;
+    for (int ringCount : polygonRingCounts) {
+      int polygonOffset = offset;
+      int edgeCount = 0;
+      for (int i = 0; i < ringCount; i++) {
+        int length = ringLengths[ring + i];
+        addEdgeTiles(tileCoordinates, offset, length, tiles);
+        edgeCount += length;
+        offset += length * 2;
+      }
+      addInteriorTiles(tileCoordinates, polygonOffset, ring, ringCount, edgeCount, tiles);
+      ring += ringCount;
+    }
+    return true;
+  }
+
+  private void addEdgeTiles(double[] points, int offset, int length, long tiles) {
+    for (int i = 0; i < length; i++) {
+      int a = offset + i * 2;
+      int b = offset + ((i + 1) % length) * 2;
+      double x0 = points[a];
+      double y0 = points[a + 1];
+      double x1 = points[b];
+      double y1 = points[b + 1];
+      if (y0 > y1) {
+        double tmp = x0;
+        x0 = x1;
+        x1 = tmp;
+        tmp = y0;
+        y0 = y1;
+        y1 = tmp;
+      }
+
+      int startRow = clamp((long) Math.floor(y0), tiles);
+      int endRow = clamp((long) Math.floor(y1), tiles);
+      for (int row = startRow; row <= endRow; row++) {
+        double top = Math.max(y0, row);
+        double bottom = Math.min(y1, row + 1);
+        double xTop = y1 == y0 ? x0 : x0 + (top - y0) * (x1 - x0) / (y1 - y0);
+        double xBottom = y1 == y0 ? x1 : x0 + (bottom - y0) * (x1 - x0) / (y1 - y0);
+        addInterval(row, clamp((long) Math.floor(Math.min(xTop, xBottom)), tiles),
+          clamp((long) Math.floor(Math.max(xTop, xBottom)), tiles));
+      }
+    }
+  }
+
+  private void addInteriorTiles(double[] points, int offset, int ring, int ringCount, int edgeCount, long tiles) {
+    // edges as x0, y0, x1, y1 with y0 <= y1, sorted by y0
+    double[] edges = new double[edgeCount * 4];
+    Integer[] order = new Integer[edgeCount];
+    int edge = 0;
+    for (int r = 0; r < ringCount; r++) {
+      int length = ringLengths[ring + r];
+      for (int i = 0; i < length; i++) {
+        int a = offset + i * 2;
+        int b = offset + ((i + 1) % length) * 2;
+        boolean ascending = points[a + 1] <= points[b + 1];
+        edges[edge * 4] = ascending ? points[a] : points[b];
+        edges[edge * 4 + 1] = ascending ? points[a + 1] : points[b + 1];
+        edges[edge * 4 + 2] = ascending ? points[b] : points[a];
+        edges[edge * 4 + 3] = ascending ? points[b + 1] : points[a + 1];
+        order[edge] = edge;
+        edge++;
+      }
+      offset += length * 2;
+    }
+    final double[] sortEdges = edges;
+    Arrays.sort(order, new Comparator<Integer>() {
+      @Override
+      public int compare(Integer lhs, Integer rhs) {
+        return Double.compare(sortEdges[lhs * 4 + 1], sortEdges[rhs * 4 + 1]);
+      }
+    });
+
+    int[] active = new int[edgeCount];
+    int activeCount = 0;
+    int next = 0;
+    double[] crossings = new double[edgeCount];
+    int lastRow = minRow + rowSizes.length - 1;
+    for (int row = minRow; row <= lastRow; row++) {
+      double scanY = row + 0.5;
+      while (next < edgeCount && edges[order[next] * 4 + 1] <= scanY) {
+        active[activeCount++] = order[next++];
+      }
+
+      int crossingCount = 0;
+      for (int i = 0; i < activeCount; i++) {
+        int e = active[i] * 4;
+        if (edges[e + 3] <= scanY) {
+          // edge ended above the scanline
+          active[i--] = active[--activeCount];
+          continue;
+        }
+        crossings[crossingCount++] = edges[e]
+          + (scanY - edges[e + 1]) * (edges[e + 2] - edges[e]) / (edges[e + 3] - edges[e + 1]);
+      }
+
+      Arrays.sort(crossings, 0, crossingCount);
+      for (int i = 0; i + 1 < crossingCount; i += 2) {
+        long start = (long) Math.ceil(crossings[i] - 0.5);
+        long end = (long) Math.floor(crossings[i + 1] - 0.5);
+        if (end >= start) {
+          addInterval(row, clamp(start, tiles), clamp(end, tiles));
+        }
+      }
+    }
+  }
+
+  private void addInterval(int row, int start, int end) {
+    int index = row - minRow;
+    int[] intervals = rowIntervals[index];
+    int size = rowSizes[index];
+    if (intervals == null) {
+      intervals = rowIntervals[index] = new int[8];
+    } else if (size == intervals.length) {
+      intervals = rowIntervals[index] = Arrays.copyOf(intervals, size * 2);
+    }
+    intervals[size] = start;
+    intervals[size + 1] = end;
+    rowSizes[index] = size + 2;
+  }
+
+  /**
+   * Sorts and merges the intervals of a row in place.
+   *
+   * @param index the row index
+   * @return the size of the merged intervals
+   */
+  private int mergeRow(int index) {
+    int size = rowSizes[index];
+    if (size == 0) {
+      return 0;
+    }
+
+    int[] intervals = rowIntervals[index];
+    long[] packed = new long[size / 2];
+    for (int i = 0; i < packed.length; i++) {
+      packed[i] = ((long) intervals[i * 2] << 32) | (intervals[i * 2 + 1] & 0xFFFFFFFFL);
+    }
+    Arrays.sort(packed);
+
+    int merged = 0;
+    for (long interval : packed) {
+      int start = (int) (interval >> 32);
+      int end = (int) interval;
+      if (merged > 0 && start <= intervals[merged - 1] + 1) {
+        intervals[merged - 1] = Math.max(intervals[merged - 1], end);
+      } else {
+        intervals[merged] = start;
+        intervals[merged + 1] = end;
+        merged += 2;
+      }
+    }
+    rowSizes[index] = merged;
+    return merged;
+  }
+
+  private static int clamp(long value, long tiles) {
+    return (int) Math.max(0, Math.min(tiles - 1, value));
+  }
+}
@@ -5,6 +5,8 @@ import android.graphics.PointF;
 
 import com.mapbox.mapboxsdk.geometry.LatLng;
 
+import java.nio.ByteBuffer;
+
 /**
  * A completed snapshot.
  *
@@ -16,24 +18,37 @@ public class MapSnapshot {
   private Bitmap bitmap;
   private String[] attributions;
   private boolean showLogo;
+  private ByteBuffer pixelBuffer;
 
   /**
    * Created from native side
    */
-  private MapSnapshot(long nativePtr, Bitmap bitmap, String[] attributions, boolean showLogo) {
+  private MapSnapshot(long nativePtr, Bitmap bitmap, ByteBuffer pixelBuffer, String[] attributions, boolean showLogo) {
     this.nativePtr = nativePtr;
     this.bitmap = bitmap;
+    this.pixelBuffer = pixelBuffer;
     this.attributions = attributions;
     this.showLogo = showLogo;
   }
 
   /**
-   * @return the bitmap
+   * @return the bitmap, null if the pixels were written into the buffer set with
+   * {@link MapSnapshotter#setPixelBuffer(ByteBuffer)}
    */
   public Bitmap getBitmap() {
     return bitmap;
   }
 
+  /**
+   * Get the raw pixels of the snapshot, as premultiplied RGBA.
+   *
+   * @return the buffer set with {@link MapSnapshotter#setPixelBuffer(ByteBuffer)} holding the pixels,
+   * null if no buffer was set
+   */
+  public ByteBuffer getPixelBuffer() {
+    return pixelBuffer;
+  }
+
   /**
    * Calculate the point in pixels on the Image from geographical coordinates.
    *
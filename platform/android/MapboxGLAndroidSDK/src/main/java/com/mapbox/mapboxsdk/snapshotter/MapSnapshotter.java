@@ -16,6 +16,14 @@ import com.mapbox.mapboxsdk.constants.Style;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
 import com.mapbox.mapboxsdk.storage.FileSource;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import timber.log.Timber;
+
 /**
  * The map snapshotter creates a bitmap of the map, rendered
  * off the UI thread. The snapshotter itself must be used on
@@ -57,7 +65,22 @@ public class MapSnapshotter {
     void onError(String error);
   }
 
+  /**
+   * Get notified when a cancelled snapshot stopped rendering.
+   *
+   * @see MapSnapshotter#cancel(CancelledCallback)
+   */
+  public interface CancelledCallback {
+
+    /**
+     * Called when the snapshot in progress was cancelled and the snapshotter is idle. The snapshotter can be started
+     * again right away.
+     */
+    void onCancelled();
+  }
+
   private static final int LOGO_MARGIN_DP = 4;
+  private static final int LOGO_CACHE_SIZE = 4;
 
   // Holds the pointer to JNI NativeMapView
   private long nativePtr = 0;
@@ -65,6 +88,19 @@ public class MapSnapshotter {
   private final Context context;
   private SnapshotReadyCallback callback;
   private ErrorHandler errorHandler;
+  private final List<CancelledCallback> cancelledCallbacks = new ArrayList<>();
+  private boolean rendering;
+  private boolean startPending;
+  private SnapshotBitmapPool bitmapPool;
+  private ByteBuffer pixelBuffer;
+
+  private Bitmap logo;
+  private final Map<Long, Bitmap> scaledLogos = new LinkedHashMap<Long, Bitmap>(LOGO_CACHE_SIZE, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, Bitmap> eldest) {
+      return size() > LOGO_CACHE_SIZE;
+    }
+  };
 
   /**
    * MapSnapshotter options
@@ -221,7 +257,13 @@ public class MapSnapshotter {
 
     this.callback = callback;
     this.errorHandler = errorHandler;
-    nativeStart();
+    if (rendering) {
+      // a cancelled snapshot is still rendering, the map renders one image at a time
+      startPending = true;
+    } else {
+      rendering = true;
+      nativeStart();
+    }
   }
 
   /**
@@ -254,13 +296,57 @@ public class MapSnapshotter {
   public native void setStyleUrl(String styleUrl);
 
 
+  /**
+   * Sets the pool the output bitmaps are taken from. The snapshotter renders into a pooled bitmap of the snapshot size
+   * when available, the caller returns the bitmap to the pool when done with the snapshot.
+   *
+   * @param bitmapPool the pool, null to allocate a new bitmap for every snapshot
+   */
+  public void setBitmapPool(@Nullable SnapshotBitmapPool bitmapPool) {
+    this.bitmapPool = bitmapPool;
+  }
+
+  /**
+   * Sets the buffer the raw pixels of the snapshots are written into, as premultiplied RGBA, instead of a bitmap. The
+   * buffer is exposed with {@link MapSnapshot#getPixelBuffer()}, positioned at the start of the pixels. The buffer is
+   * overwritten by the next snapshot. The logo isn't drawn into the pixels, snapshots of a size that doesn't fit in
+   * the buffer are delivered as a bitmap.
+   *
+   * @param pixelBuffer the direct buffer, of at least width * height * 4 bytes, null to stop writing into the buffer
+   */
+  public void setPixelBuffer(@Nullable ByteBuffer pixelBuffer) {
+    if (pixelBuffer != null && !pixelBuffer.isDirect()) {
+      throw new IllegalArgumentException("The pixel buffer must be a direct buffer");
+    }
+    this.pixelBuffer = pixelBuffer;
+  }
+
   /**
    * Must be called in on the thread
    * the object was created on.
    */
   public void cancel() {
+    cancel(null);
+  }
+
+  /**
+   * Cancels the snapshot in progress, the callbacks passed to start aren't invoked. The image being rendered can't be
+   * interrupted, the cancelled callback is invoked once it completed. Must be called on the thread the object was
+   * created on.
+   *
+   * @param cancelledCallback the callback invoked when the snapshotter is idle, null if not interested
+   */
+  public void cancel(@Nullable CancelledCallback cancelledCallback) {
     reset();
-    nativeCancel();
+    startPending = false;
+    if (rendering) {
+      if (cancelledCallback != null) {
+        cancelledCallbacks.add(cancelledCallback);
+      }
+      nativeCancel();
+    } else if (cancelledCallback != null) {
+      cancelledCallback.onCancelled();
+    }
   }
 
   /**
@@ -283,10 +369,26 @@ public class MapSnapshotter {
   private void addLogo(Canvas canvas, Bitmap original) {
     DisplayMetrics displayMetrics = context.getResources().getDisplayMetrics();
     float margin = displayMetrics.density * LOGO_MARGIN_DP;
-    Bitmap logo = createScaledLogo(original);
+    Bitmap logo = getScaledLogo(original);
     canvas.drawBitmap(logo, margin, original.getHeight() - logo.getHeight() - margin, null);
   }
 
+  /**
+   * Get the scaled logo for a map snapshot, scaled logos are cached per snapshot size.
+   *
+   * @param snapshot the map snapshot where the logo should be placed on
+   * @return the scaled bitmap logo
+   */
+  private Bitmap getScaledLogo(Bitmap snapshot) {
+    long key = ((long) snapshot.getWidth() << 32) | snapshot.getHeight();
+    Bitmap scaledLogo = scaledLogos.get(key);
+    if (scaledLogo == null) {
+      scaledLogo = createScaledLogo(snapshot);
+      scaledLogos.put(key, scaledLogo);
+    }
+    return scaledLogo;
+  }
+
   /**
    * Create a scaled logo for a map snapshot.
    *
@@ -294,7 +396,9 @@ public class MapSnapshotter {
    * @return the scaled bitmap logo
    */
   private Bitmap createScaledLogo(Bitmap snapshot) {
-    Bitmap logo = BitmapFactory.decodeResource(context.getResources(), R.drawable.mapbox_logo_icon, null);
+    if (logo == null) {
+      logo = BitmapFactory.decodeResource(context.getResources(), R.drawable.mapbox_logo_icon, null);
+    }
     float scale = calculateLogoScale(snapshot, logo);
     Matrix matrix = new Matrix();
     matrix.postScale(scale, scale);
@@ -325,13 +429,52 @@ public class MapSnapshotter {
    * @param snapshot the generated snapshot
    */
   protected void onSnapshotReady(MapSnapshot snapshot) {
+    rendering = false;
     if (callback != null) {
-      if (snapshot.isShowLogo()) {
+      if (snapshot.isShowLogo() && snapshot.getBitmap() != null) {
         addOverlay(snapshot);
       }
-      callback.onSnapshotReady(snapshot);
+      // reset first, the callback may start the next snapshot
+      SnapshotReadyCallback snapshotReadyCallback = callback;
       reset();
+      snapshotReadyCallback.onSnapshotReady(snapshot);
+    }
+  }
+
+  /**
+   * Called by JNI peer to get the buffer to write the raw pixels of the snapshot into.
+   * Always called on the origin (main) thread.
+   *
+   * @param width  the width of the image
+   * @param height the height of the image
+   * @return the pixel buffer, limited to the pixels of the image, null to render into a bitmap
+   */
+  @Nullable
+  protected ByteBuffer obtainPixelBuffer(int width, int height) {
+    if (pixelBuffer == null) {
+      return null;
     }
+    int byteCount = width * height * 4;
+    if (pixelBuffer.capacity() < byteCount) {
+      Timber.w("Pixel buffer of %d bytes is too small for a snapshot of %d bytes", pixelBuffer.capacity(), byteCount);
+      return null;
+    }
+    pixelBuffer.clear();
+    pixelBuffer.limit(byteCount);
+    return pixelBuffer;
+  }
+
+  /**
+   * Called by JNI peer to get the bitmap to render the snapshot into.
+   * Always called on the origin (main) thread.
+   *
+   * @param width  the width of the image
+   * @param height the height of the image
+   * @return a pooled bitmap of the image size, null to create a new bitmap
+   */
+  @Nullable
+  protected Bitmap obtainBitmap(int width, int height) {
+    return bitmapPool != null ? bitmapPool.acquire(width, height) : null;
   }
 
   /**
@@ -341,9 +484,31 @@ public class MapSnapshotter {
    * @param reason the exception string
    */
   protected void onSnapshotFailed(String reason) {
+    rendering = false;
     if (errorHandler != null) {
-      errorHandler.onError(reason);
+      ErrorHandler handler = errorHandler;
       reset();
+      handler.onError(reason);
+    }
+  }
+
+  /**
+   * Called by JNI peer when a cancelled snapshot stopped rendering.
+   * Always called on the origin (main) thread.
+   */
+  protected void onSnapshotCancelled() {
+    rendering = false;
+    if (!cancelledCallbacks.isEmpty()) {
+      List<CancelledCallback> callbacks = new ArrayList<>(cancelledCallbacks);
+      cancelledCallbacks.clear();
+      for (CancelledCallback cancelledCallback : callbacks) {
+        cancelledCallback.onCancelled();
+      }
+    }
+    if (startPending && !rendering) {
+      startPending = false;
+      rendering = true;
+      nativeStart();
     }
   }
 
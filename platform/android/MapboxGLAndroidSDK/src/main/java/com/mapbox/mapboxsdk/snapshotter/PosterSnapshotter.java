@@ -0,0 +1,542 @@
+package com.mapbox.mapboxsdk.snapshotter;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.support.annotation.NonNull;
+import android.support.annotation.UiThread;
+
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.services.android.telemetry.constants.GeoConstants;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import timber.log.Timber;
+
+/**
+ * Renders a snapshot larger than the maximum texture size, e.g. to print a poster.
+ * <p>
+ * The poster is split in tiles that are rendered one by one, or on multiple snapshotters in parallel, and written to a
+ * {@link TileWriter} as they complete. The memory used is bounded by the tile size instead of the poster size.
+ * </p>
+ * <p>
+ * Every tile is rendered with a gutter around it that is cropped when written. Labels close to a seam see the same
+ * surroundings in both tiles and are placed identically, instead of being cut off or dropped at the tile edges.
+ * The poster is rendered north up without tilt and without logo.
+ * </p>
+ */
+@UiThread
+public class PosterSnapshotter {
+
+  /**
+   * Get notified on poster completion.
+   */
+  public interface PosterReadyCallback {
+
+    /**
+     * Called when all tiles were written and the writer is closed.
+     */
+    void onPosterReady();
+
+    /**
+     * Called when a tile failed to render or to be written. Rendering will not continue.
+     *
+     * @param error the error message
+     */
+    void onError(String error);
+  }
+
+  /**
+   * Writes the rendered tiles of a poster.
+   */
+  public interface TileWriter {
+
+    /**
+     * Called before the first tile is written.
+     *
+     * @param width      the width of the poster in pixels
+     * @param height     the height of the poster in pixels
+     * @param tileHeight the height of a row of tiles in pixels
+     * @throws IOException when the output can't be opened
+     */
+    void open(int width, int height, int tileHeight) throws IOException;
+
+    /**
+     * Writes a part of a tile into the poster. Tiles can be written in any order.
+     *
+     * @param tile   the rendered tile
+     * @param srcX   the left of the part to write in the tile
+     * @param srcY   the top of the part to write in the tile
+     * @param width  the width of the part to write
+     * @param height the height of the part to write
+     * @param dstX   the left of the part in the poster
+     * @param dstY   the top of the part in the poster
+     * @throws IOException when the tile can't be written
+     */
+    void write(Bitmap tile, int srcX, int srcY, int width, int height, int dstX, int dstY) throws IOException;
+
+    /**
+     * Called when the poster is complete or was cancelled.
+     *
+     * @throws IOException when the output can't be closed
+     */
+    void close() throws IOException;
+  }
+
+  static final int DEFAULT_TILE_SIZE = 1024;
+  static final int DEFAULT_GUTTER = 128;
+  private static final double WORLD_TILE_SIZE = 512;
+
+  private final List<SnapshotBatch.Snapshotter> renderers;
+  private final SnapshotBitmapPool bitmapPool;
+  private final int pixelRatio;
+  private final List<Tile> tiles;
+  private final int tileSize;
+  private final int width;
+  private final int height;
+
+  private final Queue<Tile> queue = new ArrayDeque<>();
+  private final Set<SnapshotBatch.Snapshotter> running = new HashSet<>();
+  private final Set<SnapshotBatch.Snapshotter> cancelling = new HashSet<>();
+  private TileWriter writer;
+  private PosterReadyCallback callback;
+  private int completedCount;
+
+  /**
+   * Creates a poster snapshotter rendering on a single snapshotter with the default tile size.
+   *
+   * @param context the Context that is or contains the Application context
+   * @param options the size, style, pixel ratio and camera position of the poster
+   */
+  public PosterSnapshotter(@NonNull Context context, @NonNull MapSnapshotter.Options options) {
+    this(context, options, DEFAULT_TILE_SIZE, DEFAULT_GUTTER, 1);
+  }
+
+  /**
+   * Creates a poster snapshotter.
+   *
+   * @param context   the Context that is or contains the Application context
+   * @param options   the size, style, pixel ratio and camera position of the poster, the camera position must have
+   *                  a target and zoom
+   * @param tileSize  the size of a tile, excluding the gutter
+   * @param gutter    the size of the gutter rendered around every tile
+   * @param renderers the amount of snapshotters rendering tiles in parallel
+   */
+  public PosterSnapshotter(@NonNull Context context, @NonNull MapSnapshotter.Options options, int tileSize,
+                           int gutter, int renderers) {
+    this(context, options, tileSize, gutter, renderers, new SnapshotBitmapPool(renderers));
+  }
+
+  private PosterSnapshotter(Context context, MapSnapshotter.Options options, int tileSize, int gutter, int renderers,
+                            SnapshotBitmapPool bitmapPool) {
+    this(createRenderers(context, options, tileSize, gutter, renderers, bitmapPool), bitmapPool, options, tileSize,
+      gutter);
+  }
+
+  PosterSnapshotter(@NonNull List<SnapshotBatch.Snapshotter> renderers, @NonNull SnapshotBitmapPool bitmapPool,
+                    @NonNull MapSnapshotter.Options options, int tileSize, int gutter) {
+    CameraPosition cameraPosition = options.getCameraPosition();
+    if (cameraPosition == null || cameraPosition.target == null) {
+      throw new IllegalArgumentException("The camera position of a poster must have a target");
+    }
+    if (tileSize < 1 || gutter < 0 || renderers.isEmpty()) {
+      throw new IllegalArgumentException("Invalid tile size, gutter or amount of renderers");
+    }
+
+    this.renderers = renderers;
+    this.bitmapPool = bitmapPool;
+    this.pixelRatio = options.getPixelRatio();
+    this.tileSize = tileSize;
+    this.width = options.getWidth();
+    this.height = options.getHeight();
+    this.tiles = createTiles(width, height, tileSize, gutter, cameraPosition.target, cameraPosition.zoom);
+  }
+
+  /**
+   * Starts rendering the poster. The callback will be fired on the calling thread.
+   *
+   * @param writer   the writer of the tiles
+   * @param callback the callback to use when the poster is complete
+   */
+  public void start(@NonNull TileWriter writer, @NonNull PosterReadyCallback callback) {
+    if (this.callback != null) {
+      throw new IllegalStateException("PosterSnapshotter was already started");
+    }
+
+    this.writer = writer;
+    this.callback = callback;
+    completedCount = 0;
+    try {
+      writer.open(width * pixelRatio, height * pixelRatio, tileSize * pixelRatio);
+    } catch (IOException exception) {
+      fail("Failed to open the poster output: " + exception.getMessage());
+      return;
+    }
+
+    queue.addAll(tiles);
+    for (SnapshotBatch.Snapshotter renderer : renderers) {
+      if (!cancelling.contains(renderer)) {
+        // cancelled renderers continue when their image in flight completed
+        startNext(renderer);
+      }
+    }
+  }
+
+  /**
+   * Cancels rendering, the writer is closed and the callback isn't invoked. The poster can be started again right
+   * away, tiles being rendered complete in the background before their snapshotters render the next poster.
+   */
+  public void cancel() {
+    if (callback != null) {
+      stop();
+    }
+  }
+
+  /**
+   * @return the amount of tiles of the poster
+   */
+  public int getTileCount() {
+    return tiles.size();
+  }
+
+  /**
+   * @return the amount of tiles written
+   */
+  public int getCompletedTileCount() {
+    return completedCount;
+  }
+
+  List<Tile> getTiles() {
+    return tiles;
+  }
+
+  private void startNext(final SnapshotBatch.Snapshotter renderer) {
+    final Tile tile = queue.poll();
+    if (tile == null) {
+      if (running.isEmpty() && callback != null) {
+        finish();
+      }
+      return;
+    }
+
+    running.add(renderer);
+    renderer.setSize(tile.renderWidth, tile.renderHeight);
+    renderer.setCameraPosition(tile.cameraPosition);
+    renderer.start(new MapSnapshotter.SnapshotReadyCallback() {
+      @Override
+      public void onSnapshotReady(MapSnapshot snapshot) {
+        running.remove(renderer);
+        onTileReady(renderer, tile, snapshot.getBitmap());
+      }
+    }, new MapSnapshotter.ErrorHandler() {
+      @Override
+      public void onError(String error) {
+        running.remove(renderer);
+        fail(error);
+      }
+    });
+  }
+
+  private void onTileReady(SnapshotBatch.Snapshotter renderer, Tile tile, Bitmap bitmap) {
+    try {
+      writer.write(bitmap, tile.gutterLeft * pixelRatio, tile.gutterTop * pixelRatio, tile.width * pixelRatio,
+        tile.height * pixelRatio, tile.left * pixelRatio, tile.top * pixelRatio);
+    } catch (IOException exception) {
+      fail("Failed to write a poster tile: " + exception.getMessage());
+      return;
+    } finally {
+      bitmapPool.release(bitmap);
+    }
+    completedCount++;
+    startNext(renderer);
+  }
+
+  private void finish() {
+    PosterReadyCallback posterReadyCallback = callback;
+    try {
+      writer.close();
+    } catch (IOException exception) {
+      reset();
+      posterReadyCallback.onError("Failed to close the poster output: " + exception.getMessage());
+      return;
+    }
+    reset();
+    posterReadyCallback.onPosterReady();
+  }
+
+  private void fail(String error) {
+    PosterReadyCallback posterReadyCallback = callback;
+    stop();
+    posterReadyCallback.onError(error);
+  }
+
+  private void stop() {
+    TileWriter tileWriter = writer;
+    queue.clear();
+    reset();
+    for (final SnapshotBatch.Snapshotter renderer : new ArrayList<>(running)) {
+      // the renderer is busy until its image in flight completed, the map renders one image at a time
+      running.remove(renderer);
+      cancelling.add(renderer);
+      renderer.cancel(new MapSnapshotter.CancelledCallback() {
+        @Override
+        public void onCancelled() {
+          cancelling.remove(renderer);
+          if (callback != null) {
+            startNext(renderer);
+          }
+        }
+      });
+    }
+    try {
+      tileWriter.close();
+    } catch (IOException exception) {
+      Timber.e(exception, "Failed to close the poster output");
+    }
+  }
+
+  private void reset() {
+    callback = null;
+    writer = null;
+  }
+
+  /**
+   * Splits the poster in tiles and calculates the camera of every tile.
+   *
+   * @param width    the width of the poster
+   * @param height   the height of the poster
+   * @param tileSize the size of a tile, excluding the gutter
+   * @param gutter   the size of the gutter
+   * @param target   the center of the poster
+   * @param zoom     the zoom of the poster
+   * @return the tiles in row major order
+   */
+  static List<Tile> createTiles(int width, int height, int tileSize, int gutter, LatLng target, double zoom) {
+    double worldSize = WORLD_TILE_SIZE * Math.pow(2, zoom);
+    double centerX = (target.getLongitude() + 180) / 360 * worldSize;
+    double latitude = Math.max(GeoConstants.MIN_LATITUDE, Math.min(GeoConstants.MAX_LATITUDE, target.getLatitude()));
+    double sin = Math.sin(Math.toRadians(latitude));
+    double centerY = (0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI)) * worldSize;
+
+    List<Tile> tiles = new ArrayList<>();
+    for (int top = 0; top < height; top += tileSize) {
+      for (int left = 0; left < width; left += tileSize) {
+        int tileWidth = Math.min(tileSize, width - left);
+        int tileHeight = Math.min(tileSize, height - top);
+        double x = centerX + left + tileWidth / 2.0 - width / 2.0;
+        double y = centerY + top + tileHeight / 2.0 - height / 2.0;
+        double longitude = x / worldSize * 360 - 180;
+        double n = Math.PI - 2 * Math.PI * y / worldSize;
+        double tileLatitude = Math.toDegrees(Math.atan(Math.sinh(n)));
+        CameraPosition cameraPosition = new CameraPosition.Builder()
+          .target(new LatLng(tileLatitude, wrap(longitude)))
+          .zoom(zoom)
+          .bearing(0)
+          .tilt(0)
+          .build();
+        tiles.add(new Tile(left, top, tileWidth, tileHeight, gutter, cameraPosition));
+      }
+    }
+    return tiles;
+  }
+
+  private static double wrap(double longitude) {
+    double wrapped = ((longitude + 180) % 360 + 360) % 360 - 180;
+    return wrapped == -180 && longitude > 0 ? 180 : wrapped;
+  }
+
+  private static List<SnapshotBatch.Snapshotter> createRenderers(Context context, MapSnapshotter.Options options,
+                                                                 int tileSize, int gutter, int count,
+                                                                 SnapshotBitmapPool bitmapPool) {
+    List<SnapshotBatch.Snapshotter> renderers = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int size = tileSize + 2 * gutter;
+      MapSnapshotter.Options tileOptions = new MapSnapshotter.Options(size, size)
+        .withStyle(options.getStyleUrl())
+        .withPixelRatio(options.getPixelRatio())
+        .withCameraPosition(options.getCameraPosition())
+        .withLogo(false);
+      MapSnapshotter mapSnapshotter = new MapSnapshotter(context, tileOptions);
+      mapSnapshotter.setBitmapPool(bitmapPool);
+      renderers.add(new SnapshotBatch.SnapshotterAdapter(mapSnapshotter));
+    }
+    return renderers;
+  }
+
+  /**
+   * A tile of the poster, in logical pixels.
+   */
+  static final class Tile {
+
+    final int left;
+    final int top;
+    final int width;
+    final int height;
+    final int gutterLeft;
+    final int gutterTop;
+    final int renderWidth;
+    final int renderHeight;
+    final CameraPosition cameraPosition;
+
+    Tile(int left, int top, int width, int height, int gutter, CameraPosition cameraPosition) {
+      this.left = left;
+      this.top = top;
+      this.width = width;
+      this.height = height;
+      this.gutterLeft = gutter;
+      this.gutterTop = gutter;
+      this.renderWidth = width + 2 * gutter;
+      this.renderHeight = height + 2 * gutter;
+      this.cameraPosition = cameraPosition;
+    }
+  }
+
+  /**
+   * Writes the poster as raw RGBA into a file, every tile is written directly at its position in the file.
+   */
+  public static class FileTileWriter implements TileWriter {
+
+    private final File file;
+    private RandomAccessFile output;
+    private int width;
+    private int[] pixels;
+    private byte[] bytes;
+
+    /**
+     * @param file the file to write, existing content is replaced
+     */
+    public FileTileWriter(@NonNull File file) {
+      this.file = file;
+    }
+
+    @Override
+    public void open(int width, int height, int tileHeight) throws IOException {
+      this.width = width;
+      output = new RandomAccessFile(file, "rw");
+      output.setLength((long) width * height * 4);
+    }
+
+    @Override
+    public void write(Bitmap tile, int srcX, int srcY, int width, int height, int dstX, int dstY)
+      throws IOException {
+      if (pixels == null || pixels.length < width) {
+        pixels = new int[width];
+        bytes = new byte[width * 4];
+      }
+      for (int row = 0; row < height; row++) {
+        tile.getPixels(pixels, 0, width, srcX, srcY + row, width, 1);
+        toRgba(pixels, width, bytes, 0);
+        output.seek(((long) (dstY + row) * this.width + dstX) * 4);
+        output.write(bytes, 0, width * 4);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (output != null) {
+        output.close();
+        output = null;
+      }
+    }
+  }
+
+  /**
+   * Writes the poster as raw RGBA rows, top to bottom, into a stream.
+   * <p>
+   * A row of tiles is buffered until all its tiles are written, memory is bounded by the size of a row of tiles.
+   * </p>
+   */
+  public static class StreamTileWriter implements TileWriter {
+
+    private final OutputStream output;
+    private final Map<Integer, Band> bands = new HashMap<>();
+    private int width;
+    private int height;
+    private int tileHeight;
+    private int nextBand;
+    private int[] pixels;
+
+    /**
+     * @param output the stream to write, closed when the poster is complete
+     */
+    public StreamTileWriter(@NonNull OutputStream output) {
+      this.output = output;
+    }
+
+    @Override
+    public void open(int width, int height, int tileHeight) throws IOException {
+      this.width = width;
+      this.height = height;
+      this.tileHeight = tileHeight;
+      nextBand = 0;
+      bands.clear();
+    }
+
+    @Override
+    public void write(Bitmap tile, int srcX, int srcY, int width, int height, int dstX, int dstY)
+      throws IOException {
+      int index = dstY / tileHeight;
+      Band band = bands.get(index);
+      if (band == null) {
+        int rows = Math.min(tileHeight, this.height - index * tileHeight);
+        band = new Band(new byte[this.width * rows * 4], this.width * rows);
+        bands.put(index, band);
+      }
+      if (pixels == null || pixels.length < width) {
+        pixels = new int[width];
+      }
+      int bandTop = index * tileHeight;
+      for (int row = 0; row < height; row++) {
+        tile.getPixels(pixels, 0, width, srcX, srcY + row, width, 1);
+        toRgba(pixels, width, band.bytes, ((dstY + row - bandTop) * this.width + dstX) * 4);
+      }
+      band.remaining -= width * height;
+
+      // write the completed rows of tiles in order
+      Band next;
+      while ((next = bands.get(nextBand)) != null && next.remaining == 0) {
+        output.write(next.bytes);
+        bands.remove(nextBand);
+        nextBand++;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      bands.clear();
+      output.close();
+    }
+
+    private static final class Band {
+
+      private final byte[] bytes;
+      private int remaining;
+
+      Band(byte[] bytes, int remaining) {
+        this.bytes = bytes;
+        this.remaining = remaining;
+      }
+    }
+  }
+
+  private static void toRgba(int[] pixels, int count, byte[] bytes, int offset) {
+    for (int i = 0; i < count; i++) {
+      int pixel = pixels[i];
+      bytes[offset++] = (byte) (pixel >> 16);
+      bytes[offset++] = (byte) (pixel >> 8);
+      bytes[offset++] = (byte) pixel;
+      bytes[offset++] = (byte) (pixel >>> 24);
+    }
+  }
+}
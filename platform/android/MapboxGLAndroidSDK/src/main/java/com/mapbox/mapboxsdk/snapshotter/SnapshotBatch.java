@@ -0,0 +1,392 @@
+package com.mapbox.mapboxsdk.snapshotter;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders many snapshots back to back with a single {@link MapSnapshotter}.
+ * <p>
+ * Creating a snapshotter per snapshot creates a map, a renderer and loads the style every time. A batch keeps one
+ * snapshotter, with its style and tile cache, and applies the size, camera and region of each job before rendering
+ * it. Jobs are rendered in order of priority, jobs with the same priority in order of submission.
+ * </p>
+ * <p>
+ * A job without camera position or region is rendered with the camera of the previous job.
+ * </p>
+ */
+@UiThread
+public class SnapshotBatch {
+
+  /**
+   * Renders a single snapshot at a time.
+   */
+  interface Snapshotter {
+
+    void setSize(int width, int height);
+
+    void setCameraPosition(CameraPosition cameraPosition);
+
+    void setRegion(LatLngBounds region);
+
+    void setStyleUrl(String styleUrl);
+
+    void start(MapSnapshotter.SnapshotReadyCallback callback, MapSnapshotter.ErrorHandler errorHandler);
+
+    /**
+     * Cancels the snapshot in progress, the snapshotter can be started again once the cancelled callback is invoked.
+     *
+     * @param cancelledCallback the callback invoked when the snapshotter is idle
+     */
+    void cancel(MapSnapshotter.CancelledCallback cancelledCallback);
+  }
+
+  /**
+   * A snapshot to render in a batch.
+   */
+  public static class Job {
+
+    private final int width;
+    private final int height;
+    private CameraPosition cameraPosition;
+    private LatLngBounds region;
+    private String styleUrl;
+    private int priority;
+
+    private MapSnapshotter.SnapshotReadyCallback callback;
+    private MapSnapshotter.ErrorHandler errorHandler;
+    private SnapshotBatch batch;
+    private long sequence;
+    private boolean cancelled;
+
+    /**
+     * @param width  the width of the image
+     * @param height the height of the image
+     */
+    public Job(int width, int height) {
+      this.width = width;
+      this.height = height;
+    }
+
+    /**
+     * @param cameraPosition The camera position to use
+     * @return the mutated {@link Job}
+     */
+    public Job withCameraPosition(CameraPosition cameraPosition) {
+      this.cameraPosition = cameraPosition;
+      return this;
+    }
+
+    /**
+     * @param region the region to show in the snapshot.
+     *               This is applied after the camera position
+     * @return the mutated {@link Job}
+     */
+    public Job withRegion(LatLngBounds region) {
+      this.region = region;
+      return this;
+    }
+
+    /**
+     * @param styleUrl The style URL to use, null to keep the style of the batch
+     * @return the mutated {@link Job}
+     */
+    public Job withStyle(String styleUrl) {
+      this.styleUrl = styleUrl;
+      return this;
+    }
+
+    /**
+     * @param priority the priority, jobs with a higher priority are rendered first (default: 0)
+     * @return the mutated {@link Job}
+     */
+    public Job withPriority(int priority) {
+      this.priority = priority;
+      return this;
+    }
+
+    /**
+     * @return the width of the image
+     */
+    public int getWidth() {
+      return width;
+    }
+
+    /**
+     * @return the height of the image
+     */
+    public int getHeight() {
+      return height;
+    }
+
+    /**
+     * @return the priority
+     */
+    public int getPriority() {
+      return priority;
+    }
+
+    /**
+     * @return true if the job was cancelled
+     */
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    /**
+     * Cancels this job, the callbacks of the job aren't invoked.
+     */
+    public void cancel() {
+      if (batch != null && !cancelled) {
+        batch.cancel(this);
+      }
+    }
+  }
+
+  private static final Comparator<Job> ORDER = new Comparator<Job>() {
+    @Override
+    public int compare(Job first, Job second) {
+      if (first.priority != second.priority) {
+        return first.priority > second.priority ? -1 : 1;
+      }
+      return first.sequence < second.sequence ? -1 : (first.sequence == second.sequence ? 0 : 1);
+    }
+  };
+
+  private final Snapshotter snapshotter;
+  private final PriorityQueue<Job> queue = new PriorityQueue<>(16, ORDER);
+  private String styleUrl;
+  private Job running;
+  private long sequence;
+  private boolean released;
+
+  private long completedCount;
+  private long failedCount;
+  private long busyNanos;
+  private long startNanos;
+
+  /**
+   * Creates a batch rendering with one snapshotter.
+   *
+   * @param context the Context that is or contains the Application context
+   * @param options the options of the snapshotter, the style is used for jobs without a style
+   */
+  public SnapshotBatch(@NonNull Context context, @NonNull MapSnapshotter.Options options) {
+    this(new SnapshotterAdapter(new MapSnapshotter(context, options)), options.getStyleUrl());
+  }
+
+  SnapshotBatch(@NonNull Snapshotter snapshotter, String styleUrl) {
+    this.snapshotter = snapshotter;
+    this.styleUrl = styleUrl;
+  }
+
+  /**
+   * Queues a job, rendering starts immediately if no other job is running.
+   *
+   * @param job          the job to render
+   * @param callback     the callback invoked with the snapshot
+   * @param errorHandler the error handler invoked when the snapshot failed
+   * @return the queued job
+   */
+  public Job submit(@NonNull Job job, @NonNull MapSnapshotter.SnapshotReadyCallback callback,
+                    @Nullable MapSnapshotter.ErrorHandler errorHandler) {
+    if (released) {
+      throw new IllegalStateException("The batch was released");
+    }
+    if (job.batch != null) {
+      throw new IllegalStateException("The job was already submitted");
+    }
+
+    job.batch = this;
+    job.callback = callback;
+    job.errorHandler = errorHandler;
+    job.sequence = sequence++;
+    queue.add(job);
+    if (running == null) {
+      startNext();
+    }
+    return job;
+  }
+
+  /**
+   * Cancels all queued jobs and the job being rendered.
+   */
+  public void cancelAll() {
+    for (Job job : queue) {
+      job.cancelled = true;
+    }
+    queue.clear();
+    if (running != null && !running.cancelled) {
+      cancel(running);
+    }
+  }
+
+  /**
+   * Cancels all jobs, the batch can't be used afterwards.
+   */
+  public void release() {
+    cancelAll();
+    released = true;
+  }
+
+  /**
+   * @return the amount of jobs waiting to be rendered
+   */
+  public int getQueuedCount() {
+    return queue.size();
+  }
+
+  /**
+   * @return true if a job is being rendered, including a cancelled job that didn't stop rendering yet
+   */
+  public boolean isRunning() {
+    return running != null;
+  }
+
+  /**
+   * @return the amount of snapshots completed
+   */
+  public long getCompletedCount() {
+    return completedCount;
+  }
+
+  /**
+   * @return the amount of snapshots failed
+   */
+  public long getFailedCount() {
+    return failedCount;
+  }
+
+  /**
+   * Get the throughput of the batch, the amount of completed snapshots per second of rendering.
+   *
+   * @return the snapshots per second, 0 if no snapshot completed yet
+   */
+  public double getThroughput() {
+    long nanos = busyNanos + (running != null ? System.nanoTime() - startNanos : 0);
+    return nanos == 0 ? 0 : completedCount / (nanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
+  void cancel(final Job job) {
+    job.cancelled = true;
+    if (job == running) {
+      // the job keeps running until its image in flight completed, the map renders one image at a time
+      snapshotter.cancel(new MapSnapshotter.CancelledCallback() {
+        @Override
+        public void onCancelled() {
+          if (job == running) {
+            onJobEnded();
+            startNext();
+          }
+        }
+      });
+    } else {
+      queue.remove(job);
+    }
+  }
+
+  private void startNext() {
+    if (running != null) {
+      // started from a callback
+      return;
+    }
+
+    final Job job = queue.poll();
+    if (job == null) {
+      return;
+    }
+
+    running = job;
+    startNanos = System.nanoTime();
+    if (job.styleUrl != null && !job.styleUrl.equals(styleUrl)) {
+      styleUrl = job.styleUrl;
+      snapshotter.setStyleUrl(styleUrl);
+    }
+    snapshotter.setSize(job.width, job.height);
+    if (job.cameraPosition != null) {
+      snapshotter.setCameraPosition(job.cameraPosition);
+    }
+    if (job.region != null) {
+      snapshotter.setRegion(job.region);
+    }
+
+    snapshotter.start(new MapSnapshotter.SnapshotReadyCallback() {
+      @Override
+      public void onSnapshotReady(MapSnapshot snapshot) {
+        if (job == running && !job.cancelled) {
+          completedCount++;
+          onJobEnded();
+          job.callback.onSnapshotReady(snapshot);
+          startNext();
+        }
+      }
+    }, new MapSnapshotter.ErrorHandler() {
+      @Override
+      public void onError(String error) {
+        if (job == running && !job.cancelled) {
+          failedCount++;
+          onJobEnded();
+          if (job.errorHandler != null) {
+            job.errorHandler.onError(error);
+          }
+          startNext();
+        }
+      }
+    });
+  }
+
+  private void onJobEnded() {
+    busyNanos += System.nanoTime() - startNanos;
+    running = null;
+  }
+
+  /**
+   * Renders the jobs with a {@link MapSnapshotter}.
+   */
+  static class SnapshotterAdapter implements Snapshotter {
+
+    private final MapSnapshotter mapSnapshotter;
+
+    SnapshotterAdapter(MapSnapshotter mapSnapshotter) {
+      this.mapSnapshotter = mapSnapshotter;
+    }
+
+    @Override
+    public void setSize(int width, int height) {
+      mapSnapshotter.setSize(width, height);
+    }
+
+    @Override
+    public void setCameraPosition(CameraPosition cameraPosition) {
+      mapSnapshotter.setCameraPosition(cameraPosition);
+    }
+
+    @Override
+    public void setRegion(LatLngBounds region) {
+      mapSnapshotter.setRegion(region);
+    }
+
+    @Override
+    public void setStyleUrl(String styleUrl) {
+      mapSnapshotter.setStyleUrl(styleUrl);
+    }
+
+    @Override
+    public void start(MapSnapshotter.SnapshotReadyCallback callback, MapSnapshotter.ErrorHandler errorHandler) {
+      mapSnapshotter.start(callback, errorHandler);
+    }
+
+    @Override
+    public void cancel(MapSnapshotter.CancelledCallback cancelledCallback) {
+      mapSnapshotter.cancel(cancelledCallback);
+    }
+  }
+}
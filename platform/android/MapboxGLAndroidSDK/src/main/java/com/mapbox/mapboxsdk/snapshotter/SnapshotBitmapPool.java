@@ -0,0 +1,111 @@
+package com.mapbox.mapboxsdk.snapshotter;
+
+import android.graphics.Bitmap;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bounded pool of bitmaps reused as output of a {@link MapSnapshotter}.
+ * <p>
+ * The native snapshotter copies the rendered image into a pooled bitmap of the same size instead of allocating a new
+ * bitmap for every snapshot. Bitmaps are returned to the pool with {@link #release(Bitmap)} once the caller is done
+ * with the snapshot, only mutable {@link Bitmap.Config#ARGB_8888} bitmaps are kept.
+ * </p>
+ *
+ * @see MapSnapshotter#setBitmapPool(SnapshotBitmapPool)
+ */
+public class SnapshotBitmapPool {
+
+  private final int capacity;
+  private final List<Bitmap> bitmaps;
+  private long hitCount;
+  private long missCount;
+
+  /**
+   * Creates a pool.
+   *
+   * @param capacity the maximum amount of bitmaps kept in the pool
+   */
+  public SnapshotBitmapPool(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("The capacity of the pool must be at least 1");
+    }
+    this.capacity = capacity;
+    this.bitmaps = new ArrayList<>(capacity);
+  }
+
+  /**
+   * Removes a bitmap of the given size from the pool.
+   *
+   * @param width  the width of the bitmap
+   * @param height the height of the bitmap
+   * @return the pooled bitmap, null if the pool has no bitmap of this size
+   */
+  @Nullable
+  public synchronized Bitmap acquire(int width, int height) {
+    for (int i = bitmaps.size() - 1; i >= 0; i--) {
+      Bitmap bitmap = bitmaps.get(i);
+      if (bitmap.getWidth() == width && bitmap.getHeight() == height) {
+        bitmaps.remove(i);
+        if (!bitmap.isRecycled()) {
+          hitCount++;
+          return bitmap;
+        }
+      }
+    }
+    missCount++;
+    return null;
+  }
+
+  /**
+   * Returns a bitmap to the pool, the bitmap must no longer be used by the caller.
+   * <p>
+   * Bitmaps that can't be reused are ignored. When the pool is full, the least recently released bitmap is dropped.
+   * </p>
+   *
+   * @param bitmap the bitmap to return
+   * @return true if the bitmap was added to the pool
+   */
+  public synchronized boolean release(@NonNull Bitmap bitmap) {
+    if (bitmap.isRecycled() || !bitmap.isMutable() || bitmap.getConfig() != Bitmap.Config.ARGB_8888
+      || bitmaps.contains(bitmap)) {
+      return false;
+    }
+    if (bitmaps.size() == capacity) {
+      bitmaps.remove(0);
+    }
+    bitmaps.add(bitmap);
+    return true;
+  }
+
+  /**
+   * Removes all bitmaps from the pool.
+   */
+  public synchronized void clear() {
+    bitmaps.clear();
+  }
+
+  /**
+   * @return the amount of bitmaps in the pool
+   */
+  public synchronized int size() {
+    return bitmaps.size();
+  }
+
+  /**
+   * @return the amount of acquired bitmaps served from the pool
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return the amount of acquired bitmaps the pool couldn't serve
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+}
@@ -0,0 +1,61 @@
+package com.mapbox.mapboxsdk.storage;
+
+/**
+ * Statistics of the ambient cache, the resources cached while using a map outside of offline regions.
+ * <p>
+ * Hits and misses count the requests answered by the ambient cache since the file source was created,
+ * requests for resources of offline regions are counted as well.
+ * </p>
+ */
+public class AmbientCacheStatistics {
+
+  private final long hitCount;
+  private final long missCount;
+  private final long size;
+
+  /**
+   * Constructor for statistics, invoked from JNI.
+   *
+   * @param hitCount  the amount of requests answered from the cache
+   * @param missCount the amount of requests not found in the cache
+   * @param size      the size of the cached data in bytes
+   */
+  AmbientCacheStatistics(long hitCount, long missCount, long size) {
+    // Note: Also used in JNI
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.size = size;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Get the size of the cached data, excluding resources of offline regions.
+   *
+   * @return the size in bytes
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Get the share of requests answered from the cache.
+   *
+   * @return the hit ratio between 0 and 1, or 0 when no requests were made
+   */
+  public double getHitRatio() {
+    long total = hitCount + missCount;
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  @Override
+  public String toString() {
+    return "AmbientCacheStatistics{hitCount=" + hitCount + ", missCount=" + missCount + ", size=" + size + "}";
+  }
+}
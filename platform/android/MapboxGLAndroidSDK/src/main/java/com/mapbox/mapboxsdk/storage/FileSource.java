@@ -5,11 +5,17 @@ import android.content.pm.ApplicationInfo;
 import android.content.pm.PackageManager;
 import android.content.res.AssetManager;
 import android.os.Environment;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.IntDef;
 import android.support.annotation.NonNull;
 
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.constants.MapboxConstants;
 
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
 import timber.log.Timber;
 
 /**
@@ -36,6 +42,63 @@ public class FileSource {
 
   }
 
+  /**
+   * This callback receives an asynchronous response indicating whether an ambient
+   * cache operation succeeded. Callbacks are executed on the main thread.
+   */
+  public interface AmbientCacheCallback {
+
+    /**
+     * Invoked when the operation completed.
+     */
+    void onSuccess();
+
+    /**
+     * Invoked when the operation failed.
+     *
+     * @param message the error message
+     */
+    void onError(String message);
+
+  }
+
+  /**
+   * This callback receives the statistics of the ambient cache. Callbacks are executed on the main thread.
+   */
+  public interface AmbientCacheStatisticsCallback {
+
+    /**
+     * Receives the statistics of the ambient cache.
+     *
+     * @param statistics the statistics
+     */
+    void onStatistics(AmbientCacheStatistics statistics);
+
+    /**
+     * Invoked when the statistics could not be read.
+     *
+     * @param message the error message
+     */
+    void onError(String message);
+
+  }
+
+  @IntDef( {EVICTION_POLICY_LEAST_RECENTLY_USED, EVICTION_POLICY_EARLIEST_EXPIRY})
+  @Retention(RetentionPolicy.SOURCE)
+  public @interface EvictionPolicy {
+  }
+
+  /**
+   * Evicts the least recently used resources first. This is the default policy.
+   */
+  public static final int EVICTION_POLICY_LEAST_RECENTLY_USED = 0;
+
+  /**
+   * Evicts expired resources and resources without expiration first, then the resources expiring soonest.
+   * Resources that would have to be revalidated anyway are dropped before fresh ones.
+   */
+  public static final int EVICTION_POLICY_EARLIEST_EXPIRY = 1;
+
   // File source instance is kept alive after initialization
   private static FileSource INSTANCE;
 
@@ -122,6 +185,9 @@ public class FileSource {
   private long activeCounter;
   private boolean wasPaused;
 
+  // Makes sure callbacks come back to the main thread
+  private Handler handler;
+
   private FileSource(String cachePath, AssetManager assetManager) {
     initialize(Mapbox.getAccessToken(), cachePath, assetManager);
   }
@@ -142,6 +208,123 @@ public class FileSource {
     }
   }
 
+  /**
+   * Sets the maximum size in bytes of the ambient cache, the resources cached while using a map outside of
+   * offline regions. Resources of offline regions don't count towards this limit.
+   * <p>
+   * Shrinking the cache evicts resources immediately, according to the current eviction policy.
+   * </p>
+   *
+   * @param size the maximum size in bytes
+   */
+  public void setMaximumAmbientCacheSize(long size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("The maximum ambient cache size must be positive, was " + size);
+    }
+    nativeSetMaximumAmbientCacheSize(size);
+  }
+
+  /**
+   * Sets the order in which resources are evicted from the ambient cache once it exceeds its maximum size.
+   *
+   * @param policy one of {@link #EVICTION_POLICY_LEAST_RECENTLY_USED} or {@link #EVICTION_POLICY_EARLIEST_EXPIRY}
+   */
+  public void setAmbientCacheEvictionPolicy(@EvictionPolicy int policy) {
+    if (policy != EVICTION_POLICY_LEAST_RECENTLY_USED && policy != EVICTION_POLICY_EARLIEST_EXPIRY) {
+      throw new IllegalArgumentException("Unknown eviction policy " + policy);
+    }
+    nativeSetAmbientCacheEvictionPolicy(policy);
+  }
+
+  /**
+   * Removes all resources from the ambient cache. Resources of offline regions are kept.
+   *
+   * @param callback the callback to be invoked on the main thread
+   */
+  public void clearAmbientCache(@NonNull final AmbientCacheCallback callback) {
+    nativeClearAmbientCache(mainThreadCallback(callback));
+  }
+
+  /**
+   * Downloads resources into the ambient cache, e.g. a style and its sprites ahead of showing a map.
+   * <p>
+   * Tiles can't be pre-warmed this way, their cache entries are keyed by tile coordinates rather than URLs.
+   * Use an offline region to download tiles ahead of time.
+   * </p>
+   *
+   * @param kind     the kind of the resources, any kind except {@link Resource#TILE}
+   * @param urls     the URLs of the resources
+   * @param callback the callback to be invoked on the main thread once all resources are cached
+   */
+  public void prewarmAmbientCache(@Resource.Kind int kind, @NonNull String[] urls,
+                                  @NonNull final AmbientCacheCallback callback) {
+    if (kind == Resource.TILE) {
+      throw new IllegalArgumentException("Tiles can't be pre-warmed, use an offline region instead");
+    }
+    nativePrewarmAmbientCache(kind, urls, mainThreadCallback(callback));
+  }
+
+  /**
+   * Reads the size of the ambient cache and its hit and miss counts since the file source was created.
+   *
+   * @param callback the callback to be invoked on the main thread
+   */
+  public void getAmbientCacheStatistics(@NonNull final AmbientCacheStatisticsCallback callback) {
+    nativeGetAmbientCacheStatistics(new AmbientCacheStatisticsCallback() {
+      @Override
+      public void onStatistics(final AmbientCacheStatistics statistics) {
+        getHandler().post(new Runnable() {
+          @Override
+          public void run() {
+            callback.onStatistics(statistics);
+          }
+        });
+      }
+
+      @Override
+      public void onError(final String message) {
+        getHandler().post(new Runnable() {
+          @Override
+          public void run() {
+            callback.onError(message);
+          }
+        });
+      }
+    });
+  }
+
+  private AmbientCacheCallback mainThreadCallback(final AmbientCacheCallback callback) {
+    return new AmbientCacheCallback() {
+      @Override
+      public void onSuccess() {
+        getHandler().post(new Runnable() {
+          @Override
+          public void run() {
+            callback.onSuccess();
+          }
+        });
+      }
+
+      @Override
+      public void onError(final String message) {
+        getHandler().post(new Runnable() {
+          @Override
+          public void run() {
+            callback.onError(message);
+          }
+        });
+      }
+    };
+  }
+
+  private Handler getHandler() {
+    if (handler == null) {
+      handler = new Handler(Looper.getMainLooper());
+    }
+
+    return handler;
+  }
+
   public native void setAccessToken(@NonNull String accessToken);
 
   public native String getAccessToken();
@@ -162,6 +345,16 @@ public class FileSource {
    */
   public native void setResourceTransform(final ResourceTransformCallback callback);
 
+  private native void nativeSetMaximumAmbientCacheSize(long size);
+
+  private native void nativeSetAmbientCacheEvictionPolicy(int policy);
+
+  private native void nativeClearAmbientCache(AmbientCacheCallback callback);
+
+  private native void nativePrewarmAmbientCache(int kind, String[] urls, AmbientCacheCallback callback);
+
+  private native void nativeGetAmbientCacheStatistics(AmbientCacheStatisticsCallback callback);
+
   private native void initialize(String accessToken, String cachePath, AssetManager assetManager);
 
   @Override
@@ -2,11 +2,11 @@
 
 package com.mapbox.mapboxsdk.style.layers;
 
-import android.annotation.SuppressLint;
 import android.support.annotation.ColorInt;
 
 import com.mapbox.mapboxsdk.style.functions.Function;
 import com.mapbox.mapboxsdk.style.functions.CameraFunction;
+import com.mapbox.mapboxsdk.utils.ColorUtils;
 
 /**
  * Constructs paint/layout properties for Layers
@@ -2364,9 +2364,8 @@ public class PropertyFactory {
     return new LayoutPropertyValue<>("text-optional", function);
   }
 
-  @SuppressLint("DefaultLocale")
   public static String colorToRgbaString(@ColorInt int value) {
-    return String.format("rgba(%d, %d, %d, %d)", (value >> 16) & 0xFF, (value >> 8) & 0xFF, value & 0xFF, (value >> 24) & 0xFF);
+    return ColorUtils.colorToRgbaString(value);
   }
 
 }
@@ -0,0 +1,248 @@
+package com.mapbox.mapboxsdk.utils;
+
+import android.support.annotation.ColorInt;
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.exceptions.ConversionException;
+
+/**
+ * Parses color strings in a single pass, without regular expressions or substrings.
+ * <p>
+ * Colors of the style specification are hex colors and rgb, rgba, hsl and hsla functions. Colors returned by the
+ * map are rgba functions with components between 0 and 1.
+ * </p>
+ */
+final class ColorParser {
+
+  private static final int MAX_ARGUMENTS = 4;
+
+  private final String value;
+  private final int length;
+  private final double[] arguments = new double[MAX_ARGUMENTS];
+  private int percentages;
+  private int position;
+
+  private ColorParser(@NonNull String value) {
+    this.value = value;
+    this.length = value.length();
+  }
+
+  /**
+   * Parses a color of the style specification, e.g. #f80, #ff8800, rgba(255, 136, 0, 0.5) or hsl(32, 100%, 50%).
+   *
+   * @param value the color string
+   * @return the color int
+   * @throws ConversionException on illegal input
+   */
+  @ColorInt
+  static int parseColor(@NonNull String value) {
+    ColorParser parser = new ColorParser(value);
+    parser.skipWhitespace();
+    int color;
+    if (parser.consume('#')) {
+      color = parser.parseHex();
+    } else if (parser.consumeName("rgba") || parser.consumeName("rgb")) {
+      int count = parser.parseArguments();
+      color = argb(count == 4 ? parser.alpha(3) : 255, parser.channel(0), parser.channel(1), parser.channel(2));
+    } else if (parser.consumeName("hsla") || parser.consumeName("hsl")) {
+      int count = parser.parseArguments();
+      color = parser.hsl(count == 4 ? parser.alpha(3) : 255);
+    } else {
+      throw parser.invalid();
+    }
+    parser.expectEnd();
+    return color;
+  }
+
+  /**
+   * Parses a color returned by the map, an rgb or rgba function with components between 0 and 1.
+   *
+   * @param value the color string
+   * @return the color int
+   * @throws ConversionException on illegal input
+   */
+  @ColorInt
+  static int parseFractions(@NonNull String value) {
+    ColorParser parser = new ColorParser(value);
+    parser.skipWhitespace();
+    if (!parser.consumeName("rgba") && !parser.consumeName("rgb")) {
+      throw parser.invalid();
+    }
+    int count = parser.parseArguments();
+    if (parser.percentages != 0) {
+      throw parser.invalid();
+    }
+    parser.expectEnd();
+    return argb(count == 4 ? parser.fraction(3) : 255, parser.fraction(0), parser.fraction(1), parser.fraction(2));
+  }
+
+  private int parseHex() {
+    int color = 0;
+    int start = position;
+    while (position < length) {
+      int digit = Character.digit(value.charAt(position), 16);
+      if (digit == -1) {
+        break;
+      }
+      color = (color << 4) | digit;
+      position++;
+    }
+    switch (position - start) {
+      case 3:
+        return argb(255, ((color >> 8) & 0xF) * 0x11, ((color >> 4) & 0xF) * 0x11, (color & 0xF) * 0x11);
+      case 4:
+        return argb((color & 0xF) * 0x11, ((color >> 12) & 0xF) * 0x11, ((color >> 8) & 0xF) * 0x11,
+          ((color >> 4) & 0xF) * 0x11);
+      case 6:
+        return 0xFF000000 | color;
+      case 8:
+        return (color >>> 8) | (color << 24);
+      default:
+        throw invalid();
+    }
+  }
+
+  /**
+   * Parses the comma separated arguments of a function, after its name.
+   *
+   * @return the amount of arguments, 3 or 4
+   */
+  private int parseArguments() {
+    skipWhitespace();
+    if (!consume('(')) {
+      throw invalid();
+    }
+    int count = 0;
+    do {
+      if (count == MAX_ARGUMENTS) {
+        throw invalid();
+      }
+      skipWhitespace();
+      arguments[count] = parseNumber();
+      if (consume('%')) {
+        percentages |= 1 << count;
+      }
+      count++;
+      skipWhitespace();
+    } while (consume(','));
+    if (!consume(')') || count < 3) {
+      throw invalid();
+    }
+    return count;
+  }
+
+  private double parseNumber() {
+    boolean negative = consume('-');
+    if (!negative) {
+      consume('+');
+    }
+    double number = 0;
+    int digits = 0;
+    char c;
+    while (position < length && (c = value.charAt(position)) >= '0' && c <= '9') {
+      number = number * 10 + (c - '0');
+      position++;
+      digits++;
+    }
+    if (consume('.')) {
+      double scale = 1;
+      while (position < length && (c = value.charAt(position)) >= '0' && c <= '9') {
+        scale /= 10;
+        number += (c - '0') * scale;
+        position++;
+        digits++;
+      }
+    }
+    if (digits == 0) {
+      throw invalid();
+    }
+    return negative ? -number : number;
+  }
+
+  private int channel(int index) {
+    double channel = isPercentage(index) ? arguments[index] * 255 / 100 : arguments[index];
+    return clamp(Math.round(channel));
+  }
+
+  private int alpha(int index) {
+    double alpha = isPercentage(index) ? arguments[index] / 100 : arguments[index];
+    return clamp(Math.round(alpha * 255));
+  }
+
+  private int fraction(int index) {
+    return clamp(Math.round(arguments[index] * 255));
+  }
+
+  private int hsl(int alpha) {
+    double hue = ((arguments[0] % 360) + 360) % 360 / 360;
+    double saturation = Math.max(0, Math.min(1, arguments[1] / 100));
+    double lightness = Math.max(0, Math.min(1, arguments[2] / 100));
+    double m2 = lightness <= 0.5 ? lightness * (saturation + 1) : lightness + saturation - lightness * saturation;
+    double m1 = lightness * 2 - m2;
+    return argb(alpha, clamp(Math.round(hue(m1, m2, hue + 1.0 / 3) * 255)),
+      clamp(Math.round(hue(m1, m2, hue) * 255)), clamp(Math.round(hue(m1, m2, hue - 1.0 / 3) * 255)));
+  }
+
+  private static double hue(double m1, double m2, double hue) {
+    if (hue < 0) {
+      hue += 1;
+    } else if (hue > 1) {
+      hue -= 1;
+    }
+    if (hue * 6 < 1) {
+      return m1 + (m2 - m1) * hue * 6;
+    } else if (hue * 2 < 1) {
+      return m2;
+    } else if (hue * 3 < 2) {
+      return m1 + (m2 - m1) * (2.0 / 3 - hue) * 6;
+    }
+    return m1;
+  }
+
+  private boolean isPercentage(int index) {
+    return (percentages & (1 << index)) != 0;
+  }
+
+  private boolean consume(char c) {
+    if (position < length && value.charAt(position) == c) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  private boolean consumeName(String name) {
+    int end = position + name.length();
+    if (value.regionMatches(true, position, name, 0, name.length())
+      && (end == length || !Character.isLetter(value.charAt(end)))) {
+      position = end;
+      return true;
+    }
+    return false;
+  }
+
+  private void skipWhitespace() {
+    while (position < length && Character.isWhitespace(value.charAt(position))) {
+      position++;
+    }
+  }
+
+  private void expectEnd() {
+    skipWhitespace();
+    if (position != length) {
+      throw invalid();
+    }
+  }
+
+  private ConversionException invalid() {
+    return new ConversionException("Not a valid color value: " + value);
+  }
+
+  private static int clamp(long component) {
+    return (int) Math.max(0, Math.min(255, component));
+  }
+
+  private static int argb(int alpha, int red, int green, int blue) {
+    return (alpha << 24) | (red << 16) | (green << 8) | blue;
+  }
+}
@@ -3,7 +3,6 @@ package com.mapbox.mapboxsdk.utils;
 import android.content.Context;
 import android.content.res.ColorStateList;
 import android.content.res.Resources;
-import android.graphics.Color;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
 import android.support.annotation.ColorInt;
@@ -15,14 +14,23 @@ import android.widget.ImageView;
 import com.mapbox.mapboxsdk.R;
 import com.mapbox.mapboxsdk.exceptions.ConversionException;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Color utility class.
+ * <p>
+ * Parsed and formatted color strings are cached, a style reads and writes the same colors repeatedly.
+ * </p>
  */
 public class ColorUtils {
 
+  private static final int CACHE_SIZE = 256;
+
+  private static final Cache<String, Integer> FRACTION_COLORS = new Cache<>();
+  private static final Cache<String, Integer> STYLE_COLORS = new Cache<>();
+  private static final Cache<Integer, String> RGBA_STRINGS = new Cache<>();
+
   /**
    * Returns a color integer associated as primary color from a theme based on a Context.
    *
@@ -112,12 +120,8 @@ public class ColorUtils {
     DrawableCompat.setTintList(wrappedDrawable, getSelector(tintColor));
   }
 
-  static int normalizeColorComponent(String value) {
-    return (int) (Float.parseFloat(value) * 255);
-  }
-
   /**
-   * Convert an rgba string to a Color int.
+   * Convert an rgba string, as returned by the map with components between 0 and 1, to a Color int.
    *
    * @param value the String representation of rgba
    * @return the int representation of rgba
@@ -125,18 +129,52 @@ public class ColorUtils {
    */
   @ColorInt
   public static int rgbaToColor(String value) {
-    Pattern c = Pattern.compile("rgba?\\s*\\(\\s*(\\d+\\.?\\d*)\\s*,\\s*(\\d+\\.?\\d*)\\s*,\\s*(\\d+\\.?\\d*)\\s*,"
-      + "?\\s*(\\d+\\.?\\d*)?\\s*\\)");
-    Matcher m = c.matcher(value);
-    if (m.matches() && m.groupCount() == 3) {
-      return Color.rgb(normalizeColorComponent(m.group(1)), normalizeColorComponent(m.group(2)),
-        normalizeColorComponent(m.group(3)));
-    } else if (m.matches() && m.groupCount() == 4) {
-      return Color.argb(normalizeColorComponent(m.group(4)), normalizeColorComponent(m.group(1)),
-        normalizeColorComponent(m.group(2)), normalizeColorComponent(m.group(3)));
-    } else {
-      throw new ConversionException("Not a valid rgb/rgba value");
+    Integer color = FRACTION_COLORS.get(value);
+    if (color == null) {
+      color = ColorParser.parseFractions(value);
+      FRACTION_COLORS.put(value, color);
+    }
+    return color;
+  }
+
+  /**
+   * Convert a color string of the style specification, a hex color or an rgb, rgba, hsl or hsla function, to a
+   * Color int.
+   *
+   * @param value the String representation of the color, e.g. #ff8800 or rgba(255, 136, 0, 0.5)
+   * @return the int representation of the color
+   * @throws ConversionException on illegal input
+   */
+  @ColorInt
+  public static int parseColor(String value) {
+    Integer color = STYLE_COLORS.get(value);
+    if (color == null) {
+      color = ColorParser.parseColor(value);
+      STYLE_COLORS.put(value, color);
+    }
+    return color;
+  }
+
+  /**
+   * Convert a Color int to the rgba string passed to the map.
+   *
+   * @param color the Color int
+   * @return the String representation of rgba
+   */
+  @NonNull
+  public static String colorToRgbaString(@ColorInt int color) {
+    String value = RGBA_STRINGS.get(color);
+    if (value == null) {
+      value = new StringBuilder(24)
+        .append("rgba(")
+        .append((color >> 16) & 0xFF).append(", ")
+        .append((color >> 8) & 0xFF).append(", ")
+        .append(color & 0xFF).append(", ")
+        .append((color >> 24) & 0xFF).append(')')
+        .toString();
+      RGBA_STRINGS.put(color, value);
     }
+    return value;
   }
 
   private static int getColorCompat(Context context, int id) {
@@ -146,4 +184,25 @@ public class ColorUtils {
       return context.getResources().getColor(id);
     }
   }
+
+  /**
+   * A thread safe map evicting the least recently used entry when full.
+   */
+  private static final class Cache<K, V> {
+
+    private final Map<K, V> entries = new LinkedHashMap<K, V>(CACHE_SIZE, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > CACHE_SIZE;
+      }
+    };
+
+    synchronized V get(K key) {
+      return entries.get(key);
+    }
+
+    synchronized void put(K key, V value) {
+      entries.put(key, value);
+    }
+  }
 }
@@ -1,14 +1,20 @@
 package com.mapbox.mapboxsdk.annotations;
 
 import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.maps.MapboxMap;
 
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class PolylineTest {
 
@@ -72,4 +78,68 @@ public class PolylineTest {
     assertEquals(new LatLng(0, 0), polyline.getPoints().get(0));
   }
 
+  @Test
+  public void testAddManyPoints() {
+    Polyline polyline = new PolylineOptions().getPolyline();
+    for (int i = 0; i < 1000; i++) {
+      polyline.addPoint(new LatLng(i * 0.01, i * 0.02));
+    }
+    assertEquals(1000, polyline.getPointCount());
+    assertEquals(new LatLng(9.99, 19.98), polyline.getPoint(999));
+    assertEquals(1000, polyline.getPoints().size());
+  }
+
+  @Test
+  public void testReplacePoints() {
+    Polyline polyline = new PolylineOptions()
+      .add(new LatLng(0, 0), new LatLng(1, 1), new LatLng(2, 2), new LatLng(3, 3))
+      .getPolyline();
+    polyline.replacePoints(1, 2, Collections.singletonList(new LatLng(5, 5)));
+    assertEquals(Arrays.asList(new LatLng(0, 0), new LatLng(5, 5), new LatLng(3, 3)), polyline.getPoints());
+
+    polyline.replacePoints(0, 1, Collections.<LatLng>emptyList());
+    polyline.addPoints(Arrays.asList(new LatLng(6, 6), new LatLng(7, 7)));
+    assertEquals(Arrays.asList(new LatLng(5, 5), new LatLng(3, 3), new LatLng(6, 6), new LatLng(7, 7)),
+      polyline.getPoints());
+  }
+
+  @Test
+  public void testOptionsEqualPoints() {
+    PolylineOptions options = new PolylineOptions().add(new LatLng(0, 0), new LatLng(1, 1, 100));
+    PolylineOptions same = new PolylineOptions().add(new LatLng(0, 0), new LatLng(1, 1, 100));
+    assertEquals(options, same);
+    assertEquals(options.hashCode(), same.hashCode());
+    assertNotEquals(options, new PolylineOptions().add(new LatLng(0, 0), new LatLng(1, 1)));
+    assertNotEquals(options, new PolylineOptions().add(new LatLng(0, 0)));
+  }
+
+  @Test
+  public void testPointsHashCodeMatchesList() {
+    Polyline polyline = new PolylineOptions().add(new LatLng(0, 0), new LatLng(1, 2, 3)).getPolyline();
+    assertEquals(polyline.getPoints().hashCode(), polyline.getPointsHashCode());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testReplacePointsOutOfRange() {
+    Polyline polyline = new PolylineOptions().add(new LatLng(0, 0)).getPolyline();
+    polyline.replacePoints(0, 2, Collections.<LatLng>emptyList());
+  }
+
+  @Test
+  public void testAltitudeKept() {
+    Polyline polyline = new PolylineOptions().add(new LatLng(0, 0), new LatLng(1, 1, 100)).getPolyline();
+    assertEquals(new LatLng(0, 0), polyline.getPoint(0));
+    assertEquals(new LatLng(1, 1, 100), polyline.getPoint(1));
+  }
+
+  @Test
+  public void testAppendSendsSegment() {
+    Polyline polyline = new PolylineOptions().add(new LatLng(0, 0), new LatLng(1, 1)).getPolyline();
+    MapboxMap mapboxMap = mock(MapboxMap.class);
+    polyline.setMapboxMap(mapboxMap);
+    polyline.addPoint(new LatLng(2, 2));
+    verify(mapboxMap).updatePolylinePoints(polyline, 2, 0, 1);
+    polyline.replacePoints(0, 2, Collections.singletonList(new LatLng(3, 3)));
+    verify(mapboxMap).updatePolylinePoints(polyline, 0, 2, 1);
+  }
 }
@@ -0,0 +1,305 @@
+package com.mapbox.mapboxsdk.camera;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.maps.MapboxMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class CameraAnimationEngineTest {
+
+  private static final double DELTA = 1e-6;
+
+  private FakeFrameClock clock;
+  private FakeCamera camera;
+  private CameraAnimationEngine engine;
+
+  @Before
+  public void beforeTest() {
+    clock = new FakeFrameClock();
+    camera = new FakeCamera(new CameraPosition.Builder()
+      .target(new LatLng(10, 20)).zoom(10).bearing(0).tilt(0).build());
+    engine = new CameraAnimationEngine(camera, clock);
+  }
+
+  @Test
+  public void testEaseReachesTarget() {
+    MapboxMap.CancelableCallback callback = mock(MapboxMap.CancelableCallback.class);
+    EaseCameraAnimator ease = new EaseCameraAnimator.Builder()
+      .target(new LatLng(11, 21)).zoom(12).duration(160).build();
+    ease.setCallback(callback);
+    engine.start(ease);
+    assertTrue(engine.isAnimating());
+    assertEquals(1, camera.started);
+
+    clock.advance(320);
+    assertFalse(engine.isAnimating());
+    assertFalse(ease.isRunning());
+    assertEquals(1, camera.finished);
+    verify(callback).onFinish();
+    verify(callback, never()).onCancel();
+
+    // one camera move per frame up to the end of the ease
+    assertEquals(10, camera.jumps.size());
+    CameraPosition last = camera.getCameraPosition();
+    assertEquals(11, last.target.getLatitude(), DELTA);
+    assertEquals(21, last.target.getLongitude(), DELTA);
+    assertEquals(12, last.zoom, DELTA);
+    assertEquals(0, last.bearing, DELTA);
+  }
+
+  @Test
+  public void testEaseEasesInAndOut() {
+    engine.start(new EaseCameraAnimator.Builder().zoom(14).duration(160).build());
+    clock.advance(160);
+
+    double first = camera.jumps.get(0).zoom - 10;
+    double middle = camera.jumps.get(4).zoom - camera.jumps.get(3).zoom;
+    double end = camera.jumps.get(9).zoom - camera.jumps.get(8).zoom;
+    assertTrue(first < middle);
+    assertTrue(end < middle);
+  }
+
+  @Test
+  public void testRetargetIsContinuous() {
+    EaseCameraAnimator ease = new EaseCameraAnimator.Builder().zoom(14).duration(320).build();
+    engine.start(ease);
+    clock.advance(160);
+
+    double before = camera.jumps.get(camera.jumps.size() - 1).zoom;
+    double speed = before - camera.jumps.get(camera.jumps.size() - 2).zoom;
+    ease.retarget(new CameraPosition.Builder().zoom(8).build(), 320);
+    clock.advance(16);
+
+    // keeps moving up for a moment instead of jumping or reversing instantly
+    double after = camera.jumps.get(camera.jumps.size() - 1).zoom;
+    assertTrue(after > before);
+    assertTrue(after - before < speed * 1.5);
+
+    clock.advance(320);
+    assertEquals(8, camera.getCameraPosition().zoom, DELTA);
+    assertFalse(engine.isAnimating());
+  }
+
+  @Test
+  public void testBearingTakesShortestWay() {
+    camera.position = new CameraPosition.Builder().target(new LatLng()).zoom(10).bearing(350).tilt(0).build();
+    engine.start(new EaseCameraAnimator.Builder().bearing(10).duration(160).build());
+    clock.advance(160);
+
+    for (CameraPosition position : camera.jumps) {
+      assertTrue(position.bearing >= 350 || position.bearing <= 10);
+    }
+    assertEquals(10, camera.getCameraPosition().bearing, DELTA);
+  }
+
+  @Test
+  public void testAdditiveBlending() {
+    engine.start(new EaseCameraAnimator.Builder().zoom(12).duration(320).build());
+    clock.advance(80);
+    engine.start(new EaseCameraAnimator.Builder().zoom(1).tilt(30).additive(true).duration(160).build());
+    engine.start(new EaseCameraAnimator.Builder().zoom(0.5).additive(true).duration(160).build());
+    clock.advance(320);
+
+    // offsets of finished additive animators are kept on top of the absolute animator
+    assertEquals(13.5, camera.getCameraPosition().zoom, DELTA);
+    assertEquals(30, camera.getCameraPosition().tilt, DELTA);
+    assertFalse(engine.isAnimating());
+  }
+
+  @Test
+  public void testAbsoluteAnimatorTakesOverChannels() {
+    MapboxMap.CancelableCallback first = mock(MapboxMap.CancelableCallback.class);
+    MapboxMap.CancelableCallback second = mock(MapboxMap.CancelableCallback.class);
+    EaseCameraAnimator zoomAndBearing = new EaseCameraAnimator.Builder().zoom(14).bearing(90).duration(320).build();
+    zoomAndBearing.setCallback(first);
+    EaseCameraAnimator zoom = new EaseCameraAnimator.Builder().zoom(8).duration(160).build();
+    zoom.setCallback(second);
+
+    engine.start(zoomAndBearing);
+    clock.advance(80);
+    engine.start(zoom);
+    assertTrue(zoomAndBearing.isRunning());
+    clock.advance(320);
+
+    assertEquals(8, camera.getCameraPosition().zoom, DELTA);
+    assertEquals(90, camera.getCameraPosition().bearing, DELTA);
+    verify(first).onFinish();
+    verify(second).onFinish();
+
+    EaseCameraAnimator bearing = new EaseCameraAnimator.Builder().bearing(0).duration(320).build();
+    bearing.setCallback(first);
+    engine.start(bearing);
+    clock.advance(80);
+    engine.start(new EaseCameraAnimator.Builder().bearing(45).duration(160).build());
+    assertFalse(bearing.isRunning());
+    verify(first).onCancel();
+  }
+
+  @Test
+  public void testCancelRestsAtCurrentValue() {
+    engine.start(new EaseCameraAnimator.Builder().zoom(14).duration(320).build());
+    clock.advance(160);
+    double zoom = camera.getCameraPosition().zoom;
+    int jumps = camera.jumps.size();
+
+    engine.cancelAll();
+    assertFalse(engine.isAnimating());
+    assertEquals(1, camera.finished);
+    clock.advance(160);
+    assertEquals(jumps, camera.jumps.size());
+
+    // a new animator continues from where the cancelled one stopped
+    engine.start(new EaseCameraAnimator.Builder().tilt(10).duration(16).build());
+    clock.advance(16);
+    assertEquals(zoom, camera.getCameraPosition().zoom, DELTA);
+  }
+
+  @Test
+  public void testSpringSettlesWithoutOvershoot() {
+    SpringCameraAnimator spring = new SpringCameraAnimator(CameraAnimator.CHANNEL_ZOOM,
+      new CameraPosition.Builder().zoom(12).build());
+    engine.start(spring);
+    clock.advance(3000);
+
+    assertFalse(spring.isRunning());
+    for (CameraPosition position : camera.jumps) {
+      assertTrue(position.zoom <= 12);
+    }
+    assertEquals(12, camera.getCameraPosition().zoom, 0);
+  }
+
+  @Test
+  public void testSpringRetargetKeepsMomentum() {
+    SpringCameraAnimator spring = new SpringCameraAnimator(CameraAnimator.CHANNEL_ZOOM,
+      new CameraPosition.Builder().zoom(12).build());
+    engine.start(spring);
+    clock.advance(160);
+    double before = camera.getCameraPosition().zoom;
+
+    spring.setTarget(new CameraPosition.Builder().zoom(10).build());
+    clock.advance(16);
+    assertTrue(camera.getCameraPosition().zoom > before);
+
+    clock.advance(3000);
+    assertEquals(10, camera.getCameraPosition().zoom, 0);
+  }
+
+  @Test
+  public void testSpringIndependentOfFrameRate() {
+    SpringCameraAnimator spring = new SpringCameraAnimator(CameraAnimator.CHANNEL_ZOOM,
+      new CameraPosition.Builder().zoom(12).build());
+    engine.start(spring);
+    clock.advance(96);
+    double zoom = camera.getCameraPosition().zoom;
+
+    FakeFrameClock fastClock = new FakeFrameClock();
+    fastClock.frameMillis = 8;
+    FakeCamera fastCamera = new FakeCamera(new CameraPosition.Builder()
+      .target(new LatLng(10, 20)).zoom(10).bearing(0).tilt(0).build());
+    CameraAnimationEngine fastEngine = new CameraAnimationEngine(fastCamera, fastClock);
+    fastEngine.start(new SpringCameraAnimator(CameraAnimator.CHANNEL_ZOOM,
+      new CameraPosition.Builder().zoom(12).build()));
+    fastClock.advance(96);
+
+    assertEquals(2 * camera.jumps.size(), fastCamera.jumps.size());
+    assertEquals(zoom, fastCamera.getCameraPosition().zoom, 0);
+  }
+
+  @Test
+  public void testUnknownCameraCancelsAnimator() {
+    MapboxMap.CancelableCallback callback = mock(MapboxMap.CancelableCallback.class);
+    camera.position = null;
+    EaseCameraAnimator ease = new EaseCameraAnimator.Builder().zoom(12).build();
+    ease.setCallback(callback);
+    engine.start(ease);
+
+    verify(callback).onCancel();
+    assertFalse(engine.isAnimating());
+    assertEquals(0, camera.started);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAdditiveTargetNotAllowed() {
+    new EaseCameraAnimator.Builder().target(new LatLng()).additive(true).build();
+  }
+
+  private static class FakeFrameClock implements CameraAnimationEngine.FrameClock {
+
+    private long time = 1000;
+    private long frameMillis = 16;
+    private Runnable frameCallback;
+
+    @Override
+    public long getFrameTime() {
+      return time;
+    }
+
+    @Override
+    public void start(@NonNull Runnable frameCallback) {
+      this.frameCallback = frameCallback;
+    }
+
+    @Override
+    public void stop() {
+      frameCallback = null;
+    }
+
+    void advance(long millis) {
+      for (long elapsed = 0; elapsed < millis; elapsed += frameMillis) {
+        time += frameMillis;
+        if (frameCallback != null) {
+          frameCallback.run();
+        }
+      }
+    }
+  }
+
+  private static class FakeCamera implements CameraAnimationEngine.CameraDelegate {
+
+    private CameraPosition position;
+    private final List<CameraPosition> jumps = new ArrayList<>();
+    private int started;
+    private int finished;
+
+    FakeCamera(CameraPosition position) {
+      this.position = position;
+    }
+
+    @Nullable
+    @Override
+    public CameraPosition getCameraPosition() {
+      return position;
+    }
+
+    @Override
+    public void onAnimationStarted() {
+      started++;
+    }
+
+    @Override
+    public void jumpTo(double bearing, @NonNull LatLng target, double tilt, double zoom) {
+      position = new CameraPosition.Builder()
+        .target(new LatLng(target)).bearing(bearing).tilt(tilt).zoom(zoom).build();
+      jumps.add(position);
+    }
+
+    @Override
+    public void onAnimationFinished() {
+      finished++;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.mapbox.mapboxsdk.cluster;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClusterIndexTest {
+
+  private static final int COUNT = 2000;
+
+  private double[] coordinates;
+
+  @Before
+  public void beforeTest() {
+    Random random = new Random(42);
+    coordinates = new double[COUNT * 2];
+    for (int i = 0; i < COUNT; i++) {
+      coordinates[2 * i] = random.nextDouble() * 160 - 80;
+      coordinates[2 * i + 1] = random.nextDouble() * 360 - 180;
+    }
+  }
+
+  @Test
+  public void testPointCountsSumToTotal() {
+    ClusterIndex index = new ClusterIndex();
+    index.load(coordinates, COUNT);
+    for (int zoom = 0; zoom <= 17; zoom++) {
+      List<Cluster> clusters = index.getClusters(-180, -85, 180, 85, zoom);
+      assertEquals("zoom " + zoom, COUNT, sum(clusters));
+    }
+    assertTrue(index.getClusters(-180, -85, 180, 85, 0).size() < COUNT);
+    assertEquals(COUNT, index.getClusters(-180, -85, 180, 85, 17).size());
+  }
+
+  @Test
+  public void testAntimeridian() {
+    ClusterIndex index = new ClusterIndex();
+    index.load(new double[] {10, 179, 10, -179, 10, 0}, 3);
+    List<Cluster> clusters = index.getClusters(170, 0, -170, 20, 17);
+    assertEquals(2, clusters.size());
+    assertEquals(3, index.getClusters(-540, 0, 540, 20, 17).size());
+  }
+
+  @Test
+  public void testLeavesAndChildren() {
+    ClusterIndex index = new ClusterIndex();
+    index.load(coordinates, COUNT);
+    for (Cluster cluster : index.getClusters(-180, -85, 180, 85, 2)) {
+      if (!cluster.isCluster()) {
+        continue;
+      }
+      assertEquals(cluster.getPointCount(), index.getLeaves(cluster.getId()).length);
+      assertEquals(cluster.getPointCount(), sum(index.getChildren(cluster.getId())));
+    }
+  }
+
+  @Test
+  public void testExpansionZoom() {
+    ClusterIndex index = new ClusterIndex();
+    index.load(new double[] {0, 0, 0, 0.0001, 45, 45}, 3);
+    List<Cluster> clusters = index.getClusters(-180, -85, 180, 85, 0);
+    assertEquals(2, clusters.size());
+    Cluster cluster = clusters.get(0).isCluster() ? clusters.get(0) : clusters.get(1);
+    int zoom = index.getClusterExpansionZoom(cluster.getId());
+    assertEquals(2, index.getClusters(-1, -1, 1, 1, zoom).size());
+    assertEquals(1, index.getClusters(-1, -1, 1, 1, zoom - 1).size());
+  }
+
+  @Test
+  public void testParallelBuildMatchesSequential() {
+    int count = 40000;
+    Random random = new Random(7);
+    double[] coordinates = new double[count * 2];
+    for (int i = 0; i < coordinates.length; i++) {
+      coordinates[i] = random.nextDouble() * 100 - 50;
+    }
+
+    ClusterIndex sequential = new ClusterIndex();
+    sequential.load(coordinates, count);
+    ClusterIndex parallel = new ClusterIndex(new ClusterIndex.Options().withExecutor(new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    }));
+    parallel.load(coordinates, count);
+
+    for (int zoom = 0; zoom <= 17; zoom += 4) {
+      List<Cluster> expected = sequential.getClusters(-30, -30, 30, 30, zoom);
+      List<Cluster> actual = parallel.getClusters(-30, -30, 30, 30, zoom);
+      assertEquals(expected.size(), actual.size());
+      assertEquals(sum(expected), sum(actual));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownCluster() {
+    ClusterIndex index = new ClusterIndex();
+    index.load(coordinates, COUNT);
+    index.getLeaves(1);
+  }
+
+  @Test
+  public void testEmpty() {
+    ClusterIndex index = new ClusterIndex();
+    assertTrue(index.getClusters(-180, -85, 180, 85, 5).isEmpty());
+    assertEquals(0, index.getPointCount());
+  }
+
+  private static int sum(List<Cluster> clusters) {
+    int sum = 0;
+    for (Cluster cluster : clusters) {
+      sum += cluster.getPointCount();
+    }
+    return sum;
+  }
+}
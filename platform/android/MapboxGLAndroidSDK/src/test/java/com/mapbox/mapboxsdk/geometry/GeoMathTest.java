@@ -0,0 +1,123 @@
+package com.mapbox.mapboxsdk.geometry;
+
+import com.mapbox.services.android.telemetry.constants.GeoConstants;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GeoMathTest {
+
+  private static final double DELTA = 1e-9;
+  // meters, acos amplifies rounding errors of nearby points
+  private static final double DISTANCE_DELTA = 1e-3;
+
+  @Test
+  public void testDistanceMatchesPreviousFormula() {
+    double[][] offsets = {{0.001, 0.001}, {0.1, 0}, {1, 1}, {10, -20}, {60, 90}, {-45, 170}};
+    for (int latitude = -80; latitude <= 80; latitude += 20) {
+      for (int longitude = -180; longitude <= 180; longitude += 45) {
+        for (double[] offset : offsets) {
+          double latitude2 = Math.max(-89, Math.min(89, latitude + offset[0]));
+          double longitude2 = longitude + offset[1];
+          double expected = previousDistance(latitude, longitude, latitude2, longitude2);
+          assertEquals(expected, GeoMath.distance(latitude, longitude, latitude2, longitude2), DISTANCE_DELTA);
+          assertEquals(expected, new LatLng(latitude, longitude).distanceTo(new LatLng(latitude2, longitude2)),
+            DISTANCE_DELTA);
+        }
+      }
+    }
+    assertEquals(0, GeoMath.distance(1, 1, 1, 1), DELTA);
+  }
+
+  @Test
+  public void testReferenceDistances() {
+    // great circle distances on a sphere with the equatorial radius
+    assertEquals(GeoConstants.RADIUS_EARTH_METERS * Math.PI / 2, GeoMath.distance(0, 0, 0, 90), DISTANCE_DELTA);
+    assertEquals(GeoConstants.RADIUS_EARTH_METERS * Math.PI / 2, GeoMath.distance(0, 0, 90, 0), DISTANCE_DELTA);
+    // Amsterdam to Paris
+    assertEquals(430906.028, GeoMath.distance(52.37, 4.89, 48.85, 2.35), DISTANCE_DELTA);
+  }
+
+  @Test
+  public void testApproximateDistances() {
+    double distance = GeoMath.distance(52.37, 4.89, 52.38, 4.90);
+    assertEquals(distance, GeoMath.haversineDistance(52.37, 4.89, 52.38, 4.90), 1e-3);
+    assertEquals(distance, GeoMath.equirectangularDistance(52.37, 4.89, 52.38, 4.90), 1e-2);
+  }
+
+  @Test
+  public void testExpand() {
+    double[] bounds = new double[4];
+    GeoMath.setEmpty(bounds);
+    assertTrue(GeoMath.isEmpty(bounds));
+
+    GeoMath.expand(bounds, 10, 20);
+    GeoMath.expand(bounds, new double[] {0, 0, -10, -20, 5, 30}, 2, 2);
+    assertFalse(GeoMath.isEmpty(bounds));
+    assertEquals(10, bounds[GeoMath.NORTH], DELTA);
+    assertEquals(30, bounds[GeoMath.EAST], DELTA);
+    assertEquals(-10, bounds[GeoMath.SOUTH], DELTA);
+    assertEquals(-20, bounds[GeoMath.WEST], DELTA);
+    assertTrue(GeoMath.contains(bounds, 0, 0));
+    assertFalse(GeoMath.contains(bounds, 11, 0));
+  }
+
+  @Test
+  public void testIntersectMatchesLatLngBounds() {
+    double[] bounds = new double[] {10, 10, 0, 0};
+    assertTrue(GeoMath.intersect(bounds, new double[] {20, 20, 5, 5}));
+    LatLngBounds expected = LatLngBounds.from(10, 10, 0, 0).intersect(LatLngBounds.from(20, 20, 5, 5));
+    assertEquals(expected, LatLngBounds.from(bounds[0], bounds[1], bounds[2], bounds[3]));
+
+    assertFalse(GeoMath.intersect(bounds, new double[] {40, 40, 30, 30}));
+    assertEquals(10, bounds[GeoMath.NORTH], DELTA);
+  }
+
+  @Test
+  public void testTileBoundsMatchesLatLngBounds() {
+    double[] bounds = new double[4];
+    GeoMath.tileBounds(12, 2100, 1350, bounds);
+    LatLngBounds expected = LatLngBounds.from(12, 2100, 1350);
+    assertEquals(expected, LatLngBounds.from(bounds[0], bounds[1], bounds[2], bounds[3]));
+
+    LatLng center = expected.getCenter();
+    assertEquals(2100, GeoMath.tileX(center.getLongitude(), 12));
+    assertEquals(1350, GeoMath.tileY(center.getLatitude(), 12));
+    assertEquals(0, GeoMath.tileY(90, 12));
+    assertEquals(4095, GeoMath.tileX(180, 12));
+  }
+
+  @Test
+  public void testMutableLatLngBounds() {
+    MutableLatLngBounds bounds = new MutableLatLngBounds();
+    assertTrue(bounds.isEmpty());
+    bounds.include(new LatLng(1, 2)).include(-1, -2).union(LatLngBounds.from(5, 5, 4, 4));
+    assertEquals(LatLngBounds.from(5, 5, -1, -2), bounds.toLatLngBounds());
+    assertEquals(LatLngBounds.from(1, 2, -1, -2).include(new LatLng(5, 5)),
+      new MutableLatLngBounds().set(1, 2, -1, -2).include(5, 5).toLatLngBounds());
+
+    assertTrue(bounds.intersect(new MutableLatLngBounds().set(10, 10, 0, 0)));
+    assertEquals(LatLngBounds.from(5, 5, 0, 0), bounds.toLatLngBounds());
+    assertTrue(bounds.setEmpty().isEmpty());
+  }
+
+  // LatLng#distanceTo before it delegated to GeoMath#distance
+  private static double previousDistance(double latitude1, double longitude1, double latitude2, double longitude2) {
+    if (latitude1 == latitude2 && longitude1 == longitude2) {
+      return 0.0;
+    }
+    double a1 = Math.toRadians(latitude1);
+    double a2 = Math.toRadians(longitude1);
+    double b1 = Math.toRadians(latitude2);
+    double b2 = Math.toRadians(longitude2);
+    double cosa1 = Math.cos(a1);
+    double cosb1 = Math.cos(b1);
+    double t1 = cosa1 * Math.cos(a2) * cosb1 * Math.cos(b2);
+    double t2 = cosa1 * Math.sin(a2) * cosb1 * Math.sin(b2);
+    double t3 = Math.sin(a1) * Math.sin(b1);
+    return GeoConstants.RADIUS_EARTH_METERS * Math.acos(t1 + t2 + t3);
+  }
+}
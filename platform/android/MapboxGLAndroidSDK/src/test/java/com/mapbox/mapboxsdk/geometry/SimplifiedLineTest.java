@@ -0,0 +1,92 @@
+package com.mapbox.mapboxsdk.geometry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SimplifiedLineTest {
+
+  private static final double DELTA = 1e-9;
+
+  @Test
+  public void testStraightLineKeepsEndpoints() {
+    double[] coordinates = new double[200];
+    for (int i = 0; i < 100; i++) {
+      coordinates[2 * i] = 0;
+      coordinates[2 * i + 1] = i * 0.01;
+    }
+    for (int method : new int[] {SimplifiedLine.DOUGLAS_PEUCKER, SimplifiedLine.VISVALINGAM_WHYATT}) {
+      SimplifiedLine line = new SimplifiedLine(coordinates, 100, method, 1);
+      List<LatLng> points = line.getPoints(SimplifiedLine.MAX_ZOOM);
+      assertEquals(2, points.size());
+      assertEquals(0, points.get(0).getLongitude(), DELTA);
+      assertEquals(0.99, points.get(1).getLongitude(), DELTA);
+      assertEquals(100, line.getPoints(SimplifiedLine.MAX_ZOOM + 1).size());
+    }
+  }
+
+  @Test
+  public void testDouglasPeuckerKeepsCorner() {
+    List<LatLng> points = new ArrayList<>();
+    points.add(new LatLng(0, 0));
+    points.add(new LatLng(0.0001, 1));
+    points.add(new LatLng(0, 2));
+    points.add(new LatLng(3, 3));
+    SimplifiedLine line = SimplifiedLine.fromLatLngs(points, SimplifiedLine.DOUGLAS_PEUCKER, 1);
+
+    List<LatLng> simplified = line.getPoints(2);
+    assertEquals(3, simplified.size());
+    assertEquals(2, simplified.get(1).getLongitude(), DELTA);
+    assertEquals(4, line.getPoints(18).size());
+    assertSame(simplified, line.getPoints(2));
+  }
+
+  @Test
+  public void testVariantsAreMonotonic() {
+    Random random = new Random(3);
+    double[] coordinates = new double[20000];
+    double latitude = 0;
+    double longitude = 0;
+    for (int i = 0; i < 10000; i++) {
+      latitude += random.nextDouble() * 0.002 - 0.001;
+      longitude += random.nextDouble() * 0.002;
+      coordinates[2 * i] = latitude;
+      coordinates[2 * i + 1] = longitude;
+    }
+
+    for (int method : new int[] {SimplifiedLine.DOUGLAS_PEUCKER, SimplifiedLine.VISVALINGAM_WHYATT}) {
+      SimplifiedLine line = new SimplifiedLine(coordinates, 10000, method, 1);
+      int previous = 0;
+      for (int zoom = 0; zoom <= SimplifiedLine.MAX_ZOOM; zoom++) {
+        int count = line.getPointCount(zoom);
+        assertEquals(count, line.getPoints(zoom).size());
+        assertTrue(count >= previous);
+        assertTrue(line.getPoints(zoom).containsAll(line.getPoints(Math.max(0, zoom - 1))));
+        previous = count;
+      }
+      assertTrue(line.getPointCount(10) < 10000);
+    }
+  }
+
+  @Test
+  public void testClosedRingKeepsFarthestVertex() {
+    double[] coordinates = {0, 0, 0, 0.01, 0.01, 0.01, 0.01, 0, 0, 0};
+    for (int method : new int[] {SimplifiedLine.DOUGLAS_PEUCKER, SimplifiedLine.VISVALINGAM_WHYATT}) {
+      List<LatLng> points = new SimplifiedLine(coordinates, 5, method, 1).getPoints(0);
+      assertEquals(3, points.size());
+      assertEquals(new LatLng(0.01, 0.01), points.get(1));
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    SimplifiedLine line = new SimplifiedLine(new double[0], 0, SimplifiedLine.VISVALINGAM_WHYATT, 1);
+    assertEquals(0, line.getPoints(5).size());
+  }
+}
@@ -0,0 +1,94 @@
+package com.mapbox.mapboxsdk.location;
+
+import com.mapbox.services.android.telemetry.location.LocationEnginePriority;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveLocationPolicyTest {
+
+  private AdaptiveLocationPolicy policy;
+
+  @Before
+  public void beforeTest() {
+    policy = new AdaptiveLocationPolicy();
+    policy.setBase(1000, LocationEnginePriority.HIGH_ACCURACY);
+    policy.setZoom(15);
+  }
+
+  @Test
+  public void testBase() {
+    assertEquals(1000, policy.getInterval());
+    assertEquals(500, policy.getFastestInterval());
+    assertEquals(LocationEnginePriority.HIGH_ACCURACY, policy.getPriority());
+    assertEquals(0, policy.getSmallestDisplacement(), 0);
+    assertEquals(0, policy.getBatchInterval());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBase() {
+    policy.setBase(0, LocationEnginePriority.HIGH_ACCURACY);
+  }
+
+  @Test
+  public void testZoomedOut() {
+    policy.setZoom(5);
+    assertEquals(4000, policy.getInterval());
+    assertEquals(LocationEnginePriority.BALANCED_POWER_ACCURACY, policy.getPriority());
+  }
+
+  @Test
+  public void testTrackingEscalates() {
+    policy.setBase(1000, LocationEnginePriority.LOW_POWER);
+    policy.setZoom(5);
+    policy.setTrackingActive(true);
+    assertEquals(1000, policy.getInterval());
+    assertEquals(LocationEnginePriority.HIGH_ACCURACY, policy.getPriority());
+  }
+
+  @Test
+  public void testPausedBatches() {
+    policy.setMapVisible(false);
+    assertEquals(10000, policy.getInterval());
+    assertEquals(LocationEnginePriority.LOW_POWER, policy.getPriority());
+    assertTrue(policy.getBatchInterval() > 0);
+
+    policy.setMapVisible(true);
+    assertEquals(0, policy.getBatchInterval());
+  }
+
+  @Test
+  public void testPriorityIsNeverRaisedWhenRelaxed() {
+    policy.setBase(1000, LocationEnginePriority.NO_POWER);
+    policy.setMapVisible(false);
+    assertEquals(LocationEnginePriority.NO_POWER, policy.getPriority());
+  }
+
+  @Test
+  public void testStationary() {
+    // jitter of a few meters around the same spot
+    for (long time = 0; time <= AdaptiveLocationPolicy.STATIONARY_WINDOW_MILLIS; time += 1000) {
+      policy.onLocation(time, 52.0 + (time % 3000) * 1e-8, 4.0);
+    }
+    assertTrue(policy.isStationary());
+    assertEquals(4000, policy.getInterval());
+    assertEquals(AdaptiveLocationPolicy.STATIONARY_RADIUS_METERS, policy.getSmallestDisplacement(), 0);
+    assertEquals(LocationEnginePriority.BALANCED_POWER_ACCURACY, policy.getPriority());
+
+    // moving 50 meters ends the stationary state
+    policy.onLocation(31000, 52.00045, 4.0);
+    assertFalse(policy.isStationary());
+    assertEquals(1000, policy.getInterval());
+  }
+
+  @Test
+  public void testNotStationaryWithinWindow() {
+    policy.onLocation(0, 52.0, 4.0);
+    policy.onLocation(AdaptiveLocationPolicy.STATIONARY_WINDOW_MILLIS - 1, 52.0, 4.0);
+    assertFalse(policy.isStationary());
+  }
+}
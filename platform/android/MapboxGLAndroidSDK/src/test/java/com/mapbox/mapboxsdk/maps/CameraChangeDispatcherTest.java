@@ -1,8 +1,24 @@
 package com.mapbox.mapboxsdk.maps;
 
+import android.os.Handler;
+
+import com.mapbox.mapboxsdk.camera.CameraAnimationEngine;
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class CameraChangeDispatcherTest {
@@ -84,4 +100,149 @@ public class CameraChangeDispatcherTest {
     dispatcher.onCameraMove();
     verify(listener).onCameraMove();
   }
+
+  @Test
+  public void testImmediateDispatch() {
+    CameraChangeDispatcher dispatcher = new CameraChangeDispatcher(mock(Handler.class),
+      mock(CameraAnimationEngine.FrameClock.class));
+    MapboxMap.OnCameraMoveListener listener = mock(MapboxMap.OnCameraMoveListener.class);
+    CameraMoveDispatch dispatch = CameraMoveDispatch.immediate();
+    dispatcher.addOnCameraMoveListener(listener, dispatch);
+    dispatcher.onCameraMoveStarted(MapboxMap.OnCameraMoveStartedListener.REASON_API_GESTURE);
+    dispatcher.onCameraMove();
+    dispatcher.onCameraMove();
+    verify(listener, times(2)).onCameraMove();
+    assertEquals(2, dispatch.getDispatchCount());
+  }
+
+  @Test
+  public void testFrameDispatchCoalescesMoves() {
+    CameraAnimationEngine.FrameClock frameClock = mock(CameraAnimationEngine.FrameClock.class);
+    CameraChangeDispatcher dispatcher = new CameraChangeDispatcher(mock(Handler.class), frameClock);
+    MapboxMap.OnCameraMoveListener listener = mock(MapboxMap.OnCameraMoveListener.class);
+    CameraMoveDispatch dispatch = CameraMoveDispatch.perFrame();
+    dispatcher.addOnCameraMoveListener(listener, dispatch);
+    dispatcher.onCameraMoveStarted(MapboxMap.OnCameraMoveStartedListener.REASON_API_GESTURE);
+    dispatcher.onCameraMove();
+    dispatcher.onCameraMove();
+    dispatcher.onCameraMove();
+    verify(listener, never()).onCameraMove();
+
+    ArgumentCaptor<Runnable> frameCallback = ArgumentCaptor.forClass(Runnable.class);
+    verify(frameClock).start(frameCallback.capture());
+    frameCallback.getValue().run();
+    verify(frameClock).stop();
+    verify(listener).onCameraMove();
+    assertEquals(1, dispatch.getDispatchCount());
+    assertEquals(2, dispatch.getCoalescedCount());
+  }
+
+  @Test
+  public void testFrameDispatchSharesFrameCallback() {
+    CameraAnimationEngine.FrameClock frameClock = mock(CameraAnimationEngine.FrameClock.class);
+    CameraChangeDispatcher dispatcher = new CameraChangeDispatcher(mock(Handler.class), frameClock);
+    MapboxMap.OnCameraMoveListener first = mock(MapboxMap.OnCameraMoveListener.class);
+    MapboxMap.OnCameraMoveListener second = mock(MapboxMap.OnCameraMoveListener.class);
+    dispatcher.addOnCameraMoveListener(first, CameraMoveDispatch.perFrame());
+    dispatcher.addOnCameraMoveListener(second, CameraMoveDispatch.perFrame());
+    dispatcher.onCameraMoveStarted(MapboxMap.OnCameraMoveStartedListener.REASON_API_GESTURE);
+    dispatcher.onCameraMove();
+
+    ArgumentCaptor<Runnable> frameCallback = ArgumentCaptor.forClass(Runnable.class);
+    verify(frameClock).start(frameCallback.capture());
+    frameCallback.getValue().run();
+    verify(first).onCameraMove();
+    verify(second).onCameraMove();
+
+    // the next move schedules the next frame
+    dispatcher.onCameraMove();
+    verify(frameClock, times(2)).start(any(Runnable.class));
+  }
+
+  @Test
+  public void testThrottledDispatchDeliversLatestBeforeIdle() {
+    Handler handler = mock(Handler.class);
+    CameraChangeDispatcher dispatcher = new CameraChangeDispatcher(handler,
+      mock(CameraAnimationEngine.FrameClock.class));
+    final List<CameraPosition> positions = new ArrayList<>();
+    MapboxMap.OnCameraIdleListener idleListener = mock(MapboxMap.OnCameraIdleListener.class);
+    dispatcher.addOnCameraIdleListener(idleListener);
+    dispatcher.addOnCameraMoveSnapshotListener(new MapboxMap.OnCameraMoveSnapshotListener() {
+      @Override
+      public void onCameraMove(CameraPosition cameraPosition) {
+        positions.add(cameraPosition);
+      }
+    }, CameraMoveDispatch.throttled(10));
+
+    dispatcher.onCameraMoveStarted(MapboxMap.OnCameraMoveStartedListener.REASON_API_GESTURE);
+    CameraPosition first = createCameraPosition(1);
+    CameraPosition last = createCameraPosition(3);
+    dispatcher.onCameraMove(first);
+    dispatcher.onCameraMove(createCameraPosition(2));
+    dispatcher.onCameraMove(last);
+    assertEquals(1, positions.size());
+    verify(handler).postAtTime(any(Runnable.class), anyLong());
+
+    dispatcher.onCameraIdle();
+    verify(handler).removeCallbacks(any(Runnable.class));
+    assertEquals(2, positions.size());
+    assertEquals(first, positions.get(0));
+    assertEquals(last, positions.get(1));
+    verify(idleListener).onCameraIdle();
+  }
+
+  @Test
+  public void testBackgroundDispatchCoalescesQueuedMoves() {
+    CameraChangeDispatcher dispatcher = new CameraChangeDispatcher(mock(Handler.class),
+      mock(CameraAnimationEngine.FrameClock.class));
+    final List<Runnable> tasks = new ArrayList<>();
+    final List<CameraPosition> positions = new ArrayList<>();
+    CameraMoveDispatch dispatch = CameraMoveDispatch.background(new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        tasks.add(command);
+      }
+    });
+    dispatcher.addOnCameraMoveSnapshotListener(new MapboxMap.OnCameraMoveSnapshotListener() {
+      @Override
+      public void onCameraMove(CameraPosition cameraPosition) {
+        positions.add(cameraPosition);
+      }
+    }, dispatch);
+
+    dispatcher.onCameraMoveStarted(MapboxMap.OnCameraMoveStartedListener.REASON_API_GESTURE);
+    dispatcher.onCameraMove(createCameraPosition(1));
+    CameraPosition latest = createCameraPosition(2);
+    dispatcher.onCameraMove(latest);
+    assertEquals(1, tasks.size());
+
+    tasks.get(0).run();
+    assertEquals(1, positions.size());
+    assertEquals(latest, positions.get(0));
+    assertEquals(1, dispatch.getCoalescedCount());
+
+    dispatcher.onCameraMove(createCameraPosition(3));
+    assertEquals(2, tasks.size());
+  }
+
+  @Test
+  public void testRemoveDispatchedListener() {
+    CameraAnimationEngine.FrameClock frameClock = mock(CameraAnimationEngine.FrameClock.class);
+    CameraChangeDispatcher dispatcher = new CameraChangeDispatcher(mock(Handler.class), frameClock);
+    MapboxMap.OnCameraMoveListener listener = mock(MapboxMap.OnCameraMoveListener.class);
+    dispatcher.addOnCameraMoveListener(listener, CameraMoveDispatch.perFrame());
+    dispatcher.onCameraMoveStarted(MapboxMap.OnCameraMoveStartedListener.REASON_API_GESTURE);
+    dispatcher.onCameraMove();
+    dispatcher.removeOnCameraMoveListener(listener);
+
+    ArgumentCaptor<Runnable> frameCallback = ArgumentCaptor.forClass(Runnable.class);
+    verify(frameClock).start(frameCallback.capture());
+    frameCallback.getValue().run();
+    dispatcher.onCameraIdle();
+    verify(listener, never()).onCameraMove();
+  }
+
+  private static CameraPosition createCameraPosition(double zoom) {
+    return new CameraPosition.Builder().target(new LatLng()).zoom(zoom).build();
+  }
 }
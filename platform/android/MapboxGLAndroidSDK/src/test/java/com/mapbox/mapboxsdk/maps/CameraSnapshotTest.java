@@ -0,0 +1,91 @@
+package com.mapbox.mapboxsdk.maps;
+
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CameraSnapshotTest {
+
+  private static final double DELTA = 1e-10;
+
+  private CameraSnapshot.CameraSource source;
+  private CameraSnapshot cameraSnapshot;
+
+  @Before
+  public void beforeTest() {
+    source = mock(CameraSnapshot.CameraSource.class);
+    when(source.readCameraPosition()).thenReturn(new CameraPosition.Builder()
+      .target(new LatLng(12, 34))
+      .zoom(5)
+      .bearing(90)
+      .tilt(30)
+      .build());
+    cameraSnapshot = new CameraSnapshot(source);
+  }
+
+  @Test
+  public void testReadOnce() {
+    cameraSnapshot.get();
+    cameraSnapshot.get();
+    cameraSnapshot.copy();
+    verify(source, times(1)).readCameraPosition();
+    assertEquals(1, cameraSnapshot.getReadCount());
+    assertEquals(2, cameraSnapshot.getHitCount());
+  }
+
+  @Test
+  public void testInvalidate() {
+    cameraSnapshot.get();
+    cameraSnapshot.invalidate();
+    cameraSnapshot.get();
+    verify(source, times(2)).readCameraPosition();
+    assertEquals(2, cameraSnapshot.getReadCount());
+    assertEquals(0, cameraSnapshot.getHitCount());
+  }
+
+  @Test
+  public void testCameraChangesInvalidate() {
+    int[] changes = {MapView.REGION_WILL_CHANGE, MapView.REGION_WILL_CHANGE_ANIMATED, MapView.REGION_IS_CHANGING,
+      MapView.REGION_DID_CHANGE, MapView.REGION_DID_CHANGE_ANIMATED};
+    for (int change : changes) {
+      cameraSnapshot.get();
+      cameraSnapshot.onMapChanged(change);
+    }
+    assertEquals(changes.length, cameraSnapshot.getReadCount());
+    assertEquals(0, cameraSnapshot.getHitCount());
+  }
+
+  @Test
+  public void testOtherChangesKeepSnapshot() {
+    int[] changes = {MapView.WILL_START_LOADING_MAP, MapView.DID_FINISH_LOADING_MAP, MapView.WILL_START_RENDERING_FRAME,
+      MapView.DID_FINISH_RENDERING_FRAME_FULLY_RENDERED, MapView.DID_FINISH_LOADING_STYLE, MapView.SOURCE_DID_CHANGE};
+    for (int change : changes) {
+      cameraSnapshot.get();
+      cameraSnapshot.onMapChanged(change);
+    }
+    assertEquals(1, cameraSnapshot.getReadCount());
+    assertEquals(changes.length - 1, cameraSnapshot.getHitCount());
+  }
+
+  @Test
+  public void testCopy() {
+    CameraPosition copy = cameraSnapshot.copy();
+    assertEquals(cameraSnapshot.get(), copy);
+    assertNotSame(cameraSnapshot.get().target, copy.target);
+    assertEquals(5, copy.zoom, DELTA);
+    assertEquals(90, copy.bearing, DELTA);
+    assertEquals(30, copy.tilt, DELTA);
+
+    copy.target.setLatitude(56);
+    assertEquals(12, cameraSnapshot.copy().target.getLatitude(), DELTA);
+  }
+}
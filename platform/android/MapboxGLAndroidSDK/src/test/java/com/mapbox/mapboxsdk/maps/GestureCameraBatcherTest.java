@@ -0,0 +1,168 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.camera.CameraAnimationEngine;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GestureCameraBatcherTest {
+
+  private FakeFrameClock clock;
+  private RecordingTarget target;
+  private GestureCameraBatcher batcher;
+
+  @Before
+  public void beforeTest() {
+    clock = new FakeFrameClock();
+    target = new RecordingTarget();
+    batcher = new GestureCameraBatcher(target, clock);
+  }
+
+  @Test
+  public void testHighRateReplayAppliesOncePerFrame() {
+    // one second of a 120 Hz touch panel on a 60 Hz display
+    for (int i = 0; i < 120; i++) {
+      batcher.moveBy(2, -1);
+      if (i % 2 == 1) {
+        clock.frame();
+      }
+    }
+
+    assertEquals(120, batcher.getDeltaCount());
+    assertEquals(60, batcher.getUpdateCount());
+    assertEquals(60, target.updates);
+    assertEquals(240, target.dx, 0);
+    assertEquals(-120, target.dy, 0);
+  }
+
+  @Test
+  public void testKindsAppliedTogether() {
+    batcher.moveBy(1, 1);
+    batcher.zoomBy(0.1, 10, 20);
+    batcher.zoomBy(0.2, 30, 40);
+    batcher.rotateBy(5, 50, 60);
+    batcher.tiltBy(-2);
+    batcher.tiltBy(-1);
+    clock.frame();
+
+    assertEquals(1, target.updates);
+    assertEquals(1, target.dx, 0);
+    assertEquals(1, target.dy, 0);
+    assertEquals(0.3, target.zoom, 1e-9);
+    assertEquals(5, target.degrees, 0);
+    assertEquals(-3, target.tilt, 0);
+    assertEquals(30, target.focalX, 0);
+    assertEquals(40, target.focalY, 0);
+    assertEquals(1, batcher.getUpdateCount());
+    assertFalse(batcher.hasPendingDeltas());
+
+    // the deltas are cleared after the change
+    batcher.moveBy(2, 0);
+    clock.frame();
+    assertEquals(2, target.updates);
+    assertEquals(3, target.dx, 0);
+    assertEquals(0.3, target.zoom, 1e-9);
+  }
+
+  @Test
+  public void testFocalPointOfFrame() {
+    batcher.rotateBy(5, 50, 60);
+    clock.frame();
+    assertEquals(50, target.focalX, 0);
+    assertEquals(60, target.focalY, 0);
+
+    batcher.moveBy(1, 1);
+    batcher.tiltBy(-1);
+    clock.frame();
+    assertEquals(-1, target.focalX, 0);
+    assertEquals(-1, target.focalY, 0);
+  }
+
+  @Test
+  public void testFlushAppliesImmediately() {
+    batcher.moveBy(3, 4);
+    assertTrue(batcher.hasPendingDeltas());
+    assertEquals(0, target.updates);
+
+    batcher.flush();
+    assertEquals(1, target.updates);
+    clock.frame();
+    assertEquals(1, target.updates);
+  }
+
+  @Test
+  public void testClockStopsWithoutInput() {
+    batcher.moveBy(1, 0);
+    assertTrue(clock.isRunning());
+    clock.frame();
+    assertTrue(clock.isRunning());
+    clock.frame();
+    assertFalse(clock.isRunning());
+
+    batcher.moveBy(1, 0);
+    assertTrue(clock.isRunning());
+  }
+
+  private static class FakeFrameClock implements CameraAnimationEngine.FrameClock {
+
+    private long time = 1000;
+    private Runnable frameCallback;
+
+    @Override
+    public long getFrameTime() {
+      return time;
+    }
+
+    @Override
+    public void start(@NonNull Runnable frameCallback) {
+      this.frameCallback = frameCallback;
+    }
+
+    @Override
+    public void stop() {
+      frameCallback = null;
+    }
+
+    boolean isRunning() {
+      return frameCallback != null;
+    }
+
+    void frame() {
+      time += 16;
+      if (frameCallback != null) {
+        frameCallback.run();
+      }
+    }
+  }
+
+  private static class RecordingTarget implements GestureCameraBatcher.Target {
+
+    private int updates;
+    private double dx;
+    private double dy;
+    private double zoom;
+    private double degrees;
+    private double tilt;
+    private float focalX;
+    private float focalY;
+
+    @Override
+    public void moveCameraBy(double dx, double dy, double zoom, double degrees, double tilt, float focalX,
+                             float focalY) {
+      updates++;
+      this.dx += dx;
+      this.dy += dy;
+      this.zoom += zoom;
+      this.degrees += degrees;
+      this.tilt += tilt;
+      this.focalX = focalX;
+      this.focalY = focalY;
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.camera.CameraAnimationEngine;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class KineticGestureEngineTest {
+
+  // recorded single finger fling, {event time, x, y} of touch down, moves and touch up
+  private static final long[][] FLING = {
+    {1000, 500, 800}, {1008, 500, 790}, {1016, 502, 772}, {1024, 505, 748}, {1032, 508, 720}, {1040, 512, 688},
+    {1048, 516, 654}, {1056, 520, 620}, {1064, 524, 586}, {1072, 528, 552}, {1080, 532, 518}, {1084, 534, 501}
+  };
+
+  // recorded drag that stopped before the finger was lifted
+  private static final long[][] DRAG_AND_HOLD = {
+    {1000, 500, 800}, {1016, 500, 760}, {1032, 500, 720}, {1048, 500, 680}, {1064, 500, 660}, {1080, 500, 655},
+    {1096, 500, 655}, {1180, 500, 655}
+  };
+
+  private FakeFrameClock clock;
+  private RecordingTarget target;
+  private KineticGestureEngine engine;
+
+  @Before
+  public void beforeTest() {
+    clock = new FakeFrameClock();
+    target = new RecordingTarget();
+    engine = new KineticGestureEngine(target, clock);
+  }
+
+  @Test
+  public void testReleaseVelocity() {
+    long release = replay(engine, FLING);
+    // between the average speed of the gesture and the speed of its last moves
+    assertEquals(460, engine.getPanVelocityX(release), 60);
+    assertEquals(-3900, engine.getPanVelocityY(release), 350);
+  }
+
+  @Test
+  public void testPausedFingerDoesNotFling() {
+    long release = replay(engine, DRAG_AND_HOLD);
+    assertEquals(0, engine.getPanVelocityX(release), 0);
+    assertEquals(0, engine.getPanVelocityY(release), 0);
+  }
+
+  @Test
+  public void testPanDistanceFollowsDecay() {
+    long release = replay(engine, FLING);
+    engine.startPan(release, 1000, 0);
+    assertTrue(engine.isRunning());
+    assertTrue(engine.isPanning());
+
+    clock.advance(5000);
+    assertFalse(engine.isRunning());
+    assertEquals(1, target.ends);
+
+    // the distance of an exponential decay is velocity * time constant, minus the part below the stop velocity
+    double expected = 1000 * KineticGestureEngine.PAN_TIME_CONSTANT_MILLIS / 1000.0;
+    assertEquals(expected, target.dx, 10);
+    assertTrue(target.dx < expected);
+    assertEquals(0, target.dy, 0);
+  }
+
+  @Test
+  public void testPanIndependentOfFrameRate() {
+    engine.startPan(clock.time, 1000, -500);
+    clock.advance(192);
+
+    FakeFrameClock fastClock = new FakeFrameClock();
+    fastClock.frameMillis = 8;
+    RecordingTarget fastTarget = new RecordingTarget();
+    KineticGestureEngine fastEngine = new KineticGestureEngine(fastTarget, fastClock);
+    fastEngine.startPan(fastClock.time, 1000, -500);
+    fastClock.advance(192);
+
+    assertEquals(2 * target.frames, fastTarget.frames);
+    assertEquals(target.dx, fastTarget.dx, 1e-6);
+    assertEquals(target.dy, fastTarget.dy, 1e-6);
+  }
+
+  @Test
+  public void testTouchDownInterrupts() {
+    engine.startPan(clock.time, 2000, 0);
+    clock.advance(48);
+    double dx = target.dx;
+
+    engine.onTouchDown(clock.time);
+    assertFalse(engine.isRunning());
+    assertEquals(1, target.ends);
+    clock.advance(48);
+    assertEquals(dx, target.dx, 0);
+  }
+
+  @Test
+  public void testVelocityHandOff() {
+    engine.startPan(clock.time, 2000, 0);
+    clock.advance(48);
+    engine.onTouchDown(clock.time);
+    double before = target.dx;
+    engine.startPan(clock.time + 200, 1000, 0);
+    clock.advance(5000);
+    double handedOff = target.dx - before;
+
+    // the same fling long after the interruption
+    RecordingTarget otherTarget = new RecordingTarget();
+    KineticGestureEngine other = new KineticGestureEngine(otherTarget, clock);
+    other.startPan(clock.time, 2000, 0);
+    clock.advance(48);
+    other.onTouchDown(clock.time);
+    double otherBefore = otherTarget.dx;
+    other.startPan(clock.time + KineticGestureEngine.HANDOFF_WINDOW_MILLIS + 1, 1000, 0);
+    clock.advance(5000);
+    double notHandedOff = otherTarget.dx - otherBefore;
+
+    assertTrue(handedOff > 2 * notHandedOff);
+  }
+
+  @Test
+  public void testOppositeDirectionDoesNotHandOff() {
+    engine.startPan(clock.time, 2000, 0);
+    clock.advance(48);
+    engine.onTouchDown(clock.time);
+    double before = target.dx;
+
+    engine.startPan(clock.time + 100, -1000, 0);
+    clock.advance(5000);
+    assertEquals(-1000 * KineticGestureEngine.PAN_TIME_CONSTANT_MILLIS / 1000.0, target.dx - before, 10);
+  }
+
+  @Test
+  public void testZoomAndRotationDecay() {
+    long time = 2000;
+    for (int i = 0; i <= 6; i++) {
+      engine.addZoomSample(time + i * 16, i * 0.04);
+      engine.addRotationSample(time + i * 16, -i * 1.6);
+    }
+    long release = time + 100;
+    double zoomVelocity = engine.getZoomVelocity(release);
+    double rotationVelocity = engine.getRotationVelocity(release);
+    assertEquals(2.5, zoomVelocity, 1e-6);
+    assertEquals(-100, rotationVelocity, 1e-6);
+
+    engine.startZoom(release, zoomVelocity, 100, 200);
+    engine.startRotation(release, rotationVelocity, 100, 200);
+    clock.advance(5000);
+
+    assertEquals(2.5 * KineticGestureEngine.ZOOM_TIME_CONSTANT_MILLIS / 1000.0, target.zoom, 0.01);
+    assertEquals(-100 * KineticGestureEngine.ROTATE_TIME_CONSTANT_MILLIS / 1000.0, target.degrees, 0.5);
+    assertEquals(100, target.focalX, 0);
+    assertEquals(200, target.focalY, 0);
+    assertEquals(1, target.ends);
+    assertFalse(engine.isZooming());
+    assertFalse(engine.isRotating());
+  }
+
+  private long replay(KineticGestureEngine engine, long[][] events) {
+    engine.onTouchDown(events[0][0]);
+    for (long[] event : events) {
+      engine.addPanSample(event[0], event[1], event[2]);
+    }
+    clock.time = events[events.length - 1][0];
+    return clock.time;
+  }
+
+  private static class FakeFrameClock implements CameraAnimationEngine.FrameClock {
+
+    private long time = 1000;
+    private long frameMillis = 16;
+    private Runnable frameCallback;
+
+    @Override
+    public long getFrameTime() {
+      return time;
+    }
+
+    @Override
+    public void start(@NonNull Runnable frameCallback) {
+      this.frameCallback = frameCallback;
+    }
+
+    @Override
+    public void stop() {
+      frameCallback = null;
+    }
+
+    void advance(long millis) {
+      for (long elapsed = 0; elapsed < millis; elapsed += frameMillis) {
+        time += frameMillis;
+        if (frameCallback != null) {
+          frameCallback.run();
+        }
+      }
+    }
+  }
+
+  private static class RecordingTarget implements KineticGestureEngine.Target {
+
+    private double dx;
+    private double dy;
+    private double zoom;
+    private double degrees;
+    private float focalX;
+    private float focalY;
+    private int frames;
+    private int ends;
+
+    @Override
+    public void moveBy(double dx, double dy) {
+      this.dx += dx;
+      this.dy += dy;
+      frames++;
+    }
+
+    @Override
+    public void zoomBy(double zoom, float focalX, float focalY) {
+      this.zoom += zoom;
+      this.focalX = focalX;
+      this.focalY = focalY;
+    }
+
+    @Override
+    public void rotateBy(double degrees, float focalX, float focalY) {
+      this.degrees += degrees;
+    }
+
+    @Override
+    public void onKineticEnd() {
+      ends++;
+    }
+  }
+}
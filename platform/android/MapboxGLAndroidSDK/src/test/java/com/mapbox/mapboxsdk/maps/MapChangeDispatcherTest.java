@@ -0,0 +1,154 @@
+package com.mapbox.mapboxsdk.maps;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class MapChangeDispatcherTest {
+
+  private MapChangeDispatcher dispatcher;
+
+  @Before
+  public void beforeTest() {
+    dispatcher = new MapChangeDispatcher();
+  }
+
+  @Test
+  public void testListenerForAllEvents() {
+    MapView.OnMapChangedListener listener = mock(MapView.OnMapChangedListener.class);
+    dispatcher.addListener(listener);
+    dispatcher.dispatch(MapView.REGION_IS_CHANGING);
+    dispatcher.dispatch(MapView.DID_FINISH_RENDERING_FRAME);
+    verify(listener).onMapChanged(MapView.REGION_IS_CHANGING);
+    verify(listener).onMapChanged(MapView.DID_FINISH_RENDERING_FRAME);
+
+    dispatcher.removeListener(listener);
+    dispatcher.dispatch(MapView.REGION_IS_CHANGING);
+    verify(listener).onMapChanged(MapView.REGION_IS_CHANGING);
+  }
+
+  @Test
+  public void testFilteredListener() {
+    MapView.OnMapChangedListener listener = mock(MapView.OnMapChangedListener.class);
+    dispatcher.addListener(listener, new int[] {MapView.DID_FINISH_LOADING_STYLE});
+    dispatcher.dispatch(MapView.REGION_IS_CHANGING);
+    dispatcher.dispatch(MapView.DID_FINISH_LOADING_STYLE);
+    verify(listener, never()).onMapChanged(MapView.REGION_IS_CHANGING);
+    verify(listener).onMapChanged(MapView.DID_FINISH_LOADING_STYLE);
+    assertEquals(0, dispatcher.getListenerCount(MapView.REGION_IS_CHANGING));
+  }
+
+  @Test
+  public void testOneShotListener() {
+    MapView.OnMapChangedListener listener = mock(MapView.OnMapChangedListener.class);
+    dispatcher.addOneShotListener(MapView.REGION_DID_CHANGE_ANIMATED, listener);
+    dispatcher.dispatch(MapView.REGION_DID_CHANGE);
+    dispatcher.dispatch(MapView.REGION_DID_CHANGE_ANIMATED);
+    dispatcher.dispatch(MapView.REGION_DID_CHANGE_ANIMATED);
+    verify(listener, never()).onMapChanged(MapView.REGION_DID_CHANGE);
+    verify(listener, times(1)).onMapChanged(MapView.REGION_DID_CHANGE_ANIMATED);
+    assertEquals(0, dispatcher.getListenerCount(MapView.REGION_DID_CHANGE_ANIMATED));
+  }
+
+  @Test
+  public void testRemoveOneShotListener() {
+    MapView.OnMapChangedListener listener = mock(MapView.OnMapChangedListener.class);
+    dispatcher.addOneShotListener(MapView.REGION_DID_CHANGE_ANIMATED, listener);
+    dispatcher.removeListener(listener);
+    dispatcher.dispatch(MapView.REGION_DID_CHANGE_ANIMATED);
+    verify(listener, never()).onMapChanged(MapView.REGION_DID_CHANGE_ANIMATED);
+  }
+
+  @Test
+  public void testOneShotAddedWhileDispatchingWaitsForNextEvent() {
+    final MapView.OnMapChangedListener second = mock(MapView.OnMapChangedListener.class);
+    dispatcher.addOneShotListener(MapView.REGION_DID_CHANGE_ANIMATED, new MapView.OnMapChangedListener() {
+      @Override
+      public void onMapChanged(int change) {
+        dispatcher.addOneShotListener(MapView.REGION_DID_CHANGE_ANIMATED, second);
+      }
+    });
+    dispatcher.dispatch(MapView.REGION_DID_CHANGE_ANIMATED);
+    verify(second, never()).onMapChanged(MapView.REGION_DID_CHANGE_ANIMATED);
+
+    dispatcher.dispatch(MapView.REGION_DID_CHANGE_ANIMATED);
+    verify(second).onMapChanged(MapView.REGION_DID_CHANGE_ANIMATED);
+  }
+
+  @Test
+  public void testFailingListenerDoesNotStopDispatch() {
+    MapView.OnMapChangedListener listener = mock(MapView.OnMapChangedListener.class);
+    dispatcher.addListener(new MapView.OnMapChangedListener() {
+      @Override
+      public void onMapChanged(int change) {
+        throw new IllegalStateException();
+      }
+    });
+    dispatcher.addListener(listener);
+    dispatcher.dispatch(MapView.SOURCE_DID_CHANGE);
+    verify(listener).onMapChanged(MapView.SOURCE_DID_CHANGE);
+  }
+
+  @Test
+  public void testUnknownEventIgnored() {
+    MapView.OnMapChangedListener listener = mock(MapView.OnMapChangedListener.class);
+    dispatcher.addListener(listener);
+    dispatcher.dispatch(MapChangeDispatcher.EVENT_COUNT);
+    dispatcher.dispatch(-1);
+    verify(listener, never()).onMapChanged(MapChangeDispatcher.EVENT_COUNT);
+    verify(listener, never()).onMapChanged(-1);
+  }
+
+  @Test
+  public void testAsyncListener() {
+    final List<Integer> events = new ArrayList<>();
+    MapView.OnMapChangedListener listener = new MapView.OnMapChangedListener() {
+      @Override
+      public void onMapChanged(int change) {
+        events.add(change);
+      }
+    };
+    QueuedExecutor executor = new QueuedExecutor();
+    MapChangeDispatcher.AsyncListener asyncListener = dispatcher.addListener(listener, executor,
+      new int[] {MapView.WILL_START_RENDERING_FRAME, MapView.DID_FINISH_RENDERING_FRAME});
+
+    for (int i = 0; i < MapChangeDispatcher.ASYNC_CAPACITY; i++) {
+      dispatcher.dispatch(MapView.WILL_START_RENDERING_FRAME);
+      dispatcher.dispatch(MapView.REGION_IS_CHANGING);
+      dispatcher.dispatch(MapView.DID_FINISH_RENDERING_FRAME);
+    }
+
+    // scheduled once, the buffer overflowed
+    assertEquals(1, executor.runnables.size());
+    assertEquals(0, events.size());
+    assertEquals(MapChangeDispatcher.ASYNC_CAPACITY, asyncListener.getDroppedCount());
+
+    executor.runnables.remove(0).run();
+    assertEquals(MapChangeDispatcher.ASYNC_CAPACITY, events.size());
+    assertEquals(MapView.WILL_START_RENDERING_FRAME, (int) events.get(0));
+    assertEquals(MapView.DID_FINISH_RENDERING_FRAME, (int) events.get(1));
+
+    dispatcher.removeListener(listener);
+    dispatcher.dispatch(MapView.WILL_START_RENDERING_FRAME);
+    assertEquals(0, executor.runnables.size());
+  }
+
+  private static class QueuedExecutor implements Executor {
+
+    private final List<Runnable> runnables = new ArrayList<>();
+
+    @Override
+    public void execute(Runnable runnable) {
+      runnables.add(runnable);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.v4.util.LongSparseArray;
+
+import com.mapbox.mapboxsdk.annotations.Annotation;
+import com.mapbox.mapboxsdk.annotations.Marker;
+import com.mapbox.mapboxsdk.annotations.MarkerOptions;
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.cluster.ClusterIndex;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.VisibleRegion;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MarkerClustererTest {
+
+  private NativeMapView nativeMapView;
+  private Projection projection;
+  private MapboxMap mapboxMap;
+  private LongSparseArray<Annotation> annotations;
+  private ClusterIndex index;
+  private MarkerClusterer clusterer;
+  private long nextId;
+
+  @Before
+  public void beforeTest() {
+    nativeMapView = mock(NativeMapView.class);
+    projection = mock(Projection.class);
+    mapboxMap = mock(MapboxMap.class);
+    when(mapboxMap.getProjection()).thenReturn(projection);
+    when(nativeMapView.addMarkers(ArgumentMatchers.<Marker>anyList())).thenAnswer(new Answer<long[]>() {
+      @Override
+      public long[] answer(InvocationOnMock invocation) {
+        List<?> markers = invocation.getArgument(0);
+        long[] ids = new long[markers.size()];
+        for (int i = 0; i < ids.length; i++) {
+          ids[i] = nextId++;
+        }
+        return ids;
+      }
+    });
+    annotations = new LongSparseArray<>();
+    index = spy(new ClusterIndex());
+    clusterer = new MarkerClusterer(nativeMapView, annotations, mock(IconManager.class), index);
+  }
+
+  @Test
+  public void testAddsRepresentativesAroundViewport() {
+    List<Marker> markers = load(0, 0.05, 0.25, 1);
+    moveCamera(0, 12.5, -0.1, 0.1);
+    clusterer.update(mapboxMap);
+
+    // the region queried spans the viewport and its width on each side
+    assertEquals(3, clusterer.getDisplayedCount());
+    assertEquals(3, annotations.size());
+    assertTrue(isDisplayed(markers.get(0)));
+    assertTrue(isDisplayed(markers.get(2)));
+    assertFalse(isDisplayed(markers.get(3)));
+  }
+
+  @Test
+  public void testUpdateAddsAndRemovesDifference() {
+    List<Marker> markers = load(0, 0.05, 0.25, 0.7);
+    moveCamera(0, 12.5, -0.1, 0.1);
+    clusterer.update(mapboxMap);
+    long firstId = markers.get(0).getId();
+    long secondId = markers.get(1).getId();
+    long keptId = markers.get(2).getId();
+
+    moveCamera(0.45, 12.5, 0.35, 0.55);
+    clusterer.update(mapboxMap);
+
+    ArgumentCaptor<long[]> removed = ArgumentCaptor.forClass(long[].class);
+    verify(nativeMapView).removeAnnotations(removed.capture());
+    long[] removedIds = removed.getValue();
+    Arrays.sort(removedIds);
+    assertArrayEquals(new long[] {firstId, secondId}, removedIds);
+    verify(nativeMapView).addMarkers(Collections.singletonList(markers.get(3)));
+
+    assertEquals(2, clusterer.getDisplayedCount());
+    assertSame(markers.get(2), annotations.get(keptId));
+    assertNull(annotations.get(firstId));
+    assertTrue(isDisplayed(markers.get(3)));
+  }
+
+  @Test
+  public void testClearRemovesRepresentatives() {
+    List<Marker> markers = load(0, 0.05, 0.25);
+    moveCamera(0, 12.5, -0.1, 0.1);
+    clusterer.update(mapboxMap);
+    annotations.put(1000, mock(Annotation.class));
+
+    clusterer.clear();
+    ArgumentCaptor<long[]> removed = ArgumentCaptor.forClass(long[].class);
+    verify(nativeMapView).removeAnnotations(removed.capture());
+    assertEquals(3, removed.getValue().length);
+    assertEquals(0, clusterer.getDisplayedCount());
+    // only the representatives are removed from the annotations
+    assertEquals(1, annotations.size());
+    assertFalse(isDisplayed(markers.get(0)));
+
+    clusterer.update(mapboxMap);
+    verify(nativeMapView, times(1)).addMarkers(ArgumentMatchers.<Marker>anyList());
+  }
+
+  @Test
+  public void testViewportAcrossAntimeridian() {
+    List<Marker> markers = load(179.7, -179.9, 0);
+    // the east corners are wrapped to the other side of the antimeridian
+    moveCamera(179.95, 12.5, 179.85, -179.95);
+    clusterer.update(mapboxMap);
+
+    assertTrue(isDisplayed(markers.get(0)));
+    assertTrue(isDisplayed(markers.get(1)));
+    assertFalse(isDisplayed(markers.get(2)));
+  }
+
+  @Test
+  public void testQueriesOnIntegerZoomChange() {
+    load(0, 0.05, 0.25);
+    moveCamera(0, 12.2, -0.1, 0.1);
+    clusterer.update(mapboxMap);
+    verify(index, times(1)).getClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+
+    moveCamera(0, 12.8, -0.1, 0.1);
+    clusterer.update(mapboxMap);
+    verify(index, times(1)).getClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+
+    moveCamera(0, 13, -0.05, 0.05);
+    clusterer.update(mapboxMap);
+    verify(index, times(2)).getClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+  }
+
+  @Test
+  public void testQueriesWhenViewportLeavesRegion() {
+    load(0, 0.05, 0.25);
+    moveCamera(0, 12.5, -0.1, 0.1);
+    clusterer.update(mapboxMap);
+
+    // within the queried region
+    moveCamera(0.15, 12.5, 0.05, 0.25);
+    clusterer.update(mapboxMap);
+    verify(index, times(1)).getClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+
+    moveCamera(0.3, 12.5, 0.2, 0.4);
+    clusterer.update(mapboxMap);
+    verify(index, times(2)).getClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+  }
+
+  @Test
+  public void testNoMarkersNoQuery() {
+    moveCamera(0, 12.5, -0.1, 0.1);
+    clusterer.update(mapboxMap);
+    verify(nativeMapView, never()).getCameraPosition();
+    verify(nativeMapView, never()).addMarkers(ArgumentMatchers.<Marker>anyList());
+  }
+
+  private List<Marker> load(double... longitudes) {
+    List<Marker> markers = new ArrayList<>(longitudes.length);
+    for (double longitude : longitudes) {
+      markers.add(new MarkerOptions().position(new LatLng(0, longitude)).getMarker());
+    }
+    clusterer.load(markers);
+    return markers;
+  }
+
+  private void moveCamera(double longitude, double zoom, double west, double east) {
+    when(nativeMapView.getCameraPosition()).thenReturn(new CameraPosition.Builder()
+      .target(new LatLng(0, longitude))
+      .zoom(zoom)
+      .build());
+    when(projection.getVisibleRegion()).thenReturn(new VisibleRegion(new LatLng(0.1, west), new LatLng(0.1, east),
+      new LatLng(-0.1, west), new LatLng(-0.1, east), null));
+  }
+
+  private boolean isDisplayed(Marker marker) {
+    return annotations.indexOfValue(marker) >= 0;
+  }
+}
@@ -0,0 +1,235 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.graphics.PointF;
+import android.graphics.RectF;
+
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NativeMapViewTest {
+
+  private static final double DELTA = 1e-10;
+  private static final LatLng TARGET = new LatLng(12, 34);
+
+  private NativeMapView nativeMapView;
+
+  @Before
+  public void beforeTest() {
+    CameraSnapshot.CameraSource source = mock(CameraSnapshot.CameraSource.class);
+    when(source.readCameraPosition()).thenReturn(new CameraPosition.Builder()
+      .target(TARGET)
+      .zoom(5)
+      .bearing(270)
+      .tilt(30)
+      .build());
+    // The constructor initializes the native map, create the map without running it
+    nativeMapView = mock(NativeMapView.class, Mockito.CALLS_REAL_METHODS);
+    injectCameraSnapshot(nativeMapView, new CameraSnapshot(source));
+  }
+
+  @Test
+  public void testGettersReadOnce() {
+    assertEquals(5, nativeMapView.getZoom(), DELTA);
+    assertEquals(-90, nativeMapView.getBearing(), DELTA);
+    assertEquals(30, nativeMapView.getPitch(), DELTA);
+    assertEquals(TARGET, nativeMapView.getLatLng());
+    assertEquals(TARGET, nativeMapView.getCameraPosition().target);
+    assertEquals(1, nativeMapView.getCameraReadCount());
+    assertEquals(4, nativeMapView.getCameraSnapshotHitCount());
+  }
+
+  @Test
+  public void testCameraPositionNotShared() {
+    CameraPosition cameraPosition = nativeMapView.getCameraPosition();
+    assertNotSame(cameraPosition.target, nativeMapView.getCameraPosition().target);
+
+    cameraPosition.target.setLatitude(56);
+    assertEquals(TARGET, nativeMapView.getCameraPosition().target);
+    assertEquals(TARGET, nativeMapView.getLatLng());
+  }
+
+  @Test
+  public void testCameraChangeInvalidates() {
+    nativeMapView.getZoom();
+    nativeMapView.onMapChanged(MapView.REGION_IS_CHANGING);
+    nativeMapView.getZoom();
+    nativeMapView.onMapChanged(MapView.REGION_DID_CHANGE_ANIMATED);
+    nativeMapView.getZoom();
+    assertEquals(3, nativeMapView.getCameraReadCount());
+    assertEquals(0, nativeMapView.getCameraSnapshotHitCount());
+  }
+
+  @Test
+  public void testRenderingKeepsSnapshot() {
+    nativeMapView.getZoom();
+    nativeMapView.onMapChanged(MapView.WILL_START_RENDERING_FRAME);
+    nativeMapView.onMapChanged(MapView.DID_FINISH_RENDERING_FRAME);
+    nativeMapView.getZoom();
+    assertEquals(1, nativeMapView.getCameraReadCount());
+    assertEquals(1, nativeMapView.getCameraSnapshotHitCount());
+  }
+
+  @Test
+  public void testMutatorsInvalidate() {
+    Runnable[] mutators = {
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.jumpTo(0, TARGET, 0, 10);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.easeTo(0, TARGET, 300, 0, 10, true);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.flyTo(0, TARGET, 300, 0, 10);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.moveBy(10, 10, 0);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.setLatLng(TARGET, 0);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.setZoom(10, new PointF(), 0);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.setPitch(45, 0);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.setBearing(90, 0);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.setBearing(90, 10, 10, 0);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.rotateBy(0, 0, 10, 10, 0);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.resetNorth();
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.resetZoom();
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.resetPosition();
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.setMinZoom(2);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.setMaxZoom(18);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.setLatLngBounds(LatLngBounds.from(20, 40, 10, 30));
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.setContentPadding(new int[] {10, 10, 10, 10});
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.setVisibleCoordinateBounds(new LatLng[] {TARGET}, new RectF(), 0, 0);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.resizeView(100, 100);
+        }
+      },
+      new Runnable() {
+        @Override
+        public void run() {
+          nativeMapView.cancelTransitions();
+        }
+      }
+    };
+
+    for (Runnable mutator : mutators) {
+      nativeMapView.getZoom();
+      runWithoutNativeMap(mutator);
+    }
+    nativeMapView.getZoom();
+    assertEquals(mutators.length + 1, nativeMapView.getCameraReadCount());
+    assertEquals(0, nativeMapView.getCameraSnapshotHitCount());
+  }
+
+  private static void runWithoutNativeMap(Runnable runnable) {
+    try {
+      runnable.run();
+    } catch (UnsatisfiedLinkError error) {
+      // the native map isn't loaded in unit tests, the snapshot is invalidated before calling into it
+    }
+  }
+
+  private static void injectCameraSnapshot(NativeMapView nativeMapView, CameraSnapshot cameraSnapshot) {
+    try {
+      Field field = NativeMapView.class.getDeclaredField("cameraSnapshot");
+      field.setAccessible(true);
+      field.set(nativeMapView, cameraSnapshot);
+    } catch (Exception exception) {
+      throw new AssertionError();
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.annotation.NonNull;
+import android.support.v4.util.LongSparseArray;
+
+import com.mapbox.mapboxsdk.annotations.Annotation;
+import com.mapbox.mapboxsdk.annotations.Polyline;
+import com.mapbox.mapboxsdk.annotations.PolylineOptions;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.SimplifiedLine;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ShapeSimplifierTest {
+
+  private static final float TOLERANCE = 1;
+
+  private QueuedExecutor worker;
+  private RecordingAdapter adapter;
+  private LongSparseArray<Annotation> annotations;
+  private ShapeSimplifier<Polyline> simplifier;
+
+  @Before
+  public void beforeTest() {
+    worker = new QueuedExecutor();
+    adapter = new RecordingAdapter();
+    annotations = new LongSparseArray<>();
+    Executor mainThread = new Executor() {
+      @Override
+      public void execute(@NonNull Runnable runnable) {
+        runnable.run();
+      }
+    };
+    simplifier = new ShapeSimplifier<>(adapter, annotations, worker, mainThread);
+  }
+
+  @Test
+  public void testRendersSimplifiedShape() {
+    Polyline polyline = addPolyline(1, 100);
+    simplifier.simplify(polyline, SimplifiedLine.DOUGLAS_PEUCKER, TOLERANCE);
+    assertTrue(simplifier.isSimplified(polyline));
+    assertEquals(0, adapter.renderCount);
+
+    worker.runAll();
+    assertEquals(1, adapter.renderCount);
+    assertSame(polyline, adapter.lastShape);
+  }
+
+  @Test
+  public void testZoomRendersOnIntegerZoomChange() {
+    Polyline polyline = addPolyline(1, 100);
+    simplifier.setZoom(3.2);
+    simplifier.simplify(polyline, SimplifiedLine.DOUGLAS_PEUCKER, TOLERANCE);
+    worker.runAll();
+    assertEquals(1, adapter.renderCount);
+
+    simplifier.setZoom(3.9);
+    assertEquals(1, adapter.renderCount);
+
+    simplifier.setZoom(4.0);
+    assertEquals(2, adapter.renderCount);
+
+    simplifier.setZoom(3.5);
+    assertEquals(3, adapter.renderCount);
+  }
+
+  @Test
+  public void testZoomBeforeSimplifiedNotRendered() {
+    Polyline polyline = addPolyline(1, 100);
+    simplifier.simplify(polyline, SimplifiedLine.DOUGLAS_PEUCKER, TOLERANCE);
+    simplifier.setZoom(5);
+    assertEquals(0, adapter.renderCount);
+
+    worker.runAll();
+    assertEquals(1, adapter.renderCount);
+  }
+
+  @Test
+  public void testUpdateDiscardsStaleSimplification() {
+    Polyline polyline = addPolyline(1, 100);
+    simplifier.simplify(polyline, SimplifiedLine.DOUGLAS_PEUCKER, TOLERANCE);
+
+    // renders the preview and simplifies again
+    simplifier.update(polyline);
+    assertEquals(1, adapter.renderCount);
+    assertEquals(2, worker.size());
+
+    worker.runNext();
+    assertEquals(1, adapter.renderCount);
+
+    worker.runNext();
+    assertEquals(2, adapter.renderCount);
+  }
+
+  @Test
+  public void testUpdateRendersPreview() {
+    Polyline polyline = addPolyline(1, ShapeSimplifier.PREVIEW_POINT_COUNT * 2);
+    simplifier.simplify(polyline, SimplifiedLine.DOUGLAS_PEUCKER, TOLERANCE);
+    simplifier.update(polyline);
+    assertEquals(ShapeSimplifier.PREVIEW_POINT_COUNT, adapter.lastRings.get(0).size());
+  }
+
+  @Test
+  public void testRemoveDiscardsSimplification() {
+    Polyline polyline = addPolyline(1, 100);
+    simplifier.simplify(polyline, SimplifiedLine.DOUGLAS_PEUCKER, TOLERANCE);
+    simplifier.remove(polyline.getId());
+    assertFalse(simplifier.isSimplified(polyline));
+    assertEquals(0, simplifier.getSimplifiedCount());
+
+    worker.runAll();
+    assertEquals(0, adapter.renderCount);
+  }
+
+  @Test
+  public void testRemoveAllDiscardsSimplifications() {
+    simplifier.simplify(addPolyline(1, 100), SimplifiedLine.DOUGLAS_PEUCKER, TOLERANCE);
+    simplifier.simplify(addPolyline(2, 100), SimplifiedLine.VISVALINGAM_WHYATT, TOLERANCE);
+    simplifier.removeAll();
+    assertEquals(0, simplifier.getSimplifiedCount());
+
+    worker.runAll();
+    assertEquals(0, adapter.renderCount);
+  }
+
+  @Test
+  public void testRemovedShapeNotRenderedOnZoom() {
+    Polyline polyline = addPolyline(1, 100);
+    simplifier.simplify(polyline, SimplifiedLine.DOUGLAS_PEUCKER, TOLERANCE);
+    worker.runAll();
+    simplifier.remove(polyline.getId());
+
+    simplifier.setZoom(10);
+    assertEquals(1, adapter.renderCount);
+  }
+
+  @Test
+  public void testShapePreviewMatchesRingPreview() {
+    Polyline polyline = addPolyline(1, ShapeSimplifier.PREVIEW_POINT_COUNT * 3 + 7);
+    List<LatLng> preview = ShapeSimplifier.preview(polyline);
+    assertEquals(ShapeSimplifier.preview(Collections.singletonList(polyline.getPoints())).get(0), preview);
+    assertEquals(polyline.getPoint(polyline.getPointCount() - 1), preview.get(preview.size() - 1));
+
+    Polyline small = addPolyline(2, 10);
+    assertEquals(small.getPoints(), ShapeSimplifier.preview(small));
+  }
+
+  private Polyline addPolyline(long id, int pointCount) {
+    List<LatLng> points = new ArrayList<>(pointCount);
+    for (int i = 0; i < pointCount; i++) {
+      points.add(new LatLng(i % 2 == 0 ? 0 : 0.001 * i, i * 0.01));
+    }
+    Polyline polyline = new PolylineOptions().addAll(points).getPolyline();
+    polyline.setId(id);
+    annotations.put(id, polyline);
+    return polyline;
+  }
+
+  private static final class QueuedExecutor implements Executor {
+
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+
+    @Override
+    public void execute(@NonNull Runnable runnable) {
+      queue.add(runnable);
+    }
+
+    int size() {
+      return queue.size();
+    }
+
+    void runNext() {
+      queue.remove().run();
+    }
+
+    void runAll() {
+      while (!queue.isEmpty()) {
+        runNext();
+      }
+    }
+  }
+
+  private static final class RecordingAdapter implements ShapeSimplifier.Adapter<Polyline> {
+
+    private int renderCount;
+    private Polyline lastShape;
+    private List<List<LatLng>> lastRings;
+
+    @Override
+    public List<List<LatLng>> getRings(Polyline shape) {
+      return Collections.singletonList(shape.getPoints());
+    }
+
+    @Override
+    public void render(Polyline shape, List<List<LatLng>> rings) {
+      renderCount++;
+      lastShape = shape;
+      lastRings = rings;
+    }
+  }
+}
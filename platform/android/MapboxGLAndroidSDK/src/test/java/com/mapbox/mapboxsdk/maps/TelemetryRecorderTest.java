@@ -0,0 +1,152 @@
+package com.mapbox.mapboxsdk.maps;
+
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TelemetryRecorderTest {
+
+  private static final double DELTA = 1e-6;
+
+  private final CameraPosition camera = new CameraPosition.Builder()
+    .target(new LatLng(52, 4))
+    .zoom(10)
+    .build();
+
+  private RecordingSink sink;
+  private QueuedExecutor executor;
+  private TelemetryRecorder recorder;
+
+  @Before
+  public void beforeTest() {
+    sink = new RecordingSink();
+    executor = new QueuedExecutor();
+    recorder = new TelemetryRecorder(sink, executor);
+  }
+
+  @Test
+  public void testRecordsAreBuiltOnWorker() {
+    assertTrue(recorder.record(TelemetryRecorder.GESTURE_SINGLETAP, 50, 50, 100, 100, 50, 50, camera));
+    assertTrue(recorder.record(TelemetryRecorder.DRAG_END, 50, 50, 100, 100, 50, 50, camera));
+    assertEquals(0, sink.events.size());
+    assertEquals(2, recorder.getPendingCount());
+
+    // scheduled once for both records
+    assertEquals(1, executor.runnables.size());
+    executor.runnables.remove(0).run();
+    assertEquals(2, sink.events.size());
+    assertEquals(1, sink.flushes);
+    assertEquals(0, recorder.getPendingCount());
+
+    double[] first = sink.events.get(0);
+    assertEquals(TelemetryRecorder.GESTURE_SINGLETAP, (int) first[0]);
+    assertEquals(52, first[1], DELTA);
+    assertEquals(4, first[2], DELTA);
+    assertEquals(10, first[3], DELTA);
+    assertEquals(TelemetryRecorder.DRAG_END, (int) sink.events.get(1)[0]);
+  }
+
+  @Test
+  public void testFullBufferDropsRecords() {
+    for (int i = 0; i < TelemetryRecorder.CAPACITY; i++) {
+      assertTrue(recorder.record(TelemetryRecorder.GESTURE_PAN_START, 0, 0, 100, 100, 50, 50, camera));
+    }
+    assertFalse(recorder.record(TelemetryRecorder.GESTURE_PAN_START, 0, 0, 100, 100, 50, 50, camera));
+    assertEquals(1, recorder.getDroppedCount());
+
+    executor.runnables.remove(0).run();
+    assertEquals(TelemetryRecorder.CAPACITY, sink.events.size());
+    assertTrue(recorder.record(TelemetryRecorder.GESTURE_PAN_START, 0, 0, 100, 100, 50, 50, camera));
+    assertEquals(1, executor.runnables.size());
+  }
+
+  @Test
+  public void testUnprojectNorthUp() {
+    double[] result = new double[2];
+    TelemetryRecorder.unproject(150, 50, 100, 100, 50, 50, 0, 0, 0, 0, 0, result);
+    // 100 pixels east of the center of a 512 pixel world
+    assertEquals(0, result[0], DELTA);
+    assertEquals(100 / 512.0 * 360, result[1], DELTA);
+
+    TelemetryRecorder.unproject(50, 0, 100, 100, 50, 50, 0, 0, 0, 0, 0, result);
+    assertTrue(result[0] > 0);
+    assertEquals(0, result[1], DELTA);
+  }
+
+  @Test
+  public void testUnprojectRotated() {
+    double[] result = new double[2];
+    // facing east, the top of the screen is east of the center
+    TelemetryRecorder.unproject(50, 0, 100, 100, 50, 50, 0, 0, 0, 90, 0, result);
+    assertEquals(0, result[0], DELTA);
+    assertEquals(50 / 512.0 * 360, result[1], DELTA);
+  }
+
+  @Test
+  public void testUnprojectTilted() {
+    double[] flat = new double[2];
+    double[] tilted = new double[2];
+    TelemetryRecorder.unproject(50, 0, 100, 100, 50, 50, 0, 0, 0, 0, 0, flat);
+    TelemetryRecorder.unproject(50, 0, 100, 100, 50, 50, 0, 0, 0, 0, 45, tilted);
+    // the top of a tilted map is further away
+    assertTrue(tilted[0] > flat[0]);
+
+    TelemetryRecorder.unproject(50, 50, 100, 100, 50, 50, 10, 20, 5, 30, 45, tilted);
+    assertEquals(10, tilted[0], DELTA);
+    assertEquals(20, tilted[1], DELTA);
+  }
+
+  @Test
+  public void testUnprojectPadded() {
+    double[] result = new double[2];
+    // with a top padding of 40 the camera target is at 70 on screen
+    TelemetryRecorder.unproject(50, 70, 100, 100, 50, 70, 10, 20, 5, 30, 45, result);
+    assertEquals(10, result[0], DELTA);
+    assertEquals(20, result[1], DELTA);
+
+    TelemetryRecorder.unproject(150, 70, 100, 100, 50, 70, 0, 0, 0, 0, 0, result);
+    assertEquals(0, result[0], DELTA);
+    assertEquals(100 / 512.0 * 360, result[1], DELTA);
+
+    // the center of the map is north of the padded target
+    TelemetryRecorder.unproject(50, 50, 100, 100, 50, 70, 0, 0, 0, 0, 0, result);
+    assertTrue(result[0] > 0);
+    assertEquals(0, result[1], DELTA);
+  }
+
+  private static class RecordingSink implements TelemetryRecorder.EventSink {
+
+    private final List<double[]> events = new ArrayList<>();
+    private int flushes;
+
+    @Override
+    public void onEvent(int type, double latitude, double longitude, double zoom) {
+      events.add(new double[] {type, latitude, longitude, zoom});
+    }
+
+    @Override
+    public void flush() {
+      flushes++;
+    }
+  }
+
+  private static class QueuedExecutor implements Executor {
+
+    private final List<Runnable> runnables = new ArrayList<>();
+
+    @Override
+    public void execute(Runnable runnable) {
+      runnables.add(runnable);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.mapbox.mapboxsdk.maps.widgets;
+
+import android.content.Context;
+import android.hardware.Sensor;
+import android.hardware.SensorManager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CompassServiceTest {
+
+  private static final float DELTA = 0.001f;
+  private static final long SECOND_NANOS = 1000000000L;
+
+  private CompassService compassService;
+  private CompassService.HeadingListener listener;
+
+  @Before
+  public void beforeTest() {
+    SensorManager sensorManager = mock(SensorManager.class);
+    when(sensorManager.getDefaultSensor(Sensor.TYPE_ROTATION_VECTOR)).thenReturn(mock(Sensor.class));
+    Context context = mock(Context.class);
+    when(context.getSystemService(Context.SENSOR_SERVICE)).thenReturn(sensorManager);
+
+    compassService = new CompassService(context);
+    compassService.setFilterTimeConstant(0);
+    listener = mock(CompassService.HeadingListener.class);
+    compassService.addListener(listener);
+  }
+
+  @Test
+  public void testNoHeadingNotDispatched() {
+    compassService.dispatch();
+    verify(listener, never()).onHeadingChanged(anyFloat());
+  }
+
+  @Test
+  public void testHeadingDispatched() {
+    compassService.onHeading(SECOND_NANOS, 10);
+    compassService.dispatch();
+    assertEquals(10, captureHeading(1), DELTA);
+  }
+
+  @Test
+  public void testHeadingBelowThresholdNotDispatched() {
+    compassService.onHeading(SECOND_NANOS, 10);
+    compassService.dispatch();
+    compassService.onHeading(2 * SECOND_NANOS, 10 + CompassService.THRESHOLD_DEGREES / 2);
+    compassService.dispatch();
+    verify(listener, times(1)).onHeadingChanged(anyFloat());
+
+    compassService.onHeading(3 * SECOND_NANOS, 12);
+    compassService.dispatch();
+    assertEquals(12, captureHeading(2), DELTA);
+  }
+
+  @Test
+  public void testThresholdWrapsAroundNorth() {
+    compassService.onHeading(SECOND_NANOS, 359.9f);
+    compassService.dispatch();
+    compassService.onHeading(2 * SECOND_NANOS, 0.1f);
+    compassService.dispatch();
+    verify(listener, times(1)).onHeadingChanged(anyFloat());
+  }
+
+  @Test
+  public void testLatestHeadingDispatchedOnce() {
+    compassService.onHeading(SECOND_NANOS, 10);
+    compassService.onHeading(2 * SECOND_NANOS, 20);
+    compassService.onHeading(3 * SECOND_NANOS, 30);
+    compassService.dispatch();
+    compassService.dispatch();
+    assertEquals(30, captureHeading(1), DELTA);
+  }
+
+  @Test
+  public void testAddedListenerReceivesLastHeading() {
+    compassService.onHeading(SECOND_NANOS, 10);
+    compassService.dispatch();
+
+    CompassService.HeadingListener second = mock(CompassService.HeadingListener.class);
+    compassService.addListener(second);
+    ArgumentCaptor<Float> heading = ArgumentCaptor.forClass(Float.class);
+    verify(second).onHeadingChanged(heading.capture());
+    assertEquals(10, heading.getValue(), DELTA);
+  }
+
+  @Test
+  public void testRemovedListenerNotNotified() {
+    compassService.removeListener(listener);
+    compassService.onHeading(SECOND_NANOS, 10);
+    compassService.dispatch();
+    verify(listener, never()).onHeadingChanged(anyFloat());
+  }
+
+  private float captureHeading(int times) {
+    ArgumentCaptor<Float> heading = ArgumentCaptor.forClass(Float.class);
+    verify(listener, times(times)).onHeadingChanged(heading.capture());
+    return heading.getValue();
+  }
+}
@@ -0,0 +1,126 @@
+package com.mapbox.mapboxsdk.maps.widgets;
+
+import android.os.Handler;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.maps.MapboxMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class FollowCameraControllerTest {
+
+  private MapboxMap.OnFollowCameraMoveListener listener;
+  private LocationInterpolator interpolator;
+  private Handler handler;
+  private FollowCameraController controller;
+
+  @Before
+  public void beforeTest() {
+    listener = mock(MapboxMap.OnFollowCameraMoveListener.class);
+    interpolator = new LocationInterpolator();
+    handler = mock(Handler.class);
+    controller = new FollowCameraController(listener, interpolator, handler);
+  }
+
+  @Test
+  public void testNoFixDoesNotMoveCamera() {
+    assertFalse(controller.onFrame(0));
+    verify(listener, never()).onFollowCameraMove(any(LatLng.class), anyDouble());
+    verify(listener).onFollowCameraMoveFinished();
+  }
+
+  @Test
+  public void testOneCameraUpdatePerFrame() {
+    interpolator.update(0, 0, 0, true, 10, 0);
+    for (long time = 0; time < 1000; time += 16) {
+      assertTrue(controller.onFrame(time));
+    }
+    verify(listener, times(63)).onFollowCameraMove(any(LatLng.class), eq(-1.0));
+    verify(listener, never()).onFollowCameraMoveFinished();
+  }
+
+  @Test
+  public void testUpdatesPerSecond() {
+    interpolator.setMaxExtrapolationMillis(5000);
+    interpolator.update(0, 0, 0, true, 10, 0);
+    assertEquals(0, controller.getUpdatesPerSecond(), 0);
+    for (long time = 0; time <= 2000; time += 16) {
+      controller.onFrame(time);
+    }
+    assertEquals(62.5, controller.getUpdatesPerSecond(), 1);
+
+    controller.stop();
+    assertEquals(0, controller.getUpdatesPerSecond(), 0);
+    verify(listener).onFollowCameraMoveFinished();
+  }
+
+  @Test
+  public void testBearingTurnsShortestWay() {
+    interpolator.setMaxExtrapolationMillis(5000);
+    interpolator.update(0, 0, 0, true, 10, 0);
+    controller.onFrame(0);
+    controller.setBearing(350);
+    controller.onFrame(16);
+    controller.setBearing(10);
+
+    ArgumentCaptor<Double> bearing = ArgumentCaptor.forClass(Double.class);
+    controller.onFrame(32);
+    controller.onFrame(48);
+    verify(listener, times(4)).onFollowCameraMove(any(LatLng.class), bearing.capture());
+    assertEquals(350, bearing.getAllValues().get(1), 1e-6);
+    double step = bearing.getAllValues().get(2);
+    assertTrue(step > 350 || step < 10);
+    double next = bearing.getAllValues().get(3);
+    assertTrue(next > step || next < 10);
+  }
+
+  @Test
+  public void testStopsWhenSettled() {
+    interpolator.update(0, 10, 10, false, 0, 0);
+    controller.setBearing(90);
+    assertTrue(controller.onFrame(0));
+    assertFalse(controller.isFollowing());
+    verify(listener).onFollowCameraMove(any(LatLng.class), eq(90.0));
+    verify(listener).onFollowCameraMoveFinished();
+  }
+
+  @Test
+  public void testJumpsFinishOnceIdle() {
+    ArgumentCaptor<Runnable> idle = ArgumentCaptor.forClass(Runnable.class);
+    for (long time = 0; time < 5000; time += 1000) {
+      interpolator.reset();
+      interpolator.update(time, time / 1000.0, 0, false, 0, 0);
+      assertTrue(controller.jump(time));
+      assertTrue(controller.isFollowing());
+    }
+    verify(listener, times(5)).onFollowCameraMove(any(LatLng.class), eq(-1.0));
+    verify(listener, never()).onFollowCameraMoveFinished();
+    verify(handler, times(5)).postDelayed(idle.capture(), eq(FollowCameraController.JUMP_IDLE_MILLIS));
+
+    idle.getValue().run();
+    assertFalse(controller.isFollowing());
+    verify(listener).onFollowCameraMoveFinished();
+  }
+
+  @Test
+  public void testJumpWithoutFixFinishes() {
+    assertFalse(controller.jump(0));
+    assertFalse(controller.isFollowing());
+    verify(handler, never()).postDelayed(any(Runnable.class), anyLong());
+    verify(listener).onFollowCameraMoveFinished();
+  }
+}
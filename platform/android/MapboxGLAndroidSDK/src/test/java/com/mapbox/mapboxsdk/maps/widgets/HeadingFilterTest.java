@@ -0,0 +1,80 @@
+package com.mapbox.mapboxsdk.maps.widgets;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HeadingFilterTest {
+
+  // 50 Hz sensor stream
+  private static final long INTERVAL_NANOS = 20000000;
+  private static final float DELTA = 1e-3f;
+
+  @Test
+  public void testFirstSampleIsTakenAsIs() {
+    HeadingFilter filter = new HeadingFilter();
+    assertEquals(123, filter.filter(0, 123), DELTA);
+  }
+
+  @Test
+  public void testNegativeAzimuthIsNormalized() {
+    HeadingFilter filter = new HeadingFilter();
+    assertEquals(270, filter.filter(0, -90), DELTA);
+  }
+
+  @Test
+  public void testWrapAroundAveragesToNorth() {
+    HeadingFilter filter = new HeadingFilter();
+    float heading = 0;
+    for (int i = 0; i < 100; i++) {
+      heading = filter.filter(i * INTERVAL_NANOS, i % 2 == 0 ? 359 : 1);
+    }
+    assertTrue(HeadingFilter.difference(heading, 0) < 1);
+  }
+
+  @Test
+  public void testStepResponseFollowsTimeConstant() {
+    HeadingFilter filter = new HeadingFilter(200);
+    filter.filter(0, 0);
+    float heading = 0;
+    for (int i = 1; i <= 10; i++) {
+      heading = filter.filter(i * INTERVAL_NANOS, 10);
+    }
+    // after one time constant the vector moved by 1 - 1 / e
+    assertEquals(10 * (1 - Math.exp(-1)), heading, 0.1);
+  }
+
+  @Test
+  public void testNoiseIsReduced() {
+    HeadingFilter filter = new HeadingFilter();
+    Random random = new Random(7);
+    double rawDeviation = 0;
+    double filteredDeviation = 0;
+    for (int i = 0; i < 500; i++) {
+      float sample = 90 + (float) random.nextGaussian() * 5;
+      float heading = filter.filter(i * INTERVAL_NANOS, sample);
+      if (i >= 50) {
+        rawDeviation += Math.abs(sample - 90);
+        filteredDeviation += Math.abs(heading - 90);
+      }
+    }
+    assertTrue(filteredDeviation * 3 < rawDeviation);
+  }
+
+  @Test
+  public void testUnfiltered() {
+    HeadingFilter filter = new HeadingFilter(0);
+    filter.filter(0, 10);
+    assertEquals(200, filter.filter(INTERVAL_NANOS, 200), DELTA);
+  }
+
+  @Test
+  public void testDifference() {
+    assertEquals(2, HeadingFilter.difference(359, 1), DELTA);
+    assertEquals(180, HeadingFilter.difference(90, 270), DELTA);
+    assertEquals(10, HeadingFilter.difference(-5, 5), DELTA);
+  }
+}
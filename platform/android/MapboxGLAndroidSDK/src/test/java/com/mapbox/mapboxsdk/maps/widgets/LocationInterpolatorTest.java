@@ -0,0 +1,134 @@
+package com.mapbox.mapboxsdk.maps.widgets;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LocationInterpolatorTest {
+
+  private static final double DELTA = 1e-9;
+  // meters per degree of latitude
+  private static final double METERS = 111319.49;
+
+  @Test
+  public void testFirstFixIsTakenAsIs() {
+    LocationInterpolator interpolator = new LocationInterpolator();
+    LatLng latLng = new LatLng();
+    assertFalse(interpolator.interpolate(0, latLng));
+
+    interpolator.update(1000, 52.5, 13.4, false, 0, 0);
+    assertTrue(interpolator.interpolate(1000, latLng));
+    assertEquals(52.5, latLng.getLatitude(), DELTA);
+    assertEquals(13.4, latLng.getLongitude(), DELTA);
+    assertTrue(interpolator.isSettled(1000));
+  }
+
+  @Test
+  public void testDisplayedPositionIsContinuousThroughFix() {
+    LocationInterpolator interpolator = new LocationInterpolator();
+    interpolator.update(0, 0, 0, true, 10, 0);
+
+    LatLng before = new LatLng();
+    interpolator.interpolate(100, before);
+    interpolator.update(100, 0.0001, 0.0001, true, 10, 0);
+    LatLng after = new LatLng();
+    interpolator.interpolate(100, after);
+
+    assertEquals(before.getLatitude(), after.getLatitude(), DELTA);
+    assertEquals(before.getLongitude(), after.getLongitude(), DELTA);
+  }
+
+  @Test
+  public void testDeadReckoningStopsAfterMaximumExtrapolation() {
+    LocationInterpolator interpolator = new LocationInterpolator();
+    interpolator.setMaxExtrapolationMillis(500);
+    interpolator.update(0, 0, 0, true, 10, 90);
+
+    LatLng latLng = new LatLng();
+    interpolator.interpolate(250, latLng);
+    assertEquals(2.5, latLng.getLongitude() * METERS, 0.01);
+    assertFalse(interpolator.isSettled(250));
+
+    interpolator.interpolate(2000, latLng);
+    assertEquals(5, latLng.getLongitude() * METERS, 0.01);
+    assertTrue(interpolator.isSettled(2000));
+  }
+
+  @Test
+  public void testNoisyTraceIsSmoothed() {
+    // 10 Hz fixes moving north at 15 m/s with 3 m of noise and no speed or bearing
+    LocationInterpolator interpolator = new LocationInterpolator();
+    Random random = new Random(42);
+    LatLng latLng = new LatLng();
+    double rawError = 0;
+    double filteredError = 0;
+    double velocity = 0;
+    int samples = 0;
+    for (int fix = 0; fix < 200; fix++) {
+      long time = fix * 100;
+      double truth = 15 * time / 1000.0;
+      double noise = random.nextGaussian() * 3;
+      interpolator.update(time, (truth + noise) / METERS, 0, false, 0, 0);
+
+      if (fix >= 50) {
+        velocity += interpolator.getVelocityNorth() / 150;
+
+        // sample at 60 fps until the next fix
+        for (long frame = time; frame < time + 100; frame += 16) {
+          double frameTruth = 15 * frame / 1000.0;
+          interpolator.interpolate(frame, latLng);
+          filteredError += Math.abs(latLng.getLatitude() * METERS - frameTruth);
+          rawError += Math.abs(truth + noise - frameTruth);
+          samples++;
+        }
+      }
+    }
+
+    assertTrue(filteredError / samples < rawError / samples);
+    assertEquals(15, velocity, 1.5);
+    assertEquals(0, interpolator.getVelocityEast(), DELTA);
+  }
+
+  @Test
+  public void testMeasuredVelocityIsUsed() {
+    LocationInterpolator interpolator = new LocationInterpolator();
+    interpolator.update(0, 0, 0, true, 20, 180);
+    assertEquals(-20, interpolator.getVelocityNorth(), 1e-6);
+    assertEquals(0, interpolator.getVelocityEast(), 1e-6);
+  }
+
+  @Test
+  public void testLargeJumpRestartsFilter() {
+    LocationInterpolator interpolator = new LocationInterpolator();
+    interpolator.setSmoothingMillis(0);
+    interpolator.update(0, 0, 0, true, 10, 0);
+    interpolator.update(100, 1, 1, false, 0, 0);
+
+    LatLng latLng = new LatLng();
+    interpolator.interpolate(100, latLng);
+    assertEquals(1, latLng.getLatitude(), DELTA);
+    assertEquals(1, latLng.getLongitude(), DELTA);
+    assertEquals(0, interpolator.getVelocityNorth(), DELTA);
+  }
+
+  @Test
+  public void testAntimeridian() {
+    LocationInterpolator interpolator = new LocationInterpolator();
+    interpolator.update(0, 0, 179.99995, true, 10, 90);
+
+    LatLng latLng = new LatLng();
+    interpolator.interpolate(1000, latLng);
+    assertTrue(latLng.getLongitude() < -179.9);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidGains() {
+    new LocationInterpolator().setGains(1.5f, 0.2f, 0.5f);
+  }
+}
@@ -0,0 +1,147 @@
+package com.mapbox.mapboxsdk.maps.widgets;
+
+import android.content.Context;
+import android.location.Location;
+
+import com.mapbox.mapboxsdk.location.AdaptiveLocationPolicy;
+import com.mapbox.mapboxsdk.location.LocationSource;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MyLocationViewTest {
+
+  private MyLocationView myLocationView;
+  private LocationSource locationSource;
+
+  @Before
+  public void beforeTest() {
+    Context context = mock(Context.class);
+    when(context.getApplicationContext()).thenReturn(context);
+    myLocationView = new MyLocationView(context);
+    locationSource = mock(LocationSource.class);
+  }
+
+  @Test
+  public void testAdaptivePolicyInstalled() {
+    myLocationView.setLocationSource(locationSource);
+    verify(locationSource).setAdaptivePolicy(any(AdaptiveLocationPolicy.class));
+  }
+
+  @Test
+  public void testAdaptivePolicyNotReplaced() {
+    when(locationSource.getAdaptivePolicy()).thenReturn(new AdaptiveLocationPolicy());
+    myLocationView.setLocationSource(locationSource);
+    verify(locationSource, never()).setAdaptivePolicy(any(AdaptiveLocationPolicy.class));
+  }
+
+  @Test
+  public void testStopWithoutPolicyRemovesUpdates() {
+    myLocationView.setLocationSource(locationSource);
+    reset(locationSource);
+
+    myLocationView.onStop();
+    verify(locationSource).removeLocationUpdates();
+    verify(locationSource, never()).setMapVisible(false);
+  }
+
+  @Test
+  public void testStopWithPolicyKeepsUpdates() {
+    TestLocationSource source = new TestLocationSource();
+    myLocationView.setLocationSource(source);
+    myLocationView.setEnabled(true, true);
+    int removeCount = source.removeCount;
+
+    myLocationView.onStop();
+    assertEquals(removeCount, source.removeCount);
+    assertTrue(source.getAdaptivePolicy().getBatchInterval() > 0);
+  }
+
+  @Test
+  public void testBatchedLocationDeliveredOnStart() {
+    MyLocationView view = spyWithoutRendering();
+    TestLocationSource source = new TestLocationSource();
+    view.setLocationSource(source);
+    view.setEnabled(true, true);
+    Location first = mock(Location.class);
+    source.onLocationChanged(first);
+    verify(view).setLocation(first);
+
+    view.onStop();
+    Location second = mock(Location.class);
+    source.onLocationChanged(second);
+    verify(view, never()).setLocation(second);
+
+    view.onStart();
+    verify(view).setLocation(second);
+  }
+
+  @Test
+  public void testLocationReceivedWhileStoppedAppliedOnStart() {
+    MyLocationView view = spyWithoutRendering();
+    TestLocationSource source = new TestLocationSource();
+    view.setLocationSource(source);
+    view.setEnabled(true, true);
+
+    view.onStop();
+    Location location = mock(Location.class);
+    source.onLocationChanged(location);
+    verify(view, never()).setLocation(location);
+
+    view.onStart();
+    verify(view).setLocation(location);
+  }
+
+  @Test
+  public void testStartShowsMap() {
+    myLocationView.setLocationSource(locationSource);
+    myLocationView.onStop();
+    reset(locationSource);
+
+    myLocationView.onStart();
+    verify(locationSource).setMapVisible(true);
+  }
+
+  // the animators of the location dot aren't available on the JVM
+  private MyLocationView spyWithoutRendering() {
+    MyLocationView view = spy(myLocationView);
+    doNothing().when(view).setLocation(any(Location.class));
+    return view;
+  }
+
+  /**
+   * LocationSource without a location provider, locations are passed to onLocationChanged.
+   */
+  private static class TestLocationSource extends LocationSource {
+
+    private int removeCount;
+
+    @Override
+    public void activate() {
+    }
+
+    @Override
+    public void deactivate() {
+    }
+
+    @Override
+    public void requestLocationUpdates() {
+    }
+
+    @Override
+    public void removeLocationUpdates() {
+      removeCount++;
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.mapbox.mapboxsdk.offline;
+
+import android.os.Parcelable;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+import com.mapbox.mapboxsdk.utils.MockParcel;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OfflinePolygonRegionDefinitionTest {
+
+  private static final String STYLE_URL = "mapbox://styles/mapbox/streets-v10";
+  private static final double DELTA = 1e-6;
+
+  @Test
+  public void testRectangleMatchesBounds() {
+    LatLngBounds bounds = LatLngBounds.from(52.6, 13.8, 52.3, 13.0);
+    OfflinePolygonRegionDefinition definition = new OfflinePolygonRegionDefinition(STYLE_URL,
+      Arrays.asList(new LatLng(52.6, 13.0), new LatLng(52.6, 13.8), new LatLng(52.3, 13.8), new LatLng(52.3, 13.0)),
+      0, 20, 1.0f);
+
+    assertEquals(bounds.getLatNorth(), definition.getBounds().getLatNorth(), DELTA);
+    assertEquals(bounds.getLonWest(), definition.getBounds().getLonWest(), DELTA);
+    for (int zoom = 0; zoom <= 14; zoom++) {
+      assertEquals("zoom " + zoom, OfflineRegionEstimator.getTileCount(bounds, zoom), definition.getTileCount(zoom));
+    }
+  }
+
+  @Test
+  public void testTriangleCoversAboutHalfOfBounds() {
+    OfflinePolygonRegionDefinition definition = new OfflinePolygonRegionDefinition(STYLE_URL,
+      Arrays.asList(new LatLng(50, 0), new LatLng(50, 10), new LatLng(40, 0)), 0, 20, 1.0f);
+
+    long polygonCount = definition.getTileCount(12);
+    long boundsCount = OfflineRegionEstimator.getTileCount(definition.getBounds(), 12);
+    assertTrue(polygonCount < boundsCount * 0.6);
+    assertTrue(polygonCount > boundsCount * 0.5);
+  }
+
+  @Test
+  public void testHoleIsExcluded() {
+    List<LatLng> outline = Arrays.asList(new LatLng(50, 0), new LatLng(50, 10), new LatLng(40, 10),
+      new LatLng(40, 0));
+    List<List<LatLng>> holes = Collections.singletonList(Arrays.asList(new LatLng(48, 2), new LatLng(48, 8),
+      new LatLng(42, 8), new LatLng(42, 2)));
+    OfflinePolygonRegionDefinition solid = new OfflinePolygonRegionDefinition(STYLE_URL, outline, 0, 20, 1.0f);
+    OfflinePolygonRegionDefinition withHole = new OfflinePolygonRegionDefinition(STYLE_URL, outline, holes,
+      0, 20, 1.0f);
+
+    assertTrue(withHole.getTileCount(10) < solid.getTileCount(10) * 0.7);
+    assertEquals(1, withHole.getPolygonCount());
+    assertEquals(2, withHole.getRings(0).size());
+    assertEquals(new LatLng(48, 2), withHole.getRings(0).get(1).get(0));
+  }
+
+  @Test
+  public void testCorridorCoversFractionOfBounds() {
+    List<LatLng> route = new ArrayList<>();
+    for (int i = 0; i <= 50; i++) {
+      route.add(new LatLng(48.0 + i * 0.08, 2.0 + i * 0.1));
+    }
+    OfflineCorridorRegionDefinition corridor = new OfflineCorridorRegionDefinition(STYLE_URL, route, 2000,
+      0, 14, 1.0f);
+
+    assertEquals(50, corridor.getPolygonCount());
+    assertEquals(2000, corridor.getBufferMeters(), DELTA);
+    assertEquals(51, corridor.getLine().size());
+
+    long corridorCount = OfflineRegionEstimator.getTileCount(corridor, 16);
+    long boundsCount = OfflineRegionEstimator.getTileCount(corridor.getBounds(), 0, 14);
+    assertTrue(corridorCount * 10 < boundsCount);
+  }
+
+  @Test
+  public void testCorridorBufferContainsLine() {
+    OfflineCorridorRegionDefinition corridor = new OfflineCorridorRegionDefinition(STYLE_URL,
+      Collections.singletonList(new LatLng(0, 0)), 1000, 0, 14, 1.0f);
+
+    LatLngBounds bounds = corridor.getBounds();
+    assertTrue(bounds.contains(new LatLng(0, 0)));
+    assertEquals(0.009, bounds.getLatNorth(), 0.0005);
+    assertEquals(-0.009, bounds.getLonWest(), 0.0005);
+  }
+
+  @Test
+  public void testPolygonParcelable() {
+    List<LatLng> outline = Arrays.asList(new LatLng(50, 0), new LatLng(50, 10), new LatLng(40, 10),
+      new LatLng(40, 0));
+    List<List<LatLng>> holes = Collections.singletonList(Arrays.asList(new LatLng(48, 2), new LatLng(48, 8),
+      new LatLng(42, 8)));
+    OfflinePolygonRegionDefinition definition = new OfflinePolygonRegionDefinition(STYLE_URL, outline, holes,
+      2, 14, 2.0f);
+
+    Parcelable parcel = MockParcel.testParcelable(definition);
+    assertTrue(parcel instanceof OfflinePolygonRegionDefinition);
+    OfflinePolygonRegionDefinition unparceled = (OfflinePolygonRegionDefinition) parcel;
+    assertDefinitionEquals(definition, unparceled);
+    assertEquals(definition.getRings(0), unparceled.getRings(0));
+    assertEquals(definition.getTileCount(10), unparceled.getTileCount(10));
+  }
+
+  @Test
+  public void testCorridorParcelable() {
+    OfflineCorridorRegionDefinition corridor = new OfflineCorridorRegionDefinition(STYLE_URL,
+      Arrays.asList(new LatLng(48, 2), new LatLng(48.5, 2.5), new LatLng(49, 2.2)), 1500, 0, 14, 1.0f);
+
+    Parcelable parcel = MockParcel.testParcelable(corridor);
+    assertTrue(parcel instanceof OfflineCorridorRegionDefinition);
+    OfflineCorridorRegionDefinition unparceled = (OfflineCorridorRegionDefinition) parcel;
+    assertDefinitionEquals(corridor, unparceled);
+    assertEquals(corridor.getLine(), unparceled.getLine());
+    assertEquals(corridor.getBufferMeters(), unparceled.getBufferMeters(), DELTA);
+    assertEquals(corridor.getPolygonCount(), unparceled.getPolygonCount());
+    for (int i = 0; i < corridor.getPolygonCount(); i++) {
+      assertEquals(corridor.getRings(i), unparceled.getRings(i));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidRing() {
+    new OfflinePolygonRegionDefinition(STYLE_URL, Arrays.asList(new LatLng(50, 0), new LatLng(50, 10)),
+      0, 20, 1.0f);
+  }
+
+  private static void assertDefinitionEquals(OfflinePolygonRegionDefinition expected,
+                                             OfflinePolygonRegionDefinition actual) {
+    assertEquals(expected.getStyleURL(), actual.getStyleURL());
+    assertEquals(expected.getBounds(), actual.getBounds());
+    assertEquals(expected.getMinZoom(), actual.getMinZoom(), DELTA);
+    assertEquals(expected.getMaxZoom(), actual.getMaxZoom(), DELTA);
+    assertEquals(expected.getPixelRatio(), actual.getPixelRatio(), DELTA);
+    assertEquals(expected.getPolygonCount(), actual.getPolygonCount());
+  }
+}
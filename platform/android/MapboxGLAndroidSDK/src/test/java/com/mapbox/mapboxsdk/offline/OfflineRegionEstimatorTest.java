@@ -0,0 +1,112 @@
+package com.mapbox.mapboxsdk.offline;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class OfflineRegionEstimatorTest {
+
+  private static final double DELTA = 1e-6;
+
+  @Test
+  public void testWorldTileCounts() {
+    long[] counts = OfflineRegionEstimator.getTileCounts(LatLngBounds.world(), 0, 3);
+    assertArrayEquals(new long[] {1, 4, 16, 64}, counts);
+    assertEquals(85, OfflineRegionEstimator.getTileCount(LatLngBounds.world(), 0, 3));
+  }
+
+  @Test
+  public void testSingleTile() {
+    LatLngBounds tile = LatLngBounds.from(10, 300, 400);
+    LatLngBounds inset = LatLngBounds.from(tile.getLatNorth() - DELTA, tile.getLonEast() - DELTA,
+      tile.getLatSouth() + DELTA, tile.getLonWest() + DELTA);
+    assertEquals(1, OfflineRegionEstimator.getTileCount(tile, 10));
+    assertEquals(1, OfflineRegionEstimator.getTileCount(inset, 10));
+    assertEquals(4, OfflineRegionEstimator.getTileCount(inset, 11));
+  }
+
+  @Test
+  public void testTileRangeMatchesTileBounds() {
+    LatLngBounds bounds = LatLngBounds.from(52.6, 13.8, 52.3, 13.0);
+    long[] range = new long[4];
+    OfflineRegionEstimator.getTileRange(bounds, 12, range);
+    LatLngBounds northWest = LatLngBounds.from(12, (int) range[0], (int) range[1]);
+    LatLngBounds southEast = LatLngBounds.from(12, (int) range[2], (int) range[3]);
+    assertEquals(true, northWest.contains(new LatLng(52.6 - DELTA, 13.0 + DELTA)));
+    assertEquals(true, southEast.contains(new LatLng(52.3 + DELTA, 13.8 - DELTA)));
+  }
+
+  @Test
+  public void testPointBounds() {
+    LatLngBounds point = LatLngBounds.from(10, 10, 10, 10);
+    assertEquals(1, OfflineRegionEstimator.getTileCount(point, 14));
+  }
+
+  @Test
+  public void testContinentalRegion() {
+    LatLngBounds europe = LatLngBounds.from(71.0, 40.0, 35.0, -10.0);
+    long count = OfflineRegionEstimator.getTileCount(europe, 0, 16);
+    assertEquals(true, count > 100000000L);
+  }
+
+  @Test
+  public void testDefinitionWithUnboundedMaxZoom() {
+    OfflineTilePyramidRegionDefinition definition = new OfflineTilePyramidRegionDefinition(
+      "mapbox://styles/mapbox/streets-v10", LatLngBounds.world(), 0, Double.POSITIVE_INFINITY, 1.0f);
+    assertEquals(5, OfflineRegionEstimator.getTileCount(definition, 1));
+  }
+
+  @Test
+  public void testDefinitionCoveringZoomLevels() {
+    OfflineTilePyramidRegionDefinition definition = new OfflineTilePyramidRegionDefinition(
+      "mapbox://styles/mapbox/streets-v10", LatLngBounds.world(), 0, 1, 1.0f);
+    assertEquals(5, OfflineRegionEstimator.getTileCount(definition, OfflineRegionEstimator.SOURCE_TYPE_VECTOR, 512,
+      0, 16));
+    // 256 pixel tiles are requested one zoom level deeper
+    assertEquals(20, OfflineRegionEstimator.getTileCount(definition, OfflineRegionEstimator.SOURCE_TYPE_VECTOR, 256,
+      0, 16));
+    assertEquals(20, OfflineRegionEstimator.getTileCount(definition, OfflineRegionEstimator.SOURCE_TYPE_RASTER, 256,
+      0, 16));
+    assertEquals(16, OfflineRegionEstimator.getTileCount(definition, OfflineRegionEstimator.SOURCE_TYPE_RASTER, 256,
+      2, 16));
+  }
+
+  @Test
+  public void testFractionalCoveringZoomLevels() {
+    OfflineTilePyramidRegionDefinition definition = new OfflineTilePyramidRegionDefinition(
+      "mapbox://styles/mapbox/streets-v10", LatLngBounds.world(), 0.5, 1.5, 1.0f);
+    // vector zoom levels are rounded down, raster zoom levels to the nearest zoom level
+    assertEquals(5, OfflineRegionEstimator.getTileCount(definition, OfflineRegionEstimator.SOURCE_TYPE_VECTOR, 512,
+      0, 16));
+    assertEquals(20, OfflineRegionEstimator.getTileCount(definition, OfflineRegionEstimator.SOURCE_TYPE_RASTER, 512,
+      0, 16));
+  }
+
+  @Test
+  public void testEstimateSize() {
+    OfflineRegionStatus first = mock(OfflineRegionStatus.class);
+    when(first.getCompletedTileCount()).thenReturn(10L);
+    when(first.getCompletedTileSize()).thenReturn(1000L);
+    OfflineRegionStatus second = mock(OfflineRegionStatus.class);
+    when(second.getCompletedTileCount()).thenReturn(30L);
+    when(second.getCompletedTileSize()).thenReturn(7000L);
+
+    double averageTileSize = OfflineRegionEstimator.getAverageTileSize(first, second);
+    assertEquals(200, averageTileSize, DELTA);
+
+    OfflineTilePyramidRegionDefinition definition = new OfflineTilePyramidRegionDefinition(
+      "mapbox://styles/mapbox/streets-v10", LatLngBounds.world(), 0, 1, 1.0f);
+    assertEquals(1000, OfflineRegionEstimator.estimateSize(definition, 16, averageTileSize));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidZoomRange() {
+    OfflineRegionEstimator.getTileCounts(LatLngBounds.world(), 5, 4);
+  }
+}
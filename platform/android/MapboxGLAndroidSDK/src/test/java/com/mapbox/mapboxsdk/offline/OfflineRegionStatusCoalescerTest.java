@@ -0,0 +1,73 @@
+package com.mapbox.mapboxsdk.offline;
+
+import android.os.Handler;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.Executor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class OfflineRegionStatusCoalescerTest {
+
+  private OfflineRegion.OfflineRegionObserver observer;
+  private Handler handler;
+
+  @Before
+  public void beforeTest() {
+    observer = mock(OfflineRegion.OfflineRegionObserver.class);
+    handler = mock(Handler.class);
+  }
+
+  @Test
+  public void testOnlyLatestStatusDelivered() {
+    OfflineRegionStatusCoalescer coalescer = new OfflineRegionStatusCoalescer(observer, handler, null, 10);
+    OfflineRegionStatus first = mock(OfflineRegionStatus.class);
+    OfflineRegionStatus second = mock(OfflineRegionStatus.class);
+    OfflineRegionStatus third = mock(OfflineRegionStatus.class);
+
+    coalescer.offer(first);
+    coalescer.offer(second);
+    coalescer.offer(third);
+    verify(handler, times(1)).postDelayed(any(Runnable.class), anyLong());
+
+    coalescer.run();
+    verify(observer, never()).onStatusChanged(first);
+    verify(observer, never()).onStatusChanged(second);
+    verify(observer).onStatusChanged(third);
+  }
+
+  @Test
+  public void testRescheduleAfterDelivery() {
+    OfflineRegionStatusCoalescer coalescer = new OfflineRegionStatusCoalescer(observer, handler, null, 10);
+    coalescer.offer(mock(OfflineRegionStatus.class));
+    coalescer.run();
+    coalescer.offer(mock(OfflineRegionStatus.class));
+    verify(handler, times(2)).postDelayed(any(Runnable.class), anyLong());
+  }
+
+  @Test
+  public void testCancel() {
+    OfflineRegionStatusCoalescer coalescer = new OfflineRegionStatusCoalescer(observer, handler, null, 10);
+    coalescer.offer(mock(OfflineRegionStatus.class));
+    coalescer.cancel();
+    coalescer.run();
+    verify(handler).removeCallbacks(coalescer);
+    verify(observer, never()).onStatusChanged(any(OfflineRegionStatus.class));
+  }
+
+  @Test
+  public void testDeliverOnExecutor() {
+    Executor executor = mock(Executor.class);
+    OfflineRegionStatusCoalescer coalescer = new OfflineRegionStatusCoalescer(observer, handler, executor, 10);
+    coalescer.offer(mock(OfflineRegionStatus.class));
+    coalescer.run();
+    verify(executor).execute(any(Runnable.class));
+  }
+}
@@ -0,0 +1,71 @@
+package com.mapbox.mapboxsdk.offline;
+
+import com.mapbox.mapboxsdk.storage.FileSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Field;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class OfflineRegionTest {
+
+  private FileSource fileSource;
+  private OfflineRegion region;
+
+  @Before
+  public void beforeTest() {
+    fileSource = mock(FileSource.class);
+    // The constructor is for JNI use only, create the region without running it
+    region = mock(OfflineRegion.class, Mockito.CALLS_REAL_METHODS);
+    injectFileSource(region, fileSource);
+  }
+
+  @Test
+  public void testActivatesOnce() {
+    region.updateState(OfflineRegion.STATE_ACTIVE);
+    region.updateState(OfflineRegion.STATE_ACTIVE);
+    verify(fileSource, times(1)).activate();
+    verify(fileSource, never()).deactivate();
+  }
+
+  @Test
+  public void testRefreshWhileDownloading() {
+    // setDownloadState(STATE_ACTIVE) followed by refresh()
+    region.updateState(OfflineRegion.STATE_ACTIVE);
+    region.updateState(OfflineRegion.STATE_ACTIVE);
+    region.updateState(OfflineRegion.STATE_INACTIVE);
+    verify(fileSource, times(1)).activate();
+    verify(fileSource, times(1)).deactivate();
+  }
+
+  @Test
+  public void testInactiveRegionNotDeactivated() {
+    region.updateState(OfflineRegion.STATE_INACTIVE);
+    verify(fileSource, never()).deactivate();
+  }
+
+  @Test
+  public void testReactivate() {
+    region.updateState(OfflineRegion.STATE_ACTIVE);
+    region.updateState(OfflineRegion.STATE_INACTIVE);
+    region.updateState(OfflineRegion.STATE_ACTIVE);
+    verify(fileSource, times(2)).activate();
+    verify(fileSource, times(1)).deactivate();
+  }
+
+  private static void injectFileSource(OfflineRegion region, FileSource fileSource) {
+    try {
+      Field field = OfflineRegion.class.getDeclaredField("fileSource");
+      field.setAccessible(true);
+      field.set(region, fileSource);
+    } catch (Exception exception) {
+      throw new AssertionError();
+    }
+  }
+}
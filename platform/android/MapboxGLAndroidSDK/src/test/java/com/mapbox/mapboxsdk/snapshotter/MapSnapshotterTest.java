@@ -0,0 +1,169 @@
+package com.mapbox.mapboxsdk.snapshotter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * The native snapshotter isn't loaded in unit tests, calls into it throw an {@link UnsatisfiedLinkError}.
+ */
+public class MapSnapshotterTest {
+
+  private MapSnapshotter mapSnapshotter;
+  private MapSnapshotter.CancelledCallback cancelledCallback;
+
+  @Before
+  public void beforeTest() {
+    // The constructor initializes the native snapshotter, create the snapshotter without running it
+    mapSnapshotter = mock(MapSnapshotter.class, Mockito.CALLS_REAL_METHODS);
+    injectCancelledCallbacks(mapSnapshotter);
+    cancelledCallback = mock(MapSnapshotter.CancelledCallback.class);
+  }
+
+  @Test
+  public void testCancelIdle() {
+    mapSnapshotter.cancel(cancelledCallback);
+    verify(cancelledCallback).onCancelled();
+  }
+
+  @Test
+  public void testCancelWaitsForRender() {
+    start(mock(MapSnapshotter.SnapshotReadyCallback.class));
+    assertCallsNative(new Runnable() {
+      @Override
+      public void run() {
+        mapSnapshotter.cancel(cancelledCallback);
+      }
+    });
+    verify(cancelledCallback, never()).onCancelled();
+
+    mapSnapshotter.onSnapshotCancelled();
+    verify(cancelledCallback).onCancelled();
+  }
+
+  @Test
+  public void testStartDeferredWhileCancelling() {
+    start(mock(MapSnapshotter.SnapshotReadyCallback.class));
+    cancel();
+    MapSnapshotter.SnapshotReadyCallback callback = mock(MapSnapshotter.SnapshotReadyCallback.class);
+    // the map is busy with the cancelled image, the snapshot starts when it completed
+    mapSnapshotter.start(callback);
+    assertCallsNative(new Runnable() {
+      @Override
+      public void run() {
+        mapSnapshotter.onSnapshotCancelled();
+      }
+    });
+
+    MapSnapshot snapshot = mock(MapSnapshot.class);
+    mapSnapshotter.onSnapshotReady(snapshot);
+    verify(callback).onSnapshotReady(snapshot);
+  }
+
+  @Test
+  public void testCancelDeferredStart() {
+    start(mock(MapSnapshotter.SnapshotReadyCallback.class));
+    cancel();
+    MapSnapshotter.SnapshotReadyCallback callback = mock(MapSnapshotter.SnapshotReadyCallback.class);
+    mapSnapshotter.start(callback);
+    cancel();
+
+    mapSnapshotter.onSnapshotCancelled();
+    mapSnapshotter.onSnapshotReady(mock(MapSnapshot.class));
+    verify(callback, never()).onSnapshotReady(any(MapSnapshot.class));
+  }
+
+  @Test
+  public void testStartFromCancelledCallback() {
+    start(mock(MapSnapshotter.SnapshotReadyCallback.class));
+    assertCallsNative(new Runnable() {
+      @Override
+      public void run() {
+        mapSnapshotter.cancel(new MapSnapshotter.CancelledCallback() {
+          @Override
+          public void onCancelled() {
+            mapSnapshotter.start(mock(MapSnapshotter.SnapshotReadyCallback.class));
+          }
+        });
+      }
+    });
+    assertCallsNative(new Runnable() {
+      @Override
+      public void run() {
+        mapSnapshotter.onSnapshotCancelled();
+      }
+    });
+  }
+
+  @Test
+  public void testPixelBufferLimitedToImage() {
+    ByteBuffer pixelBuffer = ByteBuffer.allocateDirect(64);
+    pixelBuffer.position(8);
+    mapSnapshotter.setPixelBuffer(pixelBuffer);
+
+    assertSame(pixelBuffer, mapSnapshotter.obtainPixelBuffer(2, 2));
+    assertEquals(0, pixelBuffer.position());
+    assertEquals(16, pixelBuffer.limit());
+  }
+
+  @Test
+  public void testPixelBufferTooSmall() {
+    mapSnapshotter.setPixelBuffer(ByteBuffer.allocateDirect(16));
+    assertNull(mapSnapshotter.obtainPixelBuffer(4, 4));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPixelBufferNotDirect() {
+    mapSnapshotter.setPixelBuffer(ByteBuffer.allocate(16));
+  }
+
+  private void start(final MapSnapshotter.SnapshotReadyCallback callback) {
+    assertCallsNative(new Runnable() {
+      @Override
+      public void run() {
+        mapSnapshotter.start(callback);
+      }
+    });
+  }
+
+  private void cancel() {
+    assertCallsNative(new Runnable() {
+      @Override
+      public void run() {
+        mapSnapshotter.cancel();
+      }
+    });
+  }
+
+  private static void assertCallsNative(Runnable runnable) {
+    try {
+      runnable.run();
+      fail("Native snapshotter not called");
+    } catch (UnsatisfiedLinkError error) {
+      // expected
+    }
+  }
+
+  private static void injectCancelledCallbacks(MapSnapshotter mapSnapshotter) {
+    try {
+      Field field = MapSnapshotter.class.getDeclaredField("cancelledCallbacks");
+      field.setAccessible(true);
+      field.set(mapSnapshotter, new ArrayList<MapSnapshotter.CancelledCallback>());
+    } catch (Exception exception) {
+      throw new AssertionError();
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package com.mapbox.mapboxsdk.snapshotter;
+
+import android.graphics.Bitmap;
+
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PosterSnapshotterTest {
+
+  private static final double DELTA = 1e-6;
+
+  private FakeRenderer first;
+  private FakeRenderer second;
+  private PosterSnapshotter posterSnapshotter;
+
+  @Before
+  public void beforeTest() {
+    first = new FakeRenderer();
+    second = new FakeRenderer();
+    MapSnapshotter.Options options = new MapSnapshotter.Options(250, 120)
+      .withCameraPosition(new CameraPosition.Builder().target(new LatLng(52, 4)).zoom(10).build());
+    posterSnapshotter = new PosterSnapshotter(Arrays.<SnapshotBatch.Snapshotter>asList(first, second),
+      new SnapshotBitmapPool(2), options, 100, 10);
+  }
+
+  @Test
+  public void testTileLayout() {
+    List<PosterSnapshotter.Tile> tiles = posterSnapshotter.getTiles();
+    assertEquals(6, tiles.size());
+
+    PosterSnapshotter.Tile last = tiles.get(5);
+    assertEquals(200, last.left);
+    assertEquals(100, last.top);
+    assertEquals(50, last.width);
+    assertEquals(20, last.height);
+    assertEquals(70, last.renderWidth);
+    assertEquals(40, last.renderHeight);
+  }
+
+  @Test
+  public void testTileCameras() {
+    List<PosterSnapshotter.Tile> tiles = PosterSnapshotter.createTiles(300, 300, 100, 0, new LatLng(52, 4), 10);
+    // the center tile is centered on the poster
+    LatLng center = tiles.get(4).cameraPosition.target;
+    assertEquals(52, center.getLatitude(), DELTA);
+    assertEquals(4, center.getLongitude(), DELTA);
+
+    // neighbours are a tile apart, 100 / (512 * 2^10) of the world
+    double tileDegrees = 100 / (512 * Math.pow(2, 10)) * 360;
+    assertEquals(4 + tileDegrees, tiles.get(5).cameraPosition.target.getLongitude(), DELTA);
+    assertEquals(52, tiles.get(5).cameraPosition.target.getLatitude(), DELTA);
+    assertTrue(tiles.get(1).cameraPosition.target.getLatitude() > 52);
+    assertEquals(10, tiles.get(1).cameraPosition.zoom, DELTA);
+  }
+
+  @Test
+  public void testRendersTilesInParallel() throws IOException {
+    PosterSnapshotter.TileWriter writer = mock(PosterSnapshotter.TileWriter.class);
+    PosterSnapshotter.PosterReadyCallback callback = mock(PosterSnapshotter.PosterReadyCallback.class);
+    posterSnapshotter.start(writer, callback);
+    verify(writer).open(250, 120, 100);
+    assertEquals("size 120x120", first.calls.get(0));
+    assertEquals("size 120x120", second.calls.get(0));
+
+    for (int i = 0; i < 3; i++) {
+      first.complete(mockBitmap(0));
+      second.complete(mockBitmap(0));
+    }
+    assertEquals(6, posterSnapshotter.getCompletedTileCount());
+    verify(writer, times(6)).write(any(Bitmap.class), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    verify(writer).close();
+    verify(callback).onPosterReady();
+  }
+
+  @Test
+  public void testErrorStopsRendering() throws IOException {
+    PosterSnapshotter.TileWriter writer = mock(PosterSnapshotter.TileWriter.class);
+    PosterSnapshotter.PosterReadyCallback callback = mock(PosterSnapshotter.PosterReadyCallback.class);
+    posterSnapshotter.start(writer, callback);
+    first.fail("failed");
+
+    verify(callback).onError("failed");
+    verify(writer).close();
+    assertEquals(1, second.cancels);
+    assertEquals(1, first.starts);
+  }
+
+  @Test
+  public void testRestartWaitsForCancelledTiles() throws IOException {
+    posterSnapshotter.start(mock(PosterSnapshotter.TileWriter.class),
+      mock(PosterSnapshotter.PosterReadyCallback.class));
+    first.complete(mockBitmap(0));
+    posterSnapshotter.cancel();
+    assertEquals(1, first.cancels);
+    assertEquals(1, second.cancels);
+
+    // the renderers continue with the new poster once their tile in flight completed
+    PosterSnapshotter.TileWriter writer = mock(PosterSnapshotter.TileWriter.class);
+    PosterSnapshotter.PosterReadyCallback callback = mock(PosterSnapshotter.PosterReadyCallback.class);
+    posterSnapshotter.start(writer, callback);
+    assertEquals(2, first.starts);
+    assertEquals(1, second.starts);
+
+    second.finishCancel();
+    first.finishCancel();
+    assertEquals(3, first.starts);
+    assertEquals(2, second.starts);
+    for (int i = 0; i < 3; i++) {
+      first.complete(mockBitmap(0));
+      second.complete(mockBitmap(0));
+    }
+    assertEquals(6, posterSnapshotter.getCompletedTileCount());
+    verify(callback).onPosterReady();
+  }
+
+  @Test
+  public void testStreamWriterWritesRowsInOrder() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    PosterSnapshotter.TileWriter writer = new PosterSnapshotter.StreamTileWriter(output);
+    writer.open(2, 3, 2);
+
+    // bottom band first, it's written once the top band completes
+    writer.write(mockBitmap(0xff000003), 0, 0, 2, 1, 0, 2);
+    writer.write(mockBitmap(0xff000002), 0, 0, 1, 2, 1, 0);
+    assertEquals(0, output.size());
+    writer.write(mockBitmap(0xff000001), 0, 0, 1, 2, 0, 0);
+    writer.close();
+
+    byte[] bytes = output.toByteArray();
+    assertEquals(2 * 3 * 4, bytes.length);
+    assertEquals(1, bytes[2]);
+    assertEquals(-1, bytes[3]);
+    assertEquals(2, bytes[6]);
+    assertEquals(3, bytes[18]);
+  }
+
+  private static Bitmap mockBitmap(final int color) {
+    Bitmap bitmap = mock(Bitmap.class);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        int[] pixels = (int[]) invocation.getArguments()[0];
+        int width = (Integer) invocation.getArguments()[5];
+        Arrays.fill(pixels, 0, width, color);
+        return null;
+      }
+    }).when(bitmap).getPixels(any(int[].class), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    return bitmap;
+  }
+
+  private static class FakeRenderer implements SnapshotBatch.Snapshotter {
+
+    private final List<String> calls = new ArrayList<>();
+    private MapSnapshotter.SnapshotReadyCallback callback;
+    private MapSnapshotter.ErrorHandler errorHandler;
+    private MapSnapshotter.CancelledCallback cancelledCallback;
+    private int starts;
+    private int cancels;
+
+    @Override
+    public void setSize(int width, int height) {
+      calls.add("size " + width + "x" + height);
+    }
+
+    @Override
+    public void setCameraPosition(CameraPosition cameraPosition) {
+      calls.add("camera");
+    }
+
+    @Override
+    public void setRegion(LatLngBounds region) {
+      calls.add("region");
+    }
+
+    @Override
+    public void setStyleUrl(String styleUrl) {
+      calls.add("style " + styleUrl);
+    }
+
+    @Override
+    public void start(MapSnapshotter.SnapshotReadyCallback callback, MapSnapshotter.ErrorHandler errorHandler) {
+      this.callback = callback;
+      this.errorHandler = errorHandler;
+      starts++;
+    }
+
+    @Override
+    public void cancel(MapSnapshotter.CancelledCallback cancelledCallback) {
+      callback = null;
+      errorHandler = null;
+      this.cancelledCallback = cancelledCallback;
+      cancels++;
+    }
+
+    void finishCancel() {
+      MapSnapshotter.CancelledCallback cancelledCallback = this.cancelledCallback;
+      this.cancelledCallback = null;
+      cancelledCallback.onCancelled();
+    }
+
+    void complete(Bitmap bitmap) {
+      MapSnapshot snapshot = mock(MapSnapshot.class);
+      when(snapshot.getBitmap()).thenReturn(bitmap);
+      MapSnapshotter.SnapshotReadyCallback callback = this.callback;
+      this.callback = null;
+      errorHandler = null;
+      callback.onSnapshotReady(snapshot);
+    }
+
+    void fail(String error) {
+      MapSnapshotter.ErrorHandler errorHandler = this.errorHandler;
+      callback = null;
+      this.errorHandler = null;
+      errorHandler.onError(error);
+    }
+  }
+}
@@ -0,0 +1,248 @@
+package com.mapbox.mapboxsdk.snapshotter;
+
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class SnapshotBatchTest {
+
+  private static final String STYLE = "mapbox://styles/mapbox/streets-v10";
+
+  private FakeSnapshotter snapshotter;
+  private SnapshotBatch batch;
+
+  @Before
+  public void beforeTest() {
+    snapshotter = new FakeSnapshotter();
+    batch = new SnapshotBatch(snapshotter, STYLE);
+  }
+
+  @Test
+  public void testJobsRenderBackToBack() {
+    MapSnapshotter.SnapshotReadyCallback callback = mock(MapSnapshotter.SnapshotReadyCallback.class);
+    CameraPosition camera = new CameraPosition.Builder().target(new LatLng(1, 2)).zoom(10).build();
+    batch.submit(new SnapshotBatch.Job(100, 50).withCameraPosition(camera), callback, null);
+    batch.submit(new SnapshotBatch.Job(200, 100), callback, null);
+
+    assertEquals(1, snapshotter.starts);
+    assertEquals(1, batch.getQueuedCount());
+    assertEquals("size 100x50", snapshotter.calls.get(0));
+    assertEquals("camera", snapshotter.calls.get(1));
+
+    MapSnapshot first = mock(MapSnapshot.class);
+    snapshotter.complete(first);
+    verify(callback).onSnapshotReady(first);
+    assertEquals(2, snapshotter.starts);
+    assertEquals("size 200x100", snapshotter.calls.get(2));
+
+    snapshotter.complete(mock(MapSnapshot.class));
+    assertFalse(batch.isRunning());
+    assertEquals(2, batch.getCompletedCount());
+    assertTrue(batch.getThroughput() > 0);
+  }
+
+  @Test
+  public void testPriorityOrder() {
+    List<String> order = new ArrayList<>();
+    batch.submit(new SnapshotBatch.Job(1, 1), new Recorder(order, "first"), null);
+    batch.submit(new SnapshotBatch.Job(1, 1).withPriority(-1), new Recorder(order, "low"), null);
+    batch.submit(new SnapshotBatch.Job(1, 1).withPriority(1), new Recorder(order, "high"), null);
+    batch.submit(new SnapshotBatch.Job(1, 1), new Recorder(order, "normal"), null);
+
+    for (int i = 0; i < 4; i++) {
+      snapshotter.complete(mock(MapSnapshot.class));
+    }
+    assertEquals("first", order.get(0));
+    assertEquals("high", order.get(1));
+    assertEquals("normal", order.get(2));
+    assertEquals("low", order.get(3));
+  }
+
+  @Test
+  public void testCancelQueuedJob() {
+    MapSnapshotter.SnapshotReadyCallback callback = mock(MapSnapshotter.SnapshotReadyCallback.class);
+    batch.submit(new SnapshotBatch.Job(1, 1), mock(MapSnapshotter.SnapshotReadyCallback.class), null);
+    SnapshotBatch.Job job = batch.submit(new SnapshotBatch.Job(1, 1), callback, null);
+    job.cancel();
+    assertTrue(job.isCancelled());
+    assertEquals(0, batch.getQueuedCount());
+
+    snapshotter.complete(mock(MapSnapshot.class));
+    assertEquals(1, snapshotter.starts);
+    verify(callback, never()).onSnapshotReady(any(MapSnapshot.class));
+  }
+
+  @Test
+  public void testCancelRunningJobStartsNext() {
+    MapSnapshotter.SnapshotReadyCallback callback = mock(MapSnapshotter.SnapshotReadyCallback.class);
+    SnapshotBatch.Job job = batch.submit(new SnapshotBatch.Job(1, 1), callback, null);
+    batch.submit(new SnapshotBatch.Job(1, 1), mock(MapSnapshotter.SnapshotReadyCallback.class), null);
+
+    job.cancel();
+    assertEquals(1, snapshotter.cancels);
+    // the next job waits until the cancelled image stopped rendering
+    assertEquals(1, snapshotter.starts);
+    assertTrue(batch.isRunning());
+    assertEquals(1, batch.getQueuedCount());
+
+    snapshotter.finishCancel();
+    assertEquals(2, snapshotter.starts);
+    assertEquals(0, batch.getQueuedCount());
+    verify(callback, never()).onSnapshotReady(any(MapSnapshot.class));
+  }
+
+  @Test
+  public void testSubmitWhileCancelling() {
+    SnapshotBatch.Job job = batch.submit(new SnapshotBatch.Job(1, 1), mock(MapSnapshotter.SnapshotReadyCallback.class),
+      null);
+    job.cancel();
+    batch.submit(new SnapshotBatch.Job(1, 1), mock(MapSnapshotter.SnapshotReadyCallback.class), null);
+    assertEquals(1, snapshotter.starts);
+
+    snapshotter.finishCancel();
+    assertEquals(2, snapshotter.starts);
+    assertEquals(0, batch.getCompletedCount());
+  }
+
+  @Test
+  public void testCancelAllWhileCancelling() {
+    SnapshotBatch.Job job = batch.submit(new SnapshotBatch.Job(1, 1), mock(MapSnapshotter.SnapshotReadyCallback.class),
+      null);
+    job.cancel();
+    batch.cancelAll();
+    assertEquals(1, snapshotter.cancels);
+
+    snapshotter.finishCancel();
+    assertFalse(batch.isRunning());
+  }
+
+  @Test
+  public void testErrorContinuesWithNextJob() {
+    MapSnapshotter.ErrorHandler errorHandler = mock(MapSnapshotter.ErrorHandler.class);
+    batch.submit(new SnapshotBatch.Job(1, 1), mock(MapSnapshotter.SnapshotReadyCallback.class), errorHandler);
+    batch.submit(new SnapshotBatch.Job(1, 1), mock(MapSnapshotter.SnapshotReadyCallback.class), null);
+
+    snapshotter.fail("failed");
+    verify(errorHandler).onError("failed");
+    assertEquals(1, batch.getFailedCount());
+    assertEquals(2, snapshotter.starts);
+  }
+
+  @Test
+  public void testStyleAndRegionApplied() {
+    LatLngBounds region = new LatLngBounds.Builder().include(new LatLng(1, 1)).include(new LatLng(2, 2)).build();
+    batch.submit(new SnapshotBatch.Job(1, 1).withStyle(STYLE).withRegion(region),
+      mock(MapSnapshotter.SnapshotReadyCallback.class), null);
+    snapshotter.complete(mock(MapSnapshot.class));
+    batch.submit(new SnapshotBatch.Job(1, 1).withStyle("asset://style.json"),
+      mock(MapSnapshotter.SnapshotReadyCallback.class), null);
+
+    // the style is only reloaded when it changes
+    assertEquals("region", snapshotter.calls.get(1));
+    assertEquals("style asset://style.json", snapshotter.calls.get(2));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testSubmitAfterRelease() {
+    batch.release();
+    batch.submit(new SnapshotBatch.Job(1, 1), mock(MapSnapshotter.SnapshotReadyCallback.class), null);
+  }
+
+  private static class Recorder implements MapSnapshotter.SnapshotReadyCallback {
+
+    private final List<String> order;
+    private final String name;
+
+    Recorder(List<String> order, String name) {
+      this.order = order;
+      this.name = name;
+    }
+
+    @Override
+    public void onSnapshotReady(MapSnapshot snapshot) {
+      order.add(name);
+    }
+  }
+
+  private static class FakeSnapshotter implements SnapshotBatch.Snapshotter {
+
+    private final List<String> calls = new ArrayList<>();
+    private MapSnapshotter.SnapshotReadyCallback callback;
+    private MapSnapshotter.ErrorHandler errorHandler;
+    private MapSnapshotter.CancelledCallback cancelledCallback;
+    private int starts;
+    private int cancels;
+
+    @Override
+    public void setSize(int width, int height) {
+      calls.add("size " + width + "x" + height);
+    }
+
+    @Override
+    public void setCameraPosition(CameraPosition cameraPosition) {
+      calls.add("camera");
+    }
+
+    @Override
+    public void setRegion(LatLngBounds region) {
+      calls.add("region");
+    }
+
+    @Override
+    public void setStyleUrl(String styleUrl) {
+      calls.add("style " + styleUrl);
+    }
+
+    @Override
+    public void start(MapSnapshotter.SnapshotReadyCallback callback, MapSnapshotter.ErrorHandler errorHandler) {
+      if (this.callback != null) {
+        throw new IllegalStateException("Snapshotter was already started");
+      }
+      this.callback = callback;
+      this.errorHandler = errorHandler;
+      starts++;
+    }
+
+    @Override
+    public void cancel(MapSnapshotter.CancelledCallback cancelledCallback) {
+      callback = null;
+      errorHandler = null;
+      this.cancelledCallback = cancelledCallback;
+      cancels++;
+    }
+
+    void finishCancel() {
+      MapSnapshotter.CancelledCallback cancelledCallback = this.cancelledCallback;
+      this.cancelledCallback = null;
+      cancelledCallback.onCancelled();
+    }
+
+    void complete(MapSnapshot snapshot) {
+      MapSnapshotter.SnapshotReadyCallback callback = this.callback;
+      this.callback = null;
+      errorHandler = null;
+      callback.onSnapshotReady(snapshot);
+    }
+
+    void fail(String error) {
+      MapSnapshotter.ErrorHandler errorHandler = this.errorHandler;
+      callback = null;
+      this.errorHandler = null;
+      errorHandler.onError(error);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.mapbox.mapboxsdk.snapshotter;
+
+import android.graphics.Bitmap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SnapshotBitmapPoolTest {
+
+  private SnapshotBitmapPool pool;
+
+  @Before
+  public void beforeTest() {
+    pool = new SnapshotBitmapPool(2);
+  }
+
+  @Test
+  public void testAcquireMatchingSize() {
+    Bitmap small = mockBitmap(100, 50, Bitmap.Config.ARGB_8888, true);
+    Bitmap large = mockBitmap(200, 100, Bitmap.Config.ARGB_8888, true);
+    assertTrue(pool.release(small));
+    assertTrue(pool.release(large));
+
+    assertNull(pool.acquire(50, 100));
+    assertSame(large, pool.acquire(200, 100));
+    assertNull(pool.acquire(200, 100));
+    assertEquals(1, pool.size());
+    assertEquals(1, pool.getHitCount());
+    assertEquals(2, pool.getMissCount());
+  }
+
+  @Test
+  public void testUnusableBitmapsIgnored() {
+    assertFalse(pool.release(mockBitmap(1, 1, Bitmap.Config.ARGB_8888, false)));
+    Bitmap recycled = mockBitmap(1, 1, Bitmap.Config.ARGB_8888, true);
+    when(recycled.isRecycled()).thenReturn(true);
+    assertFalse(pool.release(recycled));
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void testCapacityDropsOldest() {
+    Bitmap first = mockBitmap(1, 1, Bitmap.Config.ARGB_8888, true);
+    Bitmap second = mockBitmap(2, 2, Bitmap.Config.ARGB_8888, true);
+    Bitmap third = mockBitmap(3, 3, Bitmap.Config.ARGB_8888, true);
+    pool.release(first);
+    pool.release(second);
+    assertFalse(pool.release(second));
+    pool.release(third);
+
+    assertEquals(2, pool.size());
+    assertNull(pool.acquire(1, 1));
+    assertSame(second, pool.acquire(2, 2));
+    assertSame(third, pool.acquire(3, 3));
+  }
+
+  @Test
+  public void testRecycledWhilePooled() {
+    Bitmap bitmap = mockBitmap(1, 1, Bitmap.Config.ARGB_8888, true);
+    pool.release(bitmap);
+    when(bitmap.isRecycled()).thenReturn(true);
+    assertNull(pool.acquire(1, 1));
+    assertEquals(0, pool.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidCapacity() {
+    new SnapshotBitmapPool(0);
+  }
+
+  private static Bitmap mockBitmap(int width, int height, Bitmap.Config config, boolean mutable) {
+    Bitmap bitmap = mock(Bitmap.class);
+    when(bitmap.getWidth()).thenReturn(width);
+    when(bitmap.getHeight()).thenReturn(height);
+    when(bitmap.getConfig()).thenReturn(config);
+    when(bitmap.isMutable()).thenReturn(mutable);
+    return bitmap;
+  }
+}
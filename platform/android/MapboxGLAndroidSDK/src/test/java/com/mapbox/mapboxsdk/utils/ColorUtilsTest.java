@@ -0,0 +1,89 @@
+package com.mapbox.mapboxsdk.utils;
+
+import com.mapbox.mapboxsdk.exceptions.ConversionException;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ColorUtilsTest {
+
+  @Test
+  public void testRgbaToColor() {
+    assertEquals(0x40FF8000, ColorUtils.rgbaToColor("rgba(1, 0.5, 0, 0.25)"));
+    assertEquals(0xFFFFFFFF, ColorUtils.rgbaToColor("rgba(1,1,1,1)"));
+    assertEquals(0x00000000, ColorUtils.rgbaToColor(" rgba( 0 , 0 , 0 , 0 ) "));
+  }
+
+  @Test
+  public void testRgbaToColorRgb() {
+    assertEquals(0xFF00FF00, ColorUtils.rgbaToColor("rgb(0, 1, 0)"));
+  }
+
+  @Test
+  public void testRgbaToColorRoundsComponents() {
+    // 254 / 255 as printed by the map
+    assertEquals(0xFFFE0000, ColorUtils.rgbaToColor("rgba(0.996078, 0, 0, 1)"));
+  }
+
+  @Test
+  public void testParseHexColor() {
+    assertEquals(0xFFFF8800, ColorUtils.parseColor("#f80"));
+    assertEquals(0x88FF8800, ColorUtils.parseColor("#F808"));
+    assertEquals(0xFFFF8800, ColorUtils.parseColor("#FF8800"));
+    assertEquals(0x80FF8800, ColorUtils.parseColor("#ff880080"));
+  }
+
+  @Test
+  public void testParseRgbColor() {
+    assertEquals(0xFFFF8800, ColorUtils.parseColor("rgb(255, 136, 0)"));
+    assertEquals(0x80FF8800, ColorUtils.parseColor("rgba(255,136,0,0.5)"));
+    assertEquals(0xFFFF0000, ColorUtils.parseColor("RGB(100%, 0%, 0%)"));
+    assertEquals(0xFFFF0000, ColorUtils.parseColor("rgb(300, -10, 0)"));
+  }
+
+  @Test
+  public void testParseHslColor() {
+    assertEquals(0xFF00FF00, ColorUtils.parseColor("hsl(120, 100%, 50%)"));
+    assertEquals(0xFF000080, ColorUtils.parseColor("hsl(240, 100%, 25%)"));
+    assertEquals(0x80FF0000, ColorUtils.parseColor("hsla(360, 100%, 50%, 0.5)"));
+    assertEquals(0xFF808080, ColorUtils.parseColor("hsl(-90, 0%, 50%)"));
+  }
+
+  @Test
+  public void testInvalidColors() {
+    String[] values = {"", "#12", "#12345", "#ggg", "rgba(1, 0, 0", "rgb(1 0 0)", "rgb(1, 0)", "rgb(1, 0, 0, 0, 0)",
+      "rgb(., 0, 0)", "hsl(0, 0%)", "rgbx(0, 0, 0)", "blue", "rgb(0, 0, 0) 0"};
+    for (String value : values) {
+      try {
+        ColorUtils.parseColor(value);
+        fail("Parsed " + value);
+      } catch (ConversionException exception) {
+        // expected
+      }
+    }
+  }
+
+  @Test(expected = ConversionException.class)
+  public void testRgbaToColorRejectsHex() {
+    ColorUtils.rgbaToColor("#ff0000");
+  }
+
+  @Test(expected = ConversionException.class)
+  public void testRgbaToColorRejectsPercentages() {
+    ColorUtils.rgbaToColor("rgba(100%, 0%, 0%, 1)");
+  }
+
+  @Test
+  public void testColorToRgbaString() {
+    assertEquals("rgba(255, 136, 0, 128)", ColorUtils.colorToRgbaString(0x80FF8800));
+    assertEquals("rgba(0, 0, 0, 255)", ColorUtils.colorToRgbaString(0xFF000000));
+  }
+
+  @Test
+  public void testColorToRgbaStringCached() {
+    assertSame(ColorUtils.colorToRgbaString(0xFF123456), ColorUtils.colorToRgbaString(0xFF123456));
+  }
+}
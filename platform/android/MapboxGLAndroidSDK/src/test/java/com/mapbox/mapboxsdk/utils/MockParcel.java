@@ -153,12 +153,28 @@ public class MockParcel {
           return null;
         }
       };
+      Answer<Void> writeDoubleArrayAnswer = new Answer<Void>() {
+        @Override
+        public Void answer(InvocationOnMock invocation) throws Throwable {
+          double[] parameters = (double[]) invocation.getArguments()[0];
+          if (parameters != null) {
+            objects.add(parameters.length);
+            for (Object o : parameters) {
+              objects.add(o);
+            }
+          } else {
+            objects.add(-1);
+          }
+          return null;
+        }
+      };
       doAnswer(writeValueAnswer).when(mockedParcel).writeByte(anyByte());
       doAnswer(writeValueAnswer).when(mockedParcel).writeLong(anyLong());
       doAnswer(writeValueAnswer).when(mockedParcel).writeString(anyString());
       doAnswer(writeValueAnswer).when(mockedParcel).writeInt(anyInt());
       doAnswer(writeIntArrayAnswer).when(mockedParcel).writeIntArray(any(int[].class));
       doAnswer(writeValueAnswer).when(mockedParcel).writeDouble(anyDouble());
+      doAnswer(writeDoubleArrayAnswer).when(mockedParcel).writeDoubleArray(any(double[].class));
       doAnswer(writeValueAnswer).when(mockedParcel).writeFloat(anyFloat());
       doAnswer(writeValueAnswer).when(mockedParcel).writeParcelable(any(Parcelable.class), eq(0));
       doAnswer(writeArrayAnswer).when(mockedParcel).writeParcelableArray(any(Parcelable[].class), eq(0));
@@ -236,6 +252,22 @@ public class MockParcel {
             array[i] = (Integer) objects.get(position++);
           }
 
+          return array;
+        }
+      });
+      when(mockedParcel.createDoubleArray()).then(new Answer<double[]>() {
+        @Override
+        public double[] answer(InvocationOnMock invocation) throws Throwable {
+          int size = (Integer) objects.get(position++);
+          if (size == -1) {
+            return null;
+          }
+
+          double[] array = new double[size];
+          for (int i = 0; i < size; i++) {
+            array[i] = (Double) objects.get(position++);
+          }
+
           return array;
         }
       });
@@ -0,0 +1,60 @@
+package com.mapbox.mapboxsdk.benchmark;
+
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building camera positions, as done for every camera change of the map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class CameraPositionBenchmark {
+
+  private LatLng target;
+  private CameraPosition previous;
+
+  @Setup
+  public void setup() {
+    target = new LatLng(52.3702, 4.8952);
+    previous = new CameraPosition.Builder().target(target).zoom(12).bearing(30).tilt(45).build();
+  }
+
+  @Benchmark
+  public CameraPosition build() {
+    return new CameraPosition.Builder()
+      .target(target)
+      .zoom(14.5)
+      .bearing(-90)
+      .tilt(30)
+      .build();
+  }
+
+  @Benchmark
+  public CameraPosition buildFromPrevious() {
+    return new CameraPosition.Builder(previous)
+      .zoom(previous.zoom + 1)
+      .build();
+  }
+
+  @Benchmark
+  public boolean equalsPrevious() {
+    return new CameraPosition.Builder(previous).build().equals(previous);
+  }
+}
@@ -0,0 +1,92 @@
+package com.mapbox.mapboxsdk.benchmark;
+
+import com.mapbox.mapboxsdk.cluster.Cluster;
+import com.mapbox.mapboxsdk.cluster.ClusterIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading points into a {@link ClusterIndex}, on one thread and in parallel, and querying the clusters of a
+ * viewport.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class ClusterIndexBenchmark {
+
+  @Param({"10000", "100000"})
+  public int pointCount;
+
+  private double[] coordinates;
+  private ClusterIndex index;
+  private ClusterIndex parallelIndex;
+  private ExecutorService executor;
+  private int query;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random random = new Random(42);
+    coordinates = new double[pointCount * 2];
+    for (int i = 0; i < pointCount; i++) {
+      coordinates[i * 2] = random.nextDouble() * 170 - 85;
+      coordinates[i * 2 + 1] = random.nextDouble() * 360 - 180;
+    }
+
+    executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    index = new ClusterIndex();
+    index.load(coordinates, pointCount);
+    parallelIndex = new ClusterIndex(new ClusterIndex.Options().withExecutor(executor));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public ClusterIndex load() {
+    index.load(coordinates, pointCount);
+    return index;
+  }
+
+  @Benchmark
+  public ClusterIndex loadParallel() {
+    parallelIndex.load(coordinates, pointCount);
+    return parallelIndex;
+  }
+
+  @Benchmark
+  public List<Cluster> getClustersWorld() {
+    return index.getClusters(-180, -85, 180, 85, 2);
+  }
+
+  @Benchmark
+  public List<Cluster> getClustersViewport() {
+    // a phone sized viewport at zoom 10, moving over the world
+    int step = query++ & 63;
+    double west = -170 + step * 5;
+    double south = -60 + (step & 7) * 15;
+    return index.getClusters(west, south, west + 0.7, south + 1.2, 10);
+  }
+}
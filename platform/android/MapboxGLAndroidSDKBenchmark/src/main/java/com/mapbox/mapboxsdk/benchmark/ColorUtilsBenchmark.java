@@ -0,0 +1,109 @@
+package com.mapbox.mapboxsdk.benchmark;
+
+import com.mapbox.mapboxsdk.utils.ColorUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing the color strings returned by the native map for color layer properties, parsing style
+ * specification colors and formatting colors for the map. The uncached benchmarks cycle through more distinct colors
+ * than the caches of {@link ColorUtils} hold.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class ColorUtilsBenchmark {
+
+  private static final int DISTINCT_COUNT = 1024;
+
+  private String[] rgbaValues;
+  private int[] colors;
+  private int index;
+
+  @State(Scope.Thread)
+  public static class MapColor {
+
+    // values are named, JMH writes parameter values containing commas as invalid JSON
+    @Param( {"spaced", "compact"})
+    public String format;
+
+    private String value;
+
+    @Setup
+    public void setup() {
+      value = "spaced".equals(format) ? "rgba(1, 0.501961, 0, 0.5)" : "rgba(0.0470588,0.133333,0.219608,1)";
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class StyleColor {
+
+    @Param( {"hex", "rgba", "hsl"})
+    public String syntax;
+
+    private String value;
+
+    @Setup
+    public void setup() {
+      if ("hex".equals(syntax)) {
+        value = "#ff8000";
+      } else if ("rgba".equals(syntax)) {
+        value = "rgba(255, 128, 0, 0.5)";
+      } else {
+        value = "hsl(30, 100%, 50%)";
+      }
+    }
+  }
+
+  @Setup
+  public void setup() {
+    rgbaValues = new String[DISTINCT_COUNT];
+    colors = new int[DISTINCT_COUNT];
+    for (int i = 0; i < DISTINCT_COUNT; i++) {
+      rgbaValues[i] = "rgba(" + (i % 256) / 255f + ", 0.5, " + (i / 256) / 255f + ", 1)";
+      colors[i] = 0xFF000000 | i * 0x3F1;
+    }
+  }
+
+  @Benchmark
+  public int rgbaToColor(MapColor color) {
+    return ColorUtils.rgbaToColor(color.value);
+  }
+
+  @Benchmark
+  public int rgbaToColorUncached() {
+    index = (index + 1) % DISTINCT_COUNT;
+    return ColorUtils.rgbaToColor(rgbaValues[index]);
+  }
+
+  @Benchmark
+  public int parseColor(StyleColor color) {
+    return ColorUtils.parseColor(color.value);
+  }
+
+  @Benchmark
+  public String colorToRgbaString() {
+    return ColorUtils.colorToRgbaString(colors[0]);
+  }
+
+  @Benchmark
+  public String colorToRgbaStringUncached() {
+    index = (index + 1) % DISTINCT_COUNT;
+    return ColorUtils.colorToRgbaString(colors[index]);
+  }
+}
@@ -0,0 +1,145 @@
+package com.mapbox.mapboxsdk.benchmark;
+
+import com.mapbox.mapboxsdk.geometry.GeoMath;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+import com.mapbox.mapboxsdk.geometry.MutableLatLngBounds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link GeoMath} and {@link MutableLatLngBounds} primitive API with the {@link LatLng} and
+ * {@link LatLngBounds} object API, over the same set of points.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class GeometryBenchmark {
+
+  private static final int POINT_COUNT = 1000;
+  private static final int TILE_ZOOM = 14;
+
+  private LatLng[] latLngs;
+  private List<LatLng> latLngList;
+  private double[] coordinates;
+  private final double[] bounds = new double[4];
+  private final MutableLatLngBounds mutableBounds = new MutableLatLngBounds();
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    latLngs = new LatLng[POINT_COUNT];
+    latLngList = new ArrayList<>(POINT_COUNT);
+    coordinates = new double[POINT_COUNT * 2];
+    for (int i = 0; i < POINT_COUNT; i++) {
+      double latitude = random.nextDouble() * 170 - 85;
+      double longitude = random.nextDouble() * 360 - 180;
+      latLngs[i] = new LatLng(latitude, longitude);
+      latLngList.add(latLngs[i]);
+      coordinates[i * 2] = latitude;
+      coordinates[i * 2 + 1] = longitude;
+    }
+  }
+
+  @Benchmark
+  public double latLngDistanceTo() {
+    double sum = 0;
+    for (int i = 1; i < POINT_COUNT; i++) {
+      sum += latLngs[i - 1].distanceTo(latLngs[i]);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double geoMathDistance() {
+    double sum = 0;
+    for (int i = 2; i < coordinates.length; i += 2) {
+      sum += GeoMath.distance(coordinates[i - 2], coordinates[i - 1], coordinates[i], coordinates[i + 1]);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double geoMathHaversineDistance() {
+    double sum = 0;
+    for (int i = 2; i < coordinates.length; i += 2) {
+      sum += GeoMath.haversineDistance(coordinates[i - 2], coordinates[i - 1], coordinates[i], coordinates[i + 1]);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double geoMathEquirectangularDistance() {
+    double sum = 0;
+    for (int i = 2; i < coordinates.length; i += 2) {
+      sum += GeoMath.equirectangularDistance(coordinates[i - 2], coordinates[i - 1], coordinates[i],
+        coordinates[i + 1]);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public LatLngBounds latLngBoundsInclude() {
+    LatLngBounds result = LatLngBounds.from(latLngs[0].getLatitude(), latLngs[0].getLongitude(),
+      latLngs[0].getLatitude(), latLngs[0].getLongitude());
+    for (int i = 1; i < POINT_COUNT; i++) {
+      result = result.include(latLngs[i]);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public LatLngBounds latLngBoundsBuilder() {
+    return new LatLngBounds.Builder().includes(latLngList).build();
+  }
+
+  @Benchmark
+  public MutableLatLngBounds mutableLatLngBoundsInclude() {
+    mutableBounds.setEmpty();
+    for (int i = 0; i < POINT_COUNT; i++) {
+      mutableBounds.include(latLngs[i]);
+    }
+    return mutableBounds;
+  }
+
+  @Benchmark
+  public double[] geoMathExpand() {
+    GeoMath.setEmpty(bounds);
+    GeoMath.expand(bounds, coordinates, 0, POINT_COUNT);
+    return bounds;
+  }
+
+  @Benchmark
+  public LatLngBounds latLngBoundsFromTile() {
+    LatLngBounds result = null;
+    for (int i = 0; i < POINT_COUNT; i++) {
+      result = LatLngBounds.from(TILE_ZOOM, i, i);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public double[] geoMathTileBounds() {
+    for (int i = 0; i < POINT_COUNT; i++) {
+      GeoMath.tileBounds(TILE_ZOOM, i, i, bounds);
+    }
+    return bounds;
+  }
+}
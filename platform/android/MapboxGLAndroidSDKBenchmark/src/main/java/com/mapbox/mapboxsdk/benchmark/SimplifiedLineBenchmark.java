@@ -0,0 +1,100 @@
+package com.mapbox.mapboxsdk.benchmark;
+
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.SimplifiedLine;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures simplifying a GPS track of 200k vertices and the vertices sent to the map for a zoom level, with and
+ * without simplification.
+ * <p>
+ * The JNI bytes counter assumes the two doubles of every {@link LatLng} read by the native annotation conversion.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class SimplifiedLineBenchmark {
+
+  private static final int POINT_COUNT = 200000;
+  private static final int BYTES_PER_POINT = 16;
+
+  @Param({"0", "1"})
+  public int method;
+
+  @Param({"10", "16"})
+  public int zoom;
+
+  private List<LatLng> track;
+  private SimplifiedLine line;
+
+  /**
+   * Counts the bytes sent to the map per operation.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Transfer {
+
+    public long jniBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      jniBytes = 0;
+    }
+  }
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    track = new ArrayList<>(POINT_COUNT);
+    double latitude = 52.0;
+    double longitude = 4.0;
+    for (int i = 0; i < POINT_COUNT; i++) {
+      // a vertex per second at driving speed, with GPS noise
+      latitude += 0.0001 + random.nextGaussian() * 0.00001;
+      longitude += 0.00015 + random.nextGaussian() * 0.00001;
+      track.add(new LatLng(latitude, longitude));
+    }
+    line = SimplifiedLine.fromLatLngs(track, method, 1);
+  }
+
+  @Benchmark
+  public List<LatLng> simplify() {
+    return SimplifiedLine.fromLatLngs(track, method, 1).getPoints(zoom);
+  }
+
+  @Benchmark
+  public List<LatLng> sendFull(Transfer transfer) {
+    List<LatLng> points = new ArrayList<>(track);
+    transfer.jniBytes += points.size() * BYTES_PER_POINT;
+    return points;
+  }
+
+  @Benchmark
+  public List<LatLng> sendSimplified(Transfer transfer) {
+    List<LatLng> points = new ArrayList<>(line.getPoints(zoom));
+    transfer.jniBytes += points.size() * BYTES_PER_POINT;
+    return points;
+  }
+}
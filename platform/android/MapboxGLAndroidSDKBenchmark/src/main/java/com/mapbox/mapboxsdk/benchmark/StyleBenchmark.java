@@ -0,0 +1,130 @@
+package com.mapbox.mapboxsdk.benchmark;
+
+import com.mapbox.mapboxsdk.style.functions.CameraFunction;
+import com.mapbox.mapboxsdk.style.functions.CompositeFunction;
+import com.mapbox.mapboxsdk.style.functions.Function;
+import com.mapbox.mapboxsdk.style.functions.SourceFunction;
+import com.mapbox.mapboxsdk.style.functions.stops.ExponentialStops;
+import com.mapbox.mapboxsdk.style.functions.stops.Stop;
+import com.mapbox.mapboxsdk.style.functions.stops.Stops;
+import com.mapbox.mapboxsdk.style.layers.Filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.mapbox.mapboxsdk.style.functions.stops.Stop.stop;
+import static com.mapbox.mapboxsdk.style.layers.Filter.all;
+import static com.mapbox.mapboxsdk.style.layers.Filter.any;
+import static com.mapbox.mapboxsdk.style.layers.Filter.eq;
+import static com.mapbox.mapboxsdk.style.layers.Filter.gte;
+import static com.mapbox.mapboxsdk.style.layers.Filter.has;
+import static com.mapbox.mapboxsdk.style.layers.Filter.in;
+import static com.mapbox.mapboxsdk.style.layers.Filter.notIn;
+import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.circleRadius;
+import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillColor;
+import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
+
+/**
+ * Measures the conversion of filters, functions and stops to the value objects passed to the native map, as done for
+ * every layer property set with a function and every filter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class StyleBenchmark {
+
+  private static final int CATEGORY_COUNT = 32;
+
+  private Filter.Statement filter;
+  private CameraFunction<Float, Float> zoomFunction;
+  private SourceFunction<String, String> categoricalFunction;
+  private CompositeFunction<Float, Float, Float> compositeFunction;
+
+  @Setup
+  public void setup() {
+    filter = buildFilter();
+    zoomFunction = Function.zoom(buildExponentialStops());
+
+    @SuppressWarnings("unchecked")
+    Stop<String, String>[] categories = new Stop[CATEGORY_COUNT];
+    for (int i = 0; i < CATEGORY_COUNT; i++) {
+      categories[i] = stop("category-" + i, fillColor("#" + Integer.toHexString(0x100000 + i * 0x7f7f)));
+    }
+    categoricalFunction = Function.property("category", Stops.categorical(categories));
+
+    compositeFunction = Function.composite("population", Stops.exponential(
+      stop(0f, 0f, circleRadius(1f)),
+      stop(0f, 1000000f, circleRadius(4f)),
+      stop(10f, 0f, circleRadius(2f)),
+      stop(10f, 1000000f, circleRadius(16f)),
+      stop(18f, 0f, circleRadius(4f)),
+      stop(18f, 1000000f, circleRadius(64f))
+    ).withBase(1.5f));
+  }
+
+  @Benchmark
+  public Filter.Statement filterBuild() {
+    return buildFilter();
+  }
+
+  @Benchmark
+  public Object[] filterToArray() {
+    return filter.toArray();
+  }
+
+  @Benchmark
+  public ExponentialStops<Float, Float> stopsBuild() {
+    return buildExponentialStops();
+  }
+
+  @Benchmark
+  public Map<String, Object> zoomFunctionToValueObject() {
+    return zoomFunction.toValueObject();
+  }
+
+  @Benchmark
+  public Map<String, Object> categoricalFunctionToValueObject() {
+    return categoricalFunction.toValueObject();
+  }
+
+  @Benchmark
+  public Map<String, Object> compositeFunctionToValueObject() {
+    return compositeFunction.toValueObject();
+  }
+
+  private static Filter.Statement buildFilter() {
+    return all(
+      eq("class", "street"),
+      any(in("type", "primary", "secondary", "tertiary", "residential"), gte("rank", 3)),
+      has("name"),
+      notIn("surface", "unpaved", "gravel")
+    );
+  }
+
+  private static ExponentialStops<Float, Float> buildExponentialStops() {
+    return Stops.exponential(
+      stop(5f, lineWidth(0.5f)),
+      stop(8f, lineWidth(1f)),
+      stop(10f, lineWidth(1.5f)),
+      stop(12f, lineWidth(2f)),
+      stop(14f, lineWidth(4f)),
+      stop(16f, lineWidth(8f)),
+      stop(18f, lineWidth(16f)),
+      stop(20f, lineWidth(32f))
+    ).withBase(1.2f);
+  }
+}
@@ -0,0 +1,96 @@
+package com.mapbox.mapboxsdk.maps;
+
+import android.support.v4.util.LongSparseArray;
+
+import com.mapbox.mapboxsdk.annotations.Annotation;
+import com.mapbox.mapboxsdk.annotations.Marker;
+import com.mapbox.mapboxsdk.annotations.MarkerOptions;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures obtaining the markers of a {@link MarkerContainer} and looking up annotations by identifier through
+ * {@link AnnotationManager#getAnnotation(long)}, as done by {@link MapboxMap#getAnnotation(long)}. The containers are
+ * created without a map, only their annotations are used.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class MarkerContainerBenchmark {
+
+  private static final int LOOKUP_COUNT = 1000;
+
+  @Param( {"100", "10000"})
+  public int markerCount;
+
+  private LongSparseArray<Annotation> annotations;
+  private MarkerContainer markerContainer;
+  private AnnotationManager annotationManager;
+  private long[] lookupIds;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    annotations = new LongSparseArray<>();
+    for (int i = 0; i < markerCount; i++) {
+      Marker marker = new MarkerOptions()
+        .position(new LatLng(random.nextDouble() * 170 - 85, random.nextDouble() * 360 - 180))
+        .getMarker();
+      // identifiers are assigned incrementally by the native map
+      marker.setId(i);
+      annotations.put(i, marker);
+    }
+    markerContainer = new MarkerContainer(null, null, annotations, null, null);
+    annotationManager = new AnnotationManager(null, null, annotations, null, null,
+      new AnnotationContainer(null, annotations), markerContainer, null, null, null);
+
+    lookupIds = new long[LOOKUP_COUNT];
+    for (int i = 0; i < LOOKUP_COUNT; i++) {
+      lookupIds[i] = random.nextInt(markerCount);
+    }
+  }
+
+  @Benchmark
+  public List<Marker> obtainAll() {
+    return markerContainer.obtainAll();
+  }
+
+  @Benchmark
+  public int getAnnotation() {
+    int found = 0;
+    for (long id : lookupIds) {
+      if (annotationManager.getAnnotation(id) != null) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  // the lookup of the annotations array underneath the update and added checks of the containers
+  @Benchmark
+  public int annotationsIndexOfKey() {
+    int sum = 0;
+    for (long id : lookupIds) {
+      sum += annotations.indexOfKey(id);
+    }
+    return sum;
+  }
+}
@@ -216,6 +216,7 @@ add_library(mbgl-android STATIC
     # Java core classes
     platform/android/src/java/util.cpp
     platform/android/src/java/util.hpp
+    platform/android/src/java/nio.hpp
 
     # Graphics
     platform/android/src/graphics/pointf.cpp
@@ -3,6 +3,8 @@
 #include <mbgl/util/noncopyable.hpp>
 #include <jni/jni.hpp>
 
+#include <vector>
+
 #include "../geometry/lat_lng.hpp"
 #include "../java/util.hpp"
 
@@ -36,6 +38,25 @@ protected:
       jni::DeleteLocalRef(env, jarray);
       return geometry;
   }
+
+  // Reads a range of points from an array of alternating latitudes and longitudes
+  template <class Geometry>
+  static Geometry toGeometry(JNIEnv& env, jni::Array<jni::jdouble> coordinates, std::size_t start, std::size_t count) {
+      NullCheck(env, &coordinates);
+
+      Geometry geometry;
+      geometry.reserve(count);
+      if (count == 0) {
+          return geometry;
+      }
+
+      std::vector<jni::jdouble> values(count * 2);
+      coordinates.GetRegion<std::vector<jni::jdouble>>(env, start * 2, values);
+      for (std::size_t i = 0; i < count; i++) {
+          geometry.emplace_back(values[i * 2 + 1], values[i * 2]);
+      }
+      return geometry;
+  }
 };
 
 } // namespace android
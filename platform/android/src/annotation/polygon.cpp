@@ -8,10 +8,10 @@ namespace android {
 jni::Class<Polygon> Polygon::javaClass;
 
 mbgl::FillAnnotation Polygon::toAnnotation(jni::JNIEnv& env, jni::Object<Polygon> polygon) {
-    auto points = Polygon::getPoints(env, polygon);
+    auto coordinates = Polygon::getCoordinates(env, polygon);
     auto holes = Polygon::getHoles(env, polygon);
 
-    mbgl::Polygon<double> geometry { MultiPoint::toGeometry<mbgl::LinearRing<double>>(env, points) };
+    mbgl::Polygon<double> geometry { MultiPoint::toGeometry<mbgl::LinearRing<double>>(env, coordinates, 0, Polygon::getPointCount(env, polygon)) };
 
     auto jHoleListsArray = java::util::List::toArray<java::util::List>(env, holes);
     std::size_t jHoleListsSize = jHoleListsArray.Length(env);
@@ -27,14 +27,19 @@ mbgl::FillAnnotation Polygon::toAnnotation(jni::JNIEnv& env, jni::Object<Polygon
     annotation.color = { Polygon::getFillColor(env, polygon) };
     annotation.outlineColor = { Polygon::getOutlineColor(env, polygon) };
 
-    jni::DeleteLocalRef(env, points);
+    jni::DeleteLocalRef(env, coordinates);
     jni::DeleteLocalRef(env, holes);
 
     return annotation;
 }
 
-jni::Object<java::util::List> Polygon::getPoints(jni::JNIEnv& env, jni::Object<Polygon> polygon) {
-    static auto field = Polygon::javaClass.GetField<jni::Object<java::util::List>>(env, "points");
+jni::Array<jni::jdouble> Polygon::getCoordinates(jni::JNIEnv& env, jni::Object<Polygon> polygon) {
+    static auto field = Polygon::javaClass.GetField<jni::Array<jni::jdouble>>(env, "coordinates");
+    return polygon.Get(env, field);
+}
+
+std::size_t Polygon::getPointCount(jni::JNIEnv& env, jni::Object<Polygon> polygon) {
+    static auto field = Polygon::javaClass.GetField<jni::jint>(env, "pointCount");
     return polygon.Get(env, field);
 }
 
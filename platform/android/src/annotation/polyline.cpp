@@ -8,20 +8,31 @@ namespace android {
 jni::Class<Polyline> Polyline::javaClass;
 
 mbgl::LineAnnotation Polyline::toAnnotation(jni::JNIEnv& env, jni::Object<Polyline> polyline) {
-    auto points = Polyline::getPoints(env, polyline);
+    return Polyline::toAnnotation(env, polyline, Polyline::getGeometry(env, polyline, 0, Polyline::getPointCount(env, polyline)));
+}
 
-    mbgl::LineAnnotation annotation { MultiPoint::toGeometry<mbgl::LineString<double>>(env, points) };
+mbgl::LineAnnotation Polyline::toAnnotation(jni::JNIEnv& env, jni::Object<Polyline> polyline, mbgl::LineString<double>&& geometry) {
+    mbgl::LineAnnotation annotation { std::move(geometry) };
     annotation.opacity = { Polyline::getOpacity(env, polyline) };
     annotation.color = { Polyline::getColor(env, polyline) };
     annotation.width = { Polyline::getWidth(env, polyline) };
+    return annotation;
+}
 
-    jni::DeleteLocalRef(env, points);
+mbgl::LineString<double> Polyline::getGeometry(jni::JNIEnv& env, jni::Object<Polyline> polyline, std::size_t start, std::size_t count) {
+    auto coordinates = Polyline::getCoordinates(env, polyline);
+    auto geometry = MultiPoint::toGeometry<mbgl::LineString<double>>(env, coordinates, start, count);
+    jni::DeleteLocalRef(env, coordinates);
+    return geometry;
+}
 
-    return annotation;
+std::size_t Polyline::getPointCount(jni::JNIEnv& env, jni::Object<Polyline> polyline) {
+    static auto field = Polyline::javaClass.GetField<jni::jint>(env, "pointCount");
+    return polyline.Get(env, field);
 }
 
-jni::Object<java::util::List> Polyline::getPoints(jni::JNIEnv& env, jni::Object<Polyline> polyline) {
-    static auto field = Polyline::javaClass.GetField<jni::Object<java::util::List>>(env, "points");
+jni::Array<jni::jdouble> Polyline::getCoordinates(jni::JNIEnv& env, jni::Object<Polyline> polyline) {
+    static auto field = Polyline::javaClass.GetField<jni::Array<jni::jdouble>>(env, "coordinates");
     return polyline.Get(env, field);
 }
 
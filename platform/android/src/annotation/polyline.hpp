@@ -22,11 +22,17 @@ public:
 
     static mbgl::LineAnnotation toAnnotation(jni::JNIEnv&, jni::Object<Polyline>);
 
+    static mbgl::LineAnnotation toAnnotation(jni::JNIEnv&, jni::Object<Polyline>, mbgl::LineString<double>&&);
+
+    static mbgl::LineString<double> getGeometry(jni::JNIEnv&, jni::Object<Polyline>, std::size_t start, std::size_t count);
+
+    static std::size_t getPointCount(jni::JNIEnv&, jni::Object<Polyline>);
+
     static void registerNative(jni::JNIEnv&);
 
 private:
 
-    static jni::Object<java::util::List> getPoints(jni::JNIEnv&, jni::Object<Polyline>);
+    static jni::Array<jni::jdouble> getCoordinates(jni::JNIEnv&, jni::Object<Polyline>);
 
     static float getOpacity(jni::JNIEnv&, jni::Object<Polyline>);
 
@@ -1,5 +1,7 @@
 #include "bitmap.hpp"
 
+#include <mbgl/util/logging.hpp>
+
 #include <android/bitmap.h>
 
 namespace mbgl {
@@ -15,9 +17,10 @@ public:
         }
     }
     ~PixelGuard() {
+        // Destructors must not throw, the pixels were written or read already
         const int result = AndroidBitmap_unlockPixels(&env, jni::Unwrap(*bitmap));
         if (result != ANDROID_BITMAP_RESULT_SUCCESS) {
-            throw std::runtime_error("bitmap decoding: could not unlock pixels");
+            Log::Error(Event::Android, "bitmap: could not unlock pixels");
         }
     }
 
@@ -78,7 +81,11 @@ jni::Object<Bitmap> Bitmap::CreateBitmap(jni::JNIEnv& env,
 
 jni::Object<Bitmap> Bitmap::CreateBitmap(jni::JNIEnv& env, const PremultipliedImage& image) {
     auto bitmap = CreateBitmap(env, image.size.width, image.size.height, Config::ARGB_8888);
+    WriteImage(env, image, bitmap);
+    return bitmap;
+}
 
+void Bitmap::WriteImage(jni::JNIEnv& env, const PremultipliedImage& image, jni::Object<Bitmap> bitmap) {
     AndroidBitmapInfo info;
     const int result = AndroidBitmap_getInfo(&env, jni::Unwrap(*bitmap), &info);
     if (result != ANDROID_BITMAP_RESULT_SUCCESS) {
@@ -86,9 +93,10 @@ jni::Object<Bitmap> Bitmap::CreateBitmap(jni::JNIEnv& env, const PremultipliedIm
         throw std::runtime_error("bitmap creation: couldn't get bitmap info");
     }
 
-    assert(info.width == image.size.width);
-    assert(info.height == image.size.height);
-    assert(info.format == ANDROID_BITMAP_FORMAT_RGBA_8888);
+    if (info.width != image.size.width || info.height != image.size.height ||
+        info.format != ANDROID_BITMAP_FORMAT_RGBA_8888) {
+        throw std::runtime_error("bitmap creation: bitmap doesn't match the image");
+    }
 
     PixelGuard guard(env, bitmap);
 
@@ -97,8 +105,6 @@ jni::Object<Bitmap> Bitmap::CreateBitmap(jni::JNIEnv& env, const PremultipliedIm
         auto begin = image.data.get() + y * image.stride();
         std::copy(begin, begin + image.stride(), guard.get() + y * info.stride);
     }
-
-    return bitmap;
 }
 
 PremultipliedImage Bitmap::GetImage(jni::JNIEnv& env, jni::Object<Bitmap> bitmap) {
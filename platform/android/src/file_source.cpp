@@ -4,8 +4,11 @@
 #include <mbgl/actor/scheduler.hpp>
 #include <mbgl/storage/resource_transform.hpp>
 #include <mbgl/util/logging.hpp>
+#include <mbgl/util/string.hpp>
 
 #include "asset_manager_file_source.hpp"
+#include "attach_env.hpp"
+#include "conversion/collection.hpp"
 #include "jni/generic_global_ref_deleter.hpp"
 
 namespace mbgl {
@@ -70,6 +73,70 @@ void FileSource::pause(jni::JNIEnv&) {
     fileSource->pause();
 }
 
+void FileSource::setMaximumAmbientCacheSize(jni::JNIEnv&, jni::jlong size) {
+    fileSource->setMaximumAmbientCacheSize(size);
+}
+
+void FileSource::setAmbientCacheEvictionPolicy(jni::JNIEnv&, jni::jint policy) {
+    fileSource->setAmbientCacheEvictionPolicy(policy == 1
+        ? mbgl::AmbientCacheEvictionPolicy::EarliestExpiry
+        : mbgl::AmbientCacheEvictionPolicy::LeastRecentlyUsed);
+}
+
+void FileSource::clearAmbientCache(jni::JNIEnv& env_, jni::Object<FileSource::AmbientCacheCallback> callback_) {
+    fileSource->clearAmbientCache([
+        //Keep a shared ptr to a global reference of the callback so it is not GC'd in the meanwhile
+        callback = std::shared_ptr<jni::jobject>(callback_.NewGlobalRef(env_).release()->Get(), GenericGlobalRefDeleter())
+    ](std::exception_ptr error) mutable {
+        // Reattach, the callback comes from a different thread
+        android::UniqueEnv env = android::AttachEnv();
+
+        if (error) {
+            FileSource::AmbientCacheCallback::onError(*env, jni::Object<FileSource::AmbientCacheCallback>(*callback), error);
+        } else {
+            FileSource::AmbientCacheCallback::onSuccess(*env, jni::Object<FileSource::AmbientCacheCallback>(*callback));
+        }
+    });
+}
+
+void FileSource::prewarmAmbientCache(jni::JNIEnv& env_, jni::jint kind, jni::Array<jni::String> urls,
+                                     jni::Object<FileSource::AmbientCacheCallback> callback_) {
+    std::vector<mbgl::Resource> resources;
+    for (auto& url : conversion::toVector(env_, urls)) {
+        resources.emplace_back(mbgl::Resource::Kind(kind), url);
+    }
+
+    fileSource->prewarmAmbientCache(std::move(resources), [
+        //Keep a shared ptr to a global reference of the callback so it is not GC'd in the meanwhile
+        callback = std::shared_ptr<jni::jobject>(callback_.NewGlobalRef(env_).release()->Get(), GenericGlobalRefDeleter())
+    ](std::exception_ptr error) mutable {
+        // Reattach, the callback comes from a different thread
+        android::UniqueEnv env = android::AttachEnv();
+
+        if (error) {
+            FileSource::AmbientCacheCallback::onError(*env, jni::Object<FileSource::AmbientCacheCallback>(*callback), error);
+        } else {
+            FileSource::AmbientCacheCallback::onSuccess(*env, jni::Object<FileSource::AmbientCacheCallback>(*callback));
+        }
+    });
+}
+
+void FileSource::getAmbientCacheStatistics(jni::JNIEnv& env_, jni::Object<FileSource::AmbientCacheStatisticsCallback> callback_) {
+    fileSource->getAmbientCacheStatistics([
+        //Keep a shared ptr to a global reference of the callback so it is not GC'd in the meanwhile
+        callback = std::shared_ptr<jni::jobject>(callback_.NewGlobalRef(env_).release()->Get(), GenericGlobalRefDeleter())
+    ](std::exception_ptr error, mbgl::optional<mbgl::AmbientCacheStatistics> statistics) mutable {
+        // Reattach, the callback comes from a different thread
+        android::UniqueEnv env = android::AttachEnv();
+
+        if (error) {
+            FileSource::AmbientCacheStatisticsCallback::onError(*env, jni::Object<FileSource::AmbientCacheStatisticsCallback>(*callback), error);
+        } else if (statistics) {
+            FileSource::AmbientCacheStatisticsCallback::onStatistics(*env, jni::Object<FileSource::AmbientCacheStatisticsCallback>(*callback), *statistics);
+        }
+    });
+}
+
 jni::Class<FileSource> FileSource::javaClass;
 
 FileSource* FileSource::getNativePeer(jni::JNIEnv& env, jni::Object<FileSource> jFileSource) {
@@ -87,6 +154,9 @@ void FileSource::registerNative(jni::JNIEnv& env) {
     //Register classes
     FileSource::javaClass = *jni::Class<FileSource>::Find(env).NewGlobalRef(env).release();
     FileSource::ResourceTransformCallback::javaClass = *jni::Class<FileSource::ResourceTransformCallback>::Find(env).NewGlobalRef(env).release();
+    FileSource::AmbientCacheCallback::javaClass = *jni::Class<FileSource::AmbientCacheCallback>::Find(env).NewGlobalRef(env).release();
+    FileSource::AmbientCacheStatistics::javaClass = *jni::Class<FileSource::AmbientCacheStatistics>::Find(env).NewGlobalRef(env).release();
+    FileSource::AmbientCacheStatisticsCallback::javaClass = *jni::Class<FileSource::AmbientCacheStatisticsCallback>::Find(env).NewGlobalRef(env).release();
 
     #define METHOD(MethodPtr, name) jni::MakeNativePeerMethod<decltype(MethodPtr), (MethodPtr)>(name)
 
@@ -101,7 +171,12 @@ void FileSource::registerNative(jni::JNIEnv& env) {
         METHOD(&FileSource::setAPIBaseUrl, "setApiBaseUrl"),
         METHOD(&FileSource::setResourceTransform, "setResourceTransform"),
         METHOD(&FileSource::resume, "resume"),
-        METHOD(&FileSource::pause, "pause")
+        METHOD(&FileSource::pause, "pause"),
+        METHOD(&FileSource::setMaximumAmbientCacheSize, "nativeSetMaximumAmbientCacheSize"),
+        METHOD(&FileSource::setAmbientCacheEvictionPolicy, "nativeSetAmbientCacheEvictionPolicy"),
+        METHOD(&FileSource::clearAmbientCache, "nativeClearAmbientCache"),
+        METHOD(&FileSource::prewarmAmbientCache, "nativePrewarmAmbientCache"),
+        METHOD(&FileSource::getAmbientCacheStatistics, "nativeGetAmbientCacheStatistics")
     );
 }
 
@@ -117,5 +192,50 @@ std::string FileSource::ResourceTransformCallback::onURL(jni::JNIEnv& env, jni::
     return jni::Make<std::string>(env, url);
 }
 
+// FileSource::AmbientCacheCallback //
+
+jni::Class<FileSource::AmbientCacheCallback> FileSource::AmbientCacheCallback::javaClass;
+
+void FileSource::AmbientCacheCallback::onSuccess(jni::JNIEnv& env, jni::Object<FileSource::AmbientCacheCallback> callback) {
+    static auto method = FileSource::AmbientCacheCallback::javaClass.GetMethod<void ()>(env, "onSuccess");
+    callback.Call(env, method);
+}
+
+void FileSource::AmbientCacheCallback::onError(jni::JNIEnv& env, jni::Object<FileSource::AmbientCacheCallback> callback, std::exception_ptr error) {
+    static auto method = FileSource::AmbientCacheCallback::javaClass.GetMethod<void (jni::String)>(env, "onError");
+    std::string message = mbgl::util::toString(error);
+    callback.Call(env, method, jni::Make<jni::String>(env, message));
+}
+
+// FileSource::AmbientCacheStatistics //
+
+jni::Class<FileSource::AmbientCacheStatistics> FileSource::AmbientCacheStatistics::javaClass;
+
+jni::Object<FileSource::AmbientCacheStatistics> FileSource::AmbientCacheStatistics::New(jni::JNIEnv& env, mbgl::AmbientCacheStatistics statistics) {
+    static auto constructor = javaClass.GetConstructor<jni::jlong, jni::jlong, jni::jlong>(env);
+    return javaClass.New(env, constructor,
+        jni::jlong(statistics.hitCount),
+        jni::jlong(statistics.missCount),
+        jni::jlong(statistics.size)
+    );
+}
+
+// FileSource::AmbientCacheStatisticsCallback //
+
+jni::Class<FileSource::AmbientCacheStatisticsCallback> FileSource::AmbientCacheStatisticsCallback::javaClass;
+
+void FileSource::AmbientCacheStatisticsCallback::onStatistics(jni::JNIEnv& env, jni::Object<FileSource::AmbientCacheStatisticsCallback> callback, mbgl::AmbientCacheStatistics statistics) {
+    static auto method = FileSource::AmbientCacheStatisticsCallback::javaClass.GetMethod<void (jni::Object<FileSource::AmbientCacheStatistics>)>(env, "onStatistics");
+    auto jStatistics = FileSource::AmbientCacheStatistics::New(env, statistics);
+    callback.Call(env, method, jStatistics);
+    jni::DeleteLocalRef(env, jStatistics);
+}
+
+void FileSource::AmbientCacheStatisticsCallback::onError(jni::JNIEnv& env, jni::Object<FileSource::AmbientCacheStatisticsCallback> callback, std::exception_ptr error) {
+    static auto method = FileSource::AmbientCacheStatisticsCallback::javaClass.GetMethod<void (jni::String)>(env, "onError");
+    std::string message = mbgl::util::toString(error);
+    callback.Call(env, method, jni::Make<jni::String>(env, message));
+}
+
 } // namespace android
 } // namespace mbgl
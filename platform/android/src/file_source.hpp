@@ -29,6 +29,34 @@ public:
         static jni::Class<ResourceTransformCallback> javaClass;
     };
 
+    struct AmbientCacheCallback {
+        static constexpr auto Name() { return "com/mapbox/mapboxsdk/storage/FileSource$AmbientCacheCallback"; }
+
+        static void onSuccess(jni::JNIEnv&, jni::Object<FileSource::AmbientCacheCallback>);
+
+        static void onError(jni::JNIEnv&, jni::Object<FileSource::AmbientCacheCallback>, std::exception_ptr);
+
+        static jni::Class<AmbientCacheCallback> javaClass;
+    };
+
+    struct AmbientCacheStatistics {
+        static constexpr auto Name() { return "com/mapbox/mapboxsdk/storage/AmbientCacheStatistics"; }
+
+        static jni::Object<FileSource::AmbientCacheStatistics> New(jni::JNIEnv&, mbgl::AmbientCacheStatistics);
+
+        static jni::Class<AmbientCacheStatistics> javaClass;
+    };
+
+    struct AmbientCacheStatisticsCallback {
+        static constexpr auto Name() { return "com/mapbox/mapboxsdk/storage/FileSource$AmbientCacheStatisticsCallback"; }
+
+        static void onStatistics(jni::JNIEnv&, jni::Object<FileSource::AmbientCacheStatisticsCallback>, mbgl::AmbientCacheStatistics);
+
+        static void onError(jni::JNIEnv&, jni::Object<FileSource::AmbientCacheStatisticsCallback>, std::exception_ptr);
+
+        static jni::Class<AmbientCacheStatisticsCallback> javaClass;
+    };
+
     FileSource(jni::JNIEnv&, jni::String, jni::String, jni::Object<AssetManager>);
 
     ~FileSource();
@@ -45,6 +73,16 @@ public:
 
     void pause(jni::JNIEnv&);
 
+    void setMaximumAmbientCacheSize(jni::JNIEnv&, jni::jlong);
+
+    void setAmbientCacheEvictionPolicy(jni::JNIEnv&, jni::jint);
+
+    void clearAmbientCache(jni::JNIEnv&, jni::Object<FileSource::AmbientCacheCallback>);
+
+    void prewarmAmbientCache(jni::JNIEnv&, jni::jint, jni::Array<jni::String>, jni::Object<FileSource::AmbientCacheCallback>);
+
+    void getAmbientCacheStatistics(jni::JNIEnv&, jni::Object<FileSource::AmbientCacheStatisticsCallback>);
+
     static jni::Class<FileSource> javaClass;
 
     static FileSource* getNativePeer(jni::JNIEnv&, jni::Object<FileSource>);
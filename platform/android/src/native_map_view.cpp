@@ -237,6 +237,28 @@ void NativeMapView::jumpTo(jni::JNIEnv&, jni::jdouble angle, jni::jdouble latitu
     map->jumpTo(options);
 }
 
+void NativeMapView::moveCameraBy(jni::JNIEnv&, jni::jdouble dx, jni::jdouble dy, jni::jdouble zoom, jni::jdouble bearing, jni::jdouble pitch, jni::jdouble focalX, jni::jdouble focalY) {
+    // Zoom, bearing and pitch change around the focal point, by default the center of the content insets
+    mbgl::Size size = map->getSize();
+    mbgl::ScreenCoordinate focal = focalX < 0 || focalY < 0 ? insets.getCenter(size.width, size.height) : mbgl::ScreenCoordinate{ focalX, focalY };
+
+    // A single camera change: the coordinate panned to the focal point becomes the center of insets around the focal point
+    mbgl::CameraOptions options;
+    options.center = map->latLngForPixel({ focal.x - dx, focal.y - dy });
+    options.padding = mbgl::EdgeInsets(focal.y, focal.x, size.height - focal.y, size.width - focal.x);
+    if (zoom != 0) {
+        options.zoom = map->getZoom() + zoom;
+    }
+    if (bearing != 0) {
+        options.angle = -(map->getBearing() + bearing) * util::DEG2RAD;
+    }
+    if (pitch != 0) {
+        options.pitch = (map->getPitch() + pitch) * util::DEG2RAD;
+    }
+
+    map->jumpTo(options);
+}
+
 void NativeMapView::easeTo(jni::JNIEnv&, jni::jdouble angle, jni::jdouble latitude, jni::jdouble longitude, jni::jlong duration, jni::jdouble pitch, jni::jdouble zoom, jni::jboolean easing) {
     mbgl::CameraOptions cameraOptions;
     if (angle != -1) {
@@ -542,10 +564,32 @@ jni::Array<jlong> NativeMapView::addPolygons(JNIEnv& env, jni::Array<jni::Object
 
 //TODO: Move to Polyline class and make native peer
 void NativeMapView::updatePolyline(JNIEnv& env, jlong polylineId, jni::Object<Polyline> polyline) {
+    polylineGeometries.erase(polylineId);
     mbgl::LineAnnotation annotation = Polyline::toAnnotation(env, polyline);
     map->updateAnnotation(polylineId, annotation);
 }
 
+void NativeMapView::updatePolylinePoints(JNIEnv& env, jlong polylineId, jni::Object<Polyline> polyline, jint start, jint removeCount, jint insertCount) {
+    auto it = polylineGeometries.find(polylineId);
+    bool spliceable = it != polylineGeometries.end() && start >= 0 && removeCount >= 0 && insertCount >= 0
+        && static_cast<std::size_t>(start + removeCount) <= it->second.size();
+
+    auto& geometry = polylineGeometries[polylineId];
+    if (!spliceable) {
+        // First update by range, read all points once
+        geometry = Polyline::getGeometry(env, polyline, 0, Polyline::getPointCount(env, polyline));
+    } else {
+        // Only the inserted points are read from the Java array
+        geometry.erase(geometry.begin() + start, geometry.begin() + start + removeCount);
+        auto inserted = Polyline::getGeometry(env, polyline, start, insertCount);
+        geometry.insert(geometry.begin() + start, inserted.begin(), inserted.end());
+    }
+
+    // The geometry is kept for the next range update, the annotation takes a copy. Core still replaces the whole
+    // annotation, the update is linear in the point count of the polyline
+    map->updateAnnotation(polylineId, Polyline::toAnnotation(env, polyline, mbgl::LineString<double>(geometry)));
+}
+
 //TODO: Move to Polygon class and make native peer
 void NativeMapView::updatePolygon(JNIEnv& env, jlong polygonId, jni::Object<Polygon> polygon) {
     mbgl::FillAnnotation annotation = Polygon::toAnnotation(env, polygon);
@@ -562,6 +606,7 @@ void NativeMapView::removeAnnotations(JNIEnv& env, jni::Array<jlong> ids) {
         if(jids[i] == -1L) {
           continue;
         }
+        polylineGeometries.erase(jids[i]);
         map->removeAnnotation(jids[i]);
     }
 }
@@ -967,6 +1012,7 @@ void NativeMapView::registerNative(jni::JNIEnv& env) {
             METHOD(&NativeMapView::setGestureInProgress, "nativeSetGestureInProgress"),
             METHOD(&NativeMapView::moveBy, "nativeMoveBy"),
             METHOD(&NativeMapView::jumpTo, "nativeJumpTo"),
+            METHOD(&NativeMapView::moveCameraBy, "nativeMoveCameraBy"),
             METHOD(&NativeMapView::easeTo, "nativeEaseTo"),
             METHOD(&NativeMapView::flyTo, "nativeFlyTo"),
             METHOD(&NativeMapView::getLatLng, "nativeGetLatLng"),
@@ -1008,6 +1054,7 @@ void NativeMapView::registerNative(jni::JNIEnv& env) {
             METHOD(&NativeMapView::addPolylines, "nativeAddPolylines"),
             METHOD(&NativeMapView::addPolygons, "nativeAddPolygons"),
             METHOD(&NativeMapView::updatePolyline, "nativeUpdatePolyline"),
+            METHOD(&NativeMapView::updatePolylinePoints, "nativeUpdatePolylinePoints"),
             METHOD(&NativeMapView::updatePolygon, "nativeUpdatePolygon"),
             METHOD(&NativeMapView::removeAnnotations, "nativeRemoveAnnotations"),
             METHOD(&NativeMapView::addAnnotationIcon, "nativeAddAnnotationIcon"),
@@ -28,6 +28,7 @@
 
 #include <exception>
 #include <string>
+#include <unordered_map>
 #include <jni.h>
 #include <android/native_window.h>
 #include <EGL/egl.h>
@@ -96,6 +97,8 @@ public:
 
     void jumpTo(jni::JNIEnv&, jni::jdouble, jni::jdouble, jni::jdouble, jni::jdouble, jni::jdouble);
 
+    void moveCameraBy(jni::JNIEnv&, jni::jdouble, jni::jdouble, jni::jdouble, jni::jdouble, jni::jdouble, jni::jdouble, jni::jdouble);
+
     void easeTo(jni::JNIEnv&, jni::jdouble, jni::jdouble, jni::jdouble, jni::jlong, jni::jdouble, jni::jdouble, jni::jboolean);
 
     void flyTo(jni::JNIEnv&, jni::jdouble, jni::jdouble, jni::jdouble, jni::jlong, jni::jdouble, jni::jdouble);
@@ -178,6 +181,8 @@ public:
 
     void updatePolyline(JNIEnv&, jlong, jni::Object<Polyline>);
 
+    void updatePolylinePoints(JNIEnv&, jlong, jni::Object<Polyline>, jint, jint, jint);
+
     void updatePolygon(JNIEnv&, jlong, jni::Object<Polygon>);
 
     void removeAnnotations(JNIEnv&, jni::Array<jlong>);
@@ -269,6 +274,10 @@ private:
     std::shared_ptr<mbgl::ThreadPool> threadPool;
     std::unique_ptr<mbgl::Map> map;
     mbgl::EdgeInsets insets;
+
+    // Geometries of the polylines updated by range, to splice further updates into. Kept besides the copy of core,
+    // the memory of these polylines is doubled
+    std::unordered_map<jlong, mbgl::LineString<double>> polylineGeometries;
 };
 
 } // namespace android
@@ -46,8 +46,10 @@ void OfflineManager::createOfflineRegion(jni::JNIEnv& env_,
                                          jni::Object<CreateOfflineRegionCallback> callback_) {
     // Convert
 
-    // XXX hardcoded cast for now as we only support OfflineTilePyramidRegionDefinition
-    auto definition = OfflineTilePyramidRegionDefinition::getDefinition(env_, jni::Object<OfflineTilePyramidRegionDefinition>(*definition_));
+    // Polygon definitions are tile pyramids restricted to a geometry
+    auto definition = jni::IsInstanceOf(env_, definition_.Get(), *OfflinePolygonRegionDefinition::javaClass)
+        ? OfflinePolygonRegionDefinition::getDefinition(env_, jni::Object<OfflinePolygonRegionDefinition>(*definition_))
+        : OfflineTilePyramidRegionDefinition::getDefinition(env_, jni::Object<OfflineTilePyramidRegionDefinition>(*definition_));
 
     mbgl::OfflineRegionMetadata metadata;
     if (metadata_) {
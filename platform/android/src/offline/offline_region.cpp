@@ -102,6 +102,10 @@ void OfflineRegion::setOfflineRegionDownloadState(jni::JNIEnv&, jni::jint jState
     fileSource.setOfflineRegionDownloadState(*region, state);
 }
 
+void OfflineRegion::refreshOfflineRegion(jni::JNIEnv&) {
+    fileSource.refreshOfflineRegion(*region);
+}
+
 void OfflineRegion::getOfflineRegionStatus(jni::JNIEnv& env_, jni::Object<OfflineRegionStatusCallback> callback_) {
 
     fileSource.getOfflineRegionStatus(*region, [
@@ -159,7 +163,9 @@ void OfflineRegion::updateOfflineRegionMetadata(jni::JNIEnv& env_, jni::Array<jn
 jni::Object<OfflineRegion> OfflineRegion::New(jni::JNIEnv& env, jni::Object<FileSource> jFileSource, mbgl::OfflineRegion region) {
 
     // Definition
-    auto definition = jni::Object<OfflineRegionDefinition>(*OfflineTilePyramidRegionDefinition::New(env, region.getDefinition()));
+    auto definition = region.getDefinition().geometry
+        ? jni::Object<OfflineRegionDefinition>(*OfflinePolygonRegionDefinition::New(env, region.getDefinition()))
+        : jni::Object<OfflineRegionDefinition>(*OfflineTilePyramidRegionDefinition::New(env, region.getDefinition()));
 
     // Metadata
     auto metadata = OfflineRegion::metadata(env, region.getMetadata());
@@ -212,6 +218,7 @@ void OfflineRegion::registerNative(jni::JNIEnv& env) {
         "finalize",
         METHOD(&OfflineRegion::setOfflineRegionObserver, "setOfflineRegionObserver"),
         METHOD(&OfflineRegion::setOfflineRegionDownloadState, "setOfflineRegionDownloadState"),
+        METHOD(&OfflineRegion::refreshOfflineRegion, "refreshOfflineRegion"),
         METHOD(&OfflineRegion::getOfflineRegionStatus, "getOfflineRegionStatus"),
         METHOD(&OfflineRegion::deleteOfflineRegion, "deleteOfflineRegion"),
         METHOD(&OfflineRegion::updateOfflineRegionMetadata, "updateOfflineRegionMetadata")
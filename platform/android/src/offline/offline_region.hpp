@@ -74,6 +74,8 @@ public:
 
     void setOfflineRegionDownloadState(jni::JNIEnv&, jni::jint);
 
+    void refreshOfflineRegion(jni::JNIEnv&);
+
     void getOfflineRegionStatus(jni::JNIEnv&, jni::Object<OfflineRegion::OfflineRegionStatusCallback>);
 
     void deleteOfflineRegion(jni::JNIEnv&, jni::Object<OfflineRegionDeleteCallback>);
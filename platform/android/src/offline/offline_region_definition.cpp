@@ -2,6 +2,8 @@
 
 #include "../geometry/lat_lng_bounds.hpp"
 
+#include <cassert>
+
 namespace mbgl {
 namespace android {
 
@@ -65,5 +67,104 @@ void OfflineTilePyramidRegionDefinition::registerNative(jni::JNIEnv& env) {
     javaClass = *jni::Class<OfflineTilePyramidRegionDefinition>::Find(env).NewGlobalRef(env).release();
 }
 
+// OfflinePolygonRegionDefinition //
+
+jni::Object<OfflinePolygonRegionDefinition> OfflinePolygonRegionDefinition::New(jni::JNIEnv& env, mbgl::OfflineTilePyramidRegionDefinition definition) {
+    assert(definition.geometry);
+
+    // Flatten the polygons
+    std::vector<jni::jdouble> coordinates;
+    std::vector<jni::jint> ringLengths;
+    std::vector<jni::jint> polygonRingCounts;
+    for (const auto& polygon : *definition.geometry) {
+        polygonRingCounts.push_back(polygon.size());
+        for (const auto& ring : polygon) {
+            ringLengths.push_back(ring.size());
+            for (const auto& point : ring) {
+                coordinates.push_back(point.x);
+                coordinates.push_back(point.y);
+            }
+        }
+    }
+
+    //Convert objects
+    auto styleURL = jni::Make<jni::String>(env, definition.styleURL);
+    auto jCoordinates = jni::Array<jni::jdouble>::New(env, coordinates.size());
+    jCoordinates.SetRegion<std::vector<jni::jdouble>>(env, 0, coordinates);
+    auto jRingLengths = jni::Array<jni::jint>::New(env, ringLengths.size());
+    jRingLengths.SetRegion<std::vector<jni::jint>>(env, 0, ringLengths);
+    auto jPolygonRingCounts = jni::Array<jni::jint>::New(env, polygonRingCounts.size());
+    jPolygonRingCounts.SetRegion<std::vector<jni::jint>>(env, 0, polygonRingCounts);
+
+    static auto constructor = javaClass.GetConstructor<jni::String, jni::Array<jni::jdouble>, jni::Array<jni::jint>, jni::Array<jni::jint>, jni::jdouble, jni::jdouble, jni::jfloat>(env);
+    auto jdefinition = javaClass.New(env, constructor, styleURL, jCoordinates, jRingLengths, jPolygonRingCounts, definition.minZoom, definition.maxZoom, definition.pixelRatio);
+
+    //Delete References
+    jni::DeleteLocalRef(env, styleURL);
+    jni::DeleteLocalRef(env, jCoordinates);
+    jni::DeleteLocalRef(env, jRingLengths);
+    jni::DeleteLocalRef(env, jPolygonRingCounts);
+
+    return jdefinition;
+}
+
+mbgl::OfflineTilePyramidRegionDefinition OfflinePolygonRegionDefinition::getDefinition(jni::JNIEnv& env, jni::Object<OfflinePolygonRegionDefinition> jDefinition) {
+    // Style, bounds and zoom range are read from the tile pyramid fields
+    auto pyramid = OfflineTilePyramidRegionDefinition::getDefinition(env, jni::Object<OfflineTilePyramidRegionDefinition>(*jDefinition));
+
+    // Field references
+    static auto coordinatesF = javaClass.GetField<jni::Array<jni::jdouble>>(env, "coordinates");
+    static auto ringLengthsF = javaClass.GetField<jni::Array<jni::jint>>(env, "ringLengths");
+    static auto polygonRingCountsF = javaClass.GetField<jni::Array<jni::jint>>(env, "polygonRingCounts");
+
+    // Get objects
+    auto jCoordinates = jDefinition.Get(env, coordinatesF);
+    auto jRingLengths = jDefinition.Get(env, ringLengthsF);
+    auto jPolygonRingCounts = jDefinition.Get(env, polygonRingCountsF);
+
+    std::vector<jni::jdouble> coordinates(jCoordinates.Length(env));
+    jCoordinates.GetRegion<std::vector<jni::jdouble>>(env, 0, coordinates);
+    std::vector<jni::jint> ringLengths(jRingLengths.Length(env));
+    jRingLengths.GetRegion<std::vector<jni::jint>>(env, 0, ringLengths);
+    std::vector<jni::jint> polygonRingCounts(jPolygonRingCounts.Length(env));
+    jPolygonRingCounts.GetRegion<std::vector<jni::jint>>(env, 0, polygonRingCounts);
+
+    // Rebuild the polygons
+    mbgl::MultiPolygon<double> geometry;
+    std::size_t ring = 0;
+    std::size_t coordinate = 0;
+    for (auto ringCount : polygonRingCounts) {
+        mbgl::Polygon<double> polygon;
+        for (jni::jint i = 0; i < ringCount; i++, ring++) {
+            mbgl::LinearRing<double> linearRing;
+            for (jni::jint j = 0; j < ringLengths[ring]; j++, coordinate += 2) {
+                linearRing.emplace_back(coordinates[coordinate], coordinates[coordinate + 1]);
+            }
+            polygon.push_back(std::move(linearRing));
+        }
+        geometry.push_back(std::move(polygon));
+    }
+
+    // Delete references
+    jni::DeleteLocalRef(env, jCoordinates);
+    jni::DeleteLocalRef(env, jRingLengths);
+    jni::DeleteLocalRef(env, jPolygonRingCounts);
+
+    return mbgl::OfflineTilePyramidRegionDefinition(
+        pyramid.styleURL,
+        pyramid.bounds,
+        pyramid.minZoom,
+        pyramid.maxZoom,
+        pyramid.pixelRatio,
+        std::move(geometry)
+    );
+}
+
+jni::Class<OfflinePolygonRegionDefinition> OfflinePolygonRegionDefinition::javaClass;
+
+void OfflinePolygonRegionDefinition::registerNative(jni::JNIEnv& env) {
+    javaClass = *jni::Class<OfflinePolygonRegionDefinition>::Find(env).NewGlobalRef(env).release();
+}
+
 } // namespace android
 } // namespace mbgl
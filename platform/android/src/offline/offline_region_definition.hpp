@@ -30,5 +30,19 @@ public:
 
 };
 
+class OfflinePolygonRegionDefinition: public OfflineTilePyramidRegionDefinition {
+public:
+    static constexpr auto Name() { return "com/mapbox/mapboxsdk/offline/OfflinePolygonRegionDefinition"; };
+
+    static jni::Object<OfflinePolygonRegionDefinition> New(jni::JNIEnv&, mbgl::OfflineTilePyramidRegionDefinition);
+
+    static mbgl::OfflineTilePyramidRegionDefinition getDefinition(jni::JNIEnv&, jni::Object<OfflinePolygonRegionDefinition>);
+
+    static jni::Class<OfflinePolygonRegionDefinition> javaClass;
+
+    static void registerNative(jni::JNIEnv&);
+
+};
+
 } // namespace android
 } // namespace mbgl
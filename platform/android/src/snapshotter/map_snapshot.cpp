@@ -3,11 +3,28 @@
 #include "../bitmap.hpp"
 #include "../jni/collection.hpp"
 
+#include <algorithm>
 #include <memory>
+#include <stdexcept>
 
 namespace mbgl {
 namespace android {
 
+namespace {
+
+void writePixels(jni::JNIEnv& env, const PremultipliedImage& image, jni::Object<java::nio::ByteBuffer> pixelBuffer) {
+    auto address = reinterpret_cast<uint8_t*>(env.GetDirectBufferAddress(jni::Unwrap(*pixelBuffer)));
+    if (!address) {
+        throw std::runtime_error("snapshot: the pixel buffer isn't a direct buffer");
+    }
+    if (env.GetDirectBufferCapacity(jni::Unwrap(*pixelBuffer)) < jlong(image.bytes())) {
+        throw std::runtime_error("snapshot: the pixel buffer is too small for the image");
+    }
+    std::copy(image.data.get(), image.data.get() + image.bytes(), address);
+}
+
+} // namespace
+
 MapSnapshot::MapSnapshot(float pixelRatio_, MapSnapshot::PointForFn pointForFn_)
     : pixelRatio(pixelRatio_)
     , pointForFn(std::move(pointForFn_)) {
@@ -28,14 +45,23 @@ jni::Object<MapSnapshot> MapSnapshot::New(JNIEnv& env,
                                           float pixelRatio,
                                           std::vector<std::string> attributions,
                                           bool showLogo,
-                                          mbgl::MapSnapshotter::PointForFn pointForFn) {
-    // Create the bitmap
-    auto bitmap = Bitmap::CreateBitmap(env, std::move(image));
+                                          mbgl::MapSnapshotter::PointForFn pointForFn,
+                                          jni::Object<Bitmap> reusableBitmap,
+                                          jni::Object<java::nio::ByteBuffer> pixelBuffer) {
+    // Write into the pixel buffer, copy into the reused bitmap, or create the bitmap
+    jni::Object<Bitmap> bitmap = reusableBitmap;
+    if (pixelBuffer) {
+        writePixels(env, image, pixelBuffer);
+    } else if (bitmap) {
+        Bitmap::WriteImage(env, image, bitmap);
+    } else {
+        bitmap = Bitmap::CreateBitmap(env, image);
+    }
 
     // Create the Mapsnapshot peers
-    static auto constructor = javaClass.GetConstructor<jni::jlong, jni::Object<Bitmap>, jni::Array<jni::String>, jni::jboolean>(env);
+    static auto constructor = javaClass.GetConstructor<jni::jlong, jni::Object<Bitmap>, jni::Object<java::nio::ByteBuffer>, jni::Array<jni::String>, jni::jboolean>(env);
     auto nativePeer = std::make_unique<MapSnapshot>(pixelRatio, pointForFn);
-    return javaClass.New(env, constructor, reinterpret_cast<jlong>(nativePeer.release()), bitmap, jni::Make<jni::Array<jni::String>>(env, attributions), (jni::jboolean) showLogo);
+    return javaClass.New(env, constructor, reinterpret_cast<jlong>(nativePeer.release()), bitmap, pixelBuffer, jni::Make<jni::Array<jni::String>>(env, attributions), (jni::jboolean) showLogo);
 }
 
 jni::Class<MapSnapshot> MapSnapshot::javaClass;
@@ -4,8 +4,10 @@
 
 #include <jni/jni.hpp>
 
+#include "../bitmap.hpp"
 #include "../geometry/lat_lng.hpp"
 #include "../graphics/pointf.hpp"
+#include "../java/nio.hpp"
 
 #include <vector>
 #include <string>
@@ -27,7 +29,9 @@ public:
                                         float pixelRatio,
                                         std::vector<std::string> attributions,
                                         bool showLogo,
-                                        PointForFn pointForFn);
+                                        PointForFn pointForFn,
+                                        jni::Object<Bitmap> reusableBitmap,
+                                        jni::Object<java::nio::ByteBuffer> pixelBuffer);
 
     MapSnapshot(jni::JNIEnv&) {};
     MapSnapshot(float pixelRatio, PointForFn);
@@ -8,6 +8,7 @@
 #include <mbgl/actor/scheduler.hpp>
 
 #include "../attach_env.hpp"
+#include "../bitmap.hpp"
 #include "map_snapshot.hpp"
 
 namespace mbgl {
@@ -61,19 +62,34 @@ MapSnapshotter::~MapSnapshotter() = default;
 void MapSnapshotter::start(JNIEnv&) {
     MBGL_VERIFY_THREAD(tid);
 
+    cancelled = false;
     snapshotCallback = std::make_unique<Actor<mbgl::MapSnapshotter::Callback>>(
             *Scheduler::GetCurrent(),
             [this](std::exception_ptr err, PremultipliedImage image, std::vector<std::string> attributions, mbgl::MapSnapshotter::PointForFn pointForFn) {
         MBGL_VERIFY_THREAD(tid);
         android::UniqueEnv _env = android::AttachEnv();
 
-        if (err) {
+        if (cancelled) {
+            // The render can't be interrupted, report that the map is idle again
+            static auto onSnapshotCancelled = javaClass.GetMethod<void ()>(*_env, "onSnapshotCancelled");
+            javaPeer->Call(*_env, onSnapshotCancelled);
+        } else if (err) {
             // error handler callback
-            static auto onSnapshotFailed = javaClass.GetMethod<void (jni::String)>(*_env, "onSnapshotFailed");
-            javaPeer->Call(*_env, onSnapshotFailed, jni::Make<jni::String>(*_env, util::toString(err)));
+            failSnapshot(*_env, err);
         } else {
-            // Create the wrapper
-            auto mapSnapshot = android::MapSnapshot::New(*_env, std::move(image), pixelRatio, attributions, showLogo, pointForFn);
+            // Create the wrapper, failing to write the pixels is reported as a failed snapshot
+            jni::Object<MapSnapshot> mapSnapshot;
+            try {
+                mapSnapshot = newSnapshot(*_env, std::move(image), std::move(attributions), std::move(pointForFn));
+            } catch (...) {
+                if (_env->ExceptionCheck()) {
+                    // the Java exception is reported as the failure of the snapshot
+                    Log::Error(Event::JNI, "Java exception while creating the snapshot");
+                    _env->ExceptionClear();
+                }
+                failSnapshot(*_env, std::current_exception());
+                return;
+            }
 
             // invoke callback
             static auto onSnapshotReady = javaClass.GetMethod<void (jni::Object<MapSnapshot>)>(*_env, "onSnapshotReady");
@@ -84,9 +100,36 @@ void MapSnapshotter::start(JNIEnv&) {
     snapshotter->snapshot(snapshotCallback->self());
 }
 
+jni::Object<MapSnapshot> MapSnapshotter::newSnapshot(jni::JNIEnv& env,
+                                                     PremultipliedImage&& image,
+                                                     std::vector<std::string> attributions,
+                                                     mbgl::MapSnapshotter::PointForFn pointForFn) {
+    auto width = jni::jint(image.size.width);
+    auto height = jni::jint(image.size.height);
+
+    // Write the raw pixels straight into the buffer of the caller, if set
+    static auto obtainPixelBuffer = javaClass.GetMethod<jni::Object<java::nio::ByteBuffer> (jni::jint, jni::jint)>(env, "obtainPixelBuffer");
+    auto pixelBuffer = javaPeer->Call(env, obtainPixelBuffer, width, height);
+    if (pixelBuffer) {
+        return MapSnapshot::New(env, std::move(image), pixelRatio, attributions, showLogo, pointForFn, jni::Object<Bitmap>(), pixelBuffer);
+    }
+
+    // Reuse a bitmap of the pool, if available
+    static auto obtainBitmap = javaClass.GetMethod<jni::Object<Bitmap> (jni::jint, jni::jint)>(env, "obtainBitmap");
+    auto bitmap = javaPeer->Call(env, obtainBitmap, width, height);
+    return MapSnapshot::New(env, std::move(image), pixelRatio, attributions, showLogo, pointForFn, bitmap, jni::Object<java::nio::ByteBuffer>());
+}
+
+void MapSnapshotter::failSnapshot(jni::JNIEnv& env, std::exception_ptr error) {
+    static auto onSnapshotFailed = javaClass.GetMethod<void (jni::String)>(env, "onSnapshotFailed");
+    javaPeer->Call(env, onSnapshotFailed, jni::Make<jni::String>(env, util::toString(error)));
+}
+
 void MapSnapshotter::cancel(JNIEnv&) {
     MBGL_VERIFY_THREAD(tid);
-    snapshotCallback.reset();
+
+    // Keep the callback, the map is busy until the image in flight completed or failed
+    cancelled = true;
 }
 
 
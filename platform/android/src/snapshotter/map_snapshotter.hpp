@@ -5,18 +5,23 @@
 #include <mbgl/util/util.hpp>
 
 #include "../file_source.hpp"
+#include "../java/nio.hpp"
 #include "../geometry/lat_lng_bounds.hpp"
 #include "../map/camera_position.hpp"
 
 #include <jni/jni.hpp>
 #include "../jni/generic_global_ref_deleter.hpp"
 
+#include <exception>
 #include <memory>
+#include <string>
+#include <vector>
 
 namespace mbgl {
 namespace android {
 
 class SnapshotterRendererFrontend;
+class MapSnapshot;
 
 class MapSnapshotter {
 public:
@@ -54,6 +59,10 @@ public:
     void cancel(JNIEnv&);
 
 private:
+    jni::Object<MapSnapshot> newSnapshot(jni::JNIEnv&, PremultipliedImage&&, std::vector<std::string> attributions, mbgl::MapSnapshotter::PointForFn);
+
+    void failSnapshot(jni::JNIEnv&, std::exception_ptr);
+
     MBGL_STORE_THREAD(tid);
 
     JavaVM *vm = nullptr;
@@ -61,6 +70,7 @@ private:
 
     float pixelRatio;
     bool showLogo;
+    bool cancelled = false;
 
     std::shared_ptr<mbgl::ThreadPool> threadPool;
     std::unique_ptr<Actor<mbgl::MapSnapshotter::Callback>> snapshotCallback;
@@ -8,11 +8,14 @@
 #include <mbgl/storage/resource_transform.hpp>
 
 #include <mbgl/util/platform.hpp>
+#include <mbgl/util/string.hpp>
 #include <mbgl/util/url.hpp>
 #include <mbgl/util/thread.hpp>
 #include <mbgl/util/work_request.hpp>
 
 #include <cassert>
+#include <list>
+#include <stdexcept>
 
 namespace {
 
@@ -113,6 +116,10 @@ public:
         getDownload(regionID).setState(state);
     }
 
+    void refreshRegion(int64_t regionID) {
+        getDownload(regionID).refresh();
+    }
+
     void request(AsyncRequest* req, Resource resource, ActorRef<FileSourceRequest> ref) {
         auto callback = [ref] (const Response& res) mutable {
             ref.invoke(&FileSourceRequest::setResponse, res);
@@ -128,6 +135,11 @@ public:
             // Try the offline database
             if (resource.hasLoadingMethod(Resource::LoadingMethod::Cache)) {
                 auto offlineResponse = offlineDatabase->get(resource);
+                if (offlineResponse && offlineResponse->isUsable()) {
+                    ambientCacheStatistics.hitCount++;
+                } else {
+                    ambientCacheStatistics.missCount++;
+                }
 
                 if (resource.loadingMethod == Resource::LoadingMethod::CacheOnly) {
                     if (!offlineResponse) {
@@ -185,6 +197,90 @@ public:
         offlineDatabase->put(resource, response);
     }
 
+    void setMaximumAmbientCacheSize(uint64_t size) {
+        offlineDatabase->setMaximumAmbientCacheSize(size);
+    }
+
+    void setAmbientCacheEvictionPolicy(AmbientCacheEvictionPolicy policy) {
+        offlineDatabase->setAmbientCacheEvictionPolicy(policy);
+    }
+
+    void clearAmbientCache(std::function<void (std::exception_ptr)> callback) {
+        try {
+            offlineDatabase->clearAmbientCache();
+            callback({});
+        } catch (...) {
+            callback(std::current_exception());
+        }
+    }
+
+    void prewarmAmbientCache(std::vector<Resource> resources, std::function<void (std::exception_ptr)> callback) {
+        struct Prewarm {
+            std::size_t remaining = 0;
+            std::size_t failed = 0;
+        };
+        auto prewarm = std::make_shared<Prewarm>();
+
+        auto complete = [callback, prewarm] {
+            if (prewarm->failed) {
+                callback(std::make_exception_ptr(std::runtime_error(
+                    util::toString(prewarm->failed) + " resources could not be loaded")));
+            } else {
+                callback({});
+            }
+        };
+
+        for (auto& resource : resources) {
+            optional<Response> offlineResponse;
+            try {
+                offlineResponse = offlineDatabase->get(resource);
+            } catch (...) {
+                callback(std::current_exception());
+                return;
+            }
+
+            if (offlineResponse && offlineResponse->isUsable()) {
+                continue;
+            }
+
+            // Revalidate stale resources
+            if (offlineResponse) {
+                resource.priorModified = offlineResponse->modified;
+                resource.priorEtag = offlineResponse->etag;
+                resource.priorData = offlineResponse->data;
+            }
+
+            prewarm->remaining++;
+            auto it = prewarmRequests.insert(prewarmRequests.end(), nullptr);
+            *it = onlineFileSource.request(resource, [=] (Response onlineResponse) {
+                // Erasing the request stops the online file source from retrying errors.
+                prewarmRequests.erase(it);
+                if (onlineResponse.error) {
+                    prewarm->failed++;
+                } else {
+                    offlineDatabase->put(resource, onlineResponse);
+                }
+                if (--prewarm->remaining == 0) {
+                    complete();
+                }
+            });
+        }
+
+        if (prewarm->remaining == 0) {
+            complete();
+        }
+    }
+
+    void getAmbientCacheStatistics(std::function<void (std::exception_ptr, optional<AmbientCacheStatistics>)> callback) {
+        try {
+            AmbientCacheStatistics statistics = ambientCacheStatistics;
+            statistics.size = offlineDatabase->getAmbientCacheSize();
+            callback({}, statistics);
+        } catch (...) {
+            callback(std::current_exception(), {});
+        }
+    }
+
 private:
     OfflineDownload& getDownload(int64_t regionID) {
         auto it = downloads.find(regionID);
@@ -202,6 +298,8 @@ private:
     OnlineFileSource onlineFileSource;
     std::unordered_map<AsyncRequest*, std::unique_ptr<AsyncRequest>> tasks;
     std::unordered_map<int64_t, std::unique_ptr<OfflineDownload>> downloads;
+    std::list<std::unique_ptr<AsyncRequest>> prewarmRequests;
+    AmbientCacheStatistics ambientCacheStatistics;
 };
 
 DefaultFileSource::DefaultFileSource(const std::string& cachePath,
@@ -289,6 +387,10 @@ void DefaultFileSource::setOfflineRegionDownloadState(OfflineRegion& region, Off
     impl->actor().invoke(&Impl::setRegionDownloadState, region.getID(), state);
 }
 
+void DefaultFileSource::refreshOfflineRegion(OfflineRegion& region) {
+    impl->actor().invoke(&Impl::refreshRegion, region.getID());
+}
+
 void DefaultFileSource::getOfflineRegionStatus(OfflineRegion& region, std::function<void (std::exception_ptr, optional<OfflineRegionStatus>)> callback) const {
     impl->actor().invoke(&Impl::getRegionStatus, region.getID(), callback);
 }
@@ -297,6 +399,26 @@ void DefaultFileSource::setOfflineMapboxTileCountLimit(uint64_t limit) const {
     impl->actor().invoke(&Impl::setOfflineMapboxTileCountLimit, limit);
 }
 
+void DefaultFileSource::setMaximumAmbientCacheSize(uint64_t size) {
+    impl->actor().invoke(&Impl::setMaximumAmbientCacheSize, size);
+}
+
+void DefaultFileSource::setAmbientCacheEvictionPolicy(AmbientCacheEvictionPolicy policy) {
+    impl->actor().invoke(&Impl::setAmbientCacheEvictionPolicy, policy);
+}
+
+void DefaultFileSource::clearAmbientCache(std::function<void (std::exception_ptr)> callback) {
+    impl->actor().invoke(&Impl::clearAmbientCache, callback);
+}
+
+void DefaultFileSource::prewarmAmbientCache(std::vector<Resource> resources, std::function<void (std::exception_ptr)> callback) {
+    impl->actor().invoke(&Impl::prewarmAmbientCache, std::move(resources), callback);
+}
+
+void DefaultFileSource::getAmbientCacheStatistics(std::function<void (std::exception_ptr, optional<AmbientCacheStatistics>)> callback) const {
+    impl->actor().invoke(&Impl::getAmbientCacheStatistics, callback);
+}
+
 void DefaultFileSource::pause() {
     impl->pause();
 }
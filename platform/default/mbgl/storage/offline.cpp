@@ -12,14 +12,17 @@
 namespace mbgl {
 
 OfflineTilePyramidRegionDefinition::OfflineTilePyramidRegionDefinition(
-    std::string styleURL_, LatLngBounds bounds_, double minZoom_, double maxZoom_, float pixelRatio_)
+    std::string styleURL_, LatLngBounds bounds_, double minZoom_, double maxZoom_, float pixelRatio_,
+    optional<MultiPolygon<double>> geometry_)
     : styleURL(std::move(styleURL_)),
       bounds(std::move(bounds_)),
       minZoom(minZoom_),
       maxZoom(maxZoom_),
-      pixelRatio(pixelRatio_) {
+      pixelRatio(pixelRatio_),
+      geometry(std::move(geometry_)) {
     if (minZoom < 0 || maxZoom < 0 || maxZoom < minZoom || pixelRatio < 0 ||
-        !std::isfinite(minZoom) || std::isnan(maxZoom) || !std::isfinite(pixelRatio)) {
+        !std::isfinite(minZoom) || std::isnan(maxZoom) || !std::isfinite(pixelRatio) ||
+        (geometry && geometry->empty())) {
         throw std::invalid_argument("Invalid offline region definition");
     }
 }
@@ -30,7 +33,7 @@ std::vector<CanonicalTileID> OfflineTilePyramidRegionDefinition::tileCover(style
     std::vector<CanonicalTileID> result;
 
     for (uint8_t z = clampedZoomRange.min; z <= clampedZoomRange.max; z++) {
-        for (const auto& tile : util::tileCover(bounds, z)) {
+        for (const auto& tile : geometry ? util::tileCover(*geometry, z) : util::tileCover(bounds, z)) {
             result.emplace_back(tile.canonical);
         }
     }
@@ -43,7 +46,7 @@ uint64_t OfflineTilePyramidRegionDefinition::tileCount(style::SourceType type, u
     const Range<uint8_t> clampedZoomRange = coveringZoomRange(type, tileSize, zoomRange);
     unsigned long result = 0;;
     for (uint8_t z = clampedZoomRange.min; z <= clampedZoomRange.max; z++) {
-        result +=  util::tileCount(bounds, z, tileSize);
+        result += geometry ? util::tileCount(*geometry, z) : util::tileCount(bounds, z, tileSize);
     }
 
     return result;
@@ -60,6 +63,61 @@ Range<uint8_t> OfflineTilePyramidRegionDefinition::coveringZoomRange(style::Sour
     return { static_cast<uint8_t>(minZ), static_cast<uint8_t>(maxZ) };
 }
 
+namespace {
+
+using JSValue = rapidjson::GenericValue<rapidjson::UTF8<>, rapidjson::CrtAllocator>;
+
+// Geometries are encoded as GeoJSON MultiPolygon coordinates: [[[[lng, lat], ...], ...], ...]
+MultiPolygon<double> decodeGeometry(const JSValue& value) {
+    if (!value.IsArray() || value.Empty()) {
+        throw std::runtime_error("Malformed offline region definition");
+    }
+
+    MultiPolygon<double> geometry;
+    for (const auto& jsPolygon : value.GetArray()) {
+        if (!jsPolygon.IsArray() || jsPolygon.Empty()) {
+            throw std::runtime_error("Malformed offline region definition");
+        }
+        Polygon<double> polygon;
+        for (const auto& jsRing : jsPolygon.GetArray()) {
+            if (!jsRing.IsArray() || jsRing.Size() < 3) {
+                throw std::runtime_error("Malformed offline region definition");
+            }
+            LinearRing<double> ring;
+            for (const auto& jsPoint : jsRing.GetArray()) {
+                if (!jsPoint.IsArray() || jsPoint.Size() != 2 || !jsPoint[0].IsNumber() || !jsPoint[1].IsNumber()) {
+                    throw std::runtime_error("Malformed offline region definition");
+                }
+                ring.emplace_back(jsPoint[0].GetDouble(), jsPoint[1].GetDouble());
+            }
+            polygon.push_back(std::move(ring));
+        }
+        geometry.push_back(std::move(polygon));
+    }
+    return geometry;
+}
+
+JSValue encodeGeometry(const MultiPolygon<double>& geometry, rapidjson::CrtAllocator& allocator) {
+    JSValue jsGeometry(rapidjson::kArrayType);
+    for (const auto& polygon : geometry) {
+        JSValue jsPolygon(rapidjson::kArrayType);
+        for (const auto& ring : polygon) {
+            JSValue jsRing(rapidjson::kArrayType);
+            for (const auto& point : ring) {
+                JSValue jsPoint(rapidjson::kArrayType);
+                jsPoint.PushBack(point.x, allocator);
+                jsPoint.PushBack(point.y, allocator);
+                jsRing.PushBack(jsPoint, allocator);
+            }
+            jsPolygon.PushBack(jsRing, allocator);
+        }
+        jsGeometry.PushBack(jsPolygon, allocator);
+    }
+    return jsGeometry;
+}
+
+} // namespace
+
 OfflineRegionDefinition decodeOfflineRegionDefinition(const std::string& region) {
     rapidjson::GenericDocument<rapidjson::UTF8<>, rapidjson::CrtAllocator> doc;
     doc.Parse<0>(region.c_str());
@@ -83,7 +141,12 @@ OfflineRegionDefinition decodeOfflineRegionDefinition(const std::string& region)
     double maxZoom = doc.HasMember("max_zoom") ? doc["max_zoom"].GetDouble() : INFINITY;
     float pixelRatio = doc["pixel_ratio"].GetDouble();
 
-    return { styleURL, bounds, minZoom, maxZoom, pixelRatio };
+    optional<MultiPolygon<double>> geometry;
+    if (doc.HasMember("geometry")) {
+        geometry = decodeGeometry(doc["geometry"]);
+    }
+
+    return { styleURL, bounds, minZoom, maxZoom, pixelRatio, std::move(geometry) };
 }
 
 std::string encodeOfflineRegionDefinition(const OfflineRegionDefinition& region) {
@@ -106,6 +169,10 @@ std::string encodeOfflineRegionDefinition(const OfflineRegionDefinition& region)
 
     doc.AddMember("pixel_ratio", region.pixelRatio, doc.GetAllocator());
 
+    if (region.geometry) {
+        doc.AddMember("geometry", encodeGeometry(*region.geometry, doc.GetAllocator()), doc.GetAllocator());
+    }
+
     rapidjson::StringBuffer buffer;
     rapidjson::Writer<rapidjson::StringBuffer> writer(buffer);
     doc.Accept(writer);
@@ -809,11 +809,28 @@ bool OfflineDatabase::evict(uint64_t neededFreeSize) {
         return pageSize * (pageCount - getPragma<int64_t>("PRAGMA freelist_count"));
     };
 
+    const bool byExpiry = evictionPolicy == AmbientCacheEvictionPolicy::EarliestExpiry;
+
     // The addition of pageSize is a fudge factor to account for non `data` column
     // size, and because pages can get fragmented on the database.
     while (usedSize() + neededFreeSize + pageSize > maximumCacheSize) {
         // clang-format off
-        Statement accessedStmt = getStatement(
+        Statement thresholdStmt = getStatement(byExpiry ?
+            "SELECT max(expires) "
+            "FROM ( "
+            "    SELECT expires "
+            "    FROM resources "
+            "    LEFT JOIN region_resources "
+            "    ON resource_id = resources.id "
+            "    WHERE resource_id IS NULL "
+            "  UNION ALL "
+            "    SELECT expires "
+            "    FROM tiles "
+            "    LEFT JOIN region_tiles "
+            "    ON tile_id = tiles.id "
+            "    WHERE tile_id IS NULL "
+            "  ORDER BY expires ASC LIMIT ?1 "
+            ") " :
             "SELECT max(accessed) "
             "FROM ( "
             "    SELECT accessed "
@@ -830,15 +847,29 @@ bool OfflineDatabase::evict(uint64_t neededFreeSize) {
             "  ORDER BY accessed ASC LIMIT ?1 "
             ") "
         );
-        accessedStmt->bind(1, 50);
+        thresholdStmt->bind(1, 50);
         // clang-format on
-        if (!accessedStmt->run()) {
+        if (!thresholdStmt->run()) {
+            return false;
+        }
+
+        // When evicting by expiry, a null threshold means the oldest entries have no
+        // expiration and only those are deleted.
+        optional<Timestamp> threshold = thresholdStmt->get<optional<Timestamp>>(0);
+        if (!threshold && !byExpiry) {
             return false;
         }
-        Timestamp accessed = accessedStmt->get<Timestamp>(0);
 
         // clang-format off
-        Statement stmt1 = getStatement(
+        Statement stmt1 = getStatement(byExpiry ?
+            "DELETE FROM resources "
+            "WHERE id IN ( "
+            "  SELECT id FROM resources "
+            "  LEFT JOIN region_resources "
+            "  ON resource_id = resources.id "
+            "  WHERE resource_id IS NULL "
+            "  AND (expires IS NULL OR expires <= ?1) "
+            ") " :
             "DELETE FROM resources "
             "WHERE id IN ( "
             "  SELECT id FROM resources "
@@ -848,12 +879,20 @@ bool OfflineDatabase::evict(uint64_t neededFreeSize) {
             "  AND accessed <= ?1 "
             ") ");
         // clang-format on
-        stmt1->bind(1, accessed);
+        stmt1->bind(1, threshold);
         stmt1->run();
         uint64_t changes1 = stmt1->changes();
 
         // clang-format off
-        Statement stmt2 = getStatement(
+        Statement stmt2 = getStatement(byExpiry ?
+            "DELETE FROM tiles "
+            "WHERE id IN ( "
+            "  SELECT id FROM tiles "
+            "  LEFT JOIN region_tiles "
+            "  ON tile_id = tiles.id "
+            "  WHERE tile_id IS NULL "
+            "  AND (expires IS NULL OR expires <= ?1) "
+            ") " :
             "DELETE FROM tiles "
             "WHERE id IN ( "
             "  SELECT id FROM tiles "
@@ -863,7 +902,7 @@ bool OfflineDatabase::evict(uint64_t neededFreeSize) {
             "  AND accessed <= ?1 "
             ") ");
         // clang-format on
-        stmt2->bind(1, accessed);
+        stmt2->bind(1, threshold);
         stmt2->run();
         uint64_t changes2 = stmt2->changes();
 
@@ -878,6 +917,70 @@ bool OfflineDatabase::evict(uint64_t neededFreeSize) {
     return true;
 }
 
+void OfflineDatabase::setMaximumAmbientCacheSize(uint64_t size) {
+    const bool shrinking = size < maximumCacheSize;
+    maximumCacheSize = size;
+    if (shrinking) {
+        evict(0);
+        db->exec("PRAGMA incremental_vacuum");
+    }
+}
+
+void OfflineDatabase::setAmbientCacheEvictionPolicy(AmbientCacheEvictionPolicy policy) {
+    evictionPolicy = policy;
+}
+
+uint64_t OfflineDatabase::getAmbientCacheSize() {
+    // clang-format off
+    Statement stmt = getStatement(
+        "SELECT IFNULL(sum(size), 0) "
+        "FROM ( "
+        "    SELECT length(data) AS size "
+        "    FROM resources "
+        "    LEFT JOIN region_resources "
+        "    ON resource_id = resources.id "
+        "    WHERE resource_id IS NULL "
+        "  UNION ALL "
+        "    SELECT length(data) AS size "
+        "    FROM tiles "
+        "    LEFT JOIN region_tiles "
+        "    ON tile_id = tiles.id "
+        "    WHERE tile_id IS NULL "
+        ") ");
+    // clang-format on
+
+    stmt->run();
+    return stmt->get<int64_t>(0);
+}
+
+void OfflineDatabase::clearAmbientCache() {
+    // clang-format off
+    Statement deleteResources = getStatement(
+        "DELETE FROM resources "
+        "WHERE id IN ( "
+        "  SELECT id FROM resources "
+        "  LEFT JOIN region_resources "
+        "  ON resource_id = resources.id "
+        "  WHERE resource_id IS NULL "
+        ") ");
+    // clang-format on
+    deleteResources->run();
+
+    // clang-format off
+    Statement deleteTiles = getStatement(
+        "DELETE FROM tiles "
+        "WHERE id IN ( "
+        "  SELECT id FROM tiles "
+        "  LEFT JOIN region_tiles "
+        "  ON tile_id = tiles.id "
+        "  WHERE tile_id IS NULL "
+        ") ");
+    // clang-format on
+    deleteTiles->run();
+
+    db->exec("PRAGMA incremental_vacuum");
+}
+
 void OfflineDatabase::setOfflineMapboxTileCountLimit(uint64_t limit) {
     offlineMapboxTileCountLimit = limit;
 }
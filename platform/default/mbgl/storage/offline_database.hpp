@@ -57,6 +57,12 @@ public:
     bool offlineMapboxTileCountLimitExceeded();
     uint64_t getOfflineMapboxTileCount();
 
+    // Evicts ambient resources right away when the new size is lower than the current one.
+    void setMaximumAmbientCacheSize(uint64_t);
+    void setAmbientCacheEvictionPolicy(AmbientCacheEvictionPolicy);
+    uint64_t getAmbientCacheSize();
+    void clearAmbientCache();
+
 private:
     void connect(int flags);
     int userVersion();
@@ -109,6 +115,7 @@ private:
     T getPragma(const char *);
 
     uint64_t maximumCacheSize;
+    AmbientCacheEvictionPolicy evictionPolicy = AmbientCacheEvictionPolicy::LeastRecentlyUsed;
 
     uint64_t offlineMapboxTileCountLimit = util::mapbox::DEFAULT_OFFLINE_TILE_COUNT_LIMIT;
     optional<uint64_t> offlineMapboxTileCount;
@@ -51,11 +51,18 @@ void OfflineDownload::setState(OfflineRegionDownloadState state) {
         activateDownload();
     } else {
         deactivateDownload();
+        refreshing = false;
     }
 
     observer->statusChanged(status);
 }
 
+void OfflineDownload::refresh() {
+    setState(OfflineRegionDownloadState::Inactive);
+    refreshing = true;
+    setState(OfflineRegionDownloadState::Active);
+}
+
 OfflineRegionStatus OfflineDownload::getStatus() const {
     if (status.downloadState == OfflineRegionDownloadState::Active) {
         return status;
@@ -260,7 +267,11 @@ void OfflineDownload::continueDownload() {
         return;
     }
 
-    while (!resourcesRemaining.empty() && requests.size() < HTTPFileSource::maximumConcurrentRequests()) {
+    // Revalidations mostly complete with small 304 responses, keep a deeper queue of them
+    // so the online file source always has conditional requests ready to send.
+    const uint32_t maximumRequests = HTTPFileSource::maximumConcurrentRequests() * (refreshing ? 4 : 1);
+
+    while (!resourcesRemaining.empty() && requests.size() < maximumRequests) {
         ensureResource(resourcesRemaining.front());
         resourcesRemaining.pop_front();
     }
@@ -291,6 +302,14 @@ void OfflineDownload::ensureResource(const Resource& resource,
     *workRequestsIt = util::RunLoop::Get()->invokeCancellable([=]() {
         requests.erase(workRequestsIt);
 
+        if (refreshing) {
+            optional<std::pair<Response, uint64_t>> stored = offlineDatabase.getRegionResource(id, resource);
+            if (stored) {
+                revalidateResource(resource, stored->first, stored->second, callback);
+                return;
+            }
+        }
+
         auto getResourceSizeInDatabase = [&] () -> optional<int64_t> {
             if (!callback) {
                 return offlineDatabase.hasRegionResource(id, resource);
@@ -353,6 +372,54 @@ void OfflineDownload::ensureResource(const Resource& resource,
     });
 }
 
+void OfflineDownload::revalidateResource(const Resource& resource,
+                                         Response stored,
+                                         uint64_t storedSize,
+                                         std::function<void(Response)> callback) {
+    // Don't pass the prior expiration, the online file source would wait for it to elapse.
+    Resource revalidation = resource;
+    revalidation.priorEtag = stored.etag;
+    revalidation.priorModified = stored.modified;
+    revalidation.priorData = stored.data;
+
+    auto fileRequestsIt = requests.insert(requests.begin(), nullptr);
+    *fileRequestsIt = onlineFileSource.request(revalidation, [=](Response onlineResponse) {
+        if (onlineResponse.error) {
+            observer->responseError(*onlineResponse.error);
+            return;
+        }
+
+        requests.erase(fileRequestsIt);
+
+        if (onlineResponse.notModified && !onlineResponse.data) {
+            onlineResponse.data = stored.data;
+        }
+
+        if (callback) {
+            callback(onlineResponse);
+        }
+
+        // A not modified response only updates the expiration of the stored resource.
+        uint64_t resourceSize = offlineDatabase.putRegionResource(id, resource, onlineResponse);
+        if (onlineResponse.notModified) {
+            resourceSize = storedSize;
+        } else {
+            status.changedResourceCount++;
+        }
+
+        status.revalidatedResourceCount++;
+        status.completedResourceCount++;
+        status.completedResourceSize += resourceSize;
+        if (resource.kind == Resource::Kind::Tile) {
+            status.completedTileCount += 1;
+            status.completedTileSize += resourceSize;
+        }
+
+        observer->statusChanged(status);
+        continueDownload();
+    });
+}
+
 bool OfflineDownload::checkTileCountLimit(const Resource& resource) {
     if (resource.kind == Resource::Kind::Tile && util::mapbox::isMapboxURL(resource.url) &&
         offlineDatabase.offlineMapboxTileCountLimitExceeded()) {
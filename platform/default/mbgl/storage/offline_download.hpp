@@ -33,6 +33,12 @@ public:
     void setObserver(std::unique_ptr<OfflineRegionObserver>);
     void setState(OfflineRegionDownloadState);
 
+    /*
+     * Activate the download in refresh mode: resources already stored for the region are
+     * revalidated with conditional requests and only rewritten when they changed.
+     */
+    void refresh();
+
     OfflineRegionStatus getStatus() const;
 
 private:
@@ -48,12 +54,19 @@ private:
     void ensureResource(const Resource&, std::function<void (Response)> = {});
     bool checkTileCountLimit(const Resource& resource);
 
+    /*
+     * Revalidate a stored resource with a conditional request, rewriting it when the server
+     * responds with new data and refreshing its expiration otherwise.
+     */
+    void revalidateResource(const Resource&, Response stored, uint64_t storedSize, std::function<void (Response)>);
+
     int64_t id;
     OfflineRegionDefinition definition;
     OfflineDatabase& offlineDatabase;
     FileSource& onlineFileSource;
     OfflineRegionStatus status;
     std::unique_ptr<OfflineRegionObserver> observer;
+    bool refreshing = false;
 
     std::list<std::unique_ptr<AsyncRequest>> requests;
     std::unordered_set<std::string> requiredSourceURLs;
@@ -1,9 +1,12 @@
 #include <mbgl/util/tile_cover.hpp>
 #include <mbgl/util/constants.hpp>
 #include <mbgl/util/interpolate.hpp>
+#include <mbgl/math/clamp.hpp>
 #include <mbgl/map/transform_state.hpp>
 
+#include <algorithm>
 #include <functional>
+#include <map>
 
 namespace mbgl {
 
@@ -190,5 +193,123 @@ uint64_t tileCount(const LatLngBounds& bounds, uint8_t zoom, uint16_t tileSize_)
     return (maxX - minX + 1) * (maxY - minY + 1);
 }
 
+namespace {
+
+using TileIntervals = std::vector<std::pair<int32_t, int32_t>>;
+
+int32_t clampTile(double value, int32_t tiles) {
+    return static_cast<int32_t>(util::clamp<double>(value, 0, tiles - 1));
+}
+
+// Scanline fill of the polygons: a tile is covered when an edge touches it or when its
+// center lies inside a polygon. Returns the merged column intervals of each covered row.
+std::map<int32_t, TileIntervals> polygonTileRows(const MultiPolygon<double>& geometry, int32_t z) {
+    const int32_t tiles = 1 << z;
+    std::map<int32_t, TileIntervals> rows;
+
+    for (const auto& polygon : geometry) {
+        std::vector<edge> edges;
+        for (const auto& ring : polygon) {
+            std::vector<Point<double>> points;
+            points.reserve(ring.size());
+            for (const auto& point : ring) {
+                points.push_back(TileCoordinate::fromLatLng(z, LatLng(
+                    util::clamp(point.y, -util::LATITUDE_MAX, util::LATITUDE_MAX),
+                    util::clamp(point.x, -util::LONGITUDE_MAX, util::LONGITUDE_MAX))).p);
+            }
+            for (size_t i = 0; i < points.size(); i++) {
+                edges.emplace_back(points[i], points[(i + 1) % points.size()]);
+            }
+        }
+        if (edges.empty()) {
+            continue;
+        }
+
+        double minY = edges.front().y0;
+        double maxY = edges.front().y1;
+
+        // Tiles touched by the edges
+        for (const auto& e : edges) {
+            minY = std::min(minY, e.y0);
+            maxY = std::max(maxY, e.y1);
+            for (int32_t y = clampTile(std::floor(e.y0), tiles); y <= clampTile(std::floor(e.y1), tiles); y++) {
+                const double top = std::max(e.y0, double(y));
+                const double bottom = std::min(e.y1, double(y + 1));
+                const double xTop = e.dy == 0 ? e.x0 : e.x0 + (top - e.y0) * e.dx / e.dy;
+                const double xBottom = e.dy == 0 ? e.x1 : e.x0 + (bottom - e.y0) * e.dx / e.dy;
+                rows[y].emplace_back(clampTile(std::floor(std::min(xTop, xBottom)), tiles),
+                                     clampTile(std::floor(std::max(xTop, xBottom)), tiles));
+            }
+        }
+
+        // Tiles with their center inside the polygon, even-odd rule over all rings
+        std::sort(edges.begin(), edges.end(), [](const edge& a, const edge& b) { return a.y0 < b.y0; });
+        std::vector<const edge*> active;
+        std::vector<double> crossings;
+        auto next = edges.begin();
+        for (int32_t y = clampTile(std::floor(minY), tiles); y <= clampTile(std::floor(maxY), tiles); y++) {
+            const double scanY = y + 0.5;
+            for (; next != edges.end() && next->y0 <= scanY; ++next) {
+                active.push_back(&*next);
+            }
+            active.erase(std::remove_if(active.begin(), active.end(),
+                [&](const edge* e) { return e->y1 <= scanY; }), active.end());
+
+            crossings.clear();
+            for (const edge* e : active) {
+                crossings.push_back(e->x0 + (scanY - e->y0) * e->dx / e->dy);
+            }
+            std::sort(crossings.begin(), crossings.end());
+            for (size_t i = 0; i + 1 < crossings.size(); i += 2) {
+                const double x0 = std::ceil(crossings[i] - 0.5);
+                const double x1 = std::floor(crossings[i + 1] - 0.5);
+                if (x1 >= x0) {
+                    rows[y].emplace_back(clampTile(x0, tiles), clampTile(x1, tiles));
+                }
+            }
+        }
+    }
+
+    for (auto& row : rows) {
+        TileIntervals& intervals = row.second;
+        std::sort(intervals.begin(), intervals.end());
+        TileIntervals merged;
+        for (const auto& interval : intervals) {
+            if (!merged.empty() && interval.first <= merged.back().second + 1) {
+                merged.back().second = std::max(merged.back().second, interval.second);
+            } else {
+                merged.push_back(interval);
+            }
+        }
+        intervals = std::move(merged);
+    }
+
+    return rows;
+}
+
+} // namespace
+
+std::vector<UnwrappedTileID> tileCover(const MultiPolygon<double>& geometry, int32_t z) {
+    std::vector<UnwrappedTileID> result;
+    for (const auto& row : polygonTileRows(geometry, z)) {
+        for (const auto& interval : row.second) {
+            for (int32_t x = interval.first; x <= interval.second; x++) {
+                result.emplace_back(z, x, row.first);
+            }
+        }
+    }
+    return result;
+}
+
+uint64_t tileCount(const MultiPolygon<double>& geometry, uint8_t z) {
+    uint64_t result = 0;
+    for (const auto& row : polygonTileRows(geometry, z)) {
+        for (const auto& interval : row.second) {
+            result += interval.second - interval.first + 1;
+        }
+    }
+    return result;
+}
+
 } // namespace util
 } // namespace mbgl
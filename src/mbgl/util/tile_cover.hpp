@@ -3,6 +3,7 @@
 #include <mbgl/tile/tile_id.hpp>
 #include <mbgl/style/types.hpp>
 #include <mbgl/util/tile_coordinate.hpp>
+#include <mbgl/util/geometry.hpp>
 
 #include <vector>
 
@@ -18,8 +19,12 @@ int32_t coveringZoomLevel(double z, style::SourceType type, uint16_t tileSize);
 std::vector<UnwrappedTileID> tileCover(const TransformState&, int32_t z);
 std::vector<UnwrappedTileID> tileCover(const LatLngBounds&, int32_t z);
 
+// Tiles touched by the polygons, with points given as longitude (x) and latitude (y)
+std::vector<UnwrappedTileID> tileCover(const MultiPolygon<double>&, int32_t z);
+
 // Compute only the count of tiles needed for tileCover
 uint64_t tileCount(const LatLngBounds&, uint8_t z, uint16_t tileSize);
+uint64_t tileCount(const MultiPolygon<double>&, uint8_t z);
 
 } // namespace util
 } // namespace mbgl
@@ -14,6 +14,7 @@
 #include <mbgl/util/io.hpp>
 #include <mbgl/util/run_loop.hpp>
 #include <mbgl/util/async_task.hpp>
+#include <mbgl/util/exception.hpp>
 #include <mbgl/style/style.hpp>
 #include <mbgl/style/image.hpp>
 #include <mbgl/style/layers/background_layer.hpp>
@@ -470,6 +471,36 @@ TEST(Map, RemoveLayer) {
     test::checkImage("test/fixtures/map/remove_layer", test.frontend.render(test.map));
 }
 
+TEST(Map, RenderStillWhileRendering) {
+    MapTest<> test;
+
+    test.map.getStyle().loadJSON(util::read_file("test/fixtures/api/empty.json"));
+
+    bool rendered = false;
+    test.map.renderStill([&](std::exception_ptr error) {
+        EXPECT_FALSE(bool(error));
+        rendered = true;
+    });
+
+    // A still image can't be interrupted, snapshotters wait for it before rendering the next one
+    std::exception_ptr busy;
+    test.map.renderStill([&](std::exception_ptr error) {
+        busy = error;
+    });
+    ASSERT_TRUE(bool(busy));
+    try {
+        std::rethrow_exception(busy);
+    } catch (const util::MisuseException& exception) {
+        EXPECT_EQ(std::string("Map is currently rendering an image"), exception.what());
+    }
+
+    while (!rendered) {
+        test.runLoop.runOnce();
+    }
+
+    EXPECT_TRUE(test.frontend.render(test.map).valid());
+}
+
 TEST(Map, DisabledSources) {
     MapTest<> test;
 
@@ -3,6 +3,8 @@
 
 #include <gtest/gtest.h>
 
+#include <cmath>
+
 using namespace mbgl;
 using SourceType = mbgl::style::SourceType;
 
@@ -61,3 +63,71 @@ TEST(OfflineTilePyramidRegionDefinition, TileCount) {
     EXPECT_EQ(38424u, region.tileCount(SourceType::Vector, 512, { 10, 18 }));
     EXPECT_EQ(9675240u, region.tileCount(SourceType::Vector, 512, { 3, 22 }));
 }
+
+static const MultiPolygon<double> diagonalQuadrants {
+    { { { -170, 10 }, { -10, 10 }, { -10, 80 }, { -170, 80 }, { -170, 10 } } },
+    { { { 10, -80 }, { 170, -80 }, { 170, -10 }, { 10, -10 }, { 10, -80 } } }
+};
+
+TEST(OfflineTilePyramidRegionDefinition, TileCoverGeometry) {
+    OfflineTilePyramidRegionDefinition region("", LatLngBounds::hull({ -80, -170 }, { 80, 170 }), 1, 1, 1.0,
+                                              diagonalQuadrants);
+
+    EXPECT_EQ((std::vector<CanonicalTileID>{ { 1, 0, 0 }, { 1, 1, 1 } }),
+              region.tileCover(SourceType::Vector, 512, { 0, 22 }));
+}
+
+TEST(OfflineTilePyramidRegionDefinition, TileCountGeometry) {
+    const LatLngBounds bounds = LatLngBounds::hull({ -80, -170 }, { 80, 170 });
+    OfflineTilePyramidRegionDefinition boundsRegion("", bounds, 1, 1, 1.0);
+    OfflineTilePyramidRegionDefinition geometryRegion("", bounds, 1, 1, 1.0, diagonalQuadrants);
+
+    EXPECT_EQ(4u, boundsRegion.tileCount(SourceType::Vector, 512, { 0, 22 }));
+    EXPECT_EQ(2u, geometryRegion.tileCount(SourceType::Vector, 512, { 0, 22 }));
+    EXPECT_EQ(geometryRegion.tileCover(SourceType::Vector, 512, { 0, 22 }).size(),
+              geometryRegion.tileCount(SourceType::Vector, 512, { 0, 22 }));
+}
+
+TEST(OfflineTilePyramidRegionDefinition, EmptyGeometry) {
+    EXPECT_THROW(OfflineTilePyramidRegionDefinition("", sanFrancisco, 0, 20, 1.0, MultiPolygon<double>{}),
+                 std::invalid_argument);
+}
+
+TEST(OfflineRegionDefinition, EncodeDecode) {
+    OfflineTilePyramidRegionDefinition region("mapbox://style", sanFrancisco, 2, 14, 2.0);
+
+    const OfflineRegionDefinition decoded = decodeOfflineRegionDefinition(encodeOfflineRegionDefinition(region));
+
+    EXPECT_EQ(region.styleURL, decoded.styleURL);
+    EXPECT_EQ(region.bounds, decoded.bounds);
+    EXPECT_EQ(region.minZoom, decoded.minZoom);
+    EXPECT_EQ(region.maxZoom, decoded.maxZoom);
+    EXPECT_EQ(region.pixelRatio, decoded.pixelRatio);
+    EXPECT_FALSE(decoded.geometry);
+}
+
+TEST(OfflineRegionDefinition, EncodeDecodeGeometry) {
+    const MultiPolygon<double> geometry {
+        { { { -122.5, 37.7 }, { -122.3, 37.7 }, { -122.3, 37.8 }, { -122.5, 37.8 }, { -122.5, 37.7 } },
+          { { -122.45, 37.72 }, { -122.45, 37.75 }, { -122.4, 37.75 }, { -122.4, 37.72 }, { -122.45, 37.72 } } },
+        { { { -122.25, 37.8 }, { -122.2, 37.8 }, { -122.2, 37.85 }, { -122.25, 37.8 } } }
+    };
+    OfflineTilePyramidRegionDefinition region("mapbox://style", sanFrancisco, 2, INFINITY, 1.0, geometry);
+
+    const OfflineRegionDefinition decoded = decodeOfflineRegionDefinition(encodeOfflineRegionDefinition(region));
+
+    EXPECT_EQ(region.styleURL, decoded.styleURL);
+    EXPECT_TRUE(std::isinf(decoded.maxZoom));
+    ASSERT_TRUE(bool(decoded.geometry));
+    EXPECT_EQ(geometry, *decoded.geometry);
+}
+
+TEST(OfflineRegionDefinition, DecodeMalformedGeometry) {
+    const std::string prefix =
+        R"({"style_url":"","bounds":[37.7,-122.5,37.8,-122.3],"min_zoom":0.0,"pixel_ratio":1.0,"geometry":)";
+
+    EXPECT_THROW(decodeOfflineRegionDefinition(prefix + "[]}"), std::runtime_error);
+    EXPECT_THROW(decodeOfflineRegionDefinition(prefix + "[[[[0.0,0.0],[1.0,1.0]]]]}"), std::runtime_error);
+    EXPECT_THROW(decodeOfflineRegionDefinition(prefix + "[[[[0.0],[1.0,1.0],[0.0,1.0]]]]}"), std::runtime_error);
+    EXPECT_NO_THROW(decodeOfflineRegionDefinition(prefix + "[[[[0.0,0.0],[1.0,1.0],[0.0,1.0]]]]}"));
+}
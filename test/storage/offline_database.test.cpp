@@ -4,6 +4,7 @@
 #include <mbgl/storage/offline_database.hpp>
 #include <mbgl/storage/resource.hpp>
 #include <mbgl/storage/response.hpp>
+#include <mbgl/util/chrono.hpp>
 #include <mbgl/util/io.hpp>
 #include <mbgl/util/string.hpp>
 
@@ -462,6 +463,45 @@ TEST(OfflineDatabase, PutFailsWhenEvictionInsuffices) {
     EXPECT_FALSE(bool(db.get(Resource::style("http://example.com/big"))));
 }
 
+TEST(OfflineDatabase, PutEvictsEarliestExpiringResources) {
+    using namespace mbgl;
+
+    OfflineDatabase db(":memory:", 1024 * 100);
+    db.setAmbientCacheEvictionPolicy(AmbientCacheEvictionPolicy::EarliestExpiry);
+
+    Response response;
+    response.data = randomString(1024);
+
+    // Resources put later expire sooner, so the first one is kept the longest.
+    for (uint32_t i = 1; i <= 100; i++) {
+        response.expires = util::now() + Seconds(1000 - i);
+        db.put(Resource::style("http://example.com/"s + util::toString(i)), response);
+    }
+
+    EXPECT_TRUE(bool(db.get(Resource::style("http://example.com/1"))));
+    EXPECT_FALSE(bool(db.get(Resource::style("http://example.com/99"))));
+}
+
+TEST(OfflineDatabase, ClearAmbientCacheKeepsRegionResources) {
+    using namespace mbgl;
+
+    OfflineDatabase db(":memory:");
+    OfflineRegionDefinition definition { "", LatLngBounds::world(), 0, INFINITY, 1.0 };
+    OfflineRegion region = db.createRegion(definition, OfflineRegionMetadata());
+
+    Response response;
+    response.data = randomString(1024);
+
+    db.put(Resource::style("http://example.com/ambient"), response);
+    db.putRegionResource(region.getID(), Resource::style("http://example.com/region"), response);
+    EXPECT_EQ(1024u, db.getAmbientCacheSize());
+
+    db.clearAmbientCache();
+    EXPECT_EQ(0u, db.getAmbientCacheSize());
+    EXPECT_FALSE(bool(db.get(Resource::style("http://example.com/ambient"))));
+    EXPECT_TRUE(bool(db.get(Resource::style("http://example.com/region"))));
+}
+
 TEST(OfflineDatabase, GetRegionCompletedStatus) {
     using namespace mbgl;
 
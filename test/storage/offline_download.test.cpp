@@ -593,6 +593,67 @@ TEST(OfflineDownload, ReactivatePreviouslyCompletedDownload) {
     EXPECT_EQ(2u, statusesAfterReactivate[2].completedResourceCount);
 }
 
+TEST(OfflineDownload, Refresh) {
+    OfflineTest test;
+    OfflineRegion region = test.createRegion();
+    OfflineDownload download(
+        region.getID(),
+        OfflineTilePyramidRegionDefinition("http://127.0.0.1:3000/style.json", LatLngBounds::world(), 0.0, 0.0, 1.0),
+        test.db, test.fileSource);
+
+    test.fileSource.styleResponse = [&] (const Resource&) {
+        return test.response("inline_source.style.json");
+    };
+
+    test.fileSource.tileResponse = [&] (const Resource&) {
+        return test.response("0-0-0.vector.pbf");
+    };
+
+    auto observer = std::make_unique<MockObserver>();
+    observer->statusChangedFn = [&] (OfflineRegionStatus status) {
+        if (status.complete()) {
+            EXPECT_EQ(0u, status.revalidatedResourceCount);
+            test.loop.stop();
+        }
+    };
+
+    download.setObserver(std::move(observer));
+    download.setState(OfflineRegionDownloadState::Active);
+
+    test.loop.run();
+
+    test.fileSource.styleResponse = [&] (const Resource& resource) {
+        EXPECT_TRUE(bool(resource.priorData));
+        Response response;
+        response.notModified = true;
+        return response;
+    };
+
+    bool tileRevalidated = false;
+    test.fileSource.tileResponse = [&] (const Resource& resource) {
+        EXPECT_TRUE(bool(resource.priorData));
+        tileRevalidated = true;
+        return test.response("0-0-0.vector.pbf");
+    };
+
+    observer = std::make_unique<MockObserver>();
+    observer->statusChangedFn = [&] (OfflineRegionStatus status) {
+        if (status.downloadState == OfflineRegionDownloadState::Active && status.complete()) {
+            EXPECT_EQ(2u, status.completedResourceCount);
+            EXPECT_EQ(2u, status.revalidatedResourceCount);
+            EXPECT_EQ(1u, status.changedResourceCount);
+            test.loop.stop();
+        }
+    };
+
+    download.setObserver(std::move(observer));
+    download.refresh();
+
+    test.loop.run();
+
+    EXPECT_TRUE(tileRevalidated);
+}
+
 TEST(OfflineDownload, Deactivate) {
     OfflineTest test;
     OfflineRegion region = test.createRegion();
@@ -4,6 +4,8 @@
 
 #include <gtest/gtest.h>
 
+#include <algorithm>
+
 using namespace mbgl;
 
 TEST(TileCover, Empty) {
@@ -93,3 +95,58 @@ TEST(TileCount, SanFranciscoZ22) {
     EXPECT_EQ(7254450u, util::tileCount(sanFrancisco, 22, util::tileSize));
 }
 
+static const MultiPolygon<double> northEastQuadrant {
+    { { { 10, 10 }, { 170, 10 }, { 170, 80 }, { 10, 80 }, { 10, 10 } } }
+};
+
+TEST(TileCover, PolygonZ1) {
+    EXPECT_EQ((std::vector<UnwrappedTileID>{ { 1, 1, 0 } }),
+              util::tileCover(northEastQuadrant, 1));
+}
+
+TEST(TileCover, MultiPolygonZ1) {
+    const MultiPolygon<double> diagonal {
+        { { { -170, 10 }, { -10, 10 }, { -10, 80 }, { -170, 80 }, { -170, 10 } } },
+        { { { 10, -80 }, { 170, -80 }, { 170, -10 }, { 10, -10 }, { 10, -80 } } }
+    };
+    EXPECT_EQ((std::vector<UnwrappedTileID>{ { 1, 0, 0 }, { 1, 1, 1 } }),
+              util::tileCover(diagonal, 1));
+}
+
+TEST(TileCover, PolygonWithHoleZ3) {
+    const MultiPolygon<double> world {
+        { { { -179, -84 }, { 179, -84 }, { 179, 84 }, { -179, 84 }, { -179, -84 } } }
+    };
+    const MultiPolygon<double> worldWithHole {
+        { { { -179, -84 }, { 179, -84 }, { 179, 84 }, { -179, 84 }, { -179, -84 } },
+          { { -80, -60 }, { -80, 60 }, { 80, 60 }, { 80, -60 }, { -80, -60 } } }
+    };
+
+    EXPECT_EQ(64u, util::tileCover(world, 3).size());
+
+    // The four tiles inside the hole are dropped, the tiles touched by its edges are kept.
+    const auto tiles = util::tileCover(worldWithHole, 3);
+    EXPECT_EQ(60u, tiles.size());
+    for (const auto& tile : { UnwrappedTileID{ 3, 3, 3 }, UnwrappedTileID{ 3, 4, 3 },
+                              UnwrappedTileID{ 3, 3, 4 }, UnwrappedTileID{ 3, 4, 4 } }) {
+        EXPECT_TRUE(std::find(tiles.begin(), tiles.end(), tile) == tiles.end());
+    }
+    for (const auto& tile : { UnwrappedTileID{ 3, 2, 3 }, UnwrappedTileID{ 3, 5, 4 } }) {
+        EXPECT_TRUE(std::find(tiles.begin(), tiles.end(), tile) != tiles.end());
+    }
+}
+
+TEST(TileCover, PolygonCorridor) {
+    // A thin rectangle along a diagonal, as produced for a corridor segment.
+    const MultiPolygon<double> corridor {
+        { { { -122.50, 37.70 }, { -122.49, 37.69 }, { -122.31, 37.81 }, { -122.32, 37.82 }, { -122.50, 37.70 } } }
+    };
+    const auto tiles = util::tileCover(corridor, 14);
+    EXPECT_FALSE(tiles.empty());
+    EXPECT_LT(tiles.size(), util::tileCount(sanFrancisco, 14, util::tileSize));
+}
+
+TEST(TileCount, Polygon) {
+    EXPECT_EQ(1u, util::tileCount(northEastQuadrant, 1));
+    EXPECT_EQ(util::tileCover(northEastQuadrant, 10).size(), util::tileCount(northEastQuadrant, 10));
+}